@@ -0,0 +1,77 @@
+package rcm.rcmarket.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
+import rcm.rcmarket.config.token.TokenHelper;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.member.Role;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.handler.JwtHandler;
+import rcm.rcmarket.repository.member.MemberRepository;
+
+import javax.servlet.FilterChain;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 필터 한 번의 비용을 permitAll 경로(인증 정보를 꺼내지 않음)와 인증이 필요한 경로로 나눠서 측정한다
+// MemberRepository는 mock이므로 DB 비용은 포함되지 않는다
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    JwtAuthenticationFilter filter;
+    MockHttpServletRequest request;
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    Authentication authentication;
+
+    FilterChain permitAllChain = (req, res) -> { };
+    FilterChain authenticatedChain = (req, res) ->
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+
+    @Setup
+    public void setup() {
+        TokenHelper tokenHelper = new TokenHelper(new JwtHandler(),
+                Base64.getEncoder().encodeToString("myKey".getBytes()), 3600L);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        given(memberRepository.findWithRolesById(anyLong())).willReturn(Optional.of(
+                new Member("email@email.com", "password", "username", "nickname", List.of(new Role(RoleType.ROLE_NORMAL)))));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(memberRepository,
+                new MemberNegativeCache(10000, 30L), new SingleFlight<>("benchmark"));
+
+        filter = new JwtAuthenticationFilter(tokenHelper, userDetailsService, new SimpleMeterRegistry());
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", tokenHelper.createToken("1"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void doFilterPermitAll() throws Exception {
+        filter.doFilter(request, response, permitAllChain);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication doFilterAuthenticated() throws Exception {
+        filter.doFilter(request, response, authenticatedChain);
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,52 @@
+package rcm.rcmarket.config.security.guard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import rcm.rcmarket.config.security.CustomAuthenticationToken;
+import rcm.rcmarket.config.security.CustomUserDetails;
+import rcm.rcmarket.entity.member.RoleType;
+
+import java.util.Set;
+
+// 인가 규칙에서 매 요청마다 호출되는 권한 추출과 자원 소유자 검사를 측정한다
+@State(Scope.Thread)
+public class MemberGuardBenchmark {
+
+    AuthHelper authHelper = new AuthHelper();
+    MemberGuard memberGuard = new MemberGuard(authHelper);
+
+    @Setup
+    public void setup() {
+        Set<GrantedAuthority> authorities = Set.of(
+                new SimpleGrantedAuthority(RoleType.ROLE_NORMAL.name()),
+                new SimpleGrantedAuthority(RoleType.ROLE_ADMIN.name()));
+        CustomUserDetails userDetails = new CustomUserDetails("1", authorities);
+        SecurityContextHolder.getContext().setAuthentication(new CustomAuthenticationToken(userDetails, authorities));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Set<RoleType> extractMemberRoles() {
+        return authHelper.extractMemberRoles();
+    }
+
+    @Benchmark
+    public boolean checkOwner() {
+        return memberGuard.check(1L);
+    }
+
+    @Benchmark
+    public boolean checkAdmin() {
+        return memberGuard.check(2L);
+    }
+}
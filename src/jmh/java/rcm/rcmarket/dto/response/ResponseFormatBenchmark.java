@@ -0,0 +1,66 @@
+package rcm.rcmarket.dto.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import rcm.rcmarket.dto.member.MemberDto;
+import rcm.rcmarket.dto.sign.SignInRequest;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static java.util.stream.Collectors.toList;
+
+// 응답 포맷별 직렬화/역직렬화 시간을 측정한다
+// 포맷별 페이로드 크기는 Setup에서 한 번 출력한다
+@State(Scope.Benchmark)
+public class ResponseFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"1", "100"})
+    int members;
+
+    ObjectMapper mapper;
+    Response response;
+    byte[] signInRequest;
+
+    @Setup
+    public void setup() throws Exception {
+        mapper = new ObjectMapper(factory(format))
+                .registerModule(new SimpleModule().addSerializer(Response.class, new ResponseSerializer()));
+        List<MemberDto> data = LongStream.rangeClosed(1, members)
+                .mapToObj(id -> new MemberDto(id, "member" + id + "@member.com", "사용자" + id, "nickname" + id, 0L))
+                .collect(toList());
+        response = members == 1 ? Response.success(data.get(0)) : Response.success(data);
+        signInRequest = mapper.writeValueAsBytes(new SignInRequest("member1@member.com", "123456a!"));
+        System.out.printf("%n[payload] format=%s members=%d response=%dB signInRequest=%dB%n",
+                format, members, mapper.writeValueAsBytes(response).length, signInRequest.length);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws Exception {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public SignInRequest readSignInRequest() throws Exception {
+        return mapper.readValue(signInRequest, SignInRequest.class);
+    }
+
+    private static JsonFactory factory(String format) {
+        switch(format) {
+            case "cbor": return new CBORFactory();
+            case "smile": return new SmileFactory();
+            default: return new JsonFactory();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package rcm.rcmarket.handler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+
+// 토큰 발급, 검증, subject 추출에 드는 처리량과 요청당 할당량을 측정한다
+@State(Scope.Benchmark)
+public class JwtHandlerBenchmark {
+
+    JwtHandler jwtHandler = new JwtHandler();
+    String encodedKey = Base64.getEncoder().encodeToString("myKey".getBytes());
+    String token;
+
+    @Setup
+    public void setup() {
+        token = jwtHandler.createToken(encodedKey, "1", 3600L);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtHandler.createToken(encodedKey, "1", 3600L);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtHandler.validate(encodedKey, token);
+    }
+
+    @Benchmark
+    public String extractSubject() {
+        return jwtHandler.extractSubject(encodedKey, token);
+    }
+}
@@ -0,0 +1,75 @@
+package rcm.rcmarket.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import rcm.rcmarket.RcmarketApplication;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.member.Role;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+import rcm.rcmarket.repository.role.RoleRepository;
+import rcm.rcmarket.stock.StockLedger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// 동시에 들어오는 주문을 요청마다 커밋할 때(batchSize=1)와 묶어서 커밋할 때의 처리량을 비교한다
+// 커밋 비용이 드러나도록 파일 모드 H2에 저장한다, 스레드 하나가 주문 요청 하나를 보내고 커밋될 때까지 기다린다
+// ./gradlew jmh -PjmhIncludes=OrderPipelineBenchmark
+@State(Scope.Benchmark)
+@Threads(64)
+public class OrderPipelineBenchmark {
+
+    @Param({"1", "64"})
+    int batchSize;
+
+    ConfigurableApplicationContext context;
+    StockLedger stockLedger;
+    OrderPipeline orderPipeline;
+    Long memberId;
+    Long productId;
+
+    @Setup
+    public void setup() throws Exception {
+        Path dir = Files.createTempDirectory("rcmarket-order");
+        context = new SpringApplicationBuilder(RcmarketApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark", "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:file:" + dir.resolve("db").toAbsolutePath(),
+                        "--order.pipeline.batch-size=" + batchSize);
+        stockLedger = context.getBean(StockLedger.class);
+        orderPipeline = context.getBean(OrderPipeline.class);
+
+        Role role = context.getBean(RoleRepository.class).save(new Role(RoleType.ROLE_SPECIAL_BUYER));
+        Member member = context.getBean(MemberRepository.class).save(
+                new Member("buyer@rcmarket.com", "{noop}123456a!", "buyer", "buyer", List.of(role)));
+        Product product = context.getBean(ProductRepository.class).save(
+                new Product("benchmark", Category.ETC, 1000L, Integer.MAX_VALUE, member));
+        memberId = member.getId();
+        productId = product.getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderDto placeOrder() {
+        Long reservationId = stockLedger.reserve(productId, memberId, 1).getId();
+        return orderPipeline.submit(memberId, stockLedger.claim(reservationId)).join();
+    }
+}
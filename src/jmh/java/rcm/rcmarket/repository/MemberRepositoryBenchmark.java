@@ -0,0 +1,98 @@
+package rcm.rcmarket.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import rcm.rcmarket.RcmarketApplication;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.member.Role;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.load.MemberDatasetGenerator;
+import rcm.rcmarket.load.MemberDatasetLoader;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.role.RoleRepository;
+
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// 대량의 회원이 있을 때 MemberRepository 조회 성능을 측정한다
+// 쿼리 자체를 측정하기 위해 2차 캐시는 끄고 실행한다
+@State(Scope.Benchmark)
+public class MemberRepositoryBenchmark {
+
+    private static final int SAMPLES = 10_000;
+
+    @Param({"1000000"})
+    long members;
+
+    ConfigurableApplicationContext context;
+    MemberRepository memberRepository;
+    long[] ids;
+    String[] emails;
+    String[] nicknames;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new SpringApplicationBuilder(RcmarketApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=benchmark", "--logging.level.root=warn",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false");
+        memberRepository = context.getBean(MemberRepository.class);
+        context.getBean(RoleRepository.class).saveAll(
+                Arrays.stream(RoleType.values()).map(Role::new).collect(Collectors.toList()));
+
+        MemberDatasetGenerator generator = new MemberDatasetGenerator(1L, List.of("{noop}123456a!"), LocalDateTime.now());
+        new MemberDatasetLoader(context.getBean(JdbcTemplate.class))
+                .load(generator, 1L, members, Files.createTempDirectory("rcmarket-dataset"));
+
+        ids = new long[SAMPLES];
+        emails = new String[SAMPLES];
+        nicknames = new String[SAMPLES];
+        for(int i = 0; i < SAMPLES; i++) {
+            ids[i] = 1 + ThreadLocalRandom.current().nextLong(members);
+            emails[i] = generator.generate(ids[i]).getEmail();
+            nicknames[i] = generator.generate(ids[i]).getNickname();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Member> findById() {
+        return memberRepository.findById(ids[sample()]);
+    }
+
+    @Benchmark
+    public Optional<Member> findWithRolesById() {
+        return memberRepository.findWithRolesById(ids[sample()]);
+    }
+
+    @Benchmark
+    public Optional<Member> findByEmail() {
+        return memberRepository.findByEmail(emails[sample()]);
+    }
+
+    @Benchmark
+    public boolean existsByNickname() {
+        return memberRepository.existsByNickname(nicknames[sample()]);
+    }
+
+    private static int sample() {
+        return ThreadLocalRandom.current().nextInt(SAMPLES);
+    }
+}
@@ -0,0 +1,47 @@
+package rcm.rcmarket.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 상품 이름 100만 건을 색인한 뒤 검색어 종류별 검색 시간을 측정한다
+// 한 글자 검색어는 posting list가 가장 길고, 세 글자 이상 검색어는 원문 확인 단계를 거친다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InvertedIndexBenchmark {
+
+    static final String[] WORDS = {"아이폰", "갤럭시", "맥북", "노트북", "자전거", "캠핑", "의자", "책상", "키보드", "마우스",
+            "nike", "adidas", "iphone", "galaxy", "shoes", "camera", "lens", "monitor"};
+
+    @Param({"1000000"})
+    int documents;
+
+    @Param({"맥북", "맥", "nike shoes", "iphone 12", "a"})
+    String query;
+
+    InvertedIndex index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        index = new InvertedIndex();
+        for(long id = 1; id <= documents; id++) {
+            index.put(id, WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(1000));
+        }
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 20);
+    }
+}
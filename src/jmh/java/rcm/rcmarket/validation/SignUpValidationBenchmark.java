@@ -0,0 +1,51 @@
+package rcm.rcmarket.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import rcm.rcmarket.dto.sign.SignUpRequest;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 회원가입 요청의 비밀번호/이름 검증을 기존 정규식과 직접 작성한 검증기로 각각 측정한다
+// validateSignUpRequest는 Hibernate Validator를 거친 전체 검증 비용이다
+@State(Scope.Benchmark)
+public class SignUpValidationBenchmark {
+
+    static final Pattern PASSWORD = Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$");
+    static final Pattern HANGUL_OR_ALPHABET = Pattern.compile("^[A-Za-z가-힣]+$");
+
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    SignUpRequest request = new SignUpRequest("email@email.com", "123456a!Passw0rd", "username", "닉네임");
+    String password = request.getPassword();
+    String nickname = request.getNickname();
+
+    @Benchmark
+    public boolean passwordRegex() {
+        return PASSWORD.matcher(password).matches();
+    }
+
+    @Benchmark
+    public boolean passwordValidator() {
+        return PasswordValidator.isValid(password);
+    }
+
+    @Benchmark
+    public boolean nameRegex() {
+        return HANGUL_OR_ALPHABET.matcher(nickname).matches();
+    }
+
+    @Benchmark
+    public boolean nameValidator() {
+        return HangulOrAlphabetValidator.isValid(nickname);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SignUpRequest>> validateSignUpRequest() {
+        return validator.validate(request);
+    }
+}
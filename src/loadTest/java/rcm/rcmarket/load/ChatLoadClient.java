@@ -0,0 +1,187 @@
+package rcm.rcmarket.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// java.net.http의 WebSocket으로 연결을 열고 메시지를 보내며 결과를 기록한다
+// 모든 연결이 HttpClient 하나(셀렉터 스레드 하나)를 같이 쓰므로 연결 수만큼 스레드가 늘지 않는다
+// 지연 시간: 메시지를 보낸 시각(clientMessageId에 nanoTime을 싣는다)부터 보낸 연결로 저장된 메시지가 돌아올 때까지
+//          서버의 그룹 커밋 대기(chat.pipeline.max-latency-ms)와 전송 큐를 모두 포함한다
+public class ChatLoadClient {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final URI uri;
+    private final HttpClient client;
+    private final Recorder connectRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Recorder latencyRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final List<WebSocket> sockets = new CopyOnWriteArrayList<>();
+
+    public ChatLoadClient(int port) {
+        this.uri = URI.create("ws://localhost:" + port + "/ws/chat");
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    }
+
+    // 연결을 concurrency개씩 나눠 열고 모두 끝날 때까지 기다린다, 실패한 자리는 null이다
+    public WebSocket[] connect(List<Long> memberIds, List<String> accessTokens, int concurrency) throws InterruptedException {
+        WebSocket[] result = new WebSocket[accessTokens.size()];
+        Semaphore permits = new Semaphore(concurrency);
+        for(int i = 0; i < accessTokens.size(); i++) {
+            permits.acquire();
+            int index = i;
+            long start = System.nanoTime();
+            client.newWebSocketBuilder()
+                    .header("Authorization", accessTokens.get(i))
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .buildAsync(uri, new Listener(memberIds.get(i)))
+                    .whenComplete((socket, e) -> {
+                        permits.release();
+                        if(e != null) {
+                            connectFailures.increment();
+                            return;
+                        }
+                        connectRecorder.recordValue(micros(System.nanoTime() - start));
+                        sockets.add(socket);
+                        result[index] = socket;
+                    });
+        }
+        permits.acquire(concurrency);
+        permits.release(concurrency);
+        return result;
+    }
+
+    public void send(WebSocket socket, long conversationId) {
+        if(socket.isOutputClosed()) return;
+        String frame = "{\"conversationId\":" + conversationId + ",\"content\":\"load test message\",\"clientMessageId\":\"" + System.nanoTime() + "\"}";
+        socket.sendText(frame, true).whenComplete((s, e) -> {
+            if(e != null) errors.increment();
+            else sent.increment();
+        });
+    }
+
+    public void ping() {
+        for(WebSocket socket : sockets) {
+            if(!socket.isOutputClosed()) socket.sendPing(ByteBuffer.allocate(0));
+        }
+    }
+
+    public void close() {
+        CompletableFuture.allOf(sockets.stream()
+                .map(socket -> socket.sendClose(WebSocket.NORMAL_CLOSURE, "").exceptionally(e -> null))
+                .toArray(CompletableFuture[]::new)).orTimeout(30, TimeUnit.SECONDS).exceptionally(e -> null).join();
+    }
+
+    // 워밍업 구간의 기록을 버린다
+    public void reset() {
+        latencyRecorder.reset();
+        sent.reset();
+        received.reset();
+        errors.reset();
+    }
+
+    public Histogram connectHistogram() {
+        return connectRecorder.getIntervalHistogram();
+    }
+
+    public Histogram latencyHistogram() {
+        return latencyRecorder.getIntervalHistogram();
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getConnectFailures() {
+        return connectFailures.sum();
+    }
+
+    public long getClosed() {
+        return closed.sum();
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    // 프레임 내용을 파싱하지 않고 필요한 부분만 찾는다, 클라이언트가 측정 대상보다 느려지지 않게 한다
+    private class Listener implements WebSocket.Listener {
+
+        private final String senderMarker;
+        private final StringBuilder buffer = new StringBuilder();
+
+        private Listener(Long memberId) {
+            this.senderMarker = "\"senderId\":" + memberId + ",";
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if(last) {
+                onFrame(buffer.toString());
+                buffer.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        private void onFrame(String frame) {
+            if(frame.contains("\"type\":\"error\"")) {
+                errors.increment();
+                return;
+            }
+            received.increment();
+            long sentNanos = clientMessageId(frame);
+            // 상대가 보낸 메시지도 받는다, 자기가 보낸 메시지에서만 재서 같은 메시지를 두 번 세지 않는다
+            if(sentNanos > 0 && frame.contains(senderMarker)) latencyRecorder.recordValue(micros(System.nanoTime() - sentNanos));
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            closed.increment();
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            closed.increment();
+        }
+    }
+
+    private static long clientMessageId(String frame) {
+        int start = frame.indexOf("\"clientMessageId\":\"");
+        if(start < 0) return -1;
+        start += "\"clientMessageId\":\"".length();
+        int end = frame.indexOf('"', start);
+        try {
+            return Long.parseLong(frame, start, end, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package rcm.rcmarket.load;
+
+import java.time.Duration;
+
+// 채팅 부하 테스트 설정, 모든 값은 loadTest.chat.* 시스템 프로퍼티로 바꿀 수 있다
+// idle: 연결만 유지하고 ping만 보내는 연결 수
+// active: 대화방 하나를 둘씩 나눠 가지고 intervalMs마다 메시지를 보내는 연결 수(짝수)
+// connectConcurrency: 동시에 진행하는 핸드셰이크 수, 한꺼번에 열면 accept 큐가 넘친다
+public class ChatLoadTestConfig {
+
+    private final int idle;
+    private final int active;
+    private final long intervalMs;
+    private final long pingIntervalMs;
+    private final int connectConcurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    private ChatLoadTestConfig(int idle, int active, long intervalMs, long pingIntervalMs, int connectConcurrency,
+                               Duration warmup, Duration duration) {
+        this.idle = idle;
+        this.active = active;
+        this.intervalMs = intervalMs;
+        this.pingIntervalMs = pingIntervalMs;
+        this.connectConcurrency = connectConcurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public static ChatLoadTestConfig fromSystemProperties() {
+        int active = Integer.parseInt(property("chat.active", "1000"));
+        if(active % 2 != 0) throw new IllegalArgumentException("loadTest.chat.active must be even");
+        return new ChatLoadTestConfig(
+                Integer.parseInt(property("chat.idle", "10000")),
+                active,
+                Long.parseLong(property("chat.intervalMs", "1000")),
+                Long.parseLong(property("chat.pingIntervalMs", "60000")),
+                Integer.parseInt(property("chat.connectConcurrency", "200")),
+                Duration.ofSeconds(Long.parseLong(property("warmupSeconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("durationSeconds", "60"))));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public long getPingIntervalMs() {
+        return pingIntervalMs;
+    }
+
+    public int getConnectConcurrency() {
+        return connectConcurrency;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "idle=" + idle + ", active=" + active + ", intervalMs=" + intervalMs + ", pingIntervalMs=" + pingIntervalMs +
+                ", connectConcurrency=" + connectConcurrency + ", warmup=" + warmup + ", duration=" + duration;
+    }
+}
@@ -0,0 +1,152 @@
+package rcm.rcmarket.load;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rcm.rcmarket.RcmarketApplication;
+import rcm.rcmarket.chat.ChatSessionRegistry;
+import rcm.rcmarket.config.token.TokenHelper;
+import rcm.rcmarket.entity.chat.Conversation;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.chat.ConversationRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 채팅 웹소켓 부하 테스트, 애플리케이션 하나(노드 하나)에 쉬는 연결 idle개와 메시지를 주고받는 연결 active개를 동시에 붙여둔다
+// - active 연결은 둘씩 한 대화방의 구매자와 판매자가 되어 intervalMs마다 메시지를 보낸다
+// - idle 연결은 active와 겹치지 않는 회원으로 열고 pingIntervalMs마다 ping만 보낸다(chat.max-idle-ms보다 짧아야 한다)
+// 측정 구간 동안 연결 수가 유지되는지(서버 ChatSessionRegistry, 클라이언트의 끊긴 연결 수)와 메시지 왕복 지연을 출력한다
+// 클라이언트와 서버가 한 프로세스에 있으므로 소켓이 연결 수의 두 배만큼 필요하다, ulimit -n을 충분히 올리고 실행한다
+public class ChatLoadTestRunner {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String ROW = "%-26s %9s %10s %9s %9s %9s %9s %9s%n";
+
+    public static void main(String[] args) throws Exception {
+        ChatLoadTestConfig chatConfig = ChatLoadTestConfig.fromSystemProperties();
+        System.getProperties().putIfAbsent("loadTest.disposableMembers", "0"); // 회원 삭제 요청을 보내지 않는다
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        if(config.getMembers() <= chatConfig.getActive()) throw new IllegalArgumentException("loadTest.members must be greater than loadTest.chat.active");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RcmarketApplication.class)
+                .run("--spring.profiles.active=loadtest", "--server.port=0", "--logging.level.root=warn");
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+        try {
+            LoadTestDataset dataset = LoadTestDataset.seed(context, config);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<Long> conversationIds = seedConversations(context, dataset.getMemberIds(), chatConfig.getActive());
+            TokenHelper accessTokenHelper = context.getBean("accessTokenHelper", TokenHelper.class);
+
+            List<Long> activeMembers = dataset.getMemberIds().subList(0, chatConfig.getActive());
+            List<Long> idleMembers = idleMembers(dataset.getMemberIds(), chatConfig);
+            ChatLoadClient client = new ChatLoadClient(port);
+            long connectStart = System.nanoTime();
+            client.connect(idleMembers, tokens(accessTokenHelper, idleMembers), chatConfig.getConnectConcurrency());
+            WebSocket[] active = client.connect(activeMembers, tokens(accessTokenHelper, activeMembers), chatConfig.getConnectConcurrency());
+            long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStart);
+            Histogram connectHistogram = client.connectHistogram();
+            int connected = context.getBean(ChatSessionRegistry.class).size();
+
+            for(int i = 0; i < active.length; i++) {
+                if(active[i] == null) continue;
+                WebSocket socket = active[i];
+                long conversationId = conversationIds.get(i / 2);
+                scheduler.scheduleAtFixedRate(() -> client.send(socket, conversationId),
+                        ThreadLocalRandom.current().nextLong(chatConfig.getIntervalMs()), chatConfig.getIntervalMs(), TimeUnit.MILLISECONDS);
+            }
+            scheduler.scheduleAtFixedRate(client::ping, chatConfig.getPingIntervalMs(), chatConfig.getPingIntervalMs(), TimeUnit.MILLISECONDS);
+
+            Thread.sleep(chatConfig.getWarmup().toMillis());
+            client.reset();
+            long closedBefore = client.getClosed();
+            Thread.sleep(chatConfig.getDuration().toMillis());
+
+            print(chatConfig, connectMillis, connectHistogram, connected, client, closedBefore,
+                    context.getBean(ChatSessionRegistry.class).size());
+            scheduler.shutdownNow();
+            client.close();
+        } finally {
+            scheduler.shutdownNow();
+            context.close();
+        }
+    }
+
+    // 회원 두 명씩 짝지어 판매자의 상품 하나와 그 상품의 대화방 하나를 만든다
+    private static List<Long> seedConversations(ConfigurableApplicationContext context, List<Long> memberIds, int active) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        ProductRepository productRepository = context.getBean(ProductRepository.class);
+        ConversationRepository conversationRepository = context.getBean(ConversationRepository.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<Long> conversationIds = new ArrayList<>(active / 2);
+        for(int from = 0; from < active; from += BATCH_SIZE) {
+            int to = Math.min(from + BATCH_SIZE, active);
+            int start = from;
+            conversationIds.addAll(tx.execute(status -> {
+                List<Conversation> conversations = new ArrayList<>();
+                for(int i = start; i + 1 < to; i += 2) {
+                    Member seller = memberRepository.getById(memberIds.get(i));
+                    Product product = productRepository.save(new Product("chat", Category.DIGITAL, 10000L, 100, seller));
+                    conversations.add(new Conversation(product, memberRepository.getById(memberIds.get(i + 1))));
+                }
+                return conversationRepository.saveAll(conversations).stream().map(Conversation::getId).collect(Collectors.toList());
+            }));
+        }
+        return conversationIds;
+    }
+
+    // active 회원과 겹치지 않게 고른다, 회원보다 연결이 많으면 한 회원이 여러 연결을 가진다
+    private static List<Long> idleMembers(List<Long> memberIds, ChatLoadTestConfig config) {
+        int candidates = memberIds.size() - config.getActive();
+        List<Long> result = new ArrayList<>(config.getIdle());
+        for(int i = 0; i < config.getIdle(); i++) result.add(memberIds.get(config.getActive() + i % candidates));
+        return result;
+    }
+
+    private static List<String> tokens(TokenHelper accessTokenHelper, List<Long> memberIds) {
+        return memberIds.stream().map(id -> accessTokenHelper.createToken(String.valueOf(id))).collect(Collectors.toList());
+    }
+
+    private static void print(ChatLoadTestConfig config, long connectMillis, Histogram connectHistogram, int connected,
+                              ChatLoadClient client, long closedBefore, int remaining) {
+        Histogram latency = client.latencyHistogram();
+        long seconds = config.getDuration().toSeconds();
+        System.out.println();
+        System.out.println("chat load test: " + config);
+        System.out.printf("connections: %d requested, %d failed, %d on server after connect (%d ms), %d on server at end, %d closed during run%n",
+                config.getIdle() + config.getActive(), client.getConnectFailures(), connected, connectMillis,
+                remaining, client.getClosed() - closedBefore);
+        System.out.printf(ROW, "metric", "count", "per sec", "p50", "p90", "p99", "p99.9", "max");
+        printRow("handshake (ms)", connectHistogram, Math.max(1, connectMillis) / 1000.0);
+        printRow("message round trip (ms)", latency, seconds);
+        System.out.printf("messages: %d sent, %d delivered, %d errors%n", client.getSent(), client.getReceived(), client.getErrors());
+    }
+
+    private static void printRow(String name, Histogram histogram, double seconds) {
+        if(histogram.getTotalCount() == 0) return;
+        System.out.printf(ROW, name, histogram.getTotalCount(),
+                String.format("%.1f", histogram.getTotalCount() / seconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
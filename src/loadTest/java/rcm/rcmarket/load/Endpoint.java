@@ -0,0 +1,30 @@
+package rcm.rcmarket.load;
+
+import java.util.Arrays;
+
+public enum Endpoint {
+    SIGN_UP("signUp", "POST /api/sign-up"),
+    SIGN_IN("signIn", "POST /api/sign-in"),
+    REFRESH("refresh", "POST /api/refresh-token"),
+    READ("read", "GET /api/members/{id}"),
+    DELETE("delete", "DELETE /api/members/{id}");
+
+    private final String key;
+    private final String description;
+
+    Endpoint(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("unknown endpoint: " + key));
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
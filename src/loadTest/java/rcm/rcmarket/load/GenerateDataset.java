@@ -0,0 +1,31 @@
+package rcm.rcmarket.load;
+
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 회원 데이터셋 csv를 만든다, MemberDatasetLoader.loadCsv로 적재할 수 있다
+// dataset.members(기본 1,000,000), dataset.passwords(미리 계산할 해시 수), dataset.seed, dataset.dir
+// 모든 회원의 비밀번호는 LoadTestDataset.PASSWORD이며 같은 비밀번호의 해시 여러 개를 돌려가며 쓴다
+public class GenerateDataset {
+
+    public static void main(String[] args) throws Exception {
+        long members = Long.parseLong(System.getProperty("dataset.members", "1000000"));
+        int passwords = Integer.parseInt(System.getProperty("dataset.passwords", "8"));
+        long seed = Long.parseLong(System.getProperty("dataset.seed", "1"));
+        Path dir = Path.of(System.getProperty("dataset.dir", "build/dataset"));
+
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        List<String> hashes = new ArrayList<>(passwords);
+        for(int i = 0; i < passwords; i++) hashes.add(passwordEncoder.encode(LoadTestDataset.PASSWORD));
+
+        long start = System.nanoTime();
+        new MemberDatasetGenerator(seed, hashes, LocalDateTime.now()).writeCsv(dir, 1L, members);
+        System.out.printf("generated %d members into %s in %d ms%n",
+                members, dir.toAbsolutePath(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,132 @@
+package rcm.rcmarket.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// closed: concurrency 만큼의 가상 사용자가 응답을 받자마자 다음 요청을 보낸다
+// open: 응답과 상관없이 rate(초당 요청 수)에 맞춰 요청을 보낸다
+//       응답 시간은 원래 보내려던 시각부터 측정해 서버가 밀려도 지연이 가려지지 않게 한다(coordinated omission 보정)
+// 더 만들 수 없는 요청(삭제할 회원 소진)은 mix에서 빼고, 남은 엔드포인트가 없으면 시간이 남아도 끝낸다
+public class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final RequestFactory requestFactory;
+    private final LoadStatistics statistics;
+    private final HttpClient client;
+    private volatile Endpoint[] weightedEndpoints;
+
+    public LoadGenerator(LoadTestConfig config, RequestFactory requestFactory, LoadStatistics statistics) {
+        this.config = config;
+        this.requestFactory = requestFactory;
+        this.statistics = statistics;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.weightedEndpoints = weightedEndpoints(config.getMix());
+    }
+
+    public void run(Duration duration) throws InterruptedException {
+        if(config.getMode() == LoadTestConfig.LoadMode.CLOSED) runClosed(duration);
+        else runOpen(duration);
+    }
+
+    private void runClosed(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(config.getConcurrency());
+        for(int i = 0; i < config.getConcurrency(); i++) {
+            workers.execute(() -> {
+                Endpoint endpoint;
+                while(System.nanoTime() < deadline && (endpoint = nextEndpoint()) != null) send(endpoint);
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    private void send(Endpoint endpoint) {
+        HttpRequest request = requestFactory.create(endpoint);
+        if(request == null) {
+            exhausted(endpoint);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            statistics.record(endpoint, System.nanoTime() - start, response.statusCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            statistics.recordFailure(endpoint, System.nanoTime() - start);
+        }
+    }
+
+    private void runOpen(Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRate();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        for(long intended = start; intended < deadline; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if(wait > 0) LockSupport.parkNanos(wait);
+            Endpoint endpoint = nextEndpoint();
+            if(endpoint == null) break;
+            pending.add(sendAsync(endpoint, intended));
+            pending.removeIf(CompletableFuture::isDone);
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+    }
+
+    private CompletableFuture<?> sendAsync(Endpoint endpoint, long intendedStart) {
+        HttpRequest request = requestFactory.create(endpoint);
+        if(request == null) {
+            exhausted(endpoint);
+            return CompletableFuture.completedFuture(null);
+        }
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    long latency = System.nanoTime() - intendedStart;
+                    if(e != null) statistics.recordFailure(endpoint, latency);
+                    else statistics.record(endpoint, latency, response.statusCode());
+                    return null;
+                });
+    }
+
+    // 남은 엔드포인트가 없으면 null
+    private Endpoint nextEndpoint() {
+        Endpoint[] endpoints = weightedEndpoints;
+        return endpoints.length == 0 ? null : endpoints[ThreadLocalRandom.current().nextInt(endpoints.length)];
+    }
+
+    // 처음 소진된 한 번만 mix를 바꾸고 알린다
+    private synchronized void exhausted(Endpoint endpoint) {
+        Endpoint[] endpoints = weightedEndpoints;
+        Endpoint[] remaining = Arrays.stream(endpoints).filter(e -> e != endpoint).toArray(Endpoint[]::new);
+        if(remaining.length == endpoints.length) return;
+        weightedEndpoints = remaining;
+        System.out.println(endpoint.getDescription() + ": no more requests can be made (raise -PloadTest.disposableMembers), removed from the mix" +
+                (remaining.length == 0 ? ", no endpoints left, stopping the run" : ""));
+    }
+
+    // 가중치만큼 엔드포인트를 반복해 넣어두고 균등하게 뽑는다
+    private static Endpoint[] weightedEndpoints(Map<Endpoint, Integer> mix) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for(int i = 0; i < weight; i++) endpoints.add(endpoint);
+        });
+        if(endpoints.isEmpty()) throw new IllegalArgumentException("loadTest.mix must have a positive weight");
+        return endpoints.toArray(new Endpoint[0]);
+    }
+}
@@ -0,0 +1,51 @@
+package rcm.rcmarket.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간(마이크로초)과 실패 횟수를 기록한다
+// Recorder는 여러 스레드에서 동시에 기록해도 안전하다
+public class LoadStatistics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    public LoadStatistics() {
+        for(Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void record(Endpoint endpoint, long latencyNanos, int status) {
+        recorders.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if(status < 200 || status >= 300) errors.get(endpoint).increment();
+    }
+
+    public void recordFailure(Endpoint endpoint, long latencyNanos) {
+        record(endpoint, latencyNanos, -1);
+    }
+
+    // 워밍업 구간의 기록을 버린다
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public Map<Endpoint, Histogram> snapshot() {
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        recorders.forEach((endpoint, recorder) -> histograms.put(endpoint, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    public long getErrors(Endpoint endpoint) {
+        return errors.get(endpoint).sum();
+    }
+}
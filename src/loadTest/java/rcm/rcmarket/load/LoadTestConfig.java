@@ -0,0 +1,112 @@
+package rcm.rcmarket.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 부하 테스트 설정, 모든 값은 loadTest.* 시스템 프로퍼티로 바꿀 수 있다
+// mode: closed(동시 사용자 수 고정) 또는 open(초당 요청 수 고정)
+// mix: 엔드포인트별 가중치, 예) read=70,signIn=10,refresh=10,signUp=5,delete=5
+// threads: 서버 요청 스레드, platform, virtual(JDK 21, virtual-threads 프로필) 또는 compare(둘을 차례로 실행)
+public class LoadTestConfig {
+
+    private final LoadMode mode;
+    private final int concurrency;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int members;
+    private final int disposableMembers;
+    private final Map<Endpoint, Integer> mix;
+    private final ThreadMode threads;
+
+    private LoadTestConfig(LoadMode mode, int concurrency, int rate, Duration warmup, Duration duration,
+                           int members, int disposableMembers, Map<Endpoint, Integer> mix, ThreadMode threads) {
+        this.mode = mode;
+        this.concurrency = concurrency;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.members = members;
+        this.disposableMembers = disposableMembers;
+        this.mix = mix;
+        this.threads = threads;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                LoadMode.valueOf(property("mode", "closed").toUpperCase()),
+                Integer.parseInt(property("concurrency", "64")),
+                Integer.parseInt(property("rate", "500")),
+                Duration.ofSeconds(Long.parseLong(property("warmupSeconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("durationSeconds", "60"))),
+                Integer.parseInt(property("members", "10000")),
+                Integer.parseInt(property("disposableMembers", "10000")),
+                parseMix(property("mix", "read=70,signIn=10,refresh=10,signUp=5,delete=5")),
+                ThreadMode.valueOf(property("threads", "platform").toUpperCase()));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for(String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            mix.put(Endpoint.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    public LoadMode getMode() {
+        return mode;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getMembers() {
+        return members;
+    }
+
+    public int getDisposableMembers() {
+        return disposableMembers;
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+
+    public ThreadMode getThreads() {
+        return threads;
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode + ", concurrency=" + concurrency + ", rate=" + rate +
+                ", warmup=" + warmup + ", duration=" + duration +
+                ", members=" + members + ", disposableMembers=" + disposableMembers + ", mix=" + mix + ", threads=" + threads;
+    }
+
+    public enum LoadMode {
+        CLOSED, OPEN
+    }
+
+    public enum ThreadMode {
+        PLATFORM, VIRTUAL, COMPARE
+    }
+}
@@ -0,0 +1,114 @@
+package rcm.rcmarket.load;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rcm.rcmarket.config.token.TokenHelper;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.member.Role;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.role.RoleRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 부하 테스트 전에 H2에 권한, 관리자, 일반 회원, 삭제용 회원을 넣고 요청에 필요한 토큰을 미리 만들어둔다
+// 모든 회원은 같은 비밀번호를 쓰기 때문에 bcrypt는 한 번만 수행한다
+// 일반 회원은 MemberDatasetGenerator로 만들어 MemberDatasetLoader로 한 번에 적재한다
+public class LoadTestDataset {
+
+    public static final String PASSWORD = "123456a!";
+    private static final String ADMIN_EMAIL = "admin@load.com";
+    private static final int BATCH_SIZE = 1000;
+    private static final int REFRESH_TOKENS = 1000;
+
+    private final List<Long> memberIds = new ArrayList<>();
+    private final List<String> memberEmails = new ArrayList<>();
+    private final List<String> refreshTokens = new ArrayList<>();
+    private final Queue<Long> disposableMemberIds = new ConcurrentLinkedQueue<>();
+    private String adminAccessToken;
+
+    public static LoadTestDataset seed(ApplicationContext context, LoadTestConfig config) throws IOException {
+        LoadTestDataset dataset = new LoadTestDataset();
+        dataset.load(context, config);
+        return dataset;
+    }
+
+    private void load(ApplicationContext context, LoadTestConfig config) throws IOException {
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Map<RoleType, Role> roles = tx.execute(status -> roleRepository.saveAll(
+                Arrays.stream(RoleType.values()).map(Role::new).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(Role::getRoleType, Function.identity())));
+
+        Member admin = tx.execute(status -> memberRepository.save(new Member(ADMIN_EMAIL, encodedPassword, "admin", "loadadmin",
+                List.of(roles.get(RoleType.ROLE_NORMAL), roles.get(RoleType.ROLE_ADMIN)))));
+
+        MemberDatasetGenerator generator = new MemberDatasetGenerator(1L, List.of(encodedPassword), LocalDateTime.now());
+        long firstId = admin.getId() + 1;
+        Path workDir = Files.createTempDirectory("rcmarket-dataset");
+        new MemberDatasetLoader(context.getBean(JdbcTemplate.class)).load(generator, firstId, config.getMembers(), workDir);
+        for(long id = firstId; id < firstId + config.getMembers(); id++) {
+            memberIds.add(id);
+            memberEmails.add(generator.generate(id).getEmail());
+        }
+
+        for(int from = 0; from < config.getDisposableMembers(); from += BATCH_SIZE) {
+            saveMembers(tx, memberRepository, "disposable", from,
+                    Math.min(from + BATCH_SIZE, config.getDisposableMembers()), encodedPassword, roles.get(RoleType.ROLE_NORMAL))
+                    .forEach(member -> disposableMemberIds.add(member.getId()));
+        }
+
+        TokenHelper accessTokenHelper = context.getBean("accessTokenHelper", TokenHelper.class);
+        TokenHelper refreshTokenHelper = context.getBean("refreshTokenHelper", TokenHelper.class);
+        adminAccessToken = accessTokenHelper.createToken(String.valueOf(admin.getId()));
+        memberIds.stream().limit(REFRESH_TOKENS)
+                .map(id -> refreshTokenHelper.createToken(String.valueOf(id)))
+                .forEach(refreshTokens::add);
+    }
+
+    private List<Member> saveMembers(TransactionTemplate tx, MemberRepository memberRepository, String prefix,
+                                     int from, int to, String encodedPassword, Role role) {
+        List<Member> members = new ArrayList<>(to - from);
+        for(int i = from; i < to; i++) {
+            members.add(new Member(prefix + i + "@load.com", encodedPassword, prefix, prefix + i, List.of(role)));
+        }
+        return tx.execute(status -> memberRepository.saveAll(members));
+    }
+
+    public List<Long> getMemberIds() {
+        return memberIds;
+    }
+
+    public List<String> getMemberEmails() {
+        return memberEmails;
+    }
+
+    public List<String> getRefreshTokens() {
+        return refreshTokens;
+    }
+
+    public Long pollDisposableMemberId() {
+        return disposableMemberIds.poll();
+    }
+
+    public String getAdminAccessToken() {
+        return adminAccessToken;
+    }
+}
@@ -0,0 +1,35 @@
+package rcm.rcmarket.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 엔드포인트별 처리량과 응답 시간 백분위(ms)를 표로 출력한다
+public class LoadTestReport {
+
+    private static final String ROW = "%-26s %9s %8s %10s %9s %9s %9s %9s %9s%n";
+
+    public static void print(LoadTestConfig config, Duration duration, Map<Endpoint, Histogram> histograms, LoadStatistics statistics) {
+        System.out.println();
+        System.out.println("load test: " + config);
+        System.out.printf(ROW, "endpoint", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max");
+        histograms.forEach((endpoint, histogram) -> {
+            if(histogram.getTotalCount() == 0) return;
+            System.out.printf(ROW,
+                    endpoint.getDescription(),
+                    histogram.getTotalCount(),
+                    statistics.getErrors(endpoint),
+                    String.format("%.1f", histogram.getTotalCount() / (double) duration.toSeconds()),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        });
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
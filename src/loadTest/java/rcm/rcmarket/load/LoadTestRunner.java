@@ -0,0 +1,45 @@
+package rcm.rcmarket.load;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import rcm.rcmarket.RcmarketApplication;
+import rcm.rcmarket.load.LoadTestConfig.ThreadMode;
+
+import java.util.List;
+
+// 애플리케이션을 임의의 포트로 띄우고, 데이터를 넣은 뒤 워밍업 -> 측정 순서로 부하를 준다
+// loadtest 프로필로 실행하므로 local 프로필의 InitDB는 동작하지 않는다
+// threads=compare이면 플랫폼 스레드와 가상 스레드로 각각 애플리케이션을 새로 띄워 같은 부하를 준다
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<ThreadMode> threadModes = config.getThreads() == ThreadMode.COMPARE ?
+                List.of(ThreadMode.PLATFORM, ThreadMode.VIRTUAL) : List.of(config.getThreads());
+        for(ThreadMode threadMode : threadModes) {
+            run(config, threadMode);
+        }
+    }
+
+    private static void run(LoadTestConfig config, ThreadMode threadMode) throws Exception {
+        String profiles = threadMode == ThreadMode.VIRTUAL ? "loadtest,virtual-threads" : "loadtest";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RcmarketApplication.class)
+                .run("--spring.profiles.active=" + profiles, "--server.port=0", "--logging.level.root=warn");
+        try {
+            LoadTestDataset dataset = LoadTestDataset.seed(context, config);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            LoadStatistics statistics = new LoadStatistics();
+            LoadGenerator generator = new LoadGenerator(config, new RequestFactory(port, dataset), statistics);
+            generator.run(config.getWarmup());
+            statistics.reset();
+            generator.run(config.getDuration());
+
+            System.out.println();
+            System.out.println("server threads: " + threadMode.name().toLowerCase());
+            LoadTestReport.print(config, config.getDuration(), statistics.snapshot(), statistics);
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package rcm.rcmarket.load;
+
+import rcm.rcmarket.entity.member.RoleType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 성능 테스트용 회원 데이터를 만든다
+// 같은 seed와 id면 항상 같은 행이 나오기 때문에 어떤 범위든 독립적으로(병렬로) 만들 수 있다
+// - email: 흔한 이름 + id @ 실제 비율에 가까운 도메인, 30자 이하이며 id 덕분에 중복되지 않는다
+// - nickname: 한글 또는 알파벳 단어 + id를 인코딩한 접미사, SignUpRequest의 ^[A-Za-z가-힣]+$ 규칙과 20자 제한을 지킨다
+// - roles: 모두 ROLE_NORMAL을 가지고 일부가 판매자/구매자/관리자 권한을 추가로 가진다
+// - password: bcrypt는 느리기 때문에 미리 계산해둔 해시 몇 개를 돌려가며 사용한다
+public class MemberDatasetGenerator {
+
+    private static final String[] HANGUL_SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] HANGUL_GIVEN_NAMES = {"민준", "서연", "도윤", "서윤", "시우", "지우", "하준", "하은", "주원", "민서", "지호", "지민", "예준", "수아", "유진"};
+    private static final String[] LATIN_GIVEN_NAMES = {"minjun", "seoyeon", "doyun", "jiwoo", "hajun", "jimin", "yujin", "james", "olivia", "liam", "emma", "noah", "mia", "lucas", "sofia"};
+    private static final String[] LATIN_SURNAMES = {"kim", "lee", "park", "choi", "jung", "kang", "cho", "yoon", "smith", "brown"};
+    private static final String[] NICKNAME_WORDS = {"행복", "하늘", "바다", "달빛", "별", "고양이", "사과", "sunny", "blue", "happy", "tiger", "river", "maple", "pixel"};
+
+    // 도메인과 누적 가중치(%)
+    private static final String[] DOMAINS = {"gmail.com", "naver.com", "daum.net", "kakao.com", "hanmail.net", "nate.com", "outlook.com"};
+    private static final int[] DOMAIN_CUMULATIVE_WEIGHTS = {40, 70, 80, 88, 94, 97, 100};
+
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int MAX_EMAIL_LENGTH = 30;
+    private static final int HANGUL_FIRST = '가';
+    private static final int HANGUL_COUNT = '힣' - '가' + 1;
+    private static final long CREATED_AT_RANGE_SECONDS = 2L * 365 * 24 * 60 * 60;
+
+    private final long seed;
+    private final String[] passwordHashes;
+    private final LocalDateTime now;
+
+    public MemberDatasetGenerator(long seed, List<String> passwordHashes, LocalDateTime now) {
+        if(passwordHashes.isEmpty()) throw new IllegalArgumentException("passwordHashes must not be empty");
+        this.seed = seed;
+        this.passwordHashes = passwordHashes.toArray(new String[0]);
+        this.now = now;
+    }
+
+    public MemberRow generate(long id) {
+        SplittableRandom random = new SplittableRandom(seed ^ (id * 0x9E3779B97F4A7C15L));
+        boolean hangulName = random.nextInt(10) < 7;
+        String username = hangulName ?
+                pick(random, HANGUL_SURNAMES) + pick(random, HANGUL_GIVEN_NAMES) :
+                pick(random, LATIN_GIVEN_NAMES);
+        return new MemberRow(
+                id,
+                email(random, id),
+                passwordHashes[(int) (id % passwordHashes.length)],
+                username,
+                nickname(random, id),
+                now.minusSeconds(random.nextLong(CREATED_AT_RANGE_SECONDS)),
+                roles(random));
+    }
+
+    // member.csv와 member_role.csv를 dir에 만든다, id는 firstId부터 count개
+    public void writeCsv(Path dir, long firstId, long count) throws IOException {
+        Files.createDirectories(dir);
+        try(BufferedWriter members = Files.newBufferedWriter(dir.resolve(MemberDatasetLoader.MEMBER_CSV), StandardCharsets.UTF_8);
+            BufferedWriter memberRoles = Files.newBufferedWriter(dir.resolve(MemberDatasetLoader.MEMBER_ROLE_CSV), StandardCharsets.UTF_8)) {
+            members.write("MEMBER_ID,EMAIL,PASSWORD,USERNAME,NICKNAME,CREATED_AT\n");
+            memberRoles.write("MEMBER_ID,ROLE_TYPE\n");
+            for(long id = firstId; id < firstId + count; id++) {
+                MemberRow row = generate(id);
+                members.write(row.getId() + "," + row.getEmail() + "," + row.getPassword() + "," +
+                        row.getUsername() + "," + row.getNickname() + "," + CSV_DATE_TIME.format(row.getCreatedAt()) + "\n");
+                for(RoleType roleType : row.getRoles()) {
+                    memberRoles.write(row.getId() + "," + roleType.name() + "\n");
+                }
+            }
+        }
+    }
+
+    // 이름에는 숫자가 없으므로 id를 10진수로 붙이면 이름이 달라도 email이 겹치지 않는다
+    private String email(SplittableRandom random, long id) {
+        String given = pick(random, LATIN_GIVEN_NAMES);
+        String surname = pick(random, LATIN_SURNAMES);
+        String domain = domain(random);
+        String email = given + "." + surname + id + "@" + domain;
+        if(random.nextBoolean() || email.length() > MAX_EMAIL_LENGTH) email = given + id + "@" + domain;
+        return email;
+    }
+
+    private String domain(SplittableRandom random) {
+        int value = random.nextInt(100);
+        for(int i = 0; i < DOMAINS.length; i++) {
+            if(value < DOMAIN_CUMULATIVE_WEIGHTS[i]) return DOMAINS[i];
+        }
+        return DOMAINS[DOMAINS.length - 1];
+    }
+
+    private String nickname(SplittableRandom random, long id) {
+        String word = pick(random, NICKNAME_WORDS);
+        return word + (isHangul(word.charAt(0)) ? hangulSuffix(id) : latinSuffix(id));
+    }
+
+    private List<RoleType> roles(SplittableRandom random) {
+        List<RoleType> roles = new ArrayList<>(2);
+        roles.add(RoleType.ROLE_NORMAL);
+        int value = random.nextInt(10000);
+        if(value < 500) roles.add(RoleType.ROLE_SPECIAL_SELLER);
+        else if(value < 800) roles.add(RoleType.ROLE_SPECIAL_BUYER);
+        else if(value < 801) roles.add(RoleType.ROLE_ADMIN);
+        return roles;
+    }
+
+    // 한글 음절 하나에 11172개의 값을 담을 수 있어 3음절이면 10억 단위 id까지 표현된다
+    static String hangulSuffix(long id) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) (HANGUL_FIRST + id % HANGUL_COUNT));
+            id /= HANGUL_COUNT;
+        } while(id > 0);
+        return sb.toString();
+    }
+
+    static String latinSuffix(long id) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            int value = (int) (id % 52);
+            sb.append((char) (value < 26 ? 'a' + value : 'A' + value - 26));
+            id /= 52;
+        } while(id > 0);
+        return sb.toString();
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
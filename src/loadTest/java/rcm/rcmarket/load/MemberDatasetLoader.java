@@ -0,0 +1,105 @@
+package rcm.rcmarket.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// MemberDatasetGenerator가 만든 csv를 JPA를 거치지 않고 대량으로 적재한다
+// H2는 CSVREAD로 테이블마다 INSERT ... SELECT 한 번에 넣고, 다른 DB는 JDBC batch로 넣는다
+// role 테이블은 미리 채워져 있어야 한다
+@Slf4j
+@RequiredArgsConstructor
+public class MemberDatasetLoader {
+
+    public static final String MEMBER_CSV = "member.csv";
+    public static final String MEMBER_ROLE_CSV = "member_role.csv";
+
+    private static final int BATCH_SIZE = 5000;
+    private static final DateTimeFormatter CSV_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void load(MemberDatasetGenerator generator, long firstId, long count, Path workDir) throws IOException {
+        generator.writeCsv(workDir, firstId, count);
+        loadCsv(workDir);
+    }
+
+    public void loadCsv(Path dir) throws IOException {
+        long start = System.nanoTime();
+        Path members = dir.resolve(MEMBER_CSV).toAbsolutePath();
+        Path memberRoles = dir.resolve(MEMBER_ROLE_CSV).toAbsolutePath();
+        if(isH2()) loadWithCsvRead(members, memberRoles);
+        else loadWithBatch(members, memberRoles);
+        restartMemberIdentity();
+        log.info("loaded member dataset from {} in {} ms", dir, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void loadWithCsvRead(Path members, Path memberRoles) {
+        jdbcTemplate.execute("INSERT INTO member (member_id, email, password, username, nickname, created_at, modified_at) " +
+                "SELECT CAST(MEMBER_ID AS BIGINT), EMAIL, PASSWORD, USERNAME, NICKNAME, " +
+                "CAST(CREATED_AT AS TIMESTAMP), CAST(CREATED_AT AS TIMESTAMP) " +
+                "FROM CSVREAD(" + quote(members) + ", NULL, 'charset=UTF-8')");
+        jdbcTemplate.execute("INSERT INTO member_role (member_id, role_id) " +
+                "SELECT CAST(c.MEMBER_ID AS BIGINT), r.role_id " +
+                "FROM CSVREAD(" + quote(memberRoles) + ", NULL, 'charset=UTF-8') c JOIN role r ON r.role_type = c.ROLE_TYPE");
+    }
+
+    private void loadWithBatch(Path members, Path memberRoles) throws IOException {
+        Map<String, Long> roleIds = jdbcTemplate.queryForList("SELECT role_id, role_type FROM role").stream()
+                .collect(Collectors.toMap(row -> (String) row.get("role_type"), row -> ((Number) row.get("role_id")).longValue()));
+        batchInsert(members, "INSERT INTO member (member_id, email, password, username, nickname, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", columns -> {
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.parse(columns[5], CSV_DATE_TIME));
+            return new Object[]{Long.valueOf(columns[0]), columns[1], columns[2], columns[3], columns[4], createdAt, createdAt};
+        });
+        batchInsert(memberRoles, "INSERT INTO member_role (member_id, role_id) VALUES (?, ?)",
+                columns -> new Object[]{Long.valueOf(columns[0]), roleIds.get(columns[1])});
+    }
+
+    private void batchInsert(Path csv, String sql, Function<String[], Object[]> mapper) throws IOException {
+        try(BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            reader.readLine(); // header
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            String line;
+            while((line = reader.readLine()) != null) {
+                batch.add(mapper.apply(line.split(",")));
+                if(batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    batch.clear();
+                }
+            }
+            if(!batch.isEmpty()) jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    // id를 직접 넣었기 때문에 이후 JPA가 발급할 id가 겹치지 않도록 identity를 다시 시작한다
+    private void restartMemberIdentity() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(member_id), 0) FROM member", Long.class);
+        if(isH2()) jdbcTemplate.execute("ALTER TABLE member ALTER COLUMN member_id RESTART WITH " + (maxId + 1));
+        else log.warn("identity of member.member_id was not restarted, next generated id must be above {}", maxId);
+    }
+
+    private boolean isH2() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().equals("H2")));
+    }
+
+    private static String quote(Path path) {
+        return "'" + path.toString().replace("'", "''") + "'";
+    }
+}
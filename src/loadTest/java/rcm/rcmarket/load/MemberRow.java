@@ -0,0 +1,21 @@
+package rcm.rcmarket.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rcm.rcmarket.entity.member.RoleType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 대량 적재용 회원 한 건, member 테이블의 한 행과 member_role 행들에 대응된다
+@Getter
+@AllArgsConstructor
+public class MemberRow {
+    private final long id;
+    private final String email;
+    private final String password;
+    private final String username;
+    private final String nickname;
+    private final LocalDateTime createdAt;
+    private final List<RoleType> roles;
+}
@@ -0,0 +1,87 @@
+package rcm.rcmarket.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 엔드포인트별 요청을 만든다, 만들 수 없는 요청(삭제할 회원이 소진됨)은 null을 반환한다
+// null을 받은 LoadGenerator는 그 엔드포인트를 mix에서 뺀다
+public class RequestFactory {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LoadTestDataset dataset;
+    private final AtomicLong signUpSequence = new AtomicLong();
+
+    public RequestFactory(int port, LoadTestDataset dataset) {
+        this.baseUrl = "http://localhost:" + port;
+        this.dataset = dataset;
+    }
+
+    public HttpRequest create(Endpoint endpoint) {
+        switch(endpoint) {
+            case SIGN_UP: return signUp();
+            case SIGN_IN: return signIn();
+            case REFRESH: return refresh();
+            case READ: return read();
+            case DELETE: return delete();
+            default: throw new IllegalArgumentException(endpoint.name());
+        }
+    }
+
+    private HttpRequest signUp() {
+        long sequence = signUpSequence.incrementAndGet();
+        String body = "{\"email\":\"signup" + sequence + "@load.com\",\"password\":\"" + LoadTestDataset.PASSWORD +
+                "\",\"username\":\"loadtest\",\"nickname\":\"su" + letters(sequence) + "\"}";
+        return json("/api/sign-up").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest signIn() {
+        String body = "{\"email\":\"" + random(dataset.getMemberEmails()) + "\",\"password\":\"" + LoadTestDataset.PASSWORD + "\"}";
+        return json("/api/sign-in").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest refresh() {
+        return request("/api/refresh-token")
+                .header("Authorization", random(dataset.getRefreshTokens()))
+                .POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest read() {
+        return request("/api/members/" + random(dataset.getMemberIds())).GET().build();
+    }
+
+    private HttpRequest delete() {
+        Long id = dataset.pollDisposableMemberId();
+        if(id == null) return null;
+        return request("/api/members/" + id)
+                .header("Authorization", dataset.getAdminAccessToken())
+                .DELETE().build();
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return request(path).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    // 닉네임은 한글 또는 알파벳만 허용되므로 순번을 알파벳으로 바꾼다
+    private static String letters(long value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while(value > 0);
+        return sb.toString();
+    }
+}
@@ -2,64 +2,57 @@ package rcm.rcmarket;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import rcm.rcmarket.entity.member.Member;
-import rcm.rcmarket.entity.member.Role;
-import rcm.rcmarket.entity.member.RoleType;
-import rcm.rcmarket.exception.RoleNotFoundException;
-import rcm.rcmarket.repository.member.MemberRepository;
-import rcm.rcmarket.repository.role.RoleRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.StopWatch;
+import rcm.rcmarket.repository.seed.SeedVersionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import javax.annotation.PostConstruct;
-import java.util.List;
-import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
 
+// 권한과 테스트 회원을 엔티티 하나씩 저장하고 bcrypt를 매번 계산하는 대신
+// 해시를 미리 계산해둔 버전별 스냅샷 스크립트 하나로 적재한다
+// 같은 버전이 이미 적용된 스키마라면 적재를 건너뛴다
 @Component
 @RequiredArgsConstructor
 @Slf4j
 @Profile("local")
 public class InitDB {
-    private final RoleRepository roleRepository;
-    private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    public static final String SEED_VERSION = "local-v1";
+    private static final String SEED_SCRIPT = "db/seed/" + SEED_VERSION + ".sql";
 
+    private final SeedVersionRepository seedVersionRepository;
+    private final DataSource dataSource;
+
+    // 시드가 적재된 뒤에 SearchService가 색인을 만들도록 먼저 실행한다
     @EventListener(ApplicationReadyEvent.class)
-    @Transactional
-    public void initDB() {
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void initDB(ApplicationReadyEvent event) {
         log.info("initialize database");
-
-        initRole();
-        initTestAdmin();
-        initTestMember();
+        StopWatch stopWatch = new StopWatch("initDB");
+
+        stopWatch.start("check seed version");
+        boolean applied = seedVersionRepository.existsById(SEED_VERSION);
+        stopWatch.stop();
+
+        if(applied) {
+            log.info("seed {} is already applied, skip", SEED_VERSION);
+        } else {
+            stopWatch.start("run " + SEED_SCRIPT);
+            new ResourceDatabasePopulator(new ClassPathResource(SEED_SCRIPT)).execute(dataSource);
+            stopWatch.stop();
+        }
+
+        log.info("startup: jvm {} ms, application context {} ms, seed {} ms",
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis(),
+                stopWatch.getTotalTimeMillis());
+        log.info(stopWatch.prettyPrint());
     }
-
-    private void initRole() {
-        roleRepository.saveAll(
-                List.of(RoleType.values()).stream().map(roleType -> new Role(roleType)).collect(Collectors.toList())
-        );
-    }
-
-    private void initTestAdmin() {
-        memberRepository.save(
-                new Member("admin@admin.com", passwordEncoder.encode("123456a!"), "admin", "admin",
-                        List.of(roleRepository.findByRoleType(RoleType.ROLE_NORMAL).orElseThrow(RoleNotFoundException::new),
-                                roleRepository.findByRoleType(RoleType.ROLE_ADMIN).orElseThrow(RoleNotFoundException::new)))
-        );
-    }
-
-    private void initTestMember() {
-        memberRepository.saveAll(
-                List.of(
-                        new Member("member1@member.com", passwordEncoder.encode("123456a!"), "member1", "member1",
-                                List.of(roleRepository.findByRoleType(RoleType.ROLE_NORMAL).orElseThrow(RoleNotFoundException::new))),
-                        new Member("member2@member.com", passwordEncoder.encode("123456a!"), "member2", "member2",
-                                List.of(roleRepository.findByRoleType(RoleType.ROLE_NORMAL).orElseThrow(RoleNotFoundException::new))))
-        );
-    }
-
-}
\ No newline at end of file
+}
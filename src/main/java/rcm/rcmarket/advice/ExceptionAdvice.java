@@ -1,6 +1,9 @@
 package rcm.rcmarket.advice;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import rcm.rcmarket.dto.response.Response;
 import rcm.rcmarket.exception.*;
 import lombok.extern.slf4j.Slf4j;
@@ -9,69 +12,172 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
+// 실패 응답은 rcmarket.api.failure(code=실패 코드) 카운터로 집계된다
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class ExceptionAdvice {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public Response exception(Exception e) { // 1
         log.info("e = {}", e.getMessage());
-        return Response.failure(-1000, "오류가 발생하였습니다.");
+        return failure(-1000, "오류가 발생하였습니다.");
     }
 
     @ExceptionHandler(AuthenticationEntryPointException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public Response authenticationEntryPoint() {
-        return Response.failure(-1001, "인증되지 않은 사용자입니다.");
+        return failure(-1001, "인증되지 않은 사용자입니다.");
     }
 
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public Response accessDeniedException() {
-        return Response.failure(-1002, "접근이 거부되었습니다.");
+        return failure(-1002, "접근이 거부되었습니다.");
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response methodArgumentNotValidException(MethodArgumentNotValidException e) { // 2
-        return Response.failure(-1003, e.getBindingResult().getFieldError().getDefaultMessage());
+        return failure(-1003, e.getBindingResult().getFieldError().getDefaultMessage());
     }
 
     @ExceptionHandler(LoginFailureException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public Response loginFailureException() { // 3
-        return Response.failure(-1004, "로그인에 실패하였습니다.");
+        return failure(-1004, "로그인에 실패하였습니다.");
     }
 
     @ExceptionHandler(MemberEmailAlreadyExistsException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public Response memberEmailAlreadyExistsException(MemberEmailAlreadyExistsException e) { // 4
-        return Response.failure(-1005, e.getMessage() + "은 중복된 이메일 입니다.");
+        return failure(-1005, e.getMessage() + "은 중복된 이메일 입니다.");
     }
 
     @ExceptionHandler(MemberNicknameAlreadyExistsException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public Response memberNicknameAlreadyExistsException(MemberNicknameAlreadyExistsException e) { // 5
-        return Response.failure(-1006, e.getMessage() + "은 중복된 닉네임 입니다.");
+        return failure(-1006, e.getMessage() + "은 중복된 닉네임 입니다.");
     }
 
     @ExceptionHandler(MemberNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Response memberNotFoundException() { // 6
-        return Response.failure(-1007, "요청한 회원을 찾을 수 없습니다.");
+        return failure(-1007, "요청한 회원을 찾을 수 없습니다.");
     }
 
     @ExceptionHandler(RoleNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public Response roleNotFoundException() { // 7
-        return Response.failure(-1008, "요청한 권한 등급을 찾을 수 없습니다.");
+        return failure(-1008, "요청한 권한 등급을 찾을 수 없습니다.");
     }
 
     @ExceptionHandler(MissingRequestHeaderException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response missingRequestHeaderException(MissingRequestHeaderException e) {
-        return Response.failure(-1009, e.getHeaderName() + " 요청 헤더가 누락되었습니다.");
+        return failure(-1009, e.getHeaderName() + " 요청 헤더가 누락되었습니다.");
+    }
+
+    @ExceptionHandler(ProductNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response productNotFoundException() {
+        return failure(-1010, "요청한 상품을 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response invalidCursorException() {
+        return failure(-1011, "잘못된 페이지 커서입니다.");
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response missingServletRequestParameterException(MissingServletRequestParameterException e) {
+        return failure(-1012, e.getParameterName() + " 요청 파라미터가 누락되었습니다.");
+    }
+
+    @ExceptionHandler(OutOfStockException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Response outOfStockException() {
+        return failure(-1013, "재고가 부족합니다.");
+    }
+
+    @ExceptionHandler(ReservationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response reservationNotFoundException() {
+        return failure(-1014, "요청한 재고 예약을 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(OrderQueueFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public Response orderQueueFullException() {
+        return failure(-1015, "주문이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response methodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        return failure(-1016, e.getName() + " 값의 형식이 올바르지 않습니다.");
+    }
+
+    @ExceptionHandler(CommentNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response commentNotFoundException() {
+        return failure(-1017, "요청한 댓글을 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(CommentDepthExceededException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response commentDepthExceededException() {
+        return failure(-1018, "더 이상 답글을 달 수 없습니다.");
+    }
+
+    @ExceptionHandler(ImageNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response imageNotFoundException() {
+        return failure(-1019, "요청한 이미지를 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(InvalidImageException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response invalidImageException() {
+        return failure(-1020, "지원하지 않는 이미지 형식입니다.");
+    }
+
+    // spring.servlet.multipart.max-file-size를 넘으면 컨트롤러에 오기 전에 multipart를 해석하다 던져진다
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public Response maxUploadSizeExceededException() {
+        return failure(-1021, "파일이 너무 큽니다.");
+    }
+
+    @ExceptionHandler(MissingServletRequestPartException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response missingServletRequestPartException(MissingServletRequestPartException e) {
+        return failure(-1022, e.getRequestPartName() + " 요청 파트가 누락되었습니다.");
+    }
+
+    @ExceptionHandler(ConversationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public Response conversationNotFoundException() {
+        return failure(-1023, "요청한 대화방을 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(SelfConversationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response selfConversationException() {
+        return failure(-1024, "자신의 상품에는 대화를 시작할 수 없습니다.");
+    }
+
+    Response failure(int code, String msg) {
+        meterRegistry.counter("rcmarket.api.failure", "code", String.valueOf(code)).increment();
+        return Response.failure(code, msg);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package rcm.rcmarket.advice;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.MissingRequestValueException;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.exception.*;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ConstraintViolationException;
+
+// 함수형 라우트에서 발생한 예외를 ExceptionAdvice와 같은 상태 코드와 응답으로 바꾼다
+// 응답 본문과 실패 메트릭은 ExceptionAdvice의 핸들러를 그대로 호출해 만든다
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler {
+
+    private final ExceptionAdvice exceptionAdvice;
+
+    public Mono<ServerResponse> handle(Throwable e, ServerRequest request) {
+        if(e instanceof AuthenticationEntryPointException)
+            return respond(HttpStatus.UNAUTHORIZED, exceptionAdvice.authenticationEntryPoint());
+        if(e instanceof AccessDeniedException)
+            return respond(HttpStatus.FORBIDDEN, exceptionAdvice.accessDeniedException());
+        if(e instanceof ConstraintViolationException ex) // MethodArgumentNotValidException에 해당
+            return respond(HttpStatus.BAD_REQUEST,
+                    exceptionAdvice.failure(-1003, ex.getConstraintViolations().iterator().next().getMessage()));
+        if(e instanceof LoginFailureException)
+            return respond(HttpStatus.UNAUTHORIZED, exceptionAdvice.loginFailureException());
+        if(e instanceof MemberEmailAlreadyExistsException ex)
+            return respond(HttpStatus.CONFLICT, exceptionAdvice.memberEmailAlreadyExistsException(ex));
+        if(e instanceof MemberNicknameAlreadyExistsException ex)
+            return respond(HttpStatus.CONFLICT, exceptionAdvice.memberNicknameAlreadyExistsException(ex));
+        if(e instanceof MemberNotFoundException)
+            return respond(HttpStatus.NOT_FOUND, exceptionAdvice.memberNotFoundException());
+        if(e instanceof RoleNotFoundException)
+            return respond(HttpStatus.NOT_FOUND, exceptionAdvice.roleNotFoundException());
+        if(e instanceof MissingRequestValueException ex) // MissingRequestHeaderException에 해당
+            return respond(HttpStatus.BAD_REQUEST, exceptionAdvice.failure(-1009, ex.getName() + " 요청 헤더가 누락되었습니다."));
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR,
+                exceptionAdvice.exception(e instanceof Exception ex ? ex : new RuntimeException(e)));
+    }
+
+    private Mono<ServerResponse> respond(HttpStatus status, Response response) {
+        return ServerResponse.status(status).bodyValue(response);
+    }
+}
@@ -0,0 +1,33 @@
+package rcm.rcmarket.advice;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import rcm.rcmarket.config.timing.ServerTiming;
+
+// 응답 바디를 쓰기 직전에 지금까지 기록된 단계별 시간을 Server-Timing 헤더로 추가한다
+// 신뢰하는 네트워크에서 온 요청(ServerTiming.isExposed())에만 추가한다
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        ServerTiming timing = ServerTiming.current();
+        if(timing != null && timing.isExposed()) response.getHeaders().add(ServerTiming.HEADER, timing.toHeaderValue());
+        return body;
+    }
+}
@@ -0,0 +1,67 @@
+package rcm.rcmarket.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 존재하지 않는 회원 id를 짧은 시간 동안 기억해두는 캐시
+// 삭제된 회원의 토큰이나 없는 id로 반복되는 요청이 매번 DB까지 가지 않도록 repository보다 먼저 확인한다
+// 최대 크기를 넘으면 가장 오래 사용되지 않은 id부터 제거하고, ttl이 지난 id는 조회 시점에 제거한다
+@Component
+public class MemberNegativeCache {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, Long> expiresAt;
+
+    public MemberNegativeCache(
+            @Value("${member.negative-cache.max-size:10000}") int maxSize,
+            @Value("${member.negative-cache.ttl-seconds:30}") long ttlSeconds) {
+        this(maxSize, ttlSeconds * 1_000_000_000L, System::nanoTime);
+    }
+
+    MemberNegativeCache(int maxSize, long ttlNanos, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.expiresAt = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > MemberNegativeCache.this.maxSize;
+            }
+        };
+    }
+
+    public synchronized boolean contains(Long id) {
+        if(id == null) return false;
+        Long expiry = expiresAt.get(id);
+        if(expiry == null) return false;
+        if(expiry - nanoClock.getAsLong() <= 0) {
+            expiresAt.remove(id);
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void put(Long id) {
+        if(id == null) return;
+        expiresAt.put(id, nanoClock.getAsLong() + ttlNanos);
+    }
+
+    public synchronized void invalidate(Long id) {
+        if(id == null) return;
+        expiresAt.remove(id);
+    }
+
+    public synchronized void invalidateAll() {
+        expiresAt.clear();
+    }
+
+    public synchronized int size() {
+        return expiresAt.size();
+    }
+}
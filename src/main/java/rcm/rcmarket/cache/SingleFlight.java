@@ -0,0 +1,113 @@
+package rcm.rcmarket.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 같은 key에 대해 동시에 들어온 조회를 하나로 합쳐주는 컴포넌트
+// 처음 들어온 호출(leader)만 loader를 실행하고, 실행 중에 들어온 호출(follower)은 그 결과를 함께 받는다
+// loader가 예외를 던지면 기다리던 호출들도 같은 예외를 받는다
+// 완료된 결과는 보관하지 않기 때문에 캐시가 아니라 동시에 진행 중인 조회만 합친다
+// 논블로킹 호출자(reactive)는 executeAsync로 같은 조회에 합류한다
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder joins = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = flights.putIfAbsent(key, flight);
+        if(inFlight != null) {
+            joins.increment();
+            return join(inFlight);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    // execute의 논블로킹 버전, loader가 돌려준 결과를 기다리지 않고 공유되는 future를 돌려준다
+    // 호출자마다 copy()를 돌려주므로 한 호출자가 취소해도 다른 호출자의 결과에는 영향이 없다
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> loader) {
+        calls.increment();
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = flights.putIfAbsent(key, flight);
+        if(inFlight != null) {
+            joins.increment();
+            return inFlight.copy();
+        }
+
+        loads.increment();
+        try {
+            loader.get().whenComplete((value, e) -> {
+                flights.remove(key, flight);
+                if(e == null) flight.complete(value);
+                else flight.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            });
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight.copy();
+    }
+
+    private V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if(e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // execute가 호출된 횟수
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    // 실제로 loader가 실행된 횟수
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    // 진행 중인 loader의 결과를 함께 받은 호출(follower) 수
+    public long getJoins() {
+        return joins.sum();
+    }
+
+    // loader 한 번이 평균적으로 처리한 호출 수, 1보다 크면 그만큼 DB 조회가 합쳐진 것이다
+    public double getFanInRatio() {
+        long loadCount = getLoads();
+        return loadCount == 0 ? 0 : (double) getCalls() / loadCount;
+    }
+
+    public int getInFlight() {
+        return flights.size();
+    }
+}
@@ -0,0 +1,99 @@
+package rcm.rcmarket.chat;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 웹소켓 연결 하나와 그 연결로 보낼 메시지 큐
+// - send: 정해진 크기의 큐에 넣기만 하고 바로 돌아온다, 보내는 쪽(ChatPipeline의 writer)은 받는 클라이언트가 느려도 기다리지 않는다
+// - drain: sender 스레드 하나가 큐를 비우며 보낸다, scheduled로 연결마다 한 번에 하나만 돌게 해서 sendMessage를 동시에 호출하지 않는다
+// - 느린 클라이언트: 큐가 가득 차면 메시지를 버리고(rcmarket.chat.outbound.dropped) 연결을 닫는다(SESSION_NOT_RELIABLE)
+//   몇 개를 빼고 계속 보내면 클라이언트가 빠진 메시지를 알 수 없으므로, 다시 연결해서 마지막으로 받은 id 이후를 이전 메시지 조회로 채우게 한다
+//   닫는 일도 sender 스레드에서 한다, 막혀 있는 sendMessage는 send-timeout-ms가 지나면 실패하고 그때 닫힌다
+@Slf4j
+public class ChatConnection {
+
+    private static final int DRAIN_LIMIT = 64; // 한 번에 보내는 최대 메시지 수, 나머지는 다시 스케줄해서 다른 연결이 기다리지 않게 한다
+
+    private final WebSocketSession session;
+    private final Long memberId;
+    private final BlockingQueue<TextMessage> outbound;
+    private final Executor sender;
+    private final Counter dropped;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean slow;
+
+    public ChatConnection(WebSocketSession session, Long memberId, int capacity, Executor sender, Counter dropped) {
+        this.session = session;
+        this.memberId = memberId;
+        this.outbound = new ArrayBlockingQueue<>(capacity);
+        this.sender = sender;
+        this.dropped = dropped;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getId() {
+        return session.getId();
+    }
+
+    public boolean send(TextMessage message) {
+        if(slow) return false;
+        if(!outbound.offer(message)) {
+            dropped.increment();
+            slow = true;
+            outbound.clear();
+            schedule();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    private void schedule() {
+        if(!scheduled.compareAndSet(false, true)) return;
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false); // 종료 중이다
+        }
+    }
+
+    private void drain() {
+        try {
+            for(int i = 0; i < DRAIN_LIMIT && !slow; i++) {
+                TextMessage message = outbound.poll();
+                if(message == null) break;
+                session.sendMessage(message);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("chat send failed. session = {}, e = {}", session.getId(), e.getMessage());
+            slow = true;
+        } finally {
+            scheduled.set(false);
+        }
+        if(slow) close(CloseStatus.SESSION_NOT_RELIABLE);
+        else if(!outbound.isEmpty()) schedule(); // scheduled를 풀기 직전에 들어온 메시지
+    }
+
+    private void close(CloseStatus status) {
+        outbound.clear();
+        if(!session.isOpen()) return;
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("chat close failed. session = {}, e = {}", session.getId(), e.getMessage());
+        }
+    }
+}
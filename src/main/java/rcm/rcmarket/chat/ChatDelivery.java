@@ -0,0 +1,15 @@
+package rcm.rcmarket.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+
+import java.util.List;
+
+// 저장된 메시지와 그 메시지를 받을 대화방 참여자들
+@Getter
+@AllArgsConstructor
+public class ChatDelivery {
+    private final ChatMessageDto message;
+    private final List<Long> recipientIds;
+}
@@ -0,0 +1,66 @@
+package rcm.rcmarket.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+import rcm.rcmarket.config.security.CustomUserDetailsService;
+import rcm.rcmarket.config.token.TokenHelper;
+
+import java.util.Map;
+
+// 웹소켓 핸드셰이크를 JwtAuthenticationFilter와 같은 access token, 같은 검증(TokenHelper)과 회원 조회(CustomUserDetailsService)로 인증한다
+// 토큰은 Authorization 헤더에서 읽고, 없으면 access_token 쿼리 파라미터에서 읽는다(브라우저 WebSocket은 헤더를 붙일 수 없다)
+// 인증에 실패하면 401로 응답하고 업그레이드하지 않는다, 성공하면 회원 id를 세션 속성에 넣어 ChatWebSocketHandler가 쓴다
+// 토큰은 연결할 때만 확인한다, 연결된 뒤에 토큰이 만료되어도 연결은 유지된다
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ChatHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String MEMBER_ID = "memberId";
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    private final TokenHelper accessTokenHelper;
+    private final CustomUserDetailsService userDetailsService;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Long memberId = authenticate(extractToken(request));
+        if(memberId == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(MEMBER_ID, memberId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String token = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if(token != null) return token;
+        return UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst(TOKEN_PARAMETER);
+    }
+
+    // 탈퇴한 회원의 토큰은 인증되지 않은 것으로 취급한다
+    private Long authenticate(String token) {
+        if(token == null || !accessTokenHelper.validate(token)) return null;
+        try {
+            return Long.valueOf(userDetailsService.loadUserByUsername(accessTokenHelper.extractSubject(token)).getUserId());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+}
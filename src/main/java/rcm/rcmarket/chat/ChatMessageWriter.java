@@ -0,0 +1,54 @@
+package rcm.rcmarket.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+import rcm.rcmarket.entity.chat.ChatMessage;
+import rcm.rcmarket.entity.chat.Conversation;
+import rcm.rcmarket.repository.chat.ChatMessageRepository;
+import rcm.rcmarket.repository.chat.ConversationRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+// 배치 하나를 한 트랜잭션으로 저장한다, 대화방은 in 절 한 번으로 읽고 메시지는 JDBC 배치로 insert한다
+// 보낸 사람이 대화방 참여자인지도 여기서 확인한다, 소켓 스레드에서 메시지마다 대화방을 조회하지 않는다
+// 참여자가 아니거나 없는 대화방이면 그 메시지만 저장하지 않고 결과 자리에 null을 둔다
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ConversationRepository conversationRepository;
+    private final MemberRepository memberRepository;
+
+    @Transactional
+    public List<ChatDelivery> write(List<PendingChatMessage> batch) {
+        Set<Long> conversationIds = batch.stream().map(PendingChatMessage::getConversationId).collect(toSet());
+        Map<Long, Conversation> conversations = conversationRepository.findAllById(conversationIds).stream()
+                .collect(toMap(Conversation::getId, Function.identity()));
+
+        List<ChatMessage> messages = new ArrayList<>(batch.size());
+        for(PendingChatMessage pending : batch) messages.add(toEntity(pending, conversations));
+        chatMessageRepository.saveAll(messages.stream().filter(Objects::nonNull).collect(toList()));
+        return messages.stream().map(message -> message == null ? null :
+                new ChatDelivery(ChatMessageDto.toDto(message), message.getConversation().getParticipantIds())).collect(toList());
+    }
+
+    // 보낸 사람은 프록시로만 참조한다, 탈퇴한 회원이면 커밋할 때 FK 위반으로 실패한다
+    private ChatMessage toEntity(PendingChatMessage pending, Map<Long, Conversation> conversations) {
+        Conversation conversation = conversations.get(pending.getConversationId());
+        if(conversation == null || !conversation.isParticipant(pending.getSenderId())) return null;
+        return new ChatMessage(conversation, memberRepository.getById(pending.getSenderId()), pending.getContent());
+    }
+}
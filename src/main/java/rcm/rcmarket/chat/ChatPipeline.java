@@ -0,0 +1,150 @@
+package rcm.rcmarket.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import rcm.rcmarket.dto.chat.ChatEvent;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 메시지를 하나씩 커밋하지 않고 하나의 writer 스레드가 모아서 그룹 커밋한 뒤 참여자들에게 보낸다(OrderPipeline과 같은 구조)
+// - submit: 정해진 크기의 큐에 넣는다, 큐가 차있으면 false를 돌려주고 ChatWebSocketHandler가 queue-full 오류 프레임을 보낸다
+// - writer: 첫 메시지가 오면 batch-size가 찰 때까지, 또는 max-latency-ms가 지날 때까지 더 모아서 한 트랜잭션으로 저장한다
+// - 커밋되면 메시지마다 JSON을 한 번만 만들어 참여자들의 모든 연결에 같은 TextMessage를 넣는다(ChatSessionRegistry)
+// - 배치가 실패하면 메시지를 하나씩 다시 커밋해서 실패한 메시지를 보낸 연결에만 failed 오류를 보낸다
+// 저장된 뒤에 보내므로 클라이언트가 받은 메시지는 항상 id가 있고 이전 메시지 조회에도 나온다
+// 대신 메시지 하나가 도착하는 시간은 최대 max-latency-ms만큼 늦어진다
+@Component
+@Slf4j
+public class ChatPipeline {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public ChatPipeline(ChatMessageWriter chatMessageWriter, ChatSessionRegistry chatSessionRegistry, ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${chat.pipeline.capacity:8192}") int capacity,
+                        @Value("${chat.pipeline.batch-size:128}") int batchSize,
+                        @Value("${chat.pipeline.max-latency-ms:5}") long maxLatencyMs) {
+        if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        this.chatMessageWriter = chatMessageWriter;
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMs);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSizeSummary = DistributionSummary.builder("rcmarket.chat.batch.size")
+                .description("chat messages committed per transaction")
+                .register(meterRegistry);
+        meterRegistry.gauge("rcmarket.chat.queue.size", queue, BlockingQueue::size);
+        this.writer = new Thread(this::run, "chat-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    // 남은 메시지를 모두 커밋한 뒤에 멈춘다, OrderPipeline과 같은 이유로 writer를 interrupt하지 않는다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    public boolean submit(PendingChatMessage message) {
+        return running && queue.offer(message);
+    }
+
+    // 저장과 관계없는 프레임(요청 오류 등)을 한 연결에 보낸다
+    public void reply(ChatConnection connection, ChatEvent event) {
+        connection.send(toText(event));
+    }
+
+    private void run() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while(running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if(batch.isEmpty()) continue;
+            batchSizeSummary.record(batch.size());
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    // 첫 메시지는 POLL_TIMEOUT_MS까지 기다리고(stop 확인), 이후에는 첫 메시지부터 maxLatencyNanos까지만 더 기다린다
+    private void collect(List<PendingChatMessage> batch) throws InterruptedException {
+        PendingChatMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if(first == null) return;
+        batch.add(first);
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + maxLatencyNanos;
+        while(batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0) return;
+            PendingChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if(next == null) return;
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void commit(List<PendingChatMessage> batch) {
+        List<ChatDelivery> deliveries;
+        try {
+            deliveries = chatMessageWriter.write(batch);
+        } catch (RuntimeException e) {
+            if(batch.size() == 1) {
+                reply(batch.get(0).getOrigin(), ChatEvent.error(batch.get(0).getClientMessageId(), ChatEvent.FAILED));
+                return;
+            }
+            log.warn("chat batch commit failed, retrying one by one. size = {}, e = {}", batch.size(), e.getMessage());
+            for(PendingChatMessage message : batch) commit(List.of(message));
+            return;
+        }
+        for(int i = 0; i < batch.size(); i++) deliver(batch.get(i), deliveries.get(i));
+    }
+
+    private void deliver(PendingChatMessage message, ChatDelivery delivery) {
+        if(delivery == null) {
+            reply(message.getOrigin(), ChatEvent.error(message.getClientMessageId(), ChatEvent.NOT_PARTICIPANT));
+            return;
+        }
+        chatSessionRegistry.send(delivery.getRecipientIds(),
+                toText(ChatEvent.message(message.getClientMessageId(), delivery.getMessage())));
+    }
+
+    private TextMessage toText(ChatEvent event) {
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
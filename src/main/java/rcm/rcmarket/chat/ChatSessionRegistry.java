@@ -0,0 +1,54 @@
+package rcm.rcmarket.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 이 노드에 붙어있는 웹소켓 연결을 회원 id로 찾는다, 한 회원이 여러 기기나 탭으로 연결할 수 있으므로 값은 연결의 집합이다
+// 등록과 해제는 compute로 키 단위로 원자적으로 바꾼다, 마지막 연결이 빠지면 키를 지워서 끊긴 회원이 맵에 남지 않는다
+// send는 락 없이 집합을 읽고, 연결마다 큐에 넣기만 하므로 받는 클라이언트가 느려도 막히지 않는다(ChatConnection)
+@Component
+public class ChatSessionRegistry {
+
+    private final Map<Long, Set<ChatConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ChatSessionRegistry(MeterRegistry meterRegistry) {
+        meterRegistry.gauge("rcmarket.chat.connections", size);
+        meterRegistry.gauge("rcmarket.chat.members", connections, Map::size);
+    }
+
+    public void register(ChatConnection connection) {
+        connections.compute(connection.getMemberId(), (memberId, set) -> {
+            if(set == null) set = ConcurrentHashMap.newKeySet();
+            if(set.add(connection)) size.incrementAndGet();
+            return set;
+        });
+    }
+
+    public void unregister(ChatConnection connection) {
+        connections.computeIfPresent(connection.getMemberId(), (memberId, set) -> {
+            if(set.remove(connection)) size.decrementAndGet();
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 회원의 모든 연결에 보낸다, 이 노드에 연결이 없으면 아무것도 하지 않는다(메시지는 저장되어 있으므로 이전 메시지 조회로 읽는다)
+    public void send(Collection<Long> memberIds, TextMessage message) {
+        for(Long memberId : memberIds) {
+            Set<ChatConnection> set = connections.get(memberId);
+            if(set == null) continue;
+            for(ChatConnection connection : set) connection.send(message);
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+}
@@ -0,0 +1,135 @@
+package rcm.rcmarket.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import rcm.rcmarket.dto.chat.ChatEvent;
+import rcm.rcmarket.dto.chat.ChatSendRequest;
+
+import javax.annotation.PreDestroy;
+import javax.validation.Validator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// /ws/chat, 연결은 ChatHandshakeInterceptor가 인증한 회원의 것이다
+// - 연결되면 ChatConnection을 만들어 ChatSessionRegistry에 등록하고, 끊기면 해제한다
+// - 받은 프레임(ChatSendRequest)은 검증한 뒤 ChatPipeline에 넣기만 한다, 저장과 전송은 writer와 sender 스레드가 한다
+// 연결마다 스레드를 두지 않는다, 쉬고 있는 연결은 NIO 커넥터의 소켓과 ChatConnection의 빈 큐만 차지한다
+// 보내기는 sender 스레드 풀이 맡는다, 연결마다 한 번에 하나의 작업만 넣으므로(ChatConnection.scheduled) 풀의 큐는 연결 수를 넘지 않는다
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CONNECTION = "chatConnection";
+    // 컨테이너가 막힌 sendMessage를 포기하는 시간, 톰캣(JSR-356) 세션의 user property로 연결마다 준다
+    private static final String BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final ChatSessionRegistry chatSessionRegistry;
+    private final ChatPipeline chatPipeline;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int outboundCapacity;
+    private final long sendTimeoutMs;
+    private final long maxIdleMs;
+    private final ExecutorService sender;
+    private final Counter dropped;
+
+    public ChatWebSocketHandler(ChatSessionRegistry chatSessionRegistry, ChatPipeline chatPipeline,
+                                ObjectMapper objectMapper, Validator validator, MeterRegistry meterRegistry,
+                                @Value("${chat.outbound.capacity:256}") int outboundCapacity,
+                                @Value("${chat.outbound.send-timeout-ms:5000}") long sendTimeoutMs,
+                                @Value("${chat.max-idle-ms:600000}") long maxIdleMs,
+                                @Value("${chat.sender.threads:8}") int senderThreads) {
+        this.chatSessionRegistry = chatSessionRegistry;
+        this.chatPipeline = chatPipeline;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.outboundCapacity = outboundCapacity;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.maxIdleMs = maxIdleMs;
+        this.sender = Executors.newFixedThreadPool(senderThreads, senderThreadFactory());
+        this.dropped = meterRegistry.counter("rcmarket.chat.outbound.dropped");
+    }
+
+    private static ThreadFactory senderThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "chat-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdown();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        configure(session);
+        Long memberId = (Long) session.getAttributes().get(ChatHandshakeInterceptor.MEMBER_ID);
+        ChatConnection connection = new ChatConnection(session, memberId, outboundCapacity, sender, dropped);
+        session.getAttributes().put(CONNECTION, connection);
+        chatSessionRegistry.register(connection);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        ChatConnection connection = (ChatConnection) session.getAttributes().get(CONNECTION);
+        ChatSendRequest req = parse(message.getPayload());
+        if(req == null) {
+            chatPipeline.reply(connection, ChatEvent.error(null, ChatEvent.INVALID_REQUEST));
+            return;
+        }
+        if(!validator.validate(req).isEmpty()) {
+            chatPipeline.reply(connection, ChatEvent.error(req.getClientMessageId(), ChatEvent.INVALID_REQUEST));
+            return;
+        }
+        PendingChatMessage pending = new PendingChatMessage(connection, req.getConversationId(), req.getContent(), req.getClientMessageId());
+        if(!chatPipeline.submit(pending)) chatPipeline.reply(connection, ChatEvent.error(req.getClientMessageId(), ChatEvent.QUEUE_FULL));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        ChatConnection connection = (ChatConnection) session.getAttributes().get(CONNECTION);
+        if(connection != null) chatSessionRegistry.unregister(connection);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("chat transport error. session = {}, e = {}", session.getId(), exception.getMessage());
+    }
+
+    private ChatSendRequest parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, ChatSendRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    // 받는 프레임은 ChatSendRequest 하나면 충분하므로 버퍼를 작게 둔다(연결 수만큼 곱해진다)
+    // 쉬는 연결은 max-idle-ms 동안 아무 프레임도 없으면 닫힌다, 클라이언트는 그보다 자주 ping을 보내야 한다
+    private void configure(WebSocketSession session) {
+        session.setTextMessageSizeLimit(8 * 1024);
+        if(!(session instanceof NativeWebSocketSession)) return;
+        javax.websocket.Session nativeSession = ((NativeWebSocketSession) session).getNativeSession(javax.websocket.Session.class);
+        if(nativeSession == null) return;
+        nativeSession.setMaxIdleTimeout(maxIdleMs);
+        nativeSession.getUserProperties().put(BLOCKING_SEND_TIMEOUT, sendTimeoutMs);
+    }
+}
@@ -0,0 +1,18 @@
+package rcm.rcmarket.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// ChatPipeline의 큐에서 저장을 기다리는 메시지, origin은 오류를 돌려보낼 연결이다
+@Getter
+@AllArgsConstructor
+public class PendingChatMessage {
+    private final ChatConnection origin;
+    private final Long conversationId;
+    private final String content;
+    private final String clientMessageId;
+
+    public Long getSenderId() {
+        return origin.getMemberId();
+    }
+}
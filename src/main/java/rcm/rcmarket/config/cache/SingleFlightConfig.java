@@ -0,0 +1,22 @@
+package rcm.rcmarket.config.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import rcm.rcmarket.cache.SingleFlight;
+import rcm.rcmarket.config.security.CustomUserDetails;
+import rcm.rcmarket.dto.member.MemberDto;
+
+// 조회 종류마다 SingleFlight를 하나씩 빈으로 등록해 key 공간을 분리한다
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<Long, MemberDto> memberReadFlight() {
+        return new SingleFlight<>("member.read");
+    }
+
+    @Bean
+    public SingleFlight<Long, CustomUserDetails> userDetailsLoadFlight() {
+        return new SingleFlight<>("member.user-details");
+    }
+}
@@ -0,0 +1,36 @@
+package rcm.rcmarket.config.chat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import rcm.rcmarket.chat.ChatHandshakeInterceptor;
+import rcm.rcmarket.chat.ChatWebSocketHandler;
+
+// STOMP 브로커 없이 순수 웹소켓 핸들러 하나만 등록한다, 대화방이 1:1이라 구독과 라우팅은 ChatSessionRegistry로 충분하다
+// 인증은 쿠키가 아니라 토큰으로 하므로 다른 origin의 페이지가 사용자 몰래 연결할 수 없다, origin은 chat.allowed-origins로 제한할 수 있다
+@Configuration
+@EnableWebSocket
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ChatWebSocketConfig implements WebSocketConfigurer {
+
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatHandshakeInterceptor chatHandshakeInterceptor;
+    private final String[] allowedOrigins;
+
+    public ChatWebSocketConfig(ChatWebSocketHandler chatWebSocketHandler, ChatHandshakeInterceptor chatHandshakeInterceptor,
+                               @Value("${chat.allowed-origins:*}") String[] allowedOrigins) {
+        this.chatWebSocketHandler = chatWebSocketHandler;
+        this.chatHandshakeInterceptor = chatHandshakeInterceptor;
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatWebSocketHandler, "/ws/chat")
+                .addInterceptors(chatHandshakeInterceptor)
+                .setAllowedOriginPatterns(allowedOrigins);
+    }
+}
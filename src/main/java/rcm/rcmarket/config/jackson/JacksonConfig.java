@@ -0,0 +1,35 @@
+package rcm.rcmarket.config.jackson;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.dto.response.ResponseSerializer;
+
+// 스프링 부트가 Module 빈을 자동 구성된 ObjectMapper에 등록한다
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module responseModule() {
+        return new SimpleModule("response").addSerializer(Response.class, new ResponseSerializer());
+    }
+
+    // Accept, Content-Type이 application/cbor, application/x-jackson-smile인 요청을 처리한다
+    // 스프링 기본 컨버터 대신 부트의 Jackson2ObjectMapperBuilder(prototype)로 만들어 JSON과 같은 설정과 모듈을 쓴다
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,46 @@
+package rcm.rcmarket.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
+
+import java.util.List;
+
+// 메트릭 이름은 rcmarket.* 으로 시작하며 /actuator/prometheus로 내보낸다
+// 커넥션 풀(hikaricp.*)과 Hibernate 통계(hibernate.*)는 스프링 부트가 자동으로 등록한다
+@Configuration
+public class MetricsConfig {
+
+    // @Timed가 선언된 메소드의 실행 시간을 기록한다
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder singleFlightMetrics(List<SingleFlight<?, ?>> singleFlights) {
+        return registry -> singleFlights.forEach(singleFlight -> {
+            FunctionCounter.builder("rcmarket.singleflight.calls", singleFlight, SingleFlight::getCalls)
+                    .tag("name", singleFlight.getName()).register(registry);
+            FunctionCounter.builder("rcmarket.singleflight.loads", singleFlight, SingleFlight::getLoads)
+                    .tag("name", singleFlight.getName()).register(registry);
+            Gauge.builder("rcmarket.singleflight.fan.in", singleFlight, SingleFlight::getFanInRatio)
+                    .description("calls per load")
+                    .tag("name", singleFlight.getName()).register(registry);
+            Gauge.builder("rcmarket.singleflight.in.flight", singleFlight, SingleFlight::getInFlight)
+                    .tag("name", singleFlight.getName()).register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder memberNegativeCacheMetrics(MemberNegativeCache memberNegativeCache) {
+        return registry -> Gauge.builder("rcmarket.member.negative.cache.size", memberNegativeCache, MemberNegativeCache::size)
+                .register(registry);
+    }
+}
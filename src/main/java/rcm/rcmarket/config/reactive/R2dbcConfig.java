@@ -0,0 +1,40 @@
+package rcm.rcmarket.config.reactive;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import rcm.rcmarket.repository.reactive.MemberR2dbcRepository;
+
+// R2DBC 자동 구성은 application.yml에서 제외하고 reactive 프로필에서만 직접 구성한다
+// 자동 구성을 쓰면 R2dbcTransactionManager가 빈으로 등록되어 JPA 트랜잭션 매니저와 @Transactional이 모호해진다
+// 트랜잭션이 필요한 곳은 TransactionalOperator를 직접 만들어 쓴다(ReactiveSignService 참고)
+@Configuration
+@Profile("reactive")
+@EnableR2dbcRepositories(basePackageClasses = MemberR2dbcRepository.class)
+public class R2dbcConfig extends AbstractR2dbcConfiguration {
+
+    @Value("${spring.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.r2dbc.username:}")
+    private String username;
+
+    @Value("${spring.r2dbc.password:}")
+    private String password;
+
+    @Override
+    @Bean
+    public ConnectionFactory connectionFactory() {
+        return ConnectionFactories.get(ConnectionFactoryOptions.builder()
+                .from(ConnectionFactoryOptions.parse(url))
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+    }
+}
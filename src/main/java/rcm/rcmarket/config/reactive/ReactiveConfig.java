@@ -0,0 +1,50 @@
+package rcm.rcmarket.config.reactive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import rcm.rcmarket.advice.ReactiveExceptionHandler;
+import rcm.rcmarket.controller.reactive.MemberHandler;
+import rcm.rcmarket.controller.reactive.SignHandler;
+import rcm.rcmarket.exception.AccessDeniedException;
+import rcm.rcmarket.exception.AuthenticationEntryPointException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// reactive 프로필(application-reactive.yml)에서 서블릿 컨트롤러 대신 등록되는 WebFlux 함수형 라우트
+// 경로, 상태 코드, 응답 본문은 SignController, MemberController, ExceptionController와 같다
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> routes(SignHandler signHandler,
+                                                 MemberHandler memberHandler,
+                                                 ReactiveExceptionHandler exceptionHandler) {
+        return route()
+                .POST("/api/sign-up", signHandler::signUp)
+                .POST("/api/sign-in", signHandler::signIn)
+                .POST("/api/refresh-token", signHandler::refreshToken)
+                .GET("/api/members/{id}", memberHandler::read)
+                .DELETE("/api/members/{id}", memberHandler::delete)
+                .GET("/exception/entry-point", request -> Mono.error(new AuthenticationEntryPointException()))
+                .GET("/exception/access-denied", request -> Mono.error(new AccessDeniedException()))
+                .onError(Throwable.class, exceptionHandler::handle)
+                .build();
+    }
+
+    // bcrypt는 요청당 수십 ms를 쓰는 CPU 작업이라 이벤트 루프에서 돌리면 다른 요청이 모두 멈춘다
+    // 스레드 수를 코어 수로, 대기 작업 수를 queue로 제한해 과부하 시에는 대기열이 넘치면서 실패하게 한다
+    @Bean(destroyMethod = "dispose")
+    public Scheduler bcryptScheduler(@Value("${reactive.bcrypt.threads:0}") int threads,
+                                     @Value("${reactive.bcrypt.queue:10000}") int queue) {
+        return Schedulers.newBoundedElastic(
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queue, "bcrypt");
+    }
+}
@@ -0,0 +1,10 @@
+package rcm.rcmarket.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// StockLedger의 예약 만료와 write-behind flush 같은 주기 작업을 실행한다
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
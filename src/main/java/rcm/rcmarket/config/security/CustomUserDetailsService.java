@@ -1,28 +1,42 @@
 package rcm.rcmarket.config.security;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
 import rcm.rcmarket.entity.member.Member;
 import rcm.rcmarket.repository.member.MemberRepository;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
+// 회원과 권한을 한 번의 쿼리로 가져오기 때문에 트랜잭션을 새로 열지 않는다(SUPPORTS)
+// 같은 토큰 subject로 동시에 들어온 조회는 userDetailsLoadFlight로 합쳐진다
 @Component
-@Transactional(readOnly = true)
+@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberNegativeCache memberNegativeCache;
+    private final SingleFlight<Long, CustomUserDetails> userDetailsLoadFlight;
 
+    // 토큰의 주인이 없는 회원이면 UsernameNotFoundException을 던지고, 그 id를 negative cache에 기록한다
     @Override
+    @Timed("rcmarket.auth.user.details")
     public CustomUserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        Member member = memberRepository.findById(Long.valueOf(userId))
-                .orElseGet(() -> new Member(null, null, null, null, List.of()));
+        Long id = Long.valueOf(userId);
+        if(memberNegativeCache.contains(id)) throw new UsernameNotFoundException(userId);
+        return userDetailsLoadFlight.execute(id, () -> load(id));
+    }
+
+    private CustomUserDetails load(Long id) {
+        Member member = memberRepository.findWithRolesById(id).orElseThrow(() -> memberNotFound(id));
 
         return new CustomUserDetails(
                 String.valueOf(member.getId()),
@@ -32,4 +46,9 @@ public class CustomUserDetailsService implements UserDetailsService {
                         .map(SimpleGrantedAuthority::new).collect(Collectors.toSet())
         );
     }
+
+    private UsernameNotFoundException memberNotFound(Long id) {
+        memberNegativeCache.put(id);
+        return new UsernameNotFoundException(String.valueOf(id));
+    }
 }
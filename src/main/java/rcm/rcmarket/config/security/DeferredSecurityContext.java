@@ -0,0 +1,42 @@
+package rcm.rcmarket.config.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+
+import java.util.function.Supplier;
+
+// 인증 정보를 처음 조회하는 시점에 Supplier를 실행해 Authentication을 만드는 SecurityContext
+// permitAll 경로처럼 인가 규칙이 인증 정보를 꺼내지 않으면 토큰 검증과 DB 조회가 일어나지 않는다
+// 한 번 계산된 결과(null 포함)는 요청이 끝날 때까지 재사용한다
+public class DeferredSecurityContext implements SecurityContext {
+
+    private transient Supplier<Authentication> authenticationSupplier;
+    private Authentication authentication;
+
+    public DeferredSecurityContext(Supplier<Authentication> authenticationSupplier) {
+        this.authenticationSupplier = authenticationSupplier;
+    }
+
+    @Override
+    public Authentication getAuthentication() {
+        resolve();
+        return authentication;
+    }
+
+    @Override
+    public void setAuthentication(Authentication authentication) {
+        this.authenticationSupplier = null;
+        this.authentication = authentication;
+    }
+
+    public boolean isResolved() {
+        return authenticationSupplier == null;
+    }
+
+    private void resolve() {
+        if(isResolved()) return;
+        Supplier<Authentication> supplier = authenticationSupplier;
+        authenticationSupplier = null;
+        authentication = supplier.get();
+    }
+}
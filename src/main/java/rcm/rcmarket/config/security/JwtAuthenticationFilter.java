@@ -1,12 +1,14 @@
 package rcm.rcmarket.config.security;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.GenericFilterBean;
 import rcm.rcmarket.config.token.TokenHelper;
-import rcm.rcmarket.service.sign.TokenService;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -17,12 +19,38 @@ import java.io.IOException;
 
 // GenericFilterBean을 상속받아 필터를 구현
 // @Component를 선언하면 자동으로 필터 체인에 등록되기에 중복 방지를 위해 Component 생략
-@RequiredArgsConstructor
+// 인증 단계별 시간은 rcmarket.auth.filter(phase=verify|parse|user-load) 타이머에,
+// 결과는 rcmarket.auth.filter.result(result=authenticated|invalid-token|unknown-member) 카운터에 기록된다
 @Slf4j
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final TokenHelper tokenHelper;
     private final CustomUserDetailsService userDetailsService;
+    private final Timer verifyTimer;
+    private final Timer parseTimer;
+    private final Timer userLoadTimer;
+    private final Counter authenticatedCounter;
+    private final Counter invalidTokenCounter;
+    private final Counter unknownMemberCounter;
+
+    public JwtAuthenticationFilter(TokenHelper tokenHelper, CustomUserDetailsService userDetailsService, MeterRegistry meterRegistry) {
+        this.tokenHelper = tokenHelper;
+        this.userDetailsService = userDetailsService;
+        this.verifyTimer = phaseTimer(meterRegistry, "verify");
+        this.parseTimer = phaseTimer(meterRegistry, "parse");
+        this.userLoadTimer = phaseTimer(meterRegistry, "user-load");
+        this.authenticatedCounter = resultCounter(meterRegistry, "authenticated");
+        this.invalidTokenCounter = resultCounter(meterRegistry, "invalid-token");
+        this.unknownMemberCounter = resultCounter(meterRegistry, "unknown-member");
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("rcmarket.auth.filter").tag("phase", phase).register(meterRegistry);
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("rcmarket.auth.filter.result").tag("result", result).register(meterRegistry);
+    }
 
     private String extractToken(ServletRequest request) {
         return ((HttpServletRequest)request).getHeader("Authorization");
@@ -33,15 +61,28 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
     // 정확히는 SecurityContextHolder에 있는 ContextHolder에다가
     // Authentication 인터페이스의 구현체 CustomAuthenticationToken를
     // 등록해주는 작업
+    // 토큰 검증과 사용자 조회는 DeferredSecurityContext를 통해 인가 규칙이
+    // 인증 정보를 처음 꺼낼 때까지 미뤄진다(permitAll 경로는 아예 수행되지 않음)
 
     private boolean validateToken(String toekn) {
-        return toekn != null && tokenHelper.validate(toekn);
+        return toekn != null && verifyTimer.record(() -> tokenHelper.validate(toekn));
     }
 
-    private void setAuthentication(String token) {
-        String userId = tokenHelper.extractSubject(token);
-        CustomUserDetails userDetails = userDetailsService.loadUserByUsername(userId);
-        SecurityContextHolder.getContext().setAuthentication(new CustomAuthenticationToken(userDetails, userDetails.getAuthorities()));
+    private Authentication authenticate(String token) {
+        if(!validateToken(token)) {
+            invalidTokenCounter.increment();
+            return null;
+        }
+        String userId = parseTimer.record(() -> tokenHelper.extractSubject(token));
+        try {
+            CustomUserDetails userDetails = userLoadTimer.record(() -> userDetailsService.loadUserByUsername(userId));
+            authenticatedCounter.increment();
+            return new CustomAuthenticationToken(userDetails, userDetails.getAuthorities());
+        } catch (UsernameNotFoundException e) {
+            // 탈퇴한 회원의 토큰은 인증되지 않은 요청으로 취급한다
+            unknownMemberCounter.increment();
+            return null;
+        }
     }
 
     @Override
@@ -51,7 +92,7 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
             throws IOException, ServletException {
         String token = extractToken(request);
 
-        if(validateToken(token)) setAuthentication(token);
+        if(token != null) SecurityContextHolder.setContext(new DeferredSecurityContext(() -> authenticate(token)));
         chain.doFilter(request, response);
     }
 }
@@ -1,25 +1,41 @@
 package rcm.rcmarket.config.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.access.ExceptionTranslationFilter;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import rcm.rcmarket.config.security.guard.CommentGuard;
+import rcm.rcmarket.config.security.guard.ConversationGuard;
+import rcm.rcmarket.config.security.guard.MemberGuard;
+import rcm.rcmarket.config.security.guard.ProductGuard;
+import rcm.rcmarket.config.security.guard.ReservationGuard;
 import rcm.rcmarket.config.token.TokenHelper;
-import rcm.rcmarket.service.sign.TokenService;
 
+import java.util.function.Predicate;
+
+// reactive 프로필(WebFlux)에서는 ReactiveSecurityConfig가 대신 적용된다
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final TokenHelper accessTokenHelper; // 1
     private final CustomUserDetailsService userDetailsService; // 2
+    private final MemberGuard memberGuard;
+    private final ProductGuard productGuard;
+    private final ReservationGuard reservationGuard;
+    private final CommentGuard commentGuard;
+    private final ConversationGuard conversationGuard;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void configure(WebSecurity web) throws Exception {
@@ -34,21 +50,52 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .csrf().disable()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
-                .authorizeRequests() // 4
+                .anonymous().disable() // 인증 정보가 없으면 AuthorizationFilter가 entry point로 보낸다
+                .authorizeHttpRequests() // 4
                 .antMatchers(HttpMethod.POST, "/api/sign-in", "/api/sign-up", "/api/refresh-token").permitAll()
+                .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .antMatchers(HttpMethod.GET, "/actuator/prometheus").hasAnyRole("ADMIN") // 내부 메트릭은 관리자 토큰으로만 수집한다
+                .antMatchers("/api/admin/**").hasAnyRole("ADMIN")
+                .antMatchers(HttpMethod.GET, "/ws/chat").permitAll() // 핸드셰이크는 ChatHandshakeInterceptor가 같은 access token으로 인증한다
+                .antMatchers(HttpMethod.GET, "/api/favorites", "/api/conversations").authenticated()
+                .antMatchers(HttpMethod.GET, "/api/conversations/{id}/**").access(guardAuthorizationManager(conversationGuard::check))
                 .antMatchers(HttpMethod.GET, "/api/**").permitAll()
-                .antMatchers(HttpMethod.DELETE, "/api/members/{id}/**").access("@memberGuard.check(#id)")
+                .antMatchers(HttpMethod.PUT, "/api/products/{id}/favorite").authenticated()
+                .antMatchers(HttpMethod.DELETE, "/api/members/{id}/**").access(guardAuthorizationManager(memberGuard::check))
+                .antMatchers(HttpMethod.POST, "/api/products").hasAnyRole("SPECIAL_SELLER", "ADMIN")
+                .antMatchers(HttpMethod.DELETE, "/api/products/{id}/**").access(guardAuthorizationManager(productGuard::check))
+                .antMatchers(HttpMethod.POST, "/api/products/{id}/images").access(guardAuthorizationManager(productGuard::check))
+                .antMatchers(HttpMethod.POST, "/api/products/{id}/reservations").hasAnyRole("SPECIAL_BUYER", "ADMIN")
+                .antMatchers(HttpMethod.DELETE, "/api/reservations/{id}/**").access(guardAuthorizationManager(reservationGuard::check))
+                .antMatchers(HttpMethod.POST, "/api/orders").hasAnyRole("SPECIAL_BUYER", "ADMIN")
+                .antMatchers(HttpMethod.POST, "/api/products/{id}/comments").authenticated()
+                .antMatchers(HttpMethod.DELETE, "/api/comments/{id}/**").access(guardAuthorizationManager(commentGuard::check))
+                .antMatchers(HttpMethod.POST, "/api/products/{id}/conversations").authenticated()
                 .anyRequest().hasAnyRole("ADMIN")
                 .and()
                 .exceptionHandling().accessDeniedHandler(new CustomAccessDeniedHandler()) // 5
                 .and()
                 .exceptionHandling().authenticationEntryPoint(new CustomAuthenticationEntryPoint()) // 6
                 .and() // 7
-                .addFilterBefore(new JwtAuthenticationFilter(accessTokenHelper, userDetailsService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(accessTokenHelper, userDetailsService, meterRegistry), ExceptionTranslationFilter.class);
+    }
+
+    // authorizeHttpRequests는 인증 정보를 Supplier로 넘겨주기 때문에 규칙이 실제로 꺼낼 때만 토큰을 검증한다
+    // authentication.get()은 인증 정보가 없으면 AuthenticationCredentialsNotFoundException을 던져 entry point로 보낸다
+    // guard는 경로의 {id}를 받아 자원 접근 권한을 검사한다, 숫자가 아닌 {id}는 guard까지 가지 않고 거부한다
+    private AuthorizationManager<RequestAuthorizationContext> guardAuthorizationManager(Predicate<Long> guard) {
+        return (authentication, context) -> {
+            if(!authentication.get().isAuthenticated()) return new AuthorizationDecision(false);
+            Long id = parseId(context.getVariables().get("id"));
+            return new AuthorizationDecision(id != null && guard.test(id));
+        };
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
\ No newline at end of file
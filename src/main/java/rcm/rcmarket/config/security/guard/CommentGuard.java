@@ -0,0 +1,30 @@
+package rcm.rcmarket.config.security.guard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.repository.comment.CommentRepository;
+
+// 댓글을 삭제하려는 사용자가 그 댓글의 작성자이거나 관리자인지 검사
+// 관리자는 DB를 조회하지 않고 통과시킨다
+// 없는 댓글은 통과시켜서 서비스에서 CommentNotFoundException(404)으로 응답하게 한다
+// 작성자가 탈퇴한 댓글은 이미 삭제 상태이므로 통과시켜도 바뀌는 것이 없다
+@Component
+@RequiredArgsConstructor
+public class CommentGuard {
+
+    private final AuthHelper authHelper;
+    private final CommentRepository commentRepository;
+
+    public boolean check(Long id) {
+        return authHelper.isAuthenticated() && hasAuthority(id);
+    }
+
+    private boolean hasAuthority(Long id) {
+        if(authHelper.extractMemberRoles().contains(RoleType.ROLE_ADMIN)) return true;
+        Long memberId = authHelper.extractMemberId();
+        return commentRepository.findWriterIdById(id)
+                .map(memberId::equals)
+                .orElse(true);
+    }
+}
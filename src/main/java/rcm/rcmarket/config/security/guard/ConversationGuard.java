@@ -0,0 +1,29 @@
+package rcm.rcmarket.config.security.guard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.repository.chat.ConversationRepository;
+
+// 대화방의 메시지를 읽으려는 사용자가 그 대화방의 구매자나 판매자이거나 관리자인지 검사
+// 관리자는 DB를 조회하지 않고 통과시킨다
+// 없는 대화방은 통과시켜서 서비스에서 ConversationNotFoundException(404)으로 응답하게 한다
+@Component
+@RequiredArgsConstructor
+public class ConversationGuard {
+
+    private final AuthHelper authHelper;
+    private final ConversationRepository conversationRepository;
+
+    public boolean check(Long id) {
+        return authHelper.isAuthenticated() && hasAuthority(id);
+    }
+
+    private boolean hasAuthority(Long id) {
+        if(authHelper.extractMemberRoles().contains(RoleType.ROLE_ADMIN)) return true;
+        Long memberId = authHelper.extractMemberId();
+        return conversationRepository.findById(id)
+                .map(conversation -> conversation.isParticipant(memberId))
+                .orElse(true);
+    }
+}
@@ -0,0 +1,29 @@
+package rcm.rcmarket.config.security.guard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+// 상품을 수정하거나 삭제하려는 사용자가 그 상품의 판매자이거나 관리자인지 검사
+// 관리자는 DB를 조회하지 않고 통과시킨다
+// 없는 상품은 통과시켜서 서비스에서 ProductNotFoundException(404)으로 응답하게 한다
+@Component
+@RequiredArgsConstructor
+public class ProductGuard {
+
+    private final AuthHelper authHelper;
+    private final ProductRepository productRepository;
+
+    public boolean check(Long id) {
+        return authHelper.isAuthenticated() && hasAuthority(id);
+    }
+
+    private boolean hasAuthority(Long id) {
+        if(authHelper.extractMemberRoles().contains(RoleType.ROLE_ADMIN)) return true;
+        Long memberId = authHelper.extractMemberId();
+        return productRepository.findSellerIdById(id)
+                .map(memberId::equals)
+                .orElse(true);
+    }
+}
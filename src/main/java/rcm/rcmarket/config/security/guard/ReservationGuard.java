@@ -0,0 +1,28 @@
+package rcm.rcmarket.config.security.guard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.stock.StockLedger;
+
+// 재고 예약을 해제하려는 사용자가 예약한 본인이거나 관리자인지 검사
+// 없거나 이미 만료된 예약은 통과시켜서 서비스에서 ReservationNotFoundException(404)으로 응답하게 한다
+@Component
+@RequiredArgsConstructor
+public class ReservationGuard {
+
+    private final AuthHelper authHelper;
+    private final StockLedger stockLedger;
+
+    public boolean check(Long id) {
+        return authHelper.isAuthenticated() && hasAuthority(id);
+    }
+
+    private boolean hasAuthority(Long id) {
+        if(authHelper.extractMemberRoles().contains(RoleType.ROLE_ADMIN)) return true;
+        Long memberId = authHelper.extractMemberId();
+        return stockLedger.findReservation(id)
+                .map(reservation -> memberId.equals(reservation.getMemberId()))
+                .orElse(true);
+    }
+}
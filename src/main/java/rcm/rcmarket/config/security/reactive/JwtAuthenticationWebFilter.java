@@ -0,0 +1,43 @@
+package rcm.rcmarket.config.security.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import rcm.rcmarket.config.security.CustomAuthenticationToken;
+import rcm.rcmarket.config.security.CustomUserDetails;
+import rcm.rcmarket.config.token.TokenHelper;
+import reactor.core.publisher.Mono;
+
+// JwtAuthenticationFilter의 WebFlux 버전
+// 인증 정보는 구독될 때 만들어지는 Mono로 넘기므로 DeferredSecurityContext와 마찬가지로
+// 인가 규칙이 꺼내지 않는 경로(permitAll)에서는 토큰 검증과 회원 조회가 일어나지 않는다
+// 한 번 만든 결과는 cache()로 요청 안에서 재사용한다
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final TokenHelper tokenHelper;
+    private final ReactiveCustomUserDetailsService userDetailsService;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = exchange.getRequest().getHeaders().getFirst("Authorization");
+        if(token == null) return chain.filter(exchange);
+
+        Mono<SecurityContext> securityContext = authenticate(token).<SecurityContext>map(SecurityContextImpl::new).cache();
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(securityContext));
+    }
+
+    // 탈퇴한 회원의 토큰이나 유효하지 않은 토큰은 인증되지 않은 요청(빈 Mono)으로 취급한다
+    private Mono<Authentication> authenticate(String token) {
+        return Mono.fromCallable(() -> tokenHelper.validate(token))
+                .filter(valid -> valid)
+                .flatMap(valid -> userDetailsService.findByUsername(tokenHelper.extractSubject(token)))
+                .map(userDetails -> new CustomAuthenticationToken((CustomUserDetails) userDetails, userDetails.getAuthorities()));
+    }
+}
@@ -0,0 +1,36 @@
+package rcm.rcmarket.config.security.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.config.security.CustomUserDetails;
+import rcm.rcmarket.repository.reactive.MemberR2dbcRepository;
+import rcm.rcmarket.repository.reactive.RoleR2dbcRepository;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+// CustomUserDetailsService의 논블로킹 버전, 없는 회원이면 빈 Mono를 반환한다
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveCustomUserDetailsService implements ReactiveUserDetailsService {
+
+    private final MemberR2dbcRepository memberRepository;
+    private final RoleR2dbcRepository roleRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String userId) {
+        Long id = Long.valueOf(userId);
+        return memberRepository.existsById(id)
+                .filter(exists -> exists)
+                .flatMap(exists -> roleRepository.findAllByMemberId(id)
+                        .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.getRoleType().toString()))
+                        .collect(Collectors.toSet()))
+                .map(authorities -> new CustomUserDetails(String.valueOf(id), authorities));
+    }
+}
@@ -0,0 +1,95 @@
+package rcm.rcmarket.config.security.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.DefaultServerRedirectStrategy;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.savedrequest.NoOpServerRequestCache;
+import org.springframework.web.server.ServerWebExchange;
+import rcm.rcmarket.config.security.CustomUserDetails;
+import rcm.rcmarket.config.token.TokenHelper;
+import rcm.rcmarket.entity.member.RoleType;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+// SecurityConfig의 WebFlux 버전, 인가 규칙과 실패 시 리다이렉트 경로가 같다
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final TokenHelper accessTokenHelper;
+    private final ReactiveCustomUserDetailsService userDetailsService;
+    private final DefaultServerRedirectStrategy redirectStrategy = new DefaultServerRedirectStrategy();
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .httpBasic().disable()
+                .formLogin().disable()
+                .csrf().disable()
+                .logout().disable()
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance()) // STATELESS
+                .requestCache().requestCache(NoOpServerRequestCache.getInstance())
+                .and()
+                .authorizeExchange()
+                .pathMatchers("/exception/**").permitAll()
+                .pathMatchers(HttpMethod.POST, "/api/sign-in", "/api/sign-up", "/api/refresh-token").permitAll()
+                .pathMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .pathMatchers(HttpMethod.GET, "/actuator/prometheus").hasRole("ADMIN")
+                .pathMatchers("/api/admin/**").hasRole("ADMIN")
+                .pathMatchers(HttpMethod.GET, "/api/**").permitAll()
+                .pathMatchers(HttpMethod.DELETE, "/api/members/{id}/**").access(memberGuardAuthorizationManager())
+                .anyExchange().hasRole("ADMIN")
+                .and()
+                .exceptionHandling()
+                .authenticationEntryPoint((exchange, e) -> redirect(exchange, "/exception/entry-point"))
+                .accessDeniedHandler((exchange, e) -> redirect(exchange, "/exception/access-denied"))
+                .and()
+                .addFilterAt(new JwtAuthenticationWebFilter(accessTokenHelper, userDetailsService), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private Mono<Void> redirect(ServerWebExchange exchange, String location) {
+        return redirectStrategy.sendRedirect(exchange, URI.create(location));
+    }
+
+    // MemberGuard와 같은 규칙: 자원의 주인이거나 관리자
+    // 인증 정보가 없으면 거부되고, ExceptionTranslationWebFilter가 entry point로 보낸다
+    private ReactiveAuthorizationManager<AuthorizationContext> memberGuardAuthorizationManager() {
+        return (authentication, context) -> authentication
+                .filter(Authentication::isAuthenticated)
+                .map(auth -> isOwnerOrAdmin(auth, parseId((String) context.getVariables().get("id"))))
+                .defaultIfEmpty(false)
+                .map(AuthorizationDecision::new);
+    }
+
+    // 숫자가 아닌 {id}는 관리자여도 거부한다
+    private boolean isOwnerOrAdmin(Authentication authentication, Long id) {
+        if(id == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) return false;
+        return id.equals(Long.valueOf(userDetails.getUserId())) ||
+                userDetails.getAuthorities().stream()
+                        .anyMatch(authority -> RoleType.ROLE_ADMIN.name().equals(authority.getAuthority()));
+    }
+
+    private static Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
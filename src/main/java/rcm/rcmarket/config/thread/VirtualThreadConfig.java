@@ -0,0 +1,43 @@
+package rcm.rcmarket.config.thread;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+// virtual-threads 프로필에서 톰캣 요청 처리와 @Async 작업을 가상 스레드에서 실행한다(JDK 21 이상)
+// 요청 하나는 처음부터 끝까지 같은 가상 스레드에서 실행되므로
+// ThreadLocal 기반인 SecurityContextHolder와 트랜잭션 동기화는 그대로 동작한다
+// 동시 요청 수는 톰캣 스레드 수(threads.max) 대신 max-connections와 커넥션 풀 크기로 제한된다
+@Configuration
+@Profile("virtual-threads")
+@EnableAsync
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public ExecutorService virtualThreadRequestExecutor() {
+        log.info("running request handling on virtual threads ({})", Runtime.version());
+        return VirtualThreads.newVirtualThreadPerTaskExecutor("tomcat-vt-");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadRequestExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+    }
+
+    // @Async는 다른 스레드에서 실행되므로 호출한 스레드의 SecurityContext를 복사해서 넘겨준다
+    // 트랜잭션은 스레드를 넘어가지 않으므로 @Async 메소드는 자신의 트랜잭션을 새로 시작해야 한다
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new DelegatingSecurityContextAsyncTaskExecutor(
+                new TaskExecutorAdapter(VirtualThreads.newVirtualThreadPerTaskExecutor("async-vt-")));
+    }
+}
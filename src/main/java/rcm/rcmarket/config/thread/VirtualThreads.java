@@ -0,0 +1,50 @@
+package rcm.rcmarket.config.thread;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// 가상 스레드 API(JDK 21)를 리플렉션으로 호출한다
+// 스프링 5.3의 ASM은 컴포넌트 스캔 시 Java 21 클래스 파일을 읽지 못하므로 바이트코드는 17로 유지하고, 실행만 JDK 21에서 한다
+public class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    // 작업마다 이름이 prefix0, prefix1, ... 인 가상 스레드를 새로 만드는 Executor
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+        try {
+            MethodHandle newThreadPerTaskExecutor = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(factory);
+        } catch(Throwable e) {
+            throw new IllegalStateException("failed to create a virtual thread executor", e);
+        }
+    }
+
+    public static ThreadFactory factory(String prefix) {
+        if(!isSupported()) {
+            throw new IllegalStateException("virtual threads require JDK 21+, running on " + Runtime.version());
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            MethodHandle name = lookup.findVirtual(ofVirtualClass, "name", MethodType.methodType(ofVirtualClass, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            Object builder = name.invoke(ofVirtual.invoke(), prefix, 0L);
+            return (ThreadFactory) factory.invoke(builder);
+        } catch(Throwable e) {
+            throw new IllegalStateException("failed to create a virtual thread factory", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package rcm.rcmarket.config.timing;
+
+import java.util.Arrays;
+
+// 요청 하나의 단계별 처리 시간을 기록하는 스레드 한정 기록기
+// 스레드마다 하나를 만들어 재사용하고 배열에 누적하기 때문에 기록할 때 객체를 만들지 않는다
+// ServerTimingFilter가 샘플링된 요청에서만 begin()을 호출하며, 그 외에는 start()/stop()이 아무것도 하지 않는다
+//
+// long start = ServerTiming.start();
+// ... 측정할 작업 ...
+// ServerTiming.stop("db", start);
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+    private static final int MAX_PHASES = 16;
+    private static final ThreadLocal<ServerTiming> CURRENT = ThreadLocal.withInitial(ServerTiming::new);
+
+    private final String[] names = new String[MAX_PHASES];
+    private final long[] durations = new long[MAX_PHASES];
+    private int size;
+    private boolean active;
+    private boolean exposed;
+    private long beginNanos;
+
+    private ServerTiming() {
+    }
+
+    // exposed가 false면 로그에만 남기고 응답 헤더로는 내보내지 않는다
+    static ServerTiming begin(boolean exposed) {
+        ServerTiming timing = CURRENT.get();
+        timing.size = 0;
+        timing.active = true;
+        timing.exposed = exposed;
+        timing.beginNanos = System.nanoTime();
+        return timing;
+    }
+
+    static void end() {
+        ServerTiming timing = CURRENT.get();
+        timing.active = false;
+        timing.exposed = false;
+        Arrays.fill(timing.names, 0, timing.size, null);
+        timing.size = 0;
+    }
+
+    // 현재 요청이 기록 중이 아니면 null
+    public static ServerTiming current() {
+        ServerTiming timing = CURRENT.get();
+        return timing.active ? timing : null;
+    }
+
+    public boolean isExposed() {
+        return exposed;
+    }
+
+    public static long start() {
+        return CURRENT.get().active ? System.nanoTime() : 0L;
+    }
+
+    // 같은 이름으로 여러 번 기록하면 시간이 더해진다
+    public static void stop(String phase, long startNanos) {
+        if(startNanos == 0L) return;
+        ServerTiming timing = CURRENT.get();
+        if(timing.active) timing.add(phase, System.nanoTime() - startNanos);
+    }
+
+    private void add(String phase, long nanos) {
+        for(int i = 0; i < size; i++) {
+            if(names[i].equals(phase)) {
+                durations[i] += nanos;
+                return;
+            }
+        }
+        if(size == MAX_PHASES) return;
+        names[size] = phase;
+        durations[size++] = nanos;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - beginNanos;
+    }
+
+    // Server-Timing 헤더 값, 예) db;dur=1.204, password;dur=81.532, total;dur=84.010
+    public String toHeaderValue() {
+        StringBuilder sb = new StringBuilder(32 * (size + 1));
+        for(int i = 0; i < size; i++) {
+            appendMillis(sb.append(names[i]).append(";dur="), durations[i]).append(", ");
+        }
+        return appendMillis(sb.append("total;dur="), elapsedNanos()).toString();
+    }
+
+    // 구조화 로그용, 예) db=1.204 password=81.532
+    StringBuilder appendTo(StringBuilder sb) {
+        for(int i = 0; i < size; i++) {
+            appendMillis(sb.append(' ').append(names[i]).append('='), durations[i]);
+        }
+        return sb;
+    }
+
+    private static StringBuilder appendMillis(StringBuilder sb, long nanos) {
+        long micros = nanos / 1000;
+        sb.append(micros / 1000).append('.');
+        long fraction = micros % 1000;
+        if(fraction < 100) sb.append('0');
+        if(fraction < 10) sb.append('0');
+        return sb.append(fraction);
+    }
+}
@@ -0,0 +1,82 @@
+package rcm.rcmarket.config.timing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// sample-rate 비율의 요청에 대해 ServerTiming 기록을 시작하고, 요청이 끝나면 단계별 시간을 DEBUG 로그 한 줄로 남긴다
+// 단계별 시간은 내부 구현을 드러내므로 trusted-networks에서 온 요청에만 헤더로 내보낸다
+// 헤더는 응답이 커밋되기 전에 써야 하므로 ServerTimingAdvice에서 추가한다
+// 프록시 뒤에서는 프록시 주소가 remoteAddr이 되므로 server.forward-headers-strategy 설정과 함께 사용한다
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final List<IpAddressMatcher> trustedNetworks;
+
+    public ServerTimingFilter(
+            @Value("${server-timing.enabled:false}") boolean enabled,
+            @Value("${server-timing.sample-rate:0.01}") double sampleRate,
+            @Value("${server-timing.trusted-networks:127.0.0.1/32,::1/128}") String[] trustedNetworks) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.trustedNetworks = Arrays.stream(trustedNetworks)
+                .map(String::trim)
+                .filter(network -> !network.isEmpty())
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if(!sampled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ServerTiming timing = ServerTiming.begin(trusted(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if(log.isDebugEnabled()) log.debug(logLine(request, response, timing));
+            ServerTiming.end();
+        }
+    }
+
+    private boolean sampled() {
+        return enabled && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private boolean trusted(HttpServletRequest request) {
+        for(IpAddressMatcher network : trustedNetworks) {
+            if(network.matches(request.getRemoteAddr())) return true;
+        }
+        return false;
+    }
+
+    private String logLine(HttpServletRequest request, HttpServletResponse response, ServerTiming timing) {
+        StringBuilder sb = new StringBuilder(128)
+                .append("server-timing method=").append(request.getMethod())
+                .append(" uri=").append(request.getRequestURI())
+                .append(" status=").append(response.getStatus())
+                .append(" total=").append(timing.elapsedNanos() / 1000 / 1000.0);
+        return timing.appendTo(sb).toString();
+    }
+}
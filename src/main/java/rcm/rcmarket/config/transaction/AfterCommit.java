@@ -0,0 +1,25 @@
+package rcm.rcmarket.config.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리에 있는 색인이나 카운터처럼 DB 밖의 상태를 트랜잭션 결과에 맞춰 바꿀 때 쓴다
+// 트랜잭션 안에서 호출되면 커밋된 뒤에 실행하고(롤백되면 실행하지 않는다), 트랜잭션 밖이면 바로 실행한다
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
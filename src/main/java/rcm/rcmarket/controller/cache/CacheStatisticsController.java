@@ -0,0 +1,25 @@
+package rcm.rcmarket.controller.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.cache.CacheStatisticsService;
+
+// 2차 캐시 region 통계는 관리자만 조회할 수 있다(SecurityConfig의 /api/admin/** 규칙)
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/api/admin/cache-regions")
+    @ResponseStatus(HttpStatus.OK)
+    public Response readRegions() {
+        return Response.success(cacheStatisticsService.readRegions());
+    }
+}
@@ -0,0 +1,40 @@
+package rcm.rcmarket.controller.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.chat.ChatMessageReadCondition;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.chat.ChatService;
+
+// 대화방 생성과 목록은 로그인한 회원, 이전 메시지는 ConversationGuard를 통과한 참여자만 가능하다(SecurityConfig)
+// 메시지 전송과 수신은 웹소켓(/ws/chat, ChatWebSocketHandler)으로 한다
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ChatController {
+
+    private final ChatService chatService;
+    private final AuthHelper authHelper;
+
+    @PostMapping("/api/products/{id}/conversations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Response create(@PathVariable Long id) {
+        return Response.success(chatService.create(id, authHelper.extractMemberId()));
+    }
+
+    @GetMapping("/api/conversations")
+    @ResponseStatus(HttpStatus.OK)
+    public Response readAll() {
+        return Response.success(chatService.readAll(authHelper.extractMemberId()));
+    }
+
+    // GET /api/conversations/{id}/messages?size=50&cursor=...
+    @GetMapping("/api/conversations/{id}/messages")
+    @ResponseStatus(HttpStatus.OK)
+    public Response readMessages(@PathVariable Long id, ChatMessageReadCondition cond) {
+        return Response.success(chatService.readMessages(id, cond));
+    }
+}
@@ -0,0 +1,49 @@
+package rcm.rcmarket.controller.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.comment.CommentCreateRequest;
+import rcm.rcmarket.dto.comment.CommentReadCondition;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.comment.CommentService;
+
+import javax.validation.Valid;
+
+// 조회는 누구나, 작성은 로그인한 회원, 삭제는 CommentGuard를 통과한 사용자만 가능하다(SecurityConfig)
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final AuthHelper authHelper;
+
+    // GET /api/products/{id}/comments?size=20&cursor=...
+    @GetMapping("/api/products/{id}/comments")
+    @ResponseStatus(HttpStatus.OK)
+    public Response readAll(@PathVariable Long id, CommentReadCondition cond) {
+        return Response.success(commentService.readAll(id, cond));
+    }
+
+    @GetMapping("/api/comments/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Response read(@PathVariable Long id) {
+        return Response.success(commentService.read(id));
+    }
+
+    @PostMapping("/api/products/{id}/comments")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Response create(@PathVariable Long id, @Valid @RequestBody CommentCreateRequest req) {
+        return Response.success(commentService.create(id, req, authHelper.extractMemberId()));
+    }
+
+    @DeleteMapping("/api/comments/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Response delete(@PathVariable Long id) {
+        commentService.delete(id);
+        return Response.success();
+    }
+}
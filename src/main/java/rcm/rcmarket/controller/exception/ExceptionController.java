@@ -1,11 +1,13 @@
 package rcm.rcmarket.controller.exception;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import rcm.rcmarket.exception.AccessDeniedException;
 import rcm.rcmarket.exception.AuthenticationEntryPointException;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ExceptionController {
     @GetMapping("/exception/entry-point")
     public void entryPoint() {
@@ -0,0 +1,37 @@
+package rcm.rcmarket.controller.favorite;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.favorite.FavoriteUpdateRequest;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.favorite.FavoriteService;
+
+import javax.validation.Valid;
+import java.util.List;
+
+// 좋아요와 좋아요 여부 조회는 로그인한 회원만 가능하다(SecurityConfig)
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class FavoriteController {
+
+    private final FavoriteService favoriteService;
+    private final AuthHelper authHelper;
+
+    // PUT /api/products/{id}/favorite {"liked": true}
+    @PutMapping("/api/products/{id}/favorite")
+    @ResponseStatus(HttpStatus.OK)
+    public Response update(@PathVariable Long id, @Valid @RequestBody FavoriteUpdateRequest req) {
+        return Response.success(favoriteService.update(id, req, authHelper.extractMemberId()));
+    }
+
+    // GET /api/favorites?productIds=1,2,3
+    @GetMapping("/api/favorites")
+    @ResponseStatus(HttpStatus.OK)
+    public Response check(@RequestParam List<Long> productIds) {
+        return Response.success(favoriteService.check(productIds, authHelper.extractMemberId()));
+    }
+}
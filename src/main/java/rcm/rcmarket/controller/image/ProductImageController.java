@@ -0,0 +1,55 @@
+package rcm.rcmarket.controller.image;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.image.FileSender;
+import rcm.rcmarket.service.image.ProductImageService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// 조회와 다운로드는 누구나, 업로드와 삭제는 ProductGuard를 통과한 사용자(상품의 판매자나 관리자)만 가능하다(SecurityConfig)
+// 다운로드는 메시지 컨버터를 거치지 않고 FileSender가 응답에 바로 쓴다
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ProductImageController {
+
+    private final ProductImageService productImageService;
+    private final FileSender fileSender;
+
+    // multipart/form-data, 파트 이름은 image
+    @PostMapping("/api/products/{id}/images")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Response upload(@PathVariable Long id, @RequestPart("image") MultipartFile image) {
+        return Response.success(productImageService.upload(id, image));
+    }
+
+    @GetMapping("/api/products/{id}/images")
+    @ResponseStatus(HttpStatus.OK)
+    public Response readAll(@PathVariable Long id) {
+        return Response.success(productImageService.readAll(id));
+    }
+
+    @DeleteMapping("/api/products/{id}/images/{imageId}")
+    @ResponseStatus(HttpStatus.OK)
+    public Response delete(@PathVariable Long id, @PathVariable Long imageId) {
+        productImageService.delete(id, imageId);
+        return Response.success();
+    }
+
+    @GetMapping("/api/images/{id}")
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileSender.send(productImageService.findOriginal(id), request, response);
+    }
+
+    @GetMapping("/api/images/{id}/thumbnail")
+    public void downloadThumbnail(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileSender.send(productImageService.findThumbnail(id), request, response);
+    }
+}
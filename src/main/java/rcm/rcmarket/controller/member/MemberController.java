@@ -2,6 +2,7 @@ package rcm.rcmarket.controller.member;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import rcm.rcmarket.dto.response.Response;
@@ -9,6 +10,7 @@ import rcm.rcmarket.service.member.MemberService;
 
 // api를 통해 read와 delete를 수행하는 controller다
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 @Slf4j
 public class MemberController {
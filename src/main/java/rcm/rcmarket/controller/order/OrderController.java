@@ -0,0 +1,34 @@
+package rcm.rcmarket.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.order.OrderCreateRequest;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.order.OrderService;
+
+import javax.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+
+// 주문은 구매자와 관리자만 가능하다(SecurityConfig)
+// 주문이 속한 배치가 커밋될 때까지 요청 스레드를 잡지 않도록 CompletableFuture를 돌려 비동기로 응답한다
+// future가 예외로 완료되면 스프링이 CompletionException을 벗겨서 ExceptionAdvice로 넘긴다
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class OrderController {
+
+    private final OrderService orderService;
+    private final AuthHelper authHelper;
+
+    @PostMapping("/api/orders")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<Response> create(@Valid @RequestBody OrderCreateRequest req) {
+        return orderService.create(req, authHelper.extractMemberId()).thenApply(Response::success);
+    }
+}
@@ -0,0 +1,49 @@
+package rcm.rcmarket.controller.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.product.ProductCreateRequest;
+import rcm.rcmarket.dto.product.ProductSearchCondition;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.product.ProductService;
+
+import javax.validation.Valid;
+
+// 목록과 단건 조회는 누구나, 등록은 판매자와 관리자, 삭제는 ProductGuard를 통과한 사용자만 가능하다(SecurityConfig)
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class ProductController {
+
+    private final ProductService productService;
+    private final AuthHelper authHelper;
+
+    // GET /api/products?category=DIGITAL&minPrice=1000&maxPrice=50000&size=20&cursor=...
+    @GetMapping("/api/products")
+    @ResponseStatus(HttpStatus.OK)
+    public Response readAll(ProductSearchCondition cond) {
+        return Response.success(productService.readAll(cond));
+    }
+
+    @GetMapping("/api/products/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Response read(@PathVariable Long id) {
+        return Response.success(productService.read(id));
+    }
+
+    @PostMapping("/api/products")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Response create(@Valid @RequestBody ProductCreateRequest req) {
+        return Response.success(productService.create(req, authHelper.extractMemberId()));
+    }
+
+    @DeleteMapping("/api/products/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Response delete(@PathVariable Long id) {
+        productService.delete(id);
+        return Response.success();
+    }
+}
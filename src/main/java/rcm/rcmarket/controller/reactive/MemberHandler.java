@@ -0,0 +1,36 @@
+package rcm.rcmarket.controller.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.reactive.ReactiveMemberService;
+import reactor.core.publisher.Mono;
+
+// MemberController와 같은 요청/응답을 처리하는 함수형 핸들러
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class MemberHandler {
+
+    private final ReactiveMemberService memberService;
+
+    public Mono<ServerResponse> read(ServerRequest request) {
+        return id(request)
+                .flatMap(memberService::read)
+                .flatMap(member -> ServerResponse.ok().bodyValue(Response.success(member)));
+    }
+
+    public Mono<ServerResponse> delete(ServerRequest request) {
+        return id(request)
+                .flatMap(memberService::delete)
+                .then(ServerResponse.ok().bodyValue(Response.success()));
+    }
+
+    // 변환 실패도 에러 신호로 넘겨 라우터의 예외 처리를 거치게 한다
+    private Mono<Long> id(ServerRequest request) {
+        return Mono.fromCallable(() -> Long.valueOf(request.pathVariable("id")));
+    }
+}
@@ -0,0 +1,34 @@
+package rcm.rcmarket.controller.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import java.util.Set;
+
+// 함수형 라우트에는 @Valid @RequestBody가 없으므로 바디를 읽은 뒤 직접 검증한다
+// 검증에 실패하면 ConstraintViolationException, 바디가 없으면 ServerWebInputException으로 끝난다
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class RequestBodyValidator {
+
+    private final Validator validator;
+
+    public <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .doOnNext(this::validate);
+    }
+
+    private <T> void validate(T body) {
+        Set<ConstraintViolation<T>> violations = validator.validate(body);
+        if(!violations.isEmpty()) throw new ConstraintViolationException(violations);
+    }
+}
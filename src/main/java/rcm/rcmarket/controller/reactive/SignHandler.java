@@ -0,0 +1,44 @@
+package rcm.rcmarket.controller.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.MissingRequestValueException;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignUpRequest;
+import rcm.rcmarket.service.reactive.ReactiveSignService;
+import reactor.core.publisher.Mono;
+
+import static rcm.rcmarket.dto.response.Response.success;
+
+// SignController와 같은 요청/응답을 처리하는 함수형 핸들러
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class SignHandler {
+
+    private final ReactiveSignService signService;
+    private final RequestBodyValidator requestBodyValidator;
+
+    public Mono<ServerResponse> signUp(ServerRequest request) {
+        return requestBodyValidator.body(request, SignUpRequest.class)
+                .flatMap(signService::signUp)
+                .then(ServerResponse.status(HttpStatus.CREATED).bodyValue(success()));
+    }
+
+    public Mono<ServerResponse> signIn(ServerRequest request) {
+        return requestBodyValidator.body(request, SignInRequest.class)
+                .flatMap(signService::signIn)
+                .flatMap(res -> ServerResponse.ok().bodyValue(success(res)));
+    }
+
+    public Mono<ServerResponse> refreshToken(ServerRequest request) {
+        return Mono.justOrEmpty(request.headers().firstHeader("Authorization"))
+                .switchIfEmpty(Mono.error(() -> new MissingRequestValueException("Authorization", String.class, "header", null)))
+                .flatMap(signService::refreshToken)
+                .flatMap(res -> ServerResponse.ok().bodyValue(success(res)));
+    }
+}
@@ -0,0 +1,23 @@
+package rcm.rcmarket.controller.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.search.SearchService;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // GET /api/search?q=맥북&size=20
+    @GetMapping("/api/search")
+    @ResponseStatus(HttpStatus.OK)
+    public Response search(@RequestParam String q, @RequestParam(required = false) Integer size) {
+        return Response.success(searchService.search(q, size));
+    }
+}
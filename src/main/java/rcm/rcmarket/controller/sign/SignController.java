@@ -1,5 +1,6 @@
 package rcm.rcmarket.controller.sign;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
 import rcm.rcmarket.dto.response.Response;
 import rcm.rcmarket.dto.sign.SignInRequest;
@@ -13,6 +14,7 @@ import javax.validation.Valid;
 import static rcm.rcmarket.dto.response.Response.success;
 
 @RestController // Json으로 응답하기 위해선 RestController를 선언해야 한다
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // reactive 프로필에서는 ReactiveConfig의 라우트가 대신 처리한다
 @RequiredArgsConstructor
 public class SignController {
     private final SignService signService;
@@ -0,0 +1,41 @@
+package rcm.rcmarket.controller.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.dto.stock.ReservationCreateRequest;
+import rcm.rcmarket.service.stock.StockService;
+
+import javax.validation.Valid;
+
+// 재고 조회는 누구나, 예약은 구매자와 관리자, 예약 해제는 ReservationGuard를 통과한 사용자만 가능하다(SecurityConfig)
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockService stockService;
+    private final AuthHelper authHelper;
+
+    @GetMapping("/api/products/{id}/stock")
+    @ResponseStatus(HttpStatus.OK)
+    public Response read(@PathVariable Long id) {
+        return Response.success(stockService.read(id));
+    }
+
+    @PostMapping("/api/products/{id}/reservations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Response reserve(@PathVariable Long id, @Valid @RequestBody ReservationCreateRequest req) {
+        return Response.success(stockService.reserve(id, req, authHelper.extractMemberId()));
+    }
+
+    @DeleteMapping("/api/reservations/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public Response release(@PathVariable Long id) {
+        stockService.release(id);
+        return Response.success();
+    }
+}
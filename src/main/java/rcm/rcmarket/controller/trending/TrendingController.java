@@ -0,0 +1,26 @@
+package rcm.rcmarket.controller.trending;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import rcm.rcmarket.dto.response.Response;
+import rcm.rcmarket.service.trending.TrendingService;
+import rcm.rcmarket.trending.TrendingMetric;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+
+    // GET /api/products/trending?metric=ORDERS&size=10
+    // /api/products/{id}보다 구체적인 경로라 먼저 매칭된다
+    @GetMapping("/api/products/trending")
+    @ResponseStatus(HttpStatus.OK)
+    public Response read(@RequestParam(defaultValue = "VIEWS") TrendingMetric metric,
+                         @RequestParam(required = false) Integer size) {
+        return Response.success(trendingService.read(metric, size));
+    }
+}
@@ -0,0 +1,22 @@
+package rcm.rcmarket.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.stat.CacheRegionStatistics;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheRegionStatisticsDto {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+
+    public static CacheRegionStatisticsDto toDto(String region, CacheRegionStatistics statistics) {
+        return new CacheRegionStatisticsDto(region, statistics.getHitCount(), statistics.getMissCount(),
+                statistics.getPutCount(), statistics.getElementCountInMemory());
+    }
+}
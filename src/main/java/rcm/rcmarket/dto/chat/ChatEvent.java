@@ -0,0 +1,33 @@
+package rcm.rcmarket.dto.chat;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 웹소켓으로 보내는 프레임
+// - message: 저장된 메시지, 대화방 참여자 두 명의 모든 연결로 간다(보낸 사람은 clientMessageId로 자기 메시지를 찾는다)
+// - error: 메시지를 받지 않은 이유, 보낸 연결에만 간다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatEvent {
+    public static final String INVALID_REQUEST = "invalid-request";
+    public static final String QUEUE_FULL = "queue-full";
+    public static final String NOT_PARTICIPANT = "not-participant";
+    public static final String FAILED = "failed";
+
+    private String type;
+    private String clientMessageId;
+    private ChatMessageDto message;
+    private String error;
+
+    public static ChatEvent message(String clientMessageId, ChatMessageDto message) {
+        return new ChatEvent("message", clientMessageId, message, null);
+    }
+
+    public static ChatEvent error(String clientMessageId, String error) {
+        return new ChatEvent("error", clientMessageId, null, error);
+    }
+}
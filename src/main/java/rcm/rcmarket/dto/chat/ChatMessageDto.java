@@ -0,0 +1,25 @@
+package rcm.rcmarket.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.chat.ChatMessage;
+
+import java.time.LocalDateTime;
+
+// 이전 메시지 조회에서는 ChatMessageRepository가 생성자 표현식으로 바로 만든다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageDto {
+    private Long id;
+    private Long conversationId;
+    private Long senderId;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static ChatMessageDto toDto(ChatMessage message) {
+        return new ChatMessageDto(message.getId(), message.getConversation().getId(),
+                message.getSender().getId(), message.getContent(), message.getCreatedAt());
+    }
+}
@@ -0,0 +1,17 @@
+package rcm.rcmarket.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 메시지는 최신순이다, 더 이전 메시지는 nextCursor를 cursor로 넘겨 이어서 읽는다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageListDto {
+    private List<ChatMessageDto> messages;
+    private boolean hasNext;
+    private Long nextCursor;
+}
@@ -0,0 +1,15 @@
+package rcm.rcmarket.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// GET /api/conversations/{id}/messages의 쿼리 파라미터
+// cursor는 이전 응답의 nextCursor(가장 오래된 메시지 id)를 그대로 넘기며, 없으면 최신 메시지부터 조회한다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageReadCondition {
+    private Long cursor;
+    private Integer size;
+}
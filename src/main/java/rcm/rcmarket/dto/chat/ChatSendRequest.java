@@ -0,0 +1,26 @@
+package rcm.rcmarket.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+// 웹소켓으로 받는 메시지 프레임, clientMessageId는 클라이언트가 정한 값으로 저장된 메시지나 오류에 그대로 실려 돌아간다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatSendRequest {
+
+    @NotNull(message = "대화방을 입력해주세요.")
+    private Long conversationId;
+
+    @NotBlank(message = "메시지를 입력해주세요.")
+    @Size(max = 1000, message = "메시지는 1000자 이하로 입력해주세요.")
+    private String content;
+
+    @Size(max = 64, message = "clientMessageId는 64자 이하로 입력해주세요.")
+    private String clientMessageId;
+}
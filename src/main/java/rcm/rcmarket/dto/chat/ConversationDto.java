@@ -0,0 +1,24 @@
+package rcm.rcmarket.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.chat.Conversation;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ConversationDto {
+    private Long id;
+    private Long productId;
+    private Long buyerId;
+    private Long sellerId;
+    private LocalDateTime createdAt;
+
+    public static ConversationDto toDto(Conversation conversation) {
+        return new ConversationDto(conversation.getId(), conversation.getProduct().getId(),
+                conversation.getBuyer().getId(), conversation.getSeller().getId(), conversation.getCreatedAt());
+    }
+}
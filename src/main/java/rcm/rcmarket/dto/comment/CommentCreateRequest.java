@@ -0,0 +1,21 @@
+package rcm.rcmarket.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+// parentId가 없으면 루트 댓글(질문), 있으면 그 댓글의 답글이다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentCreateRequest {
+
+    @NotBlank(message = "댓글 내용을 입력해주세요.")
+    @Size(max = 1000, message = "댓글은 1000자 이하로 입력해주세요.")
+    private String content;
+
+    private Long parentId;
+}
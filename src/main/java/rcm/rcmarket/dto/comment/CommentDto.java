@@ -0,0 +1,43 @@
+package rcm.rcmarket.dto.comment;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.comment.Comment;
+import rcm.rcmarket.entity.member.Member;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 트리 조회에서는 CommentRepository가 생성자 표현식으로 바로 만들고 CommentTree가 children을 채운다
+// 삭제된 댓글은 자리만 남기고 내용과 작성자를 내려주지 않는다
+@Data
+@NoArgsConstructor
+public class CommentDto {
+    private Long id;
+    private Long parentId;
+    private Long writerId;
+    private String writerNickname;
+    private String content;
+    private boolean deleted;
+    private LocalDateTime createdAt;
+    private List<CommentDto> children = new ArrayList<>();
+
+    public CommentDto(Long id, Long parentId, Long writerId, String writerNickname, String content, Boolean deleted, LocalDateTime createdAt) {
+        this.id = id;
+        this.parentId = parentId;
+        this.deleted = deleted;
+        this.createdAt = createdAt;
+        if(deleted) return;
+        this.writerId = writerId;
+        this.writerNickname = writerNickname;
+        this.content = content;
+    }
+
+    public static CommentDto toDto(Comment comment) {
+        Member writer = comment.getWriter();
+        return new CommentDto(comment.getId(), comment.getParentId(),
+                writer == null ? null : writer.getId(), writer == null ? null : writer.getNickname(),
+                comment.getContent(), comment.isDeleted(), comment.getCreatedAt());
+    }
+}
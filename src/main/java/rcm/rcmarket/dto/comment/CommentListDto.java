@@ -0,0 +1,17 @@
+package rcm.rcmarket.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 페이지는 루트 댓글 단위로 나누고, 각 루트 댓글에는 답글 트리 전체가 children으로 들어있다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentListDto {
+    private List<CommentDto> comments;
+    private boolean hasNext;
+    private Long nextCursor;
+}
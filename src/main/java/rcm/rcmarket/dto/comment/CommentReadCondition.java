@@ -0,0 +1,15 @@
+package rcm.rcmarket.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// GET /api/products/{id}/comments의 쿼리 파라미터
+// cursor는 이전 응답의 nextCursor(마지막 루트 댓글 id)를 그대로 넘기며, 없으면 첫 페이지를 조회한다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentReadCondition {
+    private Long cursor;
+    private Integer size;
+}
@@ -0,0 +1,15 @@
+package rcm.rcmarket.dto.favorite;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 물어본 상품들 중 회원이 좋아요한 상품 id, 목록에 없는 상품은 좋아요하지 않은 것이다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FavoriteCheckDto {
+    private List<Long> likedProductIds;
+}
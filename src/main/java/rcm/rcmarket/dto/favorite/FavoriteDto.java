@@ -0,0 +1,13 @@
+package rcm.rcmarket.dto.favorite;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FavoriteDto {
+    private Long productId;
+    private boolean liked;
+}
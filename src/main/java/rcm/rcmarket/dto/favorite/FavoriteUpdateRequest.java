@@ -0,0 +1,17 @@
+package rcm.rcmarket.dto.favorite;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+// 좋아요를 뒤집지 않고 원하는 상태를 보낸다, 같은 요청을 여러 번 보내도 결과가 같다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FavoriteUpdateRequest {
+
+    @NotNull(message = "좋아요 여부를 입력해주세요.")
+    private Boolean liked;
+}
@@ -0,0 +1,26 @@
+package rcm.rcmarket.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.image.ProductImage;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductImageDto {
+    private Long id;
+    private Long productId;
+    private String contentType;
+    private Long size;
+    private String url;
+    private String thumbnailUrl;
+    private LocalDateTime createdAt;
+
+    public static ProductImageDto toDto(ProductImage image) {
+        return new ProductImageDto(image.getId(), image.getProduct().getId(), image.getContentType(), image.getSize(),
+                "/api/images/" + image.getId(), "/api/images/" + image.getId() + "/thumbnail", image.getCreatedAt());
+    }
+}
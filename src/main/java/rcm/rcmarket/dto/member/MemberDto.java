@@ -13,8 +13,9 @@ public class MemberDto {
     private String email;
     private String username;
     private String nickname;
+    private Long views; // DB에 반영된 조회수, MemberService가 아직 반영되지 않은 조회수를 더해서 내려준다
 
     public static MemberDto toDto(Member member) {
-        return new MemberDto(member.getId(), member.getEmail(), member.getUsername(), member.getNickname());
+        return new MemberDto(member.getId(), member.getEmail(), member.getUsername(), member.getNickname(), member.getViews());
     }
 }
@@ -0,0 +1,17 @@
+package rcm.rcmarket.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+// 주문은 먼저 잡아둔 재고 예약(POST /api/products/{id}/reservations)으로 한다, 상품과 수량은 예약에 들어있다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderCreateRequest {
+
+    @NotNull(message = "재고 예약을 입력해주세요.")
+    private Long reservationId;
+}
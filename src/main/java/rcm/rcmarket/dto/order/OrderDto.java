@@ -0,0 +1,30 @@
+package rcm.rcmarket.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.order.Order;
+
+import java.time.LocalDateTime;
+
+// 구매자와 상품은 id만 담아 프록시를 초기화하지 않는다
+// 탈퇴한 구매자나 지워진 상품의 id는 null이고, 상품 이름은 주문에 남겨둔 값을 쓴다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderDto {
+    private Long id;
+    private Long buyerId;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private Long amount;
+    private LocalDateTime createdAt;
+
+    public static OrderDto toDto(Order order) {
+        return new OrderDto(order.getId(),
+                order.getBuyer() == null ? null : order.getBuyer().getId(),
+                order.getProduct() == null ? null : order.getProduct().getId(),
+                order.getProductName(), order.getQuantity(), order.getAmount(), order.getCreatedAt());
+    }
+}
@@ -0,0 +1,38 @@
+package rcm.rcmarket.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductCreateRequest {
+
+    @NotBlank(message = "상품 이름을 입력해주세요.")
+    @Size(max = 50, message = "상품 이름이 너무 깁니다.")
+    private String name; // 1
+
+    @NotNull(message = "카테고리를 입력해주세요.")
+    private Category category; // 2
+
+    @NotNull(message = "가격을 입력해주세요.")
+    @PositiveOrZero(message = "가격은 0원 이상이어야 합니다.")
+    private Long price; // 3
+
+    @NotNull(message = "재고를 입력해주세요.")
+    @PositiveOrZero(message = "재고는 0개 이상이어야 합니다.")
+    private Integer stock; // 4
+
+    public static Product toEntity(ProductCreateRequest req, Member seller) {
+        return new Product(req.name, req.category, req.price, req.stock, seller);
+    }
+}
@@ -0,0 +1,43 @@
+package rcm.rcmarket.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rcm.rcmarket.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 마지막으로 읽은 상품의 (createdAt, id)로 다음 페이지 위치를 나타낸다
+// createdAt만으로는 같은 시각에 등록된 상품을 구분할 수 없어서 id를 함께 담는다
+// 클라이언트가 내부 구조에 의존하지 않도록 URL-safe Base64 문자열로 주고받는다
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ProductCursor of(ProductDto last) {
+        return new ProductCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 클라이언트가 임의로 만든 값처럼 형식이 맞지 않으면 InvalidCursorException(400)으로 응답한다
+    public static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if(separator < 0) throw new InvalidCursorException();
+            return new ProductCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package rcm.rcmarket.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+
+import java.time.LocalDateTime;
+
+// 목록 조회에서는 ProductRepositoryCustomImpl이 생성자 표현식으로 바로 만든다
+// 판매자는 id만 담아 seller 프록시를 초기화하지 않는다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductDto {
+    private Long id;
+    private String name;
+    private Category category;
+    private Long price;
+    private Long sellerId;
+    private LocalDateTime createdAt;
+    private Long views; // DB에 반영된 조회수, ProductService가 아직 반영되지 않은 조회수를 더해서 내려준다
+    private Long likes; // 좋아요 수, Product.likes를 그대로 읽는다
+
+    public static ProductDto toDto(Product product) {
+        return new ProductDto(product.getId(), product.getName(), product.getCategory(), product.getPrice(),
+                product.getSeller().getId(), product.getCreatedAt(), product.getViews(), product.getLikes());
+    }
+}
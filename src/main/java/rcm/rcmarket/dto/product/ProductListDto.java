@@ -0,0 +1,17 @@
+package rcm.rcmarket.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 전체 개수는 count 쿼리가 테이블 크기에 비례해 느려지므로 내려주지 않고 다음 페이지 유무만 알려준다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductListDto {
+    private List<ProductDto> products;
+    private boolean hasNext;
+    private String nextCursor;
+}
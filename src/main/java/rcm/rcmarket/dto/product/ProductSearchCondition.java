@@ -0,0 +1,19 @@
+package rcm.rcmarket.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.product.Category;
+
+// GET /api/products의 쿼리 파라미터, 값이 없는 조건은 where 절에 넣지 않는다
+// cursor는 이전 응답의 nextCursor를 그대로 넘기며, 없으면 첫 페이지를 조회한다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSearchCondition {
+    private Category category;
+    private Long minPrice;
+    private Long maxPrice;
+    private String cursor;
+    private Integer size;
+}
@@ -9,12 +9,14 @@ import lombok.Getter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 public class Response {
+    private static final Response SUCCESS = new Response(true, 0, null); // 불변이므로 공유한다
+
     private boolean success;
     private int code;
     private Result result;
 
     public static Response success() { // 4
-        return new Response(true, 0, null);
+        return SUCCESS;
     }
 
     public static <T> Response success(T data) { // 5
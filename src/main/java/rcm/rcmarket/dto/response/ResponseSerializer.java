@@ -0,0 +1,55 @@
+package rcm.rcmarket.dto.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// Response를 빈 introspection 없이 출력 스트림에 바로 쓴다
+// 필드 이름은 미리 인코딩해두고, Success/Failure가 아닌 Result 구현체는 기본 직렬화에 맡긴다
+// 출력은 기본 직렬화 결과와 같다: {"success":..,"code":..,"result":{"data":..}}, result가 null이면 생략
+public class ResponseSerializer extends StdSerializer<Response> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString RESULT = new SerializedString("result");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString MSG = new SerializedString("msg");
+
+    public ResponseSerializer() {
+        super(Response.class);
+    }
+
+    @Override
+    public void serialize(Response value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+        gen.writeFieldName(CODE);
+        gen.writeNumber(value.getCode());
+        Result result = value.getResult();
+        if(result != null) {
+            gen.writeFieldName(RESULT);
+            writeResult(result, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeResult(Result result, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if(result.getClass() == Success.class) {
+            gen.writeStartObject(result);
+            gen.writeFieldName(DATA);
+            provider.defaultSerializeValue(((Success<?>) result).getData(), gen);
+            gen.writeEndObject();
+        } else if(result.getClass() == Failure.class) {
+            gen.writeStartObject(result);
+            gen.writeFieldName(MSG);
+            gen.writeString(((Failure) result).getMsg()); // null이면 null을 쓴다
+            gen.writeEndObject();
+        } else {
+            provider.defaultSerializeValue(result, gen);
+        }
+    }
+}
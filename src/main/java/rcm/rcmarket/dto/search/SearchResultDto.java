@@ -0,0 +1,16 @@
+package rcm.rcmarket.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 검색어와 가까운 순서대로 정렬된 상품 id와 회원 id
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchResultDto {
+    private List<Long> products;
+    private List<Long> members;
+}
@@ -7,6 +7,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import rcm.rcmarket.validation.HangulOrAlphabet;
+import rcm.rcmarket.validation.Password;
 
 import javax.validation.constraints.*;
 import java.util.List;
@@ -23,18 +25,17 @@ public class SignUpRequest {
     private String email; // 1
 
     @NotBlank(message = "비밀번호를 입력해주세요.")
-    @Pattern(regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$",
-            message = "비밀번호는 최소 8자리이면서 1개 이상의 알파벳, 숫자, 특수문자를 포함해야합니다.")
+    @Password(message = "비밀번호는 최소 8자리이면서 1개 이상의 알파벳, 숫자, 특수문자를 포함해야합니다.")
     private String password; // 2
 
     @NotBlank(message = "사용자 이름을 입력해주세요.")
     @Size(min=2, message = "사용자 이름이 너무 짧습니다.")
-    @Pattern(regexp = "^[A-Za-z가-힣]+$", message = "사용자 이름은 한글 또는 알파벳만 입력해주세요.")
+    @HangulOrAlphabet(message = "사용자 이름은 한글 또는 알파벳만 입력해주세요.")
     private String username; // 3
 
     @NotBlank(message = "닉네임을 입력해주세요.")
     @Size(min=2, message = "닉네임이 너무 짧습니다.")
-    @Pattern(regexp = "^[A-Za-z가-힣]+$", message = "닉네임은 한글 또는 알파벳만 입력해주세요.")
+    @HangulOrAlphabet(message = "닉네임은 한글 또는 알파벳만 입력해주세요.")
     private String nickname; // 4
 
     public static Member toEntity(SignUpRequest req, Role role, PasswordEncoder encoder) {
@@ -0,0 +1,20 @@
+package rcm.rcmarket.dto.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationCreateRequest {
+
+    @NotNull(message = "수량을 입력해주세요.")
+    @Positive(message = "수량은 1개 이상이어야 합니다.")
+    @Max(value = 100, message = "한 번에 100개까지 예약할 수 있습니다.")
+    private Integer quantity;
+}
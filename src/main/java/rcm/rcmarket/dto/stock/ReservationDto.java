@@ -0,0 +1,22 @@
+package rcm.rcmarket.dto.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.stock.StockReservation;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservationDto {
+    private Long id;
+    private Long productId;
+    private int quantity;
+    private LocalDateTime expiresAt;
+
+    public static ReservationDto toDto(StockReservation reservation) {
+        return new ReservationDto(reservation.getId(), reservation.getProductId(), reservation.getQuantity(), reservation.getExpiresAt());
+    }
+}
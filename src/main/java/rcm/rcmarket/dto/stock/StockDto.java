@@ -0,0 +1,14 @@
+package rcm.rcmarket.dto.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지금 예약할 수 있는 수량, 다른 사용자가 잡아둔 예약은 빠져있다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockDto {
+    private Long productId;
+    private int available;
+}
@@ -0,0 +1,19 @@
+package rcm.rcmarket.dto.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.trending.TrendingMetric;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// publishedAt은 순위를 계산한 시각이다, 아직 한 번도 계산하지 않았으면 null이다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingDto {
+    private TrendingMetric metric;
+    private List<TrendingProductDto> products;
+    private LocalDateTime publishedAt;
+}
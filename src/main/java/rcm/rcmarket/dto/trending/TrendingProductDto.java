@@ -0,0 +1,23 @@
+package rcm.rcmarket.dto.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+
+// score는 최근 창 안의 조회 수 또는 주문 수량의 근사값이다(Count-Min sketch라 실제보다 조금 클 수 있다)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingProductDto {
+    private Long id;
+    private String name;
+    private Category category;
+    private Long price;
+    private long score;
+
+    public static TrendingProductDto toDto(Product product, long score) {
+        return new TrendingProductDto(product.getId(), product.getName(), product.getCategory(), product.getPrice(), score);
+    }
+}
@@ -0,0 +1,48 @@
+package rcm.rcmarket.entity.chat;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import rcm.rcmarket.entity.common.EntityDate;
+import rcm.rcmarket.entity.member.Member;
+
+import javax.persistence.*;
+
+// ChatPipeline이 메시지를 묶어서 한 트랜잭션으로 저장하므로 Order처럼 시퀀스 키를 써서 insert를 JDBC 배치로 보낸다
+// id가 곧 대화방 안의 순서이므로 이전 메시지 조회는 (conversation_id, message_id) 인덱스 범위를 거꾸로 읽는다
+// 메시지는 수정하지 않는다
+@Entity
+@Table(indexes = @Index(name = "idx_chat_message_conversation_id", columnList = "conversation_id, message_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessage extends EntityDate {
+
+    public static final int MAX_CONTENT_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_message_seq_generator")
+    @SequenceGenerator(name = "chat_message_seq_generator", sequenceName = "chat_message_seq", allocationSize = 50)
+    @Column(name = "message_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "conversation_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Conversation conversation;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "sender_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member sender;
+
+    @Column(nullable = false, length = MAX_CONTENT_LENGTH)
+    private String content;
+
+    public ChatMessage(Conversation conversation, Member sender, String content) {
+        this.conversation = conversation;
+        this.sender = sender;
+        this.content = content;
+    }
+}
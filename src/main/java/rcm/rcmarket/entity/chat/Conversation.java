@@ -0,0 +1,62 @@
+package rcm.rcmarket.entity.chat;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import rcm.rcmarket.entity.common.EntityDate;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.persistence.*;
+import java.util.List;
+
+// 상품 하나를 두고 구매자와 판매자가 나누는 1:1 대화방, 구매자는 상품마다 대화방을 하나만 가진다
+// 판매자는 상품에서 가져와 따로 저장해두므로 참여자 확인(ChatMessageWriter, ConversationGuard)에 상품을 읽지 않는다
+// 상품이나 참여자가 지워지면 대화방과 메시지도 FK on delete cascade로 함께 지워진다
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_conversation_product_id_buyer_id", columnNames = {"product_id", "buyer_id"}),
+        indexes = {
+                @Index(name = "idx_conversation_buyer_id", columnList = "buyer_id, conversation_id"),
+                @Index(name = "idx_conversation_seller_id", columnList = "seller_id, conversation_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Conversation extends EntityDate {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversation_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Product product;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "buyer_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member buyer;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "seller_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member seller;
+
+    public Conversation(Product product, Member buyer) {
+        this.product = product;
+        this.buyer = buyer;
+        this.seller = product.getSeller();
+    }
+
+    // 프록시의 id는 초기화 없이 읽을 수 있으므로 회원을 조회하지 않는다
+    public boolean isParticipant(Long memberId) {
+        return buyer.getId().equals(memberId) || seller.getId().equals(memberId);
+    }
+
+    public List<Long> getParticipantIds() {
+        return List.of(buyer.getId(), seller.getId());
+    }
+}
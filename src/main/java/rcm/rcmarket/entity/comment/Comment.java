@@ -0,0 +1,103 @@
+package rcm.rcmarket.entity.comment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import rcm.rcmarket.entity.common.EntityDate;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.persistence.*;
+
+// 상품 Q&A 댓글, 부모/자식을 연관관계로 두지 않고 materialized path로 트리를 나타낸다
+// - path: 루트부터 부모까지 조상 id를 고정 길이(SEGMENT_LENGTH)로 이어 붙인 값, 루트 댓글은 빈 문자열이다
+// - threadId: 루트 댓글의 id, 루트 댓글 자신은 null이다
+// 자식의 path는 부모의 path로 시작하므로 (threadId, path) 인덱스 범위 하나로 한 댓글의 하위 트리 전체를 읽고
+// path, id 순으로 읽으면 부모가 항상 자식보다 먼저 나와서 한 번 훑어 트리를 만들 수 있다(CommentTree)
+// path에 자기 id를 넣지 않으므로 IDENTITY 키를 받기 전에 값이 정해져 insert 한 번으로 저장된다
+// idx_comment_product_id_thread_id: 상품의 루트 댓글(threadId is null) 최신순 목록
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_product_id_thread_id", columnList = "product_id, threadId, comment_id"),
+        @Index(name = "idx_comment_thread_id_path", columnList = "threadId, path")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Comment extends EntityDate {
+
+    public static final int MAX_DEPTH = 20;
+    private static final int SEGMENT_LENGTH = 9; // 36진수 8자리 + '/'
+    private static final String PADDING = "00000000";
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "comment_id")
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    // 상품이 지워지면 댓글도 함께 지워지도록 FK에 on delete cascade를 건다
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Product product;
+
+    // 작성자가 탈퇴하면 댓글을 삭제 상태로 바꾸고 작성자를 비운다(CommentRepository.detachWriter), 답글이 달린 스레드 모양은 그대로 남는다
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member writer;
+
+    private Long parentId;
+
+    private Long threadId;
+
+    @Column(nullable = false, length = SEGMENT_LENGTH * MAX_DEPTH)
+    private String path;
+
+    // 삭제된 댓글은 행을 지우지 않고 내용과 작성자만 가린다(CommentDto), 답글들이 부모를 잃지 않는다
+    @Column(nullable = false)
+    private boolean deleted;
+
+    public Comment(String content, Product product, Member writer, Comment parent) {
+        this.content = content;
+        this.product = product;
+        this.writer = writer;
+        if(parent != null) {
+            this.parentId = parent.getId();
+            this.threadId = parent.getThreadRootId();
+            this.path = parent.getChildPath();
+        } else {
+            this.path = "";
+        }
+    }
+
+    // 루트 댓글의 깊이는 0이다
+    public int getDepth() {
+        return path.length() / SEGMENT_LENGTH;
+    }
+
+    public boolean isRoot() {
+        return threadId == null;
+    }
+
+    public Long getThreadRootId() {
+        return isRoot() ? id : threadId;
+    }
+
+    // 이 댓글의 자식들의 path, 하위 트리는 이 값으로 시작하는 path를 가진 댓글들이다
+    public String getChildPath() {
+        return path + segment(id);
+    }
+
+    public void delete() {
+        this.deleted = true;
+    }
+
+    // 문자열 순서가 id 순서와 같도록 36진수로 바꿔 앞을 0으로 채운다
+    private static String segment(Long id) {
+        String value = Long.toString(id, Character.MAX_RADIX);
+        return PADDING.substring(value.length()) + value + "/";
+    }
+}
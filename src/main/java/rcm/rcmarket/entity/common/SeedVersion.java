@@ -0,0 +1,25 @@
+package rcm.rcmarket.entity.common;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+// 초기 데이터 스냅샷이 적용된 버전을 기록한다
+// 엔티티로 두었기 때문에 ddl-auto로 스키마가 새로 만들어지면 이 기록도 함께 사라져 다시 적재된다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeedVersion {
+
+    @Id
+    @Column(length = 50)
+    private String version;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,35 @@
+package rcm.rcmarket.entity.favorite;
+
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.persistence.*;
+
+// 회원이 좋아요한 상품, MemberRole처럼 (member_id, product_id)가 그대로 기본 키다
+// 기본 키 인덱스가 member_id로 시작하므로 "이 회원이 이 상품들을 좋아요했는지"를 인덱스 범위 하나로 찾는다
+// 좋아요와 취소는 엔티티를 읽지 않고 FavoriteRepository의 insert/delete 한 문장으로 처리한다
+// 회원이나 상품이 삭제되면 FK의 on delete cascade로 함께 지워진다
+@Entity
+@Table(indexes = @Index(name = "idx_favorite_product_id", columnList = "product_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+@IdClass(FavoriteId.class)
+public class Favorite {
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member member;
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Product product;
+}
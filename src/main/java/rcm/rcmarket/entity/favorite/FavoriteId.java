@@ -0,0 +1,20 @@
+package rcm.rcmarket.entity.favorite;
+
+import lombok.*;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+@Embeddable
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class FavoriteId implements Serializable {
+
+    private Member member;
+    private Product product;
+
+}
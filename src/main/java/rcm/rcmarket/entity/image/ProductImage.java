@@ -0,0 +1,52 @@
+package rcm.rcmarket.entity.image;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import rcm.rcmarket.entity.common.EntityDate;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.persistence.*;
+
+// 상품 이미지의 메타데이터, 파일은 ImageStorage가 로컬 디렉토리에 둔다
+// 저장한 뒤 바뀌지 않으므로 다운로드마다 DB를 읽지 않도록 2차 캐시에 READ_ONLY로 둔다
+// 상품이 지워져 on delete cascade로 행이 사라져도 캐시에 남을 수 있지만, 파일도 함께 지워지므로 다운로드는 404가 된다
+@Entity
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(indexes = @Index(name = "idx_product_image_product_id", columnList = "product_id, product_image_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductImage extends EntityDate {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_image_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "product_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Product product;
+
+    // 저장소 안의 파일 이름({uuid}.{확장자})
+    @Column(nullable = false, length = 50)
+    private String storedName;
+
+    @Column(nullable = false, length = 20)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long size;
+
+    public ProductImage(Product product, String storedName, String contentType, Long size) {
+        this.product = product;
+        this.storedName = storedName;
+        this.contentType = contentType;
+        this.size = size;
+    }
+}
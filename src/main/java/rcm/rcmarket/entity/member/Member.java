@@ -4,6 +4,10 @@ import rcm.rcmarket.entity.common.EntityDate;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.util.List;
@@ -11,7 +15,11 @@ import java.util.Set;
 
 import static java.util.stream.Collectors.toSet;
 
+// 회원 정보는 자주 바뀌지 않으므로 READ_WRITE로 2차 캐시에 둔다
+// email은 natural id로 캐시되어 findByEmail도 캐시에서 id를 찾을 수 있다
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends EntityDate{
@@ -20,6 +28,7 @@ public class Member extends EntityDate{
     @Column(name = "member_id")
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, length = 30, unique = true)
     private String email;
 
@@ -31,9 +40,15 @@ public class Member extends EntityDate{
     @Column(nullable = false, unique = true, length = 20)
     private String nickname;
 
+    // 프로필 조회수는 ViewCounter가 모아서 views = views + ?로만 바꾼다, 엔티티로는 쓰지 않고 insert할 때는 DB 기본값 0을 쓴다
+    // 직접 insert하는 MemberDatasetLoader, MemberR2dbcRepository도 기본값을 그대로 쓴다
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long views = 0L;
+
     // Role은 직급이 아니라 가지고 있는 권한이기에 여러 개를 가질 수 있음
     // 따라서 member와 Role의 관계는 1:N 관계임
     @OneToMany(mappedBy = "member", cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<MemberRole> roles;
 
     public Member(String email, String password, String username, String nickname, List<Role> roles) {
@@ -3,10 +3,14 @@ package rcm.rcmarket.entity.member;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
+// Role은 초기화 이후 변경되지 않으므로 2차 캐시에 READ_ONLY로 둔다
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Role {
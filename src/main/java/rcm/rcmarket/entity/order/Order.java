@@ -0,0 +1,54 @@
+package rcm.rcmarket.entity.order;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rcm.rcmarket.entity.common.EntityDate;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+
+import javax.persistence.*;
+
+// order는 SQL 예약어이므로 테이블 이름을 orders로 둔다
+// OrderPipeline이 주문을 묶어서 한 트랜잭션으로 저장하므로 IDENTITY 대신 시퀀스를 쓴다
+// IDENTITY는 insert마다 키를 받아와야 해서 JDBC 배치가 꺼지지만, 시퀀스는 allocationSize만큼 미리 받아두고 insert를 한 번에 보낸다
+@Entity
+@Table(name = "orders", indexes = @Index(name = "idx_orders_buyer_id", columnList = "buyer_id, order_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Order extends EntityDate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq_generator")
+    @SequenceGenerator(name = "order_seq_generator", sequenceName = "order_seq", allocationSize = 50)
+    @Column(name = "order_id")
+    private Long id;
+
+    // 주문 내역은 구매자가 탈퇴하거나 상품이 지워져도 남긴다, 그때는 FK만 비우고 상품 이름은 productName에 남아 있다
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "buyer_id")
+    private Member buyer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id")
+    private Product product;
+
+    // 주문 시점의 상품 이름, 상품이 지워진 뒤에도 어떤 상품을 샀는지 보여줄 수 있다
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    // 주문 시점의 가격으로 계산해둔다, 이후 상품 가격이 바뀌어도 주문 금액은 그대로다
+    @Column(nullable = false)
+    private Long amount;
+
+    public Order(Member buyer, Product product, Integer quantity) {
+        this.buyer = buyer;
+        this.product = product;
+        this.productName = product.getName();
+        this.quantity = quantity;
+        this.amount = product.getPrice() * quantity;
+    }
+}
@@ -0,0 +1,5 @@
+package rcm.rcmarket.entity.product;
+
+public enum Category {
+    DIGITAL, FASHION, FURNITURE, BOOK, SPORTS, BEAUTY, FOOD, ETC
+}
@@ -0,0 +1,69 @@
+package rcm.rcmarket.entity.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import rcm.rcmarket.entity.common.EntityDate;
+import rcm.rcmarket.entity.member.Member;
+
+import javax.persistence.*;
+
+// 목록은 (createdAt, id) 키셋으로 최신순 페이지를 넘기므로 offset 없이 인덱스 범위만 읽는다
+// idx_product_created_at_id: 전체 최신순 목록
+// idx_product_category_created_at_id: 카테고리 필터 + 최신순 목록
+// idx_product_category_price: 카테고리 + 가격 범위 필터, 범위가 좁을 때 옵티마이저가 선택한다
+// columnList에는 필드 이름(논리 컬럼 이름)을 적으면 naming strategy가 물리 컬럼 이름으로 바꿔준다
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_product_created_at_id", columnList = "createdAt, product_id"),
+        @Index(name = "idx_product_category_created_at_id", columnList = "category, createdAt, product_id"),
+        @Index(name = "idx_product_category_price", columnList = "category, price")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Product extends EntityDate {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_id")
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Category category;
+
+    @Column(nullable = false)
+    private Long price;
+
+    // 재고는 StockLedger가 메모리에서 관리하고 확정된 차감분만 모아서 반영한다(ProductRepositoryCustom.decreaseStocks)
+    // 엔티티를 수정해 저장하더라도 그 값을 덮어쓰지 않도록 update 대상에서 뺀다
+    @Column(nullable = false, updatable = false)
+    private Integer stock;
+
+    // 조회수는 ViewCounter가 모아서 views = views + ?로만 바꾼다, 엔티티로는 쓰지 않고 insert할 때는 DB 기본값 0을 쓴다
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long views = 0L;
+
+    // 좋아요 수, FavoriteService가 좋아요 행이 실제로 바뀌었을 때만 같은 트랜잭션에서 likes = likes ± 1로 바꾼다
+    // 목록은 이 값을 그대로 읽으므로 favorite 테이블을 count하지 않는다
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long likes = 0L;
+
+    // 판매자가 탈퇴하면 상품도 함께 지워지도록 FK에 on delete cascade를 건다
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "seller_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Member seller;
+
+    public Product(String name, Category category, Long price, Integer stock, Member seller) {
+        this.name = name;
+        this.category = category;
+        this.price = price;
+        this.stock = stock;
+        this.seller = seller;
+    }
+}
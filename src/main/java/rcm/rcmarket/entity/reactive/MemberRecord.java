@@ -0,0 +1,53 @@
+package rcm.rcmarket.entity.reactive;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import rcm.rcmarket.dto.member.MemberDto;
+
+import java.time.LocalDateTime;
+
+// reactive 프로필에서 R2DBC로 member 테이블을 읽고 쓰기 위한 매핑
+// 스키마는 JPA의 Member 엔티티가 만든 것을 그대로 쓰며, 연관관계는 매핑하지 않는다
+@Table("member")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberRecord {
+
+    @Id
+    @Column("member_id")
+    private Long id;
+
+    private String email;
+
+    private String password;
+
+    private String username;
+
+    private String nickname;
+
+    // JPA 감사(auditing) 대신 직접 채운다
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("modified_at")
+    private LocalDateTime modifiedAt;
+
+    // ViewCounter가 반영한 조회수를 읽기만 한다, insert할 때는 빼서 DB 기본값 0을 쓴다
+    @ReadOnlyProperty
+    private Long views;
+
+    public static MemberRecord create(String email, String encodedPassword, String username, String nickname, LocalDateTime now) {
+        return new MemberRecord(null, email, encodedPassword, username, nickname, now, now, null);
+    }
+
+    public MemberDto toDto() {
+        return new MemberDto(id, email, username, nickname, views);
+    }
+}
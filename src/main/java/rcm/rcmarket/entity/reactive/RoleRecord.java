@@ -0,0 +1,22 @@
+package rcm.rcmarket.entity.reactive;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import rcm.rcmarket.entity.member.RoleType;
+
+@Table("role")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoleRecord {
+
+    @Id
+    @Column("role_id")
+    private Long id;
+
+    @Column("role_type")
+    private RoleType roleType; // 문자열로 저장된다(JPA의 EnumType.STRING과 같음)
+}
@@ -0,0 +1,5 @@
+package rcm.rcmarket.exception;
+
+public class CommentDepthExceededException extends RuntimeException {
+
+}
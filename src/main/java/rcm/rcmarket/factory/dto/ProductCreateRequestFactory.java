@@ -0,0 +1,14 @@
+package rcm.rcmarket.factory.dto;
+
+import rcm.rcmarket.dto.product.ProductCreateRequest;
+import rcm.rcmarket.entity.product.Category;
+
+public class ProductCreateRequestFactory {
+    public static ProductCreateRequest createProductCreateRequest() {
+        return new ProductCreateRequest("name", Category.DIGITAL, 10000L, 100);
+    }
+
+    public static ProductCreateRequest createProductCreateRequest(String name, Category category, Long price) {
+        return new ProductCreateRequest(name, category, price, 100);
+    }
+}
@@ -0,0 +1,20 @@
+package rcm.rcmarket.factory.entity;
+
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+
+public class ProductFactory {
+
+    public static Product createProduct(Member seller) {
+        return new Product("name", Category.DIGITAL, 10000L, 100, seller);
+    }
+
+    public static Product createProduct(Member seller, Category category, Long price) {
+        return new Product("name", category, price, 100, seller);
+    }
+
+    public static Product createProductWithStock(Member seller, Integer stock) {
+        return new Product("name", Category.DIGITAL, 10000L, stock, seller);
+    }
+}
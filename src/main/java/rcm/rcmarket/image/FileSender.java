@@ -0,0 +1,108 @@
+package rcm.rcmarket.image;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.exception.ImageNotFoundException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 파일을 응용 프로그램 버퍼로 읽지 않고 응답으로 보낸다
+// - 톰캣 커넥터가 sendfile을 지원하면 파일 경로와 범위만 요청 속성으로 넘기고, 톰캣이 응답을 마칠 때 커널의 sendfile로 보낸다
+// - 지원하지 않으면 FileChannel.transferTo로 응답 스트림에 옮긴다
+// Range 요청은 범위 하나만 206으로 응답하고, 여러 범위는 무시하고 전체를 200으로 응답한다(RFC 7233에서 허용)
+// ETag가 같으면 본문 없이 304로 응답한다
+@Component
+public class FileSender {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final String immutableCacheControl;
+
+    public FileSender(@Value("${image.cache-max-age-seconds:31536000}") long maxAgeSeconds) {
+        this.immutableCacheControl = "public, max-age=" + maxAgeSeconds + ", immutable";
+    }
+
+    public void send(ImageFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length;
+        try {
+            length = Files.size(file.getPath());
+        } catch (NoSuchFileException e) {
+            throw new ImageNotFoundException();
+        }
+
+        String etag = "\"" + file.getEtag() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, file.isImmutable() ? immutableCacheControl : "no-cache");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if(etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = singleRange(request.getHeader(HttpHeaders.RANGE));
+        if(range != null) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if(start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+        response.setContentType(file.getContentType());
+        response.setContentLengthLong(end - start + 1);
+        if("HEAD".equals(request.getMethod()) || length == 0) return;
+
+        if(Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1); // 톰캣은 끝을 포함하지 않는다
+            return;
+        }
+        transfer(file, start, end - start + 1, response);
+    }
+
+    private void transfer(ImageFile file, long position, long count, HttpServletResponse response) throws IOException {
+        try(FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while(count > 0) {
+                long transferred = channel.transferTo(position, count, out);
+                if(transferred <= 0) break;
+                position += transferred;
+                count -= transferred;
+            }
+        }
+        response.flushBuffer();
+    }
+
+    // 형식이 틀린 Range 헤더는 없는 것으로 본다
+    private HttpRange singleRange(String header) {
+        if(header == null) return null;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
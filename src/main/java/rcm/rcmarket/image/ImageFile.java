@@ -0,0 +1,17 @@
+package rcm.rcmarket.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+// 내려줄 파일과 응답 헤더에 쓸 값, 저장된 파일은 바뀌지 않으므로 파일 이름을 ETag로 쓴다
+// immutable이 false면 같은 주소의 내용이 나중에 바뀔 수 있으므로(아직 썸네일이 없어 원본을 대신 내려줄 때) 매번 재검증하게 한다
+@Getter
+@AllArgsConstructor
+public class ImageFile {
+    private final Path path;
+    private final String contentType;
+    private final String etag;
+    private final boolean immutable;
+}
@@ -0,0 +1,37 @@
+package rcm.rcmarket.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 업로드된 파일의 형식은 클라이언트가 보낸 Content-Type이 아니라 파일 앞부분의 시그니처로 판단한다
+// 썸네일을 만들 수 있도록 JDK ImageIO가 읽을 수 있는 형식만 받는다
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+    JPEG("image/jpeg", "jpg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("image/png", "png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    GIF("image/gif", "gif", new byte[]{'G', 'I', 'F', '8'});
+
+    static final int SIGNATURE_LENGTH = 8;
+
+    private final String contentType;
+    private final String extension;
+    private final byte[] signature;
+
+    public static Optional<ImageFormat> detect(byte[] header, int length) {
+        return Arrays.stream(values())
+                .filter(format -> format.matches(header, length))
+                .findFirst();
+    }
+
+    private boolean matches(byte[] header, int length) {
+        if(length < signature.length) return false;
+        for(int i = 0; i < signature.length; i++) {
+            if(header[i] != signature[i]) return false;
+        }
+        return true;
+    }
+}
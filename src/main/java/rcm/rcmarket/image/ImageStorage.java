@@ -0,0 +1,110 @@
+package rcm.rcmarket.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import rcm.rcmarket.exception.InvalidImageException;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+// 상품 이미지를 로컬 디렉토리(image.storage.root)에 {root}/{productId}/{uuid}.{확장자}로 저장한다
+// - store: 업로드 스트림을 FileChannel.transferFrom으로 임시 파일에 옮긴 뒤 형식을 확인하고 최종 이름으로 원자적으로 옮긴다
+//   transferFrom은 고정 크기 버퍼로 나눠 옮기므로 파일 크기와 관계없이 힙을 파일만큼 쓰지 않고, 입력이 파일 채널이면 커널 안에서 복사한다
+// - 파일은 저장한 뒤 바뀌지 않는다, 새로 올리면 새 이름이 생기므로 다운로드 응답을 오래 캐시할 수 있다
+// - 썸네일은 원본 옆에 {uuid}-thumb.jpg로 둔다(ThumbnailGenerator)
+@Component
+@Slf4j
+public class ImageStorage {
+
+    static final String THUMBNAIL_SUFFIX = "-thumb.jpg";
+    private static final long TRANSFER_CHUNK = 1L << 20;
+
+    private final Path root;
+
+    public ImageStorage(@Value("${image.storage.root:./storage/images}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(root);
+    }
+
+    // 형식을 알 수 없는 파일은 지우고 InvalidImageException(400)을 던진다
+    public StoredImage store(Long productId, InputStream in) throws IOException {
+        Path directory = Files.createDirectories(directory(productId));
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            long size;
+            ImageFormat format;
+            try(ReadableByteChannel source = Channels.newChannel(in);
+                FileChannel target = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                size = transfer(source, target);
+                format = detect(target);
+            }
+            String name = UUID.randomUUID() + "." + format.getExtension();
+            Files.move(temp, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+            return new StoredImage(name, format, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    public Path original(Long productId, String name) {
+        return directory(productId).resolve(name);
+    }
+
+    public Path thumbnail(Long productId, String name) {
+        return directory(productId).resolve(name.substring(0, name.lastIndexOf('.')) + THUMBNAIL_SUFFIX);
+    }
+
+    public void delete(Long productId, String name) {
+        try {
+            Files.deleteIfExists(original(productId, name));
+            Files.deleteIfExists(thumbnail(productId, name));
+        } catch (IOException e) {
+            log.warn("failed to delete image. productId = {}, name = {}, e = {}", productId, name, e.getMessage());
+        }
+    }
+
+    // 상품이 지워지면 그 상품의 디렉토리를 통째로 지운다
+    public void deleteAll(Long productId) {
+        try {
+            FileSystemUtils.deleteRecursively(directory(productId));
+        } catch (IOException e) {
+            log.warn("failed to delete images. productId = {}, e = {}", productId, e.getMessage());
+        }
+    }
+
+    private Path directory(Long productId) {
+        return root.resolve(String.valueOf(productId));
+    }
+
+    // 채널이 아닌 입력은 transferFrom이 0을 돌려줄 때가 끝이다
+    private long transfer(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        long transferred;
+        while((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0) position += transferred;
+        return position;
+    }
+
+    private ImageFormat detect(FileChannel file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ImageFormat.SIGNATURE_LENGTH);
+        int length = Math.max(0, file.read(header, 0));
+        return ImageFormat.detect(header.array(), length).orElseThrow(InvalidImageException::new);
+    }
+}
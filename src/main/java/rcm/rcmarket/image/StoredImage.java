@@ -0,0 +1,12 @@
+package rcm.rcmarket.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String name;
+    private final ImageFormat format;
+    private final long size;
+}
@@ -0,0 +1,127 @@
+package rcm.rcmarket.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드된 이미지의 썸네일을 요청 스레드가 아닌 정해진 수의 worker 스레드에서 만든다
+// - 큐가 가득 차면 받지 않고 rcmarket.image.thumbnail.rejected로 센다, 썸네일이 없는 이미지는 썸네일 대신 원본이 내려간다(ProductImageService.findThumbnail)
+// - 원본을 디코딩할 때 썸네일 크기의 두 배 정도로 줄여서(subsampling) 읽어 큰 이미지도 힙을 적게 쓴다
+// - 임시 파일에 쓴 뒤 원자적으로 옮기므로 다운로드가 쓰다 만 썸네일을 읽지 않는다
+@Component
+@Slf4j
+public class ThumbnailGenerator {
+
+    private final ImageStorage imageStorage;
+    private final int maxSize;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public ThumbnailGenerator(ImageStorage imageStorage, MeterRegistry meterRegistry,
+                              @Value("${image.thumbnail.threads:2}") int threads,
+                              @Value("${image.thumbnail.queue-capacity:256}") int queueCapacity,
+                              @Value("${image.thumbnail.max-size:320}") int maxSize) {
+        this.imageStorage = imageStorage;
+        this.maxSize = maxSize;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.rejected = Counter.builder("rcmarket.image.thumbnail.rejected")
+                .description("thumbnail jobs dropped because the queue was full")
+                .register(meterRegistry);
+        meterRegistry.gauge("rcmarket.image.thumbnail.queue.size", executor.getQueue(), Queue::size);
+        ImageIO.setUseCache(false); // 디코딩 중간 결과를 임시 파일에 쓰지 않는다
+    }
+
+    public void submit(Long productId, String name) {
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(imageStorage.original(productId, name), imageStorage.thumbnail(productId, name));
+                } catch (IOException | RuntimeException e) {
+                    log.warn("failed to generate thumbnail. productId = {}, name = {}, e = {}", productId, name, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("thumbnail queue is full. productId = {}, name = {}", productId, name);
+        }
+    }
+
+    // 실행 중이거나 대기 중인 작업은 마치고 멈춘다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    void generate(Path source, Path target) throws IOException {
+        BufferedImage image = read(source);
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // jpg는 투명도를 담지 못하므로 흰 바탕에 그린다
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Path temp = Files.createTempFile(target.getParent(), ".thumb-", ".tmp");
+        try {
+            if(!ImageIO.write(thumbnail, "jpg", temp.toFile())) throw new IOException("no jpeg writer");
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private BufferedImage read(Path source) throws IOException {
+        try(ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if(!readers.hasNext()) throw new IOException("unsupported image format");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (maxSize * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
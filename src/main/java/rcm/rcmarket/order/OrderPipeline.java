@@ -0,0 +1,149 @@
+package rcm.rcmarket.order;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.exception.OrderQueueFullException;
+import rcm.rcmarket.stock.StockLedger;
+import rcm.rcmarket.stock.StockReservation;
+import rcm.rcmarket.trending.TrendingMetric;
+import rcm.rcmarket.trending.TrendingTracker;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// 주문을 요청마다 커밋하지 않고 하나의 writer 스레드가 모아서 그룹 커밋한다
+// - submit: 정해진 크기의 큐(ring buffer)에 넣고 바로 future를 돌려준다, 큐가 차있으면 OrderQueueFullException(503)
+// - writer: 첫 주문이 오면 batch-size가 찰 때까지, 또는 max-latency-ms가 지날 때까지 더 모아서 한 트랜잭션으로 저장한다
+// - 커밋되면 재고 차감을 확정(StockLedger.commit)하고 인기 상품 집계(TrendingTracker)에 더한 뒤 배치의 future를 모두 완료한다
+// - 배치가 실패하면 주문을 하나씩 다시 커밋해서 실패한 주문만 재고를 돌려주고(StockLedger.cancel) 예외로 완료한다
+// 커밋 비용(트랜잭션 시작, 로그 쓰기, 커넥션 왕복)을 배치 크기만큼 나눠 내므로 동시 주문이 많을수록 처리량이 오른다
+// 대신 주문 하나의 응답은 최대 max-latency-ms만큼 늦어질 수 있다, batch-size를 1로 두면 요청마다 커밋하는 것과 같다
+@Component
+@Slf4j
+public class OrderPipeline {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final OrderWriter orderWriter;
+    private final StockLedger stockLedger;
+    private final TrendingTracker trendingTracker;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+    private final BlockingQueue<PendingOrder> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public OrderPipeline(OrderWriter orderWriter, StockLedger stockLedger, TrendingTracker trendingTracker,
+                         MeterRegistry meterRegistry,
+                         @Value("${order.pipeline.capacity:4096}") int capacity,
+                         @Value("${order.pipeline.batch-size:64}") int batchSize,
+                         @Value("${order.pipeline.max-latency-ms:2}") long maxLatencyMs) {
+        if(batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive");
+        this.orderWriter = orderWriter;
+        this.stockLedger = stockLedger;
+        this.trendingTracker = trendingTracker;
+        this.batchSize = batchSize;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMs);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSizeSummary = DistributionSummary.builder("rcmarket.order.batch.size")
+                .description("orders committed per transaction")
+                .register(meterRegistry);
+        meterRegistry.gauge("rcmarket.order.queue.size", queue, BlockingQueue::size);
+        this.writer = new Thread(this::run, "order-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    // 남은 주문을 모두 커밋한 뒤에 멈춘다
+    // writer를 interrupt하지 않는다, JDBC 작업 중에 interrupt되면 드라이버가 커넥션을 닫을 수 있다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    // 예약은 이미 장부에서 꺼낸(claim) 상태여야 한다, 큐에 넣지 못하면 예약한 재고를 돌려준다
+    public CompletableFuture<OrderDto> submit(Long memberId, StockReservation reservation) {
+        PendingOrder order = new PendingOrder(memberId, reservation);
+        if(!running || !queue.offer(order)) {
+            stockLedger.cancel(reservation);
+            throw new OrderQueueFullException();
+        }
+        return order.getFuture();
+    }
+
+    private void run() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while(running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if(batch.isEmpty()) continue;
+            batchSizeSummary.record(batch.size());
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    // 첫 주문은 POLL_TIMEOUT_MS까지 기다리고(stop 확인), 이후에는 첫 주문부터 maxLatencyNanos까지만 더 기다린다
+    private void collect(List<PendingOrder> batch) throws InterruptedException {
+        PendingOrder first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if(first == null) return;
+        batch.add(first);
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + maxLatencyNanos;
+        while(batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0) return;
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if(next == null) return;
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<OrderDto> orders;
+        try {
+            orders = orderWriter.write(batch);
+        } catch (RuntimeException e) {
+            if(batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            log.warn("order batch commit failed, retrying one by one. size = {}, e = {}", batch.size(), e.getMessage());
+            for(PendingOrder order : batch) commit(List.of(order));
+            return;
+        }
+        for(int i = 0; i < batch.size(); i++) complete(batch.get(i), orders.get(i));
+    }
+
+    private void complete(PendingOrder order, OrderDto dto) {
+        stockLedger.commit(order.getReservation());
+        trendingTracker.record(TrendingMetric.ORDERS, dto.getProductId(), dto.getQuantity());
+        order.getFuture().complete(dto);
+    }
+
+    private void fail(PendingOrder order, RuntimeException e) {
+        stockLedger.cancel(order.getReservation());
+        order.getFuture().completeExceptionally(e);
+    }
+}
@@ -0,0 +1,49 @@
+package rcm.rcmarket.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.entity.order.Order;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.order.OrderRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+// 배치 하나를 한 트랜잭션으로 저장한다, 상품은 in 절 한 번으로 읽고 주문은 JDBC 배치로 insert한다
+// 하나라도 실패하면 배치 전체가 롤백되고, 어느 주문이 문제인지는 OrderPipeline이 하나씩 다시 커밋해서 가려낸다
+@Component
+@RequiredArgsConstructor
+public class OrderWriter {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+
+    @Transactional
+    public List<OrderDto> write(List<PendingOrder> batch) {
+        Set<Long> productIds = batch.stream().map(order -> order.getReservation().getProductId()).collect(toSet());
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(toMap(Product::getId, Function.identity()));
+        List<Order> orders = batch.stream().map(order -> toEntity(order, products)).collect(toList());
+        orderRepository.saveAll(orders);
+        return orders.stream().map(OrderDto::toDto).collect(toList());
+    }
+
+    // 구매자는 프록시로만 참조한다, 탈퇴한 회원이면 커밋할 때 FK 위반으로 실패한다
+    private Order toEntity(PendingOrder order, Map<Long, Product> products) {
+        Product product = products.get(order.getReservation().getProductId());
+        if(product == null) throw new ProductNotFoundException();
+        return new Order(memberRepository.getById(order.getMemberId()), product, order.getReservation().getQuantity());
+    }
+}
@@ -0,0 +1,21 @@
+package rcm.rcmarket.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.stock.StockReservation;
+
+import java.util.concurrent.CompletableFuture;
+
+// 큐에서 커밋을 기다리는 주문, 주문이 속한 배치가 커밋되거나 실패하면 future가 완료된다
+@Getter
+@AllArgsConstructor
+public class PendingOrder {
+    private final Long memberId;
+    private final StockReservation reservation;
+    private final CompletableFuture<OrderDto> future;
+
+    public PendingOrder(Long memberId, StockReservation reservation) {
+        this(memberId, reservation, new CompletableFuture<>());
+    }
+}
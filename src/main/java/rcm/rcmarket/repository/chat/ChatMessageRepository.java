@@ -0,0 +1,8 @@
+package rcm.rcmarket.repository.chat;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import rcm.rcmarket.entity.chat.ChatMessage;
+
+// 이전 메시지 조회는 커서 유무에 따라 where 절이 달라지므로 ChatMessageRepositoryCustom에서 구현한다
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, ChatMessageRepositoryCustom {
+}
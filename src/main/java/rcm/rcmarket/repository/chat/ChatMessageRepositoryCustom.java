@@ -0,0 +1,10 @@
+package rcm.rcmarket.repository.chat;
+
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+
+import java.util.List;
+
+public interface ChatMessageRepositoryCustom {
+
+    List<ChatMessageDto> findPage(Long conversationId, Long cursor, int limit); // 1
+}
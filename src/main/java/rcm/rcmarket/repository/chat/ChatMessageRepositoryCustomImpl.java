@@ -0,0 +1,33 @@
+package rcm.rcmarket.repository.chat;
+
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+// 대화방의 메시지를 최신순으로 마지막으로 읽은 id 다음부터 limit만큼 읽는다
+// 조건과 정렬이 모두 idx_chat_message_conversation_id (conversation_id, message_id)에 맞으므로
+// 페이지가 얼마나 뒤에 있든 인덱스 범위를 limit만큼만 거꾸로 읽고 정렬하지 않는다
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChatMessageDto> findPage(Long conversationId, Long cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select new rcm.rcmarket.dto.chat.ChatMessageDto(m.id, m.conversation.id, m.sender.id, m.content, m.createdAt)" +
+                " from ChatMessage m where m.conversation.id = :conversationId");
+        if(cursor != null) jpql.append(" and m.id < :cursor");
+        jpql.append(" order by m.id desc");
+
+        TypedQuery<ChatMessageDto> query = em.createQuery(jpql.toString(), ChatMessageDto.class)
+                .setParameter("conversationId", conversationId);
+        if(cursor != null) query.setParameter("cursor", cursor);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,21 @@
+package rcm.rcmarket.repository.chat;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.dto.chat.ConversationDto;
+import rcm.rcmarket.entity.chat.Conversation;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+
+    // uk_conversation_product_id_buyer_id로 찾는다
+    Optional<Conversation> findByProductIdAndBuyerId(Long productId, Long buyerId); // 1
+
+    // 구매자로 참여한 대화방과 판매자로 참여한 대화방을 각각 인덱스로 읽어 합친다
+    @Query("select new rcm.rcmarket.dto.chat.ConversationDto(c.id, c.product.id, c.buyer.id, c.seller.id, c.createdAt)" +
+            " from Conversation c where c.buyer.id = :memberId or c.seller.id = :memberId order by c.id desc")
+    List<ConversationDto> findAllByMemberId(@Param("memberId") Long memberId); // 2
+}
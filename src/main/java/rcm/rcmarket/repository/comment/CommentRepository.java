@@ -0,0 +1,39 @@
+package rcm.rcmarket.repository.comment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.dto.comment.CommentDto;
+import rcm.rcmarket.entity.comment.Comment;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 루트 댓글 목록은 커서 유무에 따라 where 절이 달라지므로 CommentRepositoryCustom에서 구현한다
+// 트리를 읽는 쿼리는 엔티티 대신 CommentDto를 바로 조회하고 작성자는 left join으로 함께 읽는다
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    // CommentGuard가 작성자를 확인할 때 댓글과 회원을 로딩하지 않고 FK 값만 읽는다
+    @Query("select c.writer.id from Comment c where c.id = :id")
+    Optional<Long> findWriterIdById(@Param("id") Long id); // 1
+
+    @Query("select c from Comment c left join fetch c.writer where c.id = :id")
+    Optional<Comment> findWithWriterById(@Param("id") Long id); // 2
+
+    // 여러 루트 댓글의 답글 전체를 (threadId, path) 인덱스로 한 번에 읽는다, 부모가 자식보다 먼저 나온다
+    @Query("select new rcm.rcmarket.dto.comment.CommentDto(c.id, c.parentId, w.id, w.nickname, c.content, c.deleted, c.createdAt)" +
+            " from Comment c left join c.writer w where c.threadId in :threadIds order by c.path, c.id")
+    List<CommentDto> findAllByThreadIdIn(@Param("threadIds") Collection<Long> threadIds); // 3
+
+    // 한 댓글의 하위 트리, pathPrefix는 Comment.getChildPath()에 %를 붙인 값이다
+    @Query("select new rcm.rcmarket.dto.comment.CommentDto(c.id, c.parentId, w.id, w.nickname, c.content, c.deleted, c.createdAt)" +
+            " from Comment c left join c.writer w where c.threadId = :threadId and c.path like :pathPrefix order by c.path, c.id")
+    List<CommentDto> findSubtree(@Param("threadId") Long threadId, @Param("pathPrefix") String pathPrefix); // 4
+
+    // 탈퇴하는 회원의 댓글을 한 문장으로 삭제 상태로 바꾸고 작성자 FK를 비운다
+    @Modifying
+    @Query("update Comment c set c.deleted = true, c.writer = null where c.writer.id = :memberId")
+    int detachWriter(@Param("memberId") Long memberId); // 5
+}
@@ -0,0 +1,10 @@
+package rcm.rcmarket.repository.comment;
+
+import rcm.rcmarket.dto.comment.CommentDto;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+
+    List<CommentDto> findRootPage(Long productId, Long cursor, int limit); // 1
+}
@@ -0,0 +1,32 @@
+package rcm.rcmarket.repository.comment;
+
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.comment.CommentDto;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+// 상품의 루트 댓글을 최신순으로 마지막으로 읽은 id 다음부터 limit만큼 읽는다
+// id가 곧 작성 순서이므로 키셋은 id 하나로 충분하고, idx_comment_product_id_thread_id 범위만 읽는다
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentDto> findRootPage(Long productId, Long cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select new rcm.rcmarket.dto.comment.CommentDto(c.id, c.parentId, w.id, w.nickname, c.content, c.deleted, c.createdAt)" +
+                " from Comment c left join c.writer w where c.product.id = :productId and c.threadId is null");
+        if(cursor != null) jpql.append(" and c.id < :cursor");
+        jpql.append(" order by c.id desc");
+
+        TypedQuery<CommentDto> query = em.createQuery(jpql.toString(), CommentDto.class)
+                .setParameter("productId", productId);
+        if(cursor != null) query.setParameter("cursor", cursor);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,27 @@
+package rcm.rcmarket.repository.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// "update ... set views = views + ? where id = ?"의 파라미터를 나란히 놓인 두 배열에서 바로 채운다
+// 행마다 Object[]를 만들지 않는다
+@RequiredArgsConstructor
+public class ViewDeltaSetter implements BatchPreparedStatementSetter {
+
+    private final long[] ids;
+    private final long[] deltas;
+
+    @Override
+    public void setValues(PreparedStatement ps, int i) throws SQLException {
+        ps.setLong(1, deltas[i]);
+        ps.setLong(2, ids[i]);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return ids.length;
+    }
+}
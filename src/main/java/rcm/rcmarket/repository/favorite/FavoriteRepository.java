@@ -0,0 +1,25 @@
+package rcm.rcmarket.repository.favorite;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.entity.favorite.Favorite;
+import rcm.rcmarket.entity.favorite.FavoriteId;
+
+import java.util.Collection;
+import java.util.List;
+
+// 좋아요 추가는 insert할지 판단하는 조회 없이 한 문장으로 처리해야 하므로 FavoriteRepositoryCustom에서 구현한다
+public interface FavoriteRepository extends JpaRepository<Favorite, FavoriteId>, FavoriteRepositoryCustom {
+
+    // 파생 delete 쿼리는 엔티티를 읽어서 하나씩 지우므로 delete 한 문장으로 지운다, 지운 행 수(0 또는 1)를 돌려준다
+    @Modifying
+    @Query("delete from Favorite f where f.member.id = :memberId and f.product.id = :productId")
+    int deleteByMemberIdAndProductId(@Param("memberId") Long memberId, @Param("productId") Long productId); // 1
+
+    // 목록의 상품들 중 회원이 좋아요한 상품 id를 쿼리 한 번으로 찾는다
+    @Query("select f.product.id from Favorite f where f.member.id = :memberId and f.product.id in :productIds")
+    List<Long> findProductIdsByMemberIdAndProductIdIn(@Param("memberId") Long memberId,
+                                                      @Param("productIds") Collection<Long> productIds); // 2
+}
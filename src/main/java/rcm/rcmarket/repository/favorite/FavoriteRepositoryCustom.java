@@ -0,0 +1,8 @@
+package rcm.rcmarket.repository.favorite;
+
+public interface FavoriteRepositoryCustom {
+
+    boolean insertIfAbsent(Long memberId, Long productId); // 1
+
+    void decreaseLikesByMemberId(Long memberId); // 2
+}
@@ -0,0 +1,38 @@
+package rcm.rcmarket.repository.favorite;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+// 좋아요 추가는 "없으면 넣는다"를 merge 한 문장으로 처리한다, 이미 있으면 0행, 새로 넣었으면 1행이 바뀐다
+// 같은 회원이 같은 상품을 동시에 좋아요하면 둘 다 없다고 보고 넣으려다 한 쪽이 기본 키 위반으로 실패하는데, 이미 있는 것과 같으므로 false를 돌려준다
+// JPA를 거치면 기본 키 위반이 DataIntegrityViolationException으로만 바뀌어 FK 위반(없는 상품)과 구분되지 않으므로 JdbcTemplate으로 실행한다
+@RequiredArgsConstructor
+public class FavoriteRepositoryCustomImpl implements FavoriteRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(Long memberId, Long productId) {
+        try {
+            return jdbcTemplate.update(
+                    "merge into favorite f " +
+                    "using (select cast(? as bigint) as member_id, cast(? as bigint) as product_id) s " +
+                    "on (f.member_id = s.member_id and f.product_id = s.product_id) " +
+                    "when not matched then insert (member_id, product_id) values (s.member_id, s.product_id)",
+                    memberId, productId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 탈퇴하는 회원이 좋아요한 상품들의 좋아요 수를 한 문장으로 줄인다, 좋아요 행은 회원을 지울 때 FK cascade로 지워진다
+    @Override
+    @Transactional
+    public void decreaseLikesByMemberId(Long memberId) {
+        jdbcTemplate.update("update product set likes = likes - 1 " +
+                "where product_id in (select product_id from favorite where member_id = ?)", memberId);
+    }
+}
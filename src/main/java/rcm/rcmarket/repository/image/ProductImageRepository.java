@@ -0,0 +1,14 @@
+package rcm.rcmarket.repository.image;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.entity.image.ProductImage;
+
+import java.util.List;
+
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+
+    @Query("select i from ProductImage i where i.product.id = :productId order by i.id")
+    List<ProductImage> findAllByProductId(@Param("productId") Long productId); // 1
+}
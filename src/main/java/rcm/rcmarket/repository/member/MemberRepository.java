@@ -1,16 +1,32 @@
 package rcm.rcmarket.repository.member;
 
 import rcm.rcmarket.entity.member.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import rcm.rcmarket.search.SearchDocument;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+// findByEmail은 natural id 캐시를 사용하기 위해 MemberRepositoryCustom에서 구현한다
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
 
-    Optional<Member> findByEmail(String email); // 1
     Optional<Member> findByNickname(String nickname); // 2
 
     boolean existsByEmail(String email); // 3
     boolean existsByNickname(String nickname); // 4
 
+    // 인증할 때 권한까지 필요하므로 member_role과 role을 fetch join으로 한 번에 가져온다
+    @EntityGraph(attributePaths = {"roles", "roles.role"})
+    Optional<Member> findWithRolesById(Long id); // 5
+
+    // 검색 색인을 만들 때 전체 회원을 한 번에 올리지 않고 fetch size만큼씩 읽는다
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "1000"))
+    @Query("select new rcm.rcmarket.search.SearchDocument(m.id, m.nickname) from Member m")
+    Stream<SearchDocument> streamSearchDocuments(); // 6
 }
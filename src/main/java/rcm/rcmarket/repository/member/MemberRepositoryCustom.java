@@ -0,0 +1,12 @@
+package rcm.rcmarket.repository.member;
+
+import rcm.rcmarket.entity.member.Member;
+
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+
+    Optional<Member> findByEmail(String email); // 1
+
+    void increaseViews(long[] ids, long[] deltas); // 2
+}
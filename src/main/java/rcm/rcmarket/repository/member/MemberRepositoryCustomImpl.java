@@ -0,0 +1,46 @@
+package rcm.rcmarket.repository.member;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.config.transaction.AfterCommit;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.repository.common.ViewDeltaSetter;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+// 쿼리 메소드로 만든 findByEmail은 매번 select를 실행하므로
+// Hibernate의 natural id 조회를 사용해 email -> id 매핑과 엔티티를 2차 캐시에서 먼저 찾는다
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByEmail(String email) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Member.class)
+                .loadOptional(email);
+    }
+
+    // ViewCounter가 모아둔 회원별 조회수 증가량을 JDBC batch 한 번으로 반영한다
+    // JDBC로 바꾼 값은 2차 캐시가 모르므로 반영한 회원만 캐시에서 내린다, 다음 조회에서 새 조회수를 읽는다
+    // 커밋 전에 내리면 그 사이에 다른 요청이 커밋 전의 조회수를 읽어 다시 캐시에 올리므로 커밋된 뒤에 내린다
+    @Override
+    @Transactional
+    public void increaseViews(long[] ids, long[] deltas) {
+        jdbcTemplate.batchUpdate("update member set views = views + ? where member_id = ?", new ViewDeltaSetter(ids, deltas));
+        Cache cache = em.getEntityManagerFactory().getCache();
+        AfterCommit.run(() -> {
+            for(long id : ids) cache.evict(Member.class, id);
+        });
+    }
+}
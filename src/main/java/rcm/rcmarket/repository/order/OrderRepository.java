@@ -0,0 +1,24 @@
+package rcm.rcmarket.repository.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.entity.order.Order;
+
+// 주문은 구매자나 상품보다 오래 남으므로, 지우기 전에 한 문장으로 FK만 비운다
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Modifying
+    @Query("update Order o set o.buyer = null where o.buyer.id = :memberId")
+    int detachBuyer(@Param("memberId") Long memberId); // 1
+
+    @Modifying
+    @Query("update Order o set o.product = null where o.product.id = :productId")
+    int detachProduct(@Param("productId") Long productId); // 2
+
+    // 판매자가 탈퇴하면 상품이 on delete cascade로 지워지므로 그 상품들의 주문도 미리 떼어둔다
+    @Modifying
+    @Query("update Order o set o.product = null where o.product.id in (select p.id from Product p where p.seller.id = :sellerId)")
+    int detachProductsBySeller(@Param("sellerId") Long sellerId); // 3
+}
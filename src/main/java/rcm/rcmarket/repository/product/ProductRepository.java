@@ -0,0 +1,35 @@
+package rcm.rcmarket.repository.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.search.SearchDocument;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+// 키셋 목록 조회는 조건에 따라 where 절이 달라지므로 ProductRepositoryCustom에서 구현한다
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    // ProductGuard가 소유자를 확인할 때 상품과 회원을 로딩하지 않고 FK 값만 읽는다
+    @Query("select p.seller.id from Product p where p.id = :id")
+    Optional<Long> findSellerIdById(@Param("id") Long id); // 1
+
+    @Query("select p.id from Product p where p.seller.id = :sellerId")
+    List<Long> findIdsBySellerId(@Param("sellerId") Long sellerId); // 2
+
+    // 검색 색인을 만들 때 전체 상품을 한 번에 올리지 않고 fetch size만큼씩 읽는다
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "1000"))
+    @Query("select new rcm.rcmarket.search.SearchDocument(p.id, p.name) from Product p")
+    Stream<SearchDocument> streamSearchDocuments(); // 3
+
+    // StockLedger가 상품 카운터를 처음 만들 때 반영된 재고를 읽는다
+    @Query("select p.stock from Product p where p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id); // 4
+}
@@ -0,0 +1,19 @@
+package rcm.rcmarket.repository.product;
+
+import rcm.rcmarket.dto.product.ProductCursor;
+import rcm.rcmarket.dto.product.ProductDto;
+import rcm.rcmarket.dto.product.ProductSearchCondition;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+
+    List<ProductDto> findPage(ProductSearchCondition cond, ProductCursor cursor, int limit); // 1
+
+    void decreaseStocks(Map<Long, Integer> quantities); // 2
+
+    void increaseViews(long[] ids, long[] deltas); // 3
+
+    void changeLikes(Long id, long delta); // 4
+}
@@ -0,0 +1,79 @@
+package rcm.rcmarket.repository.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.product.ProductCursor;
+import rcm.rcmarket.dto.product.ProductDto;
+import rcm.rcmarket.dto.product.ProductSearchCondition;
+import rcm.rcmarket.repository.common.ViewDeltaSetter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// offset 페이징은 앞 페이지의 행을 모두 읽고 버리므로 뒤로 갈수록 느려진다
+// 마지막으로 읽은 (createdAt, id) 다음부터 limit만큼만 읽어 페이지 위치와 관계없이 비용이 일정하다
+// 값이 없는 조건은 ":x is null or ..." 대신 where 절에서 아예 빼서 옵티마이저가 인덱스를 고를 수 있게 한다
+// 엔티티 대신 ProductDto를 바로 조회해 영속성 컨텍스트에 스냅샷을 만들지 않고 seller 조인도 하지 않는다
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductDto> findPage(ProductSearchCondition cond, ProductCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder(
+                "select new rcm.rcmarket.dto.product.ProductDto(p.id, p.name, p.category, p.price, p.seller.id, p.createdAt, p.views, p.likes)" +
+                " from Product p where 1 = 1");
+        if(cond.getCategory() != null) jpql.append(" and p.category = :category");
+        if(cond.getMinPrice() != null) jpql.append(" and p.price >= :minPrice");
+        if(cond.getMaxPrice() != null) jpql.append(" and p.price <= :maxPrice");
+        // (createdAt, id) < (:createdAt, :id)를 풀어 쓴 조건이다
+        // 앞의 createdAt <= 조건이 인덱스 범위의 시작점을 정해준다
+        if(cursor != null) jpql.append(" and p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.id < :id)");
+        jpql.append(" order by p.createdAt desc, p.id desc");
+
+        TypedQuery<ProductDto> query = em.createQuery(jpql.toString(), ProductDto.class);
+        if(cond.getCategory() != null) query.setParameter("category", cond.getCategory());
+        if(cond.getMinPrice() != null) query.setParameter("minPrice", cond.getMinPrice());
+        if(cond.getMaxPrice() != null) query.setParameter("maxPrice", cond.getMaxPrice());
+        if(cursor != null) {
+            query.setParameter("createdAt", cursor.getCreatedAt());
+            query.setParameter("id", cursor.getId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    // StockLedger가 모아둔 상품별 차감량을 JDBC batch 한 번으로 반영한다
+    // stock = stock - ?로 쓰기 때문에 읽은 값을 덮어쓰지 않는다
+    @Override
+    @Transactional
+    public void decreaseStocks(Map<Long, Integer> quantities) {
+        jdbcTemplate.batchUpdate("update product set stock = stock - ? where product_id = ?",
+                quantities.entrySet().stream()
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .collect(Collectors.toList()));
+    }
+
+    // ViewCounter가 모아둔 상품별 조회수 증가량을 JDBC batch 한 번으로 반영한다
+    @Override
+    @Transactional
+    public void increaseViews(long[] ids, long[] deltas) {
+        jdbcTemplate.batchUpdate("update product set views = views + ? where product_id = ?", new ViewDeltaSetter(ids, deltas));
+    }
+
+    // 좋아요 수를 읽지 않고 likes = likes + ?로 바꾼다
+    @Override
+    @Transactional
+    public void changeLikes(Long id, long delta) {
+        jdbcTemplate.update("update product set likes = likes + ? where product_id = ?", delta, id);
+    }
+}
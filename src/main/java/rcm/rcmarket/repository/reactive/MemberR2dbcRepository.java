@@ -0,0 +1,27 @@
+package rcm.rcmarket.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.entity.reactive.MemberRecord;
+import reactor.core.publisher.Mono;
+
+// MemberRepository의 R2DBC 버전
+// R2DBC는 복합 키 엔티티를 지원하지 않으므로 member_role은 쿼리로 직접 다룬다
+public interface MemberR2dbcRepository extends R2dbcRepository<MemberRecord, Long> {
+
+    Mono<MemberRecord> findByEmail(String email);
+
+    Mono<Boolean> existsByEmail(String email);
+
+    Mono<Boolean> existsByNickname(String nickname);
+
+    @Modifying
+    @Query("insert into member_role(member_id, role_id) values (:memberId, :roleId)")
+    Mono<Integer> insertRole(@Param("memberId") Long memberId, @Param("roleId") Long roleId);
+
+    @Modifying
+    @Query("delete from member_role where member_id = :memberId")
+    Mono<Integer> deleteRoles(@Param("memberId") Long memberId);
+}
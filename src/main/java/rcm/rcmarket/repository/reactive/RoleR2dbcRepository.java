@@ -0,0 +1,18 @@
+package rcm.rcmarket.repository.reactive;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.entity.reactive.RoleRecord;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// RoleRepository의 R2DBC 버전
+public interface RoleR2dbcRepository extends R2dbcRepository<RoleRecord, Long> {
+
+    Mono<RoleRecord> findByRoleType(RoleType roleType);
+
+    @Query("select r.* from role r join member_role mr on mr.role_id = r.role_id where mr.member_id = :memberId")
+    Flux<RoleRecord> findAllByMemberId(@Param("memberId") Long memberId);
+}
@@ -0,0 +1,7 @@
+package rcm.rcmarket.repository.seed;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import rcm.rcmarket.entity.common.SeedVersion;
+
+public interface SeedVersionRepository extends JpaRepository<SeedVersion, String> {
+}
@@ -0,0 +1,65 @@
+package rcm.rcmarket.search;
+
+import java.util.Arrays;
+
+// 토큰 하나를 가진 문서 번호를 오름차순으로 담는 int 배열
+// id가 증가하며 발급되므로 새 문서는 대부분 끝에 붙고, 중간 삽입과 삭제는 arraycopy로 처리한다
+// 동기화는 InvertedIndex의 lock이 담당한다
+final class IntPostingList {
+
+    private int[] docs = new int[4];
+    private int size;
+
+    void add(int doc) {
+        if(size == 0 || docs[size - 1] < doc) {
+            grow();
+            docs[size++] = doc;
+            return;
+        }
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if(index >= 0) return;
+        int insertion = -index - 1;
+        grow();
+        System.arraycopy(docs, insertion, docs, insertion + 1, size - insertion);
+        docs[insertion] = doc;
+        size++;
+    }
+
+    void remove(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if(index < 0) return;
+        System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+        size--;
+    }
+
+    // from 이후에서 doc을 찾는다, 정렬된 후보를 차례로 찾을 때 탐색 범위를 줄이기 위해 쓴다
+    // 다음 후보는 대개 가까이 있으므로 간격을 두 배씩 늘려 범위를 잡은 뒤(galloping) 그 안에서 이진 탐색한다
+    // 반환값은 Arrays.binarySearch와 같다
+    int indexOf(int doc, int from) {
+        int low = from;
+        int high = from;
+        int step = 1;
+        while(high < size && docs[high] < doc) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        return Arrays.binarySearch(docs, low, Math.min(high + 1, size), doc);
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(docs, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        if(size == docs.length) docs = Arrays.copyOf(docs, docs.length + (docs.length >> 1));
+    }
+}
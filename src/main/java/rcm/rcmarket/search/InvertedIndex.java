@@ -0,0 +1,234 @@
+package rcm.rcmarket.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// n-gram 토큰 -> 문서 번호 posting list로 이루어진 메모리 역색인
+// 문서 번호는 엔티티 id를 int로 바꾼 값이고, 정규화한 원문과 길이는 id를 인덱스로 하는 배열에 둔다
+// 검색은 읽기 lock을 공유하고 문서 추가/삭제만 쓰기 lock을 잡는다
+//
+// 검색 순서
+// 1. 검색어 토큰들의 posting list를 짧은 것부터 교집합해 후보를 만든다
+// 2. 단어마다 문서 단어의 앞부분과 맞으면 2점, 중간에 포함되면 1점을 더하고, 같으면 짧은 원문, 그다음 최근 id 순이다
+//    앞부분 여부는 leading posting list로, 길이는 lengths 배열로 판단해 후보의 원문을 읽지 않는다
+// 3. 세 글자 이상 단어는 bigram이 떨어져서 나타난 후보가 섞일 수 있으므로
+//    상위 후보의 원문만 확인해 점수를 다시 매기고, 그래도 모자라면 모든 후보의 원문을 확인한다
+public class InvertedIndex {
+
+    private static final int LEADING = 2;
+    private static final int CONTAINS = 1;
+    private static final int MAX_WORDS = 16;
+    private static final int MAX_LENGTH = (1 << 24) - 1;
+
+    private final Map<Integer, IntPostingList> postings = new HashMap<>();
+    private final Map<Integer, IntPostingList> leadings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private String[] texts = new String[1024];
+    private int[] lengths = new int[1024];
+    private int size;
+
+    public void put(Long id, String text) {
+        int doc = Math.toIntExact(id);
+        String normalized = NGramTokenizer.normalize(text);
+        int[] grams = NGramTokenizer.documentGrams(normalized);
+        int[] leadingGrams = NGramTokenizer.leadingGrams(normalized);
+        lock.writeLock().lock();
+        try {
+            removeDocument(doc);
+            if(normalized.isEmpty()) return;
+            ensureCapacity(doc);
+            texts[doc] = normalized;
+            lengths[doc] = Math.min(normalized.length(), MAX_LENGTH);
+            size++;
+            for(int gram : grams) postings.computeIfAbsent(gram, key -> new IntPostingList()).add(doc);
+            for(int gram : leadingGrams) leadings.computeIfAbsent(gram, key -> new IntPostingList()).add(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(Math.toIntExact(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        String[] words = NGramTokenizer.words(NGramTokenizer.normalize(query));
+        if(words.length == 0 || limit <= 0) return List.of();
+        if(words.length > MAX_WORDS) words = Arrays.copyOf(words, MAX_WORDS);
+        int[] grams = NGramTokenizer.queryGrams(words);
+        boolean verify = Arrays.stream(words).anyMatch(word -> word.length() > 2);
+
+        lock.readLock().lock();
+        try {
+            IntPostingList[] lists = new IntPostingList[grams.length];
+            for(int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if(lists[i] == null) return List.of();
+            }
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+            int[] candidates = lists[0].toArray();
+            int count = candidates.length;
+            for(int i = 1; i < lists.length && count > 0; i++) count = retain(candidates, count, lists[i]);
+
+            TopKeys top = rankByPostings(candidates, count, words, verify ? limit * 2 : limit);
+            if(!verify) return top.ids(limit);
+
+            TopKeys verified = rankByTexts(top.docs(), top.size(), words, limit);
+            if(verified.size() < limit && top.size() < count) verified = rankByTexts(candidates, count, words, limit);
+            return verified.ids(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 후보는 오름차순이므로 단어별 leading posting list의 탐색 시작 위치를 계속 앞으로 당기면서 확인한다
+    private TopKeys rankByPostings(int[] candidates, int count, String[] words, int capacity) {
+        IntPostingList[] leadingLists = new IntPostingList[words.length];
+        int[] from = new int[words.length];
+        for(int j = 0; j < words.length; j++) leadingLists[j] = leadings.get(NGramTokenizer.leadingGram(words[j]));
+
+        TopKeys top = new TopKeys(capacity);
+        for(int i = 0; i < count; i++) {
+            int doc = candidates[i];
+            int score = 0;
+            for(int j = 0; j < words.length; j++) {
+                IntPostingList list = leadingLists[j];
+                if(list == null || from[j] >= list.size()) {
+                    score += CONTAINS;
+                    continue;
+                }
+                int index = list.indexOf(doc, from[j]);
+                score += index >= 0 ? LEADING : CONTAINS;
+                from[j] = index >= 0 ? index + 1 : -index - 1;
+            }
+            top.offer(score, lengths[doc], doc);
+        }
+        return top;
+    }
+
+    private TopKeys rankByTexts(int[] docs, int count, String[] words, int capacity) {
+        TopKeys top = new TopKeys(capacity);
+        for(int i = 0; i < count; i++) {
+            int score = score(texts[docs[i]], words);
+            if(score > 0) top.offer(score, lengths[docs[i]], docs[i]);
+        }
+        return top;
+    }
+
+    // 검색어의 모든 단어가 원문에 들어있지 않으면 0
+    private static int score(String text, String[] words) {
+        int total = 0;
+        for(String word : words) {
+            int best = 0;
+            for(int index = text.indexOf(word); index >= 0 && best < LEADING; index = text.indexOf(word, index + 1)) {
+                best = index == 0 || text.charAt(index - 1) == ' ' ? LEADING : CONTAINS;
+            }
+            if(best == 0) return 0;
+            total += best;
+        }
+        return total;
+    }
+
+    // 정렬된 후보 중 list에도 있는 문서만 앞으로 모은다
+    private static int retain(int[] candidates, int count, IntPostingList list) {
+        int kept = 0;
+        int from = 0;
+        for(int i = 0; i < count; i++) {
+            int index = list.indexOf(candidates[i], from);
+            if(index >= 0) {
+                candidates[kept++] = candidates[i];
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if(from >= list.size()) break;
+        }
+        return kept;
+    }
+
+    private void removeDocument(int doc) {
+        if(doc >= texts.length || texts[doc] == null) return;
+        removeGrams(postings, NGramTokenizer.documentGrams(texts[doc]), doc);
+        removeGrams(leadings, NGramTokenizer.leadingGrams(texts[doc]), doc);
+        texts[doc] = null;
+        lengths[doc] = 0;
+        size--;
+    }
+
+    private static void removeGrams(Map<Integer, IntPostingList> postings, int[] grams, int doc) {
+        for(int gram : grams) {
+            IntPostingList list = postings.get(gram);
+            if(list == null) continue;
+            list.remove(doc);
+            if(list.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    private void ensureCapacity(int doc) {
+        if(doc < texts.length) return;
+        int capacity = Math.max(doc + 1, texts.length * 2);
+        texts = Arrays.copyOf(texts, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+
+    // 상위 capacity개의 (점수, 길이, 문서 번호)를 long 하나로 묶어 오름차순 배열에 유지한다
+    // 키가 클수록 순위가 높다: 점수가 높고, 길이가 짧고, 문서 번호가 큰 순서
+    // capacity가 작으므로 삽입 정렬로 충분하고 후보마다 객체를 만들지 않는다
+    private static final class TopKeys {
+        private final long[] keys;
+        private int size;
+
+        private TopKeys(int capacity) {
+            this.keys = new long[capacity];
+        }
+
+        private void offer(int score, int length, int doc) {
+            long key = ((long) score << 55) | ((long) (MAX_LENGTH - length) << 31) | doc;
+            if(size == keys.length) {
+                if(key <= keys[0]) return;
+                System.arraycopy(keys, 1, keys, 0, --size);
+            }
+            int index = size;
+            while(index > 0 && keys[index - 1] > key) {
+                keys[index] = keys[index - 1];
+                index--;
+            }
+            keys[index] = key;
+            size++;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] docs() {
+            int[] docs = new int[size];
+            for(int i = 0; i < size; i++) docs[i] = (int) (keys[i] & Integer.MAX_VALUE);
+            return docs;
+        }
+
+        private List<Long> ids(int limit) {
+            int count = Math.min(size, limit);
+            Long[] ids = new Long[count];
+            for(int i = 0; i < count; i++) ids[i] = keys[size - 1 - i] & Integer.MAX_VALUE;
+            return List.of(ids);
+        }
+    }
+}
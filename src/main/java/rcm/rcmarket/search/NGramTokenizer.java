@@ -0,0 +1,104 @@
+package rcm.rcmarket.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 한글 음절과 알파벳을 같은 방식으로 다루는 n-gram 토크나이저
+// 문자 하나(unigram)와 인접한 두 문자(bigram)를 토큰으로 쓰고, 토큰은 문자 코드를 int 하나에 담는다
+//   unigram: c, bigram: (c1 << 16) | c2
+// 글자와 숫자 외의 문자는 단어 구분자로 보고 bigram이 단어 경계를 넘지 않게 한다
+// 알파벳은 소문자로 바꿔 대소문자를 구분하지 않는다
+public final class NGramTokenizer {
+
+    private static final int[] EMPTY = new int[0];
+
+    private NGramTokenizer() {
+    }
+
+    // 소문자로 바꾸고 구분자를 공백 하나로 합친 문자열, 역색인에 저장하고 검색어와 비교할 때 쓴다
+    public static String normalize(String text) {
+        if(text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean separator = false;
+        for(int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if(Character.isLetterOrDigit(c)) {
+                if(separator && sb.length() > 0) sb.append(' ');
+                sb.append(Character.toLowerCase(c));
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    public static String[] words(String normalized) {
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+    // 문서에 저장할 토큰, 한 글자 검색어도 찾을 수 있도록 unigram과 bigram을 모두 만든다
+    public static int[] documentGrams(String normalized) {
+        if(normalized.isEmpty()) return EMPTY;
+        int[] grams = new int[normalized.length() * 2];
+        int count = 0;
+        char prev = ' ';
+        for(int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if(c != ' ') {
+                grams[count++] = c;
+                if(prev != ' ') grams[count++] = bigram(prev, c);
+            }
+            prev = c;
+        }
+        return distinct(grams, count);
+    }
+
+    // 단어의 첫 unigram과 첫 bigram, 검색어 단어가 문서 단어의 앞부분과 맞는지 posting list만으로 판단할 때 쓴다
+    public static int[] leadingGrams(String normalized) {
+        if(normalized.isEmpty()) return EMPTY;
+        int[] grams = new int[normalized.length() * 2];
+        int count = 0;
+        for(int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if(c == ' ' || (i > 0 && normalized.charAt(i - 1) != ' ')) continue;
+            grams[count++] = c;
+            if(i + 1 < normalized.length() && normalized.charAt(i + 1) != ' ') grams[count++] = bigram(c, normalized.charAt(i + 1));
+        }
+        return distinct(grams, count);
+    }
+
+    // 검색어 단어의 첫 토큰, 한 글자 단어는 unigram이다
+    public static int leadingGram(String word) {
+        return word.length() == 1 ? word.charAt(0) : bigram(word.charAt(0), word.charAt(1));
+    }
+
+    // 검색어는 bigram만으로 충분하고 unigram의 긴 posting list를 읽지 않아도 된다, 한 글자 단어만 unigram을 쓴다
+    public static int[] queryGrams(String[] words) {
+        List<Integer> grams = new ArrayList<>();
+        for(String word : words) {
+            if(word.length() == 1) {
+                grams.add((int) word.charAt(0));
+                continue;
+            }
+            for(int i = 1; i < word.length(); i++) grams.add(bigram(word.charAt(i - 1), word.charAt(i)));
+        }
+        int[] result = new int[grams.size()];
+        for(int i = 0; i < result.length; i++) result[i] = grams.get(i);
+        return distinct(result, result.length);
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int[] distinct(int[] grams, int count) {
+        Arrays.sort(grams, 0, count);
+        int size = 0;
+        for(int i = 0; i < count; i++) {
+            if(size == 0 || grams[size - 1] != grams[i]) grams[size++] = grams[i];
+        }
+        return Arrays.copyOf(grams, size);
+    }
+}
@@ -0,0 +1,12 @@
+package rcm.rcmarket.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 색인을 만들 때 엔티티 대신 id와 색인할 문자열만 조회하는 projection
+@Getter
+@AllArgsConstructor
+public class SearchDocument {
+    private Long id;
+    private String text;
+}
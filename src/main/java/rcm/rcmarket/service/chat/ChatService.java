@@ -0,0 +1,72 @@
+package rcm.rcmarket.service.chat;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+import rcm.rcmarket.dto.chat.ChatMessageListDto;
+import rcm.rcmarket.dto.chat.ChatMessageReadCondition;
+import rcm.rcmarket.dto.chat.ConversationDto;
+import rcm.rcmarket.entity.chat.Conversation;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.ConversationNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.exception.SelfConversationException;
+import rcm.rcmarket.repository.chat.ChatMessageRepository;
+import rcm.rcmarket.repository.chat.ConversationRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.List;
+
+// 대화방과 이전 메시지 조회, 메시지 전송은 웹소켓으로 받아 ChatPipeline이 저장한다
+// 이전 메시지를 읽을 권한(대화방 참여자)은 ConversationGuard가 확인한다
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ChatService {
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final ConversationRepository conversationRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+
+    // 구매자가 같은 상품으로 다시 요청하면 이미 있는 대화방을 돌려준다
+    @Timed(value = "rcmarket.chat", extraTags = {"operation", "create"})
+    @Transactional
+    public ConversationDto create(Long productId, Long memberId) {
+        return conversationRepository.findByProductIdAndBuyerId(productId, memberId)
+                .map(ConversationDto::toDto)
+                .orElseGet(() -> ConversationDto.toDto(conversationRepository.save(newConversation(productId, memberId))));
+    }
+
+    @Timed(value = "rcmarket.chat", extraTags = {"operation", "list"})
+    public List<ConversationDto> readAll(Long memberId) {
+        return conversationRepository.findAllByMemberId(memberId);
+    }
+
+    // 다음 페이지가 있는지 알기 위해 size + 1개를 조회하고, 넘친 한 개는 응답에서 뺀다
+    @Timed(value = "rcmarket.chat", extraTags = {"operation", "messages"})
+    public ChatMessageListDto readMessages(Long conversationId, ChatMessageReadCondition cond) {
+        if(!conversationRepository.existsById(conversationId)) throw new ConversationNotFoundException();
+        int size = pageSize(cond.getSize());
+        List<ChatMessageDto> messages = chatMessageRepository.findPage(conversationId, cond.getCursor(), size + 1);
+        boolean hasNext = messages.size() > size;
+        if(hasNext) messages = messages.subList(0, size);
+        return new ChatMessageListDto(messages, hasNext, hasNext ? messages.get(size - 1).getId() : null);
+    }
+
+    private Conversation newConversation(Long productId, Long memberId) {
+        Product product = productRepository.findById(productId).orElseThrow(ProductNotFoundException::new);
+        if(product.getSeller().getId().equals(memberId)) throw new SelfConversationException();
+        return new Conversation(product, memberRepository.getById(memberId));
+    }
+
+    private int pageSize(Integer size) {
+        if(size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,89 @@
+package rcm.rcmarket.service.comment;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.comment.*;
+import rcm.rcmarket.entity.comment.Comment;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.CommentDepthExceededException;
+import rcm.rcmarket.exception.CommentNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.repository.comment.CommentRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 페이지 하나는 루트 댓글 쿼리 한 번과 그 답글 전체를 읽는 쿼리 한 번으로 만든다, 답글의 깊이나 수와 관계없이 쿼리 수가 같다
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class CommentService {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+
+    // 다음 페이지가 있는지 알기 위해 size + 1개를 조회하고, 넘친 한 개는 응답에서 뺀다
+    @Timed(value = "rcmarket.comment", extraTags = {"operation", "list"})
+    public CommentListDto readAll(Long productId, CommentReadCondition cond) {
+        int size = pageSize(cond.getSize());
+        List<CommentDto> roots = commentRepository.findRootPage(productId, cond.getCursor(), size + 1);
+        boolean hasNext = roots.size() > size;
+        if(hasNext) roots = roots.subList(0, size);
+        Long nextCursor = hasNext ? roots.get(size - 1).getId() : null;
+        if(roots.isEmpty()) return new CommentListDto(roots, false, null);
+
+        List<Long> threadIds = roots.stream().map(CommentDto::getId).collect(Collectors.toList());
+        return new CommentListDto(CommentTree.assemble(roots, commentRepository.findAllByThreadIdIn(threadIds)), hasNext, nextCursor);
+    }
+
+    // 한 댓글과 그 아래 답글 트리 전체
+    @Timed(value = "rcmarket.comment", extraTags = {"operation", "read"})
+    public CommentDto read(Long id) {
+        Comment comment = commentRepository.findWithWriterById(id).orElseThrow(CommentNotFoundException::new);
+        List<CommentDto> descendants = commentRepository.findSubtree(comment.getThreadRootId(), comment.getChildPath() + "%");
+        return CommentTree.assemble(List.of(CommentDto.toDto(comment)), descendants).get(0);
+    }
+
+    // 답글은 부모 댓글과 같은 상품에만 달 수 있고, 삭제된 댓글에는 달 수 없다
+    @Timed(value = "rcmarket.comment", extraTags = {"operation", "create"})
+    @Transactional
+    public CommentDto create(Long productId, CommentCreateRequest req, Long memberId) {
+        Comment parent = req.getParentId() == null ? null : findParent(productId, req.getParentId());
+        Product product = parent == null ? findProduct(productId) : parent.getProduct();
+        Comment comment = commentRepository.save(
+                new Comment(req.getContent(), product, memberRepository.getById(memberId), parent));
+        return CommentDto.toDto(comment);
+    }
+
+    // 행은 남겨두므로 답글이 달린 댓글을 지워도 스레드 모양이 바뀌지 않는다
+    @Timed(value = "rcmarket.comment", extraTags = {"operation", "delete"})
+    @Transactional
+    public void delete(Long id) {
+        commentRepository.findById(id).orElseThrow(CommentNotFoundException::new).delete();
+    }
+
+    private Comment findParent(Long productId, Long parentId) {
+        Comment parent = commentRepository.findById(parentId)
+                .filter(comment -> !comment.isDeleted() && comment.getProduct().getId().equals(productId))
+                .orElseThrow(CommentNotFoundException::new);
+        if(parent.getDepth() + 1 >= Comment.MAX_DEPTH) throw new CommentDepthExceededException();
+        return parent;
+    }
+
+    private Product findProduct(Long productId) {
+        if(!productRepository.existsById(productId)) throw new ProductNotFoundException();
+        return productRepository.getById(productId);
+    }
+
+    private int pageSize(Integer size) {
+        if(size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,27 @@
+package rcm.rcmarket.service.comment;
+
+import rcm.rcmarket.dto.comment.CommentDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// (path, id) 순으로 읽은 답글을 한 번 훑어 루트 댓글 아래에 붙인다, 댓글 수에 비례하는 시간이 든다
+// path 순서에서는 부모가 항상 자식보다 먼저 나오므로 자식을 만났을 때 부모는 이미 map에 있다
+// 같은 부모의 답글은 id 순, 즉 작성 순으로 붙는다
+final class CommentTree {
+
+    private CommentTree() {
+    }
+
+    static List<CommentDto> assemble(List<CommentDto> roots, List<CommentDto> descendants) {
+        Map<Long, CommentDto> nodes = new HashMap<>((roots.size() + descendants.size()) * 2);
+        for(CommentDto root : roots) nodes.put(root.getId(), root);
+        for(CommentDto comment : descendants) {
+            nodes.put(comment.getId(), comment);
+            CommentDto parent = nodes.get(comment.getParentId());
+            if(parent != null) parent.getChildren().add(comment);
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,56 @@
+package rcm.rcmarket.service.favorite;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.dto.favorite.FavoriteCheckDto;
+import rcm.rcmarket.dto.favorite.FavoriteDto;
+import rcm.rcmarket.dto.favorite.FavoriteUpdateRequest;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.repository.favorite.FavoriteRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.List;
+
+// 좋아요는 현재 상태를 읽고 판단하지 않고 insert(없으면) 또는 delete 한 문장으로 바꾼다
+// 실제로 행이 바뀌었을 때만 같은 트랜잭션에서 상품의 좋아요 수를 ±1 하므로, 같은 요청을 반복하거나 동시에 보내도 수가 어긋나지 않는다
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class FavoriteService {
+
+    private final FavoriteRepository favoriteRepository;
+    private final ProductRepository productRepository;
+
+    // 없는 상품이면 favorite의 product_id FK 위반으로 실패한다
+    @Timed(value = "rcmarket.favorite", extraTags = {"operation", "update"})
+    @Transactional
+    public FavoriteDto update(Long productId, FavoriteUpdateRequest req, Long memberId) {
+        if(req.getLiked()) like(productId, memberId);
+        else unlike(productId, memberId);
+        return new FavoriteDto(productId, req.getLiked());
+    }
+
+    // 목록 화면이 보여주는 상품 id들을 한 번에 물어본다
+    @Timed(value = "rcmarket.favorite", extraTags = {"operation", "check"})
+    public FavoriteCheckDto check(List<Long> productIds, Long memberId) {
+        if(productIds.isEmpty()) return new FavoriteCheckDto(List.of());
+        return new FavoriteCheckDto(favoriteRepository.findProductIdsByMemberIdAndProductIdIn(memberId, productIds));
+    }
+
+    private void like(Long productId, Long memberId) {
+        boolean inserted;
+        try {
+            inserted = favoriteRepository.insertIfAbsent(memberId, productId);
+        } catch (DataIntegrityViolationException e) {
+            throw new ProductNotFoundException();
+        }
+        if(inserted) productRepository.changeLikes(productId, 1);
+    }
+
+    private void unlike(Long productId, Long memberId) {
+        if(favoriteRepository.deleteByMemberIdAndProductId(memberId, productId) > 0) productRepository.changeLikes(productId, -1);
+    }
+}
@@ -0,0 +1,104 @@
+package rcm.rcmarket.service.image;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import rcm.rcmarket.config.transaction.AfterCommit;
+import rcm.rcmarket.dto.image.ProductImageDto;
+import rcm.rcmarket.entity.image.ProductImage;
+import rcm.rcmarket.exception.ImageNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.image.ImageFile;
+import rcm.rcmarket.image.ImageFormat;
+import rcm.rcmarket.image.ImageStorage;
+import rcm.rcmarket.image.StoredImage;
+import rcm.rcmarket.image.ThumbnailGenerator;
+import rcm.rcmarket.repository.image.ProductImageRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 파일은 트랜잭션 밖의 상태이므로 커밋 결과에 맞춰 정리한다
+// - 업로드: 파일을 먼저 저장하고, 행을 저장하지 못하면 파일을 지운다, 썸네일은 커밋된 뒤에 만든다
+// - 삭제: 행을 지우고 커밋된 뒤에 파일을 지운다
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ProductImageService {
+
+    private final ProductImageRepository productImageRepository;
+    private final ProductRepository productRepository;
+    private final ImageStorage imageStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    @Timed(value = "rcmarket.image", extraTags = {"operation", "upload"})
+    @Transactional
+    public ProductImageDto upload(Long productId, MultipartFile file) {
+        if(!productRepository.existsById(productId)) throw new ProductNotFoundException();
+        StoredImage stored = store(productId, file);
+        ProductImage image;
+        try {
+            image = productImageRepository.save(new ProductImage(productRepository.getById(productId),
+                    stored.getName(), stored.getFormat().getContentType(), stored.getSize()));
+        } catch (RuntimeException e) {
+            imageStorage.delete(productId, stored.getName());
+            throw e;
+        }
+        AfterCommit.run(() -> thumbnailGenerator.submit(productId, stored.getName()));
+        return ProductImageDto.toDto(image);
+    }
+
+    public List<ProductImageDto> readAll(Long productId) {
+        return productImageRepository.findAllByProductId(productId).stream()
+                .map(ProductImageDto::toDto)
+                .collect(Collectors.toList());
+    }
+
+    // 경로의 상품과 이미지의 상품이 다르면 없는 이미지로 본다, 소유자 확인은 경로의 상품으로 했기 때문이다(ProductGuard)
+    @Timed(value = "rcmarket.image", extraTags = {"operation", "delete"})
+    @Transactional
+    public void delete(Long productId, Long imageId) {
+        ProductImage image = productImageRepository.findById(imageId)
+                .filter(found -> found.getProduct().getId().equals(productId))
+                .orElseThrow(ImageNotFoundException::new);
+        productImageRepository.delete(image);
+        AfterCommit.run(() -> imageStorage.delete(productId, image.getStoredName()));
+    }
+
+    public ImageFile findOriginal(Long imageId) {
+        ProductImage image = findImage(imageId);
+        return new ImageFile(imageStorage.original(image.getProduct().getId(), image.getStoredName()),
+                image.getContentType(), image.getStoredName(), true);
+    }
+
+    // 썸네일이 아직 없으면(생성 중이거나 큐가 가득 차 버려졌으면) 원본을 재검증이 필요한 응답으로 대신 내려준다
+    public ImageFile findThumbnail(Long imageId) {
+        ProductImage image = findImage(imageId);
+        Path thumbnail = imageStorage.thumbnail(image.getProduct().getId(), image.getStoredName());
+        if(!Files.exists(thumbnail)) {
+            return new ImageFile(imageStorage.original(image.getProduct().getId(), image.getStoredName()),
+                    image.getContentType(), image.getStoredName(), false);
+        }
+        return new ImageFile(thumbnail, ImageFormat.JPEG.getContentType(), thumbnail.getFileName().toString(), true);
+    }
+
+    private ProductImage findImage(Long imageId) {
+        return productImageRepository.findById(imageId).orElseThrow(ImageNotFoundException::new);
+    }
+
+    private StoredImage store(Long productId, MultipartFile file) {
+        try(InputStream in = file.getInputStream()) {
+            return imageStorage.store(productId, in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
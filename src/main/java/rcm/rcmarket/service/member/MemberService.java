@@ -1,33 +1,77 @@
 package rcm.rcmarket.service.member;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
+import rcm.rcmarket.config.transaction.AfterCommit;
 import rcm.rcmarket.dto.member.MemberDto;
 import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.repository.comment.CommentRepository;
+import rcm.rcmarket.repository.favorite.FavoriteRepository;
 import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.order.OrderRepository;
+import rcm.rcmarket.service.search.SearchService;
+import rcm.rcmarket.view.ViewCounter;
+import rcm.rcmarket.view.ViewTarget;
 
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final MemberNegativeCache memberNegativeCache;
+    private final SingleFlight<Long, MemberDto> memberReadFlight;
+    private final SearchService searchService;
+    private final ViewCounter viewCounter;
+    private final FavoriteRepository favoriteRepository;
+    private final CommentRepository commentRepository;
+    private final OrderRepository orderRepository;
 
+    // 최근에 없다고 확인된 id는 DB를 조회하지 않고 바로 MemberNotFoundException을 던진다
+    // 같은 id로 동시에 들어온 조회는 memberReadFlight로 합쳐져 findById를 한 번만 실행한다
+    // 호출마다 트랜잭션을 열지 않도록 SUPPORTS로 두고, 실제 조회는 repository의 트랜잭션에서 수행된다
+    // 합쳐진 조회는 같은 MemberDto를 공유하므로 조회수를 더한 결과는 새로 만들어 돌려준다
+    @Timed(value = "rcmarket.member", extraTags = {"operation", "read"})
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public MemberDto read(Long id) {
-        return MemberDto.toDto(memberRepository.findById(id).orElseThrow(MemberNotFoundException::new));
+        if(memberNegativeCache.contains(id)) throw new MemberNotFoundException();
+        MemberDto member = memberReadFlight.execute(id,
+                () -> MemberDto.toDto(memberRepository.findById(id).orElseThrow(() -> memberNotFound(id))));
+        viewCounter.record(ViewTarget.MEMBER, id);
+        return new MemberDto(member.getId(), member.getEmail(), member.getUsername(), member.getNickname(),
+                member.getViews() + viewCounter.pending(ViewTarget.MEMBER, id));
     }
 
     // 찾고자 하는게 있으면 음수이기에 if문 실행 안함
     // 찾고자 하는게 없으면 양수이기에 if문 실행 -> MemberNotFoundException 실행
     // 찾고자 하는게 있으면 delete 실행
+    // 좋아요 행은 FK cascade로 지워지므로 그 전에 좋아요한 상품들의 좋아요 수를 줄여둔다
+    // 댓글은 지우지 않고 삭제 상태로 바꿔 작성자만 비운다, 달린 답글은 그대로 남는다
+    // 주문도 남긴다, 회원이 산 주문의 구매자와 회원이 판 상품의 주문 FK를 비운 뒤 지운다
+    @Timed(value = "rcmarket.member", extraTags = {"operation", "delete"})
     @Transactional
     public void delete(Long id){
         if(notExistsMember(id)) throw new MemberNotFoundException();
+        searchService.removeMember(id);
+        favoriteRepository.decreaseLikesByMemberId(id);
+        commentRepository.detachWriter(id);
+        orderRepository.detachBuyer(id);
+        orderRepository.detachProductsBySeller(id);
         memberRepository.deleteById(id);
+        AfterCommit.run(() -> memberNegativeCache.put(id)); // 롤백되면 남아 있는 회원이 TTL 동안 404가 되므로 커밋된 뒤에 기록한다
     }
 
     // 찾고자 하는 아이디가 있으면 음수를 없으면 양수를 return
     private boolean notExistsMember(Long id){
         return !memberRepository.existsById(id);
     }
+
+    private MemberNotFoundException memberNotFound(Long id) {
+        memberNegativeCache.put(id);
+        return new MemberNotFoundException();
+    }
 }
@@ -0,0 +1,30 @@
+package rcm.rcmarket.service.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import rcm.rcmarket.dto.order.OrderCreateRequest;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.exception.ReservationNotFoundException;
+import rcm.rcmarket.order.OrderPipeline;
+import rcm.rcmarket.stock.StockLedger;
+import rcm.rcmarket.stock.StockReservation;
+
+import java.util.concurrent.CompletableFuture;
+
+// 저장은 OrderPipeline의 writer 스레드가 배치로 커밋하므로 여기서는 트랜잭션을 열지 않는다
+// 다른 회원의 예약은 없는 예약과 똑같이 응답해서 예약 id가 존재하는지 드러내지 않는다
+@RequiredArgsConstructor
+@Service
+public class OrderService {
+
+    private final StockLedger stockLedger;
+    private final OrderPipeline orderPipeline;
+
+    public CompletableFuture<OrderDto> create(OrderCreateRequest req, Long memberId) {
+        stockLedger.findReservation(req.getReservationId())
+                .filter(reservation -> reservation.getMemberId().equals(memberId))
+                .orElseThrow(ReservationNotFoundException::new);
+        StockReservation reservation = stockLedger.claim(req.getReservationId());
+        return orderPipeline.submit(memberId, reservation);
+    }
+}
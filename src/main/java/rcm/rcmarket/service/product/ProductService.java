@@ -0,0 +1,94 @@
+package rcm.rcmarket.service.product;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import rcm.rcmarket.config.transaction.AfterCommit;
+import rcm.rcmarket.dto.product.*;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.image.ImageStorage;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.order.OrderRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+import rcm.rcmarket.service.search.SearchService;
+import rcm.rcmarket.stock.StockLedger;
+import rcm.rcmarket.trending.TrendingMetric;
+import rcm.rcmarket.trending.TrendingTracker;
+import rcm.rcmarket.view.ViewCounter;
+import rcm.rcmarket.view.ViewTarget;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ProductService {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final SearchService searchService;
+    private final StockLedger stockLedger;
+    private final ViewCounter viewCounter;
+    private final TrendingTracker trendingTracker;
+    private final ImageStorage imageStorage;
+    private final OrderRepository orderRepository;
+
+    // 상세 조회만 조회수로 센다, 응답의 조회수에는 이번 조회를 포함해 아직 반영되지 않은 값까지 더한다
+    @Timed(value = "rcmarket.product", extraTags = {"operation", "read"})
+    public ProductDto read(Long id) {
+        ProductDto product = ProductDto.toDto(productRepository.findById(id).orElseThrow(ProductNotFoundException::new));
+        viewCounter.record(ViewTarget.PRODUCT, id);
+        trendingTracker.record(TrendingMetric.VIEWS, id, 1);
+        return withPendingViews(product);
+    }
+
+    // 다음 페이지가 있는지 알기 위해 size + 1개를 조회하고, 넘친 한 개는 응답에서 뺀다
+    @Timed(value = "rcmarket.product", extraTags = {"operation", "list"})
+    public ProductListDto readAll(ProductSearchCondition cond) {
+        int size = pageSize(cond.getSize());
+        ProductCursor cursor = StringUtils.hasText(cond.getCursor()) ? ProductCursor.decode(cond.getCursor()) : null;
+        List<ProductDto> products = productRepository.findPage(cond, cursor, size + 1);
+        boolean hasNext = products.size() > size;
+        if(hasNext) products = products.subList(0, size);
+        String nextCursor = hasNext ? ProductCursor.of(products.get(size - 1)).encode() : null;
+        products.forEach(this::withPendingViews);
+        return new ProductListDto(products, hasNext, nextCursor);
+    }
+
+    @Timed(value = "rcmarket.product", extraTags = {"operation", "create"})
+    @Transactional
+    public ProductDto create(ProductCreateRequest req, Long sellerId) {
+        Member seller = memberRepository.findById(sellerId).orElseThrow(MemberNotFoundException::new);
+        Product product = productRepository.save(ProductCreateRequest.toEntity(req, seller));
+        searchService.indexProduct(product.getId(), product.getName());
+        return ProductDto.toDto(product);
+    }
+
+    @Timed(value = "rcmarket.product", extraTags = {"operation", "delete"})
+    @Transactional
+    public void delete(Long id) {
+        if(!productRepository.existsById(id)) throw new ProductNotFoundException();
+        orderRepository.detachProduct(id); // 주문 내역은 남기고 상품 FK만 비운다
+        productRepository.deleteById(id);
+        searchService.removeProduct(id);
+        stockLedger.evict(id);
+        AfterCommit.run(() -> imageStorage.deleteAll(id)); // 이미지 행은 on delete cascade로 지워지고, 파일은 커밋된 뒤에 지운다
+    }
+
+    private ProductDto withPendingViews(ProductDto product) {
+        product.setViews(product.getViews() + viewCounter.pending(ViewTarget.PRODUCT, product.getId()));
+        return product;
+    }
+
+    private int pageSize(Integer size) {
+        if(size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,64 @@
+package rcm.rcmarket.service.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
+import rcm.rcmarket.dto.member.MemberDto;
+import rcm.rcmarket.entity.reactive.MemberRecord;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.repository.reactive.MemberR2dbcRepository;
+import reactor.core.publisher.Mono;
+
+// MemberService의 논블로킹 버전
+// 조회 경로의 negative cache와 single-flight는 MemberService와 같은 빈을 쓴다
+// 조회수 집계(ViewCounter)는 서블릿 스택에만 있어, 여기서 읽은 조회수는 아직 반영되지 않은 값을 더하지 않는다
+@Service
+@Profile("reactive")
+public class ReactiveMemberService {
+
+    private final MemberR2dbcRepository memberRepository;
+    private final MemberNegativeCache memberNegativeCache;
+    private final SingleFlight<Long, MemberDto> memberReadFlight;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveMemberService(MemberR2dbcRepository memberRepository,
+                                 MemberNegativeCache memberNegativeCache,
+                                 SingleFlight<Long, MemberDto> memberReadFlight,
+                                 ConnectionFactory connectionFactory) {
+        this.memberRepository = memberRepository;
+        this.memberNegativeCache = memberNegativeCache;
+        this.memberReadFlight = memberReadFlight;
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    // 최근에 없다고 확인된 id는 DB를 조회하지 않고, 같은 id로 동시에 들어온 조회는 findById 한 번으로 합친다
+    // 합쳐진 조회의 future는 구독 시점에 만들어지므로 구독하지 않은 Mono는 DB에 접근하지 않는다
+    public Mono<MemberDto> read(Long id) {
+        return Mono.defer(() -> {
+            if(memberNegativeCache.contains(id)) return Mono.error(new MemberNotFoundException());
+            return Mono.fromFuture(memberReadFlight.executeAsync(id, () -> memberRepository.findById(id)
+                    .map(MemberRecord::toDto)
+                    .switchIfEmpty(Mono.error(() -> memberNotFound(id)))
+                    .toFuture()));
+        });
+    }
+
+    // JPA에서는 orphanRemoval로 지워지던 회원 권한을 먼저 지운다
+    public Mono<Void> delete(Long id) {
+        return memberRepository.existsById(id)
+                .flatMap(exists -> exists ? Mono.empty() : Mono.<Void>error(new MemberNotFoundException()))
+                .then(memberRepository.deleteRoles(id))
+                .then(memberRepository.deleteById(id))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(ignored -> memberNegativeCache.put(id));
+    }
+
+    private MemberNotFoundException memberNotFound(Long id) {
+        memberNegativeCache.put(id);
+        return new MemberNotFoundException();
+    }
+}
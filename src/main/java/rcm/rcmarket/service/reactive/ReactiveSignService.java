@@ -0,0 +1,130 @@
+package rcm.rcmarket.service.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.config.token.TokenHelper;
+import rcm.rcmarket.dto.sign.RefreshTokenResponse;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.dto.sign.SignUpRequest;
+import rcm.rcmarket.entity.member.RoleType;
+import rcm.rcmarket.entity.reactive.MemberRecord;
+import rcm.rcmarket.entity.reactive.RoleRecord;
+import rcm.rcmarket.exception.*;
+import rcm.rcmarket.repository.reactive.MemberR2dbcRepository;
+import rcm.rcmarket.repository.reactive.RoleR2dbcRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+// SignService의 논블로킹 버전, 예외와 응답은 SignService와 같다
+// bcrypt 해싱/비교는 CPU를 오래 점유하므로 이벤트 루프가 아닌 bcryptScheduler에서 실행한다
+@Service
+@Profile("reactive")
+public class ReactiveSignService {
+
+    private final MemberR2dbcRepository memberRepository;
+    private final RoleR2dbcRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenHelper accessTokenHelper;
+    private final TokenHelper refreshTokenHelper;
+    private final Scheduler bcryptScheduler;
+    private final MemberNegativeCache memberNegativeCache;
+    private final TransactionalOperator transactionalOperator;
+    private volatile String dummyPassword;
+
+    public ReactiveSignService(MemberR2dbcRepository memberRepository,
+                               RoleR2dbcRepository roleRepository,
+                               PasswordEncoder passwordEncoder,
+                               TokenHelper accessTokenHelper,
+                               TokenHelper refreshTokenHelper,
+                               Scheduler bcryptScheduler,
+                               MemberNegativeCache memberNegativeCache,
+                               ConnectionFactory connectionFactory) {
+        this.memberRepository = memberRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.accessTokenHelper = accessTokenHelper;
+        this.refreshTokenHelper = refreshTokenHelper;
+        this.bcryptScheduler = bcryptScheduler;
+        this.memberNegativeCache = memberNegativeCache;
+        // 빈으로 등록하지 않은 트랜잭션 매니저라 JPA 쪽 @Transactional에는 영향이 없다
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    // 회원과 회원 권한은 한 트랜잭션에서 저장한다
+    public Mono<Void> signUp(SignUpRequest req) {
+        return validateSignUpInfo(req)
+                .then(Mono.zip(normalRole(), encode(req.getPassword())))
+                .flatMap(roleAndPassword -> save(req, roleAndPassword.getT1(), roleAndPassword.getT2()));
+    }
+
+    public Mono<SignInResponse> signIn(SignInRequest req) {
+        return memberRepository.findByEmail(req.getEmail())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(member -> validatePassword(req, member).then(Mono.justOrEmpty(member)))
+                .map(member -> {
+                    String subject = String.valueOf(member.getId());
+                    return new SignInResponse(accessTokenHelper.createToken(subject), refreshTokenHelper.createToken(subject));
+                });
+    }
+
+    public Mono<RefreshTokenResponse> refreshToken(String rToken) {
+        return Mono.fromCallable(() -> {
+            if(!refreshTokenHelper.validate(rToken)) throw new AuthenticationEntryPointException();
+            return new RefreshTokenResponse(accessTokenHelper.createToken(refreshTokenHelper.extractSubject(rToken)));
+        });
+    }
+
+    private Mono<Void> validateSignUpInfo(SignUpRequest req) {
+        return memberRepository.existsByEmail(req.getEmail())
+                .flatMap(exists -> exists ? Mono.<Void>error(new MemberEmailAlreadyExistsException(req.getEmail())) : Mono.empty())
+                .then(memberRepository.existsByNickname(req.getNickname()))
+                .flatMap(exists -> exists ? Mono.<Void>error(new MemberNicknameAlreadyExistsException(req.getNickname())) : Mono.empty());
+    }
+
+    private Mono<RoleRecord> normalRole() {
+        return roleRepository.findByRoleType(RoleType.ROLE_NORMAL).switchIfEmpty(Mono.error(RoleNotFoundException::new));
+    }
+
+    private Mono<String> encode(String password) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(password)).subscribeOn(bcryptScheduler);
+    }
+
+    // 없는 이메일이어도 더미 해시로 같은 비용의 검증을 한다, 응답 시간으로 가입된 이메일인지 알 수 없게 한다
+    private Mono<Void> validatePassword(SignInRequest req, Optional<MemberRecord> member) {
+        return Mono.fromCallable(() -> passwordMatches(req, member))
+                .subscribeOn(bcryptScheduler)
+                .flatMap(matches -> matches ? Mono.<Void>empty() : Mono.<Void>error(new LoginFailureException()));
+    }
+
+    private boolean passwordMatches(SignInRequest req, Optional<MemberRecord> member) {
+        String encodedPassword = member.map(MemberRecord::getPassword).orElseGet(this::dummyPassword);
+        return passwordEncoder.matches(req.getPassword(), encodedPassword) && member.isPresent();
+    }
+
+    private String dummyPassword() {
+        String encoded = dummyPassword;
+        if(encoded == null) dummyPassword = encoded = passwordEncoder.encode(UUID.randomUUID().toString());
+        return encoded;
+    }
+
+    private Mono<Void> save(SignUpRequest req, RoleRecord role, String encodedPassword) {
+        MemberRecord member = MemberRecord.create(req.getEmail(), encodedPassword, req.getUsername(), req.getNickname(), LocalDateTime.now());
+        // 새로 발급된 id가 negative cache에 남아있으면 가입 직후 조회가 실패하므로 제거한다
+        return memberRepository.save(member)
+                .flatMap(saved -> memberRepository.insertRole(saved.getId(), role.getId())
+                        .doOnSuccess(ignored -> memberNegativeCache.invalidate(saved.getId())))
+                .then()
+                .as(transactionalOperator::transactional);
+    }
+}
@@ -0,0 +1,86 @@
+package rcm.rcmarket.service.search;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StopWatch;
+import rcm.rcmarket.config.timing.ServerTiming;
+import rcm.rcmarket.config.transaction.AfterCommit;
+import rcm.rcmarket.dto.search.SearchResultDto;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+import rcm.rcmarket.search.InvertedIndex;
+import rcm.rcmarket.search.SearchDocument;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// 상품 이름과 회원 닉네임을 메모리 역색인(InvertedIndex)으로 검색한다
+// 색인은 애플리케이션이 뜬 뒤 두 테이블을 스트리밍으로 읽어 만들고(InitDB의 시드 적재 이후),
+// 이후의 등록/삭제는 각 서비스가 알려주는 대로 트랜잭션이 커밋된 뒤에 반영한다(롤백된 변경은 반영하지 않는다)
+// 색인은 인스턴스마다 따로 가지므로 다른 인스턴스에서 일어난 변경은 재시작할 때 반영된다
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final InvertedIndex productIndex = new InvertedIndex();
+    private final InvertedIndex memberIndex = new InvertedIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndexes() {
+        StopWatch stopWatch = new StopWatch("search index");
+        stopWatch.start("products");
+        try(Stream<SearchDocument> documents = productRepository.streamSearchDocuments()) {
+            documents.forEach(document -> productIndex.put(document.getId(), document.getText()));
+        }
+        stopWatch.stop();
+        stopWatch.start("members");
+        try(Stream<SearchDocument> documents = memberRepository.streamSearchDocuments()) {
+            documents.forEach(document -> memberIndex.put(document.getId(), document.getText()));
+        }
+        stopWatch.stop();
+        log.info("search index: products {}, members {}, {} ms",
+                productIndex.size(), memberIndex.size(), stopWatch.getTotalTimeMillis());
+    }
+
+    @Timed(value = "rcmarket.search", extraTags = {"operation", "search"})
+    public SearchResultDto search(String q, Integer size) {
+        int limit = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, MAX_SIZE));
+        long start = ServerTiming.start();
+        SearchResultDto result = new SearchResultDto(productIndex.search(q, limit), memberIndex.search(q, limit));
+        ServerTiming.stop("index", start);
+        return result;
+    }
+
+    public void indexProduct(Long id, String name) {
+        AfterCommit.run(() -> productIndex.put(id, name));
+    }
+
+    public void removeProduct(Long id) {
+        AfterCommit.run(() -> productIndex.remove(id));
+    }
+
+    public void indexMember(Long id, String nickname) {
+        AfterCommit.run(() -> memberIndex.put(id, nickname));
+    }
+
+    // 판매자가 탈퇴하면 상품도 on delete cascade로 함께 지워지므로 색인에서도 같이 뺀다
+    // 커밋되기 전에 호출되어야 판매자의 상품 id를 조회할 수 있다
+    public void removeMember(Long id) {
+        List<Long> productIds = productRepository.findIdsBySellerId(id);
+        AfterCommit.run(() -> {
+            memberIndex.remove(id);
+            productIds.forEach(productIndex::remove);
+        });
+    }
+}
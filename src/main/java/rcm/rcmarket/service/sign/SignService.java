@@ -1,5 +1,8 @@
 package rcm.rcmarket.service.sign;
 
+import io.micrometer.core.annotation.Timed;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.config.timing.ServerTiming;
 import rcm.rcmarket.config.token.TokenHelper;
 import rcm.rcmarket.dto.sign.RefreshTokenResponse;
 import rcm.rcmarket.dto.sign.SignInRequest;
@@ -10,11 +13,15 @@ import rcm.rcmarket.entity.member.RoleType;
 import rcm.rcmarket.exception.*;
 import rcm.rcmarket.repository.member.MemberRepository;
 import rcm.rcmarket.repository.role.RoleRepository;
+import rcm.rcmarket.service.search.SearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.UUID;
+
 @Service
 // @RequiredArgsConstructor를 클래스 레벨에 선언하면,
 // final로 선언된 인스턴스 변수들로 생성자를 만들어줍니다
@@ -26,25 +33,43 @@ public class SignService {
     private final PasswordEncoder passwordEncoder;
     private final TokenHelper accessTokenHelper;
     private final TokenHelper refreshTokenHelper;
+    private final MemberNegativeCache memberNegativeCache;
+    private final SearchService searchService;
+    private volatile String dummyPassword;
 
     // 이메일과 닉네임의 중복성을 검색, 주어진 SignUpRequest를 Entity로 변환한다
+    // 새로 발급된 id가 negative cache에 남아있으면 가입 직후 조회가 실패하므로 제거한다
+    @Timed(value = "rcmarket.sign", extraTags = {"operation", "sign-up"})
     @Transactional
     public void signUp(SignUpRequest req) {
         validateSignUpInfo(req);
-        memberRepository.save(SignUpRequest.toEntity(req,
+        Member member = SignUpRequest.toEntity(req,
                 roleRepository.findByRoleType(RoleType.ROLE_NORMAL).orElseThrow(RoleNotFoundException::new),
-                passwordEncoder));
+                passwordEncoder);
+        memberRepository.save(member);
+        memberNegativeCache.invalidate(member.getId());
+        searchService.indexMember(member.getId(), member.getNickname());
     }
 
     // SignInRequest로 전달받은 email로 Member를 조회, 비밀번호 검증이 통과될 경우
     // AccessToken과 RefreshToken을 발급해준다.
+    @Timed(value = "rcmarket.sign", extraTags = {"operation", "sign-in"})
     @Transactional(readOnly = true)
     public SignInResponse signIn(SignInRequest req) {
-        Member member = memberRepository.findByEmail(req.getEmail()).orElseThrow(LoginFailureException::new);
-        validatePassword(req, member);
-        String subject = createSubject(member);
+        long start = ServerTiming.start();
+        Optional<Member> member = memberRepository.findByEmail(req.getEmail());
+        ServerTiming.stop("db", start);
+
+        start = ServerTiming.start();
+        boolean matched = passwordMatches(req, member);
+        ServerTiming.stop("password", start);
+        if(!matched) throw new LoginFailureException();
+
+        start = ServerTiming.start();
+        String subject = createSubject(member.get());
         String accessToken = accessTokenHelper.createToken(subject);
         String refreshToken = refreshTokenHelper.createToken(subject);
+        ServerTiming.stop("token", start);
         return new SignInResponse(accessToken, refreshToken);
     }
 
@@ -56,16 +81,24 @@ public class SignService {
             throw new MemberNicknameAlreadyExistsException(req.getNickname());
     }
 
-    private void validatePassword(SignInRequest req, Member member) {
-        if(!passwordEncoder.matches(req.getPassword(), member.getPassword())) {
-            throw new LoginFailureException();
-        }
+    // 없는 이메일이어도 더미 해시로 같은 비용의 검증을 한다
+    // 응답 시간이나 Server-Timing의 단계로 가입된 이메일인지 알 수 없게 한다
+    private boolean passwordMatches(SignInRequest req, Optional<Member> member) {
+        String encodedPassword = member.map(Member::getPassword).orElseGet(this::dummyPassword);
+        return passwordEncoder.matches(req.getPassword(), encodedPassword) && member.isPresent();
+    }
+
+    private String dummyPassword() {
+        String encoded = dummyPassword;
+        if(encoded == null) dummyPassword = encoded = passwordEncoder.encode(UUID.randomUUID().toString());
+        return encoded;
     }
 
     private String createSubject(Member member) {
         return String.valueOf(member.getId());
     }
 
+    @Timed(value = "rcmarket.sign", extraTags = {"operation", "refresh-token"})
     public RefreshTokenResponse refreshToken(String rToken) {
         validateRefreshToken(rToken);
         String subject = refreshTokenHelper.extractSubject(rToken);
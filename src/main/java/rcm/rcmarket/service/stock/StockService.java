@@ -0,0 +1,31 @@
+package rcm.rcmarket.service.stock;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import rcm.rcmarket.dto.stock.ReservationCreateRequest;
+import rcm.rcmarket.dto.stock.ReservationDto;
+import rcm.rcmarket.dto.stock.StockDto;
+import rcm.rcmarket.stock.StockLedger;
+
+// 재고 예약은 StockLedger의 메모리 카운터만 바꾸므로 트랜잭션을 열지 않는다
+@RequiredArgsConstructor
+@Service
+public class StockService {
+
+    private final StockLedger stockLedger;
+
+    public StockDto read(Long productId) {
+        return new StockDto(productId, stockLedger.available(productId));
+    }
+
+    @Timed(value = "rcmarket.stock", extraTags = {"operation", "reserve"})
+    public ReservationDto reserve(Long productId, ReservationCreateRequest req, Long memberId) {
+        return ReservationDto.toDto(stockLedger.reserve(productId, memberId, req.getQuantity()));
+    }
+
+    @Timed(value = "rcmarket.stock", extraTags = {"operation", "release"})
+    public void release(Long reservationId) {
+        stockLedger.release(reservationId);
+    }
+}
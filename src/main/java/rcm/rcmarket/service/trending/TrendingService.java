@@ -0,0 +1,78 @@
+package rcm.rcmarket.service.trending;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import rcm.rcmarket.dto.trending.TrendingDto;
+import rcm.rcmarket.dto.trending.TrendingProductDto;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.product.ProductRepository;
+import rcm.rcmarket.trending.TrendingEntry;
+import rcm.rcmarket.trending.TrendingMetric;
+import rcm.rcmarket.trending.TrendingTracker;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+// 인기 상품 순위는 publish가 주기적으로 계산해서 바꿀 수 없는 스냅샷으로 내보내고, 조회는 그 스냅샷만 읽는다
+// 조회할 때는 락도 DB 조회도 없다, 순위는 최대 trending.publish-interval-ms만큼 늦게 바뀐다
+// 상품 정보는 publish할 때 상위 K개만 id로 한 번에 읽어서 담아두고, 그 사이 삭제된 상품은 빠진다
+// 스냅샷의 DTO는 여러 요청이 함께 쓰므로 바꾸지 않는다
+@Service
+public class TrendingService {
+    static final int DEFAULT_SIZE = 10;
+
+    private final TrendingTracker trendingTracker;
+    private final ProductRepository productRepository;
+    private final int topK;
+    private volatile Map<TrendingMetric, TrendingDto> snapshot;
+
+    public TrendingService(TrendingTracker trendingTracker, ProductRepository productRepository,
+                           @Value("${trending.top-k:50}") int topK) {
+        this.trendingTracker = trendingTracker;
+        this.productRepository = productRepository;
+        this.topK = topK;
+        Map<TrendingMetric, TrendingDto> empty = new EnumMap<>(TrendingMetric.class);
+        for(TrendingMetric metric : TrendingMetric.values()) empty.put(metric, new TrendingDto(metric, List.of(), null));
+        this.snapshot = Map.copyOf(empty);
+    }
+
+    @Timed(value = "rcmarket.trending", extraTags = {"operation", "read"})
+    public TrendingDto read(TrendingMetric metric, Integer size) {
+        TrendingDto published = snapshot.get(metric);
+        int limit = size == null ? DEFAULT_SIZE : Math.max(1, Math.min(size, topK));
+        List<TrendingProductDto> products = published.getProducts();
+        return new TrendingDto(metric, products.subList(0, Math.min(limit, products.size())), published.getPublishedAt());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.publish-interval-ms:5000}")
+    public void publish() {
+        Map<TrendingMetric, TrendingDto> next = new EnumMap<>(TrendingMetric.class);
+        LocalDateTime now = LocalDateTime.now();
+        for(TrendingMetric metric : TrendingMetric.values()) {
+            next.put(metric, new TrendingDto(metric, rank(trendingTracker.top(metric, topK)), now));
+        }
+        snapshot = Map.copyOf(next);
+    }
+
+    private List<TrendingProductDto> rank(List<TrendingEntry> entries) {
+        if(entries.isEmpty()) return List.of();
+        List<Long> ids = entries.stream().map(TrendingEntry::getProductId).collect(toList());
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(toMap(Product::getId, Function.identity()));
+        List<TrendingProductDto> ranked = new ArrayList<>(entries.size());
+        for(TrendingEntry entry : entries) {
+            Product product = products.get(entry.getProductId());
+            if(product != null) ranked.add(TrendingProductDto.toDto(product, entry.getScore()));
+        }
+        return List.copyOf(ranked);
+    }
+}
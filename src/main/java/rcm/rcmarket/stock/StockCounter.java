@@ -0,0 +1,48 @@
+package rcm.rcmarket.stock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 상품 하나의 재고 카운터
+// available: 지금 예약할 수 있는 수량, 예약하면 줄고 해제하면 늘어난다
+// unflushed: 확정됐지만 아직 DB에 반영하지 않은 차감량
+// 항상 available = DB 재고 - unflushed - 진행 중인 예약 수량 이다
+final class StockCounter {
+
+    private final AtomicInteger available;
+    private final AtomicInteger unflushed = new AtomicInteger();
+
+    StockCounter(int stock) {
+        this.available = new AtomicInteger(stock);
+    }
+
+    // 남은 수량을 확인하고 빼는 사이에 다른 스레드가 끼어들면 CAS가 실패하므로 다시 읽어서 시도한다
+    // 락을 잡지 않고도 available이 0 아래로 내려가지 않는다
+    boolean tryReserve(int quantity) {
+        while(true) {
+            int current = available.get();
+            if(current < quantity) return false;
+            if(available.compareAndSet(current, current - quantity)) return true;
+        }
+    }
+
+    void release(int quantity) {
+        available.addAndGet(quantity);
+    }
+
+    void confirm(int quantity) {
+        unflushed.addAndGet(quantity);
+    }
+
+    int drainUnflushed() {
+        return unflushed.getAndSet(0);
+    }
+
+    // DB 반영에 실패한 차감량을 되돌려 다음 flush에서 다시 시도한다
+    void restoreUnflushed(int quantity) {
+        unflushed.addAndGet(quantity);
+    }
+
+    int available() {
+        return available.get();
+    }
+}
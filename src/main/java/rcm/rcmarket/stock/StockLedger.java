@@ -0,0 +1,147 @@
+package rcm.rcmarket.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.config.transaction.AfterCommit;
+import rcm.rcmarket.exception.OutOfStockException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.exception.ReservationNotFoundException;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 상품별 재고를 메모리의 원자적 카운터로 관리하는 장부
+// 예약할 때마다 행 락을 잡고 DB를 왕복하는 대신 CAS로 카운터만 줄인다
+// - reserve: 재고가 충분하면 카운터를 줄이고 예약을 만든다, 부족하면 OutOfStockException
+// - release: 예약을 지우고 카운터를 되돌린다, 만료된 예약은 expire가 같은 방식으로 되돌린다
+// - confirm: 예약을 지우고 차감량을 unflushed에 쌓는다, flush가 주기적으로 모아서 DB에 반영한다(write-behind)
+//   claim으로 예약만 먼저 꺼내두고 나중에 commit(확정)이나 cancel(해제)로 나눠서 처리할 수도 있다
+// 예약은 한 번만 지워지므로(ConcurrentMap.remove) release, expire, confirm이 경쟁해도 한 쪽만 성공한다
+//
+// 카운터는 상품을 처음 예약할 때 DB의 재고로 만든다, 재시작하면 반영된 재고에서 다시 시작하고 진행 중이던 예약은 해제된 것과 같다
+// 확정됐지만 flush되기 전에 프로세스가 죽으면 그 차감량(최대 flush 주기만큼)은 DB에 남지 않는다, 정상 종료할 때는 남은 차감량을 반영한다
+// 카운터가 인스턴스 메모리에 있으므로 재고 예약은 한 인스턴스가 담당한다고 가정한다
+@Component
+@Slf4j
+public class StockLedger {
+
+    private final ProductRepository productRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, StockReservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicLong reservationSequence = new AtomicLong();
+
+    public StockLedger(ProductRepository productRepository,
+                       @Value("${stock.reservation.ttl-seconds:600}") long ttlSeconds) {
+        this(productRepository, ttlSeconds * 1_000_000_000L, System::nanoTime);
+    }
+
+    StockLedger(ProductRepository productRepository, long ttlNanos, LongSupplier nanoClock) {
+        this.productRepository = productRepository;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public StockReservation reserve(Long productId, Long memberId, int quantity) {
+        if(quantity <= 0) throw new IllegalArgumentException("quantity must be positive");
+        if(!counter(productId).tryReserve(quantity)) throw new OutOfStockException();
+        StockReservation reservation = new StockReservation(reservationSequence.incrementAndGet(), productId, memberId, quantity,
+                nanoClock.getAsLong() + ttlNanos, LocalDateTime.now().plusNanos(ttlNanos));
+        reservations.put(reservation.getId(), reservation);
+        return reservation;
+    }
+
+    public void release(Long reservationId) {
+        StockReservation reservation = reservations.remove(reservationId);
+        if(reservation == null) throw new ReservationNotFoundException();
+        restore(reservation);
+    }
+
+    public StockReservation confirm(Long reservationId) {
+        StockReservation reservation = claim(reservationId);
+        commit(reservation);
+        return reservation;
+    }
+
+    // 예약을 장부에서 꺼내 만료되지 않게 하고, 잡아둔 수량은 commit이나 cancel을 호출할 때까지 그대로 둔다
+    // 주문처럼 확정 여부가 나중에 정해지는 경우에 쓴다
+    public StockReservation claim(Long reservationId) {
+        StockReservation reservation = reservations.remove(reservationId);
+        if(reservation == null) throw new ReservationNotFoundException();
+        return reservation;
+    }
+
+    public void commit(StockReservation reservation) {
+        StockCounter counter = counters.get(reservation.getProductId());
+        if(counter != null) counter.confirm(reservation.getQuantity());
+    }
+
+    public void cancel(StockReservation reservation) {
+        restore(reservation);
+    }
+
+    public Optional<StockReservation> findReservation(Long reservationId) {
+        return Optional.ofNullable(reservations.get(reservationId));
+    }
+
+    public int available(Long productId) {
+        return counter(productId).available();
+    }
+
+    // 삭제된 상품의 카운터를 커밋 이후에 지운다, 남은 예약은 해제되거나 만료될 때 카운터가 없으므로 무시된다
+    public void evict(Long productId) {
+        AfterCommit.run(() -> counters.remove(productId));
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reservation.expire-interval-ms:1000}")
+    public void expire() {
+        long now = nanoClock.getAsLong();
+        for(StockReservation reservation : reservations.values()) {
+            if(reservation.getDeadlineNanos() - now > 0) continue;
+            if(reservations.remove(reservation.getId(), reservation)) restore(reservation);
+        }
+    }
+
+    // 상품별 차감량을 꺼내서 한 번의 batch update로 반영한다, 실패하면 꺼낸 차감량을 되돌려 다음에 다시 시도한다
+    @Scheduled(fixedDelayString = "${stock.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<Long, Integer> quantities = new HashMap<>();
+        counters.forEach((productId, counter) -> {
+            int quantity = counter.drainUnflushed();
+            if(quantity > 0) quantities.put(productId, quantity);
+        });
+        if(quantities.isEmpty()) return;
+        try {
+            productRepository.decreaseStocks(quantities);
+        } catch (RuntimeException e) {
+            log.warn("stock flush failed, retry {} products later", quantities.size(), e);
+            quantities.forEach((productId, quantity) -> {
+                StockCounter counter = counters.get(productId);
+                if(counter != null) counter.restoreUnflushed(quantity);
+            });
+        }
+    }
+
+    // 같은 상품을 처음 예약하는 요청이 동시에 들어와도 computeIfAbsent로 DB 조회는 한 번만 한다
+    private StockCounter counter(Long productId) {
+        return counters.computeIfAbsent(productId, id ->
+                new StockCounter(productRepository.findStockById(id).orElseThrow(ProductNotFoundException::new)));
+    }
+
+    private void restore(StockReservation reservation) {
+        StockCounter counter = counters.get(reservation.getProductId());
+        if(counter != null) counter.release(reservation.getQuantity());
+    }
+}
@@ -0,0 +1,19 @@
+package rcm.rcmarket.stock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 확정(confirm)되거나 해제(release)되기 전까지 잡아둔 재고
+// deadlineNanos는 만료 판단에, expiresAt은 응답에 쓴다
+@Getter
+@AllArgsConstructor
+public class StockReservation {
+    private final Long id;
+    private final Long productId;
+    private final Long memberId;
+    private final int quantity;
+    private final long deadlineNanos;
+    private final LocalDateTime expiresAt;
+}
@@ -0,0 +1,59 @@
+package rcm.rcmarket.trending;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 키별 횟수를 depth x width 크기의 카운터 표로 근사하는 Count-Min sketch
+// 키마다 행별로 다른 해시를 써서 칸 하나씩 더하고, 읽을 때는 그중 가장 작은 값을 쓴다
+// 다른 키와 칸이 겹치면 크게 세지만 작게 세지는 않는다, 오차는 대략 전체 횟수 / width 이내다
+// 키가 몇 개든 메모리가 일정하고, 칸은 AtomicLongArray라 여러 스레드가 락 없이 더한다
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counts;
+
+    CountMinSketch(int depth, int width) {
+        if(Integer.bitCount(width) != 1) throw new IllegalArgumentException("width must be a power of two");
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.counts = new AtomicLongArray(depth * width);
+    }
+
+    void add(long key, long count) {
+        for(int row = 0; row < depth; row++) counts.addAndGet(cell(key, row), count);
+    }
+
+    long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for(int row = 0; row < depth; row++) min = Math.min(min, counts.get(cell(key, row)));
+        return min;
+    }
+
+    // 여러 시간 칸의 sketch를 더해 창 전체의 sketch를 만든다, 같은 해시를 쓰므로 칸끼리 더하면 된다
+    void addTo(long[] table) {
+        for(int i = 0; i < table.length; i++) table[i] += counts.get(i);
+    }
+
+    long[] newTable() {
+        return new long[depth * width];
+    }
+
+    long estimate(long[] table, long key) {
+        long min = Long.MAX_VALUE;
+        for(int row = 0; row < depth; row++) min = Math.min(min, table[cell(key, row)]);
+        return min;
+    }
+
+    private int cell(long key, int row) {
+        return row * width + ((int) mix(key + row * 0x9E3779B97F4A7C15L) & mask);
+    }
+
+    // splitmix64의 마무리 단계, 연속된 id도 칸에 고르게 흩어진다
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,12 @@
+package rcm.rcmarket.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 창 안에서 센 상품별 횟수(근사값)
+@Getter
+@AllArgsConstructor
+public class TrendingEntry {
+    private final long productId;
+    private final long score;
+}
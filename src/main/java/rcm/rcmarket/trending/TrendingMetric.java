@@ -0,0 +1,7 @@
+package rcm.rcmarket.trending;
+
+// 인기 상품을 고르는 기준, 기준마다 창을 따로 센다
+// VIEWS: 상품 상세 조회 수, ORDERS: 커밋된 주문 수량
+public enum TrendingMetric {
+    VIEWS, ORDERS
+}
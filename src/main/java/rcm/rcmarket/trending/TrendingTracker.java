@@ -0,0 +1,32 @@
+package rcm.rcmarket.trending;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 기준(TrendingMetric)마다 TrendingWindow를 하나씩 두고 상품 조회와 주문 이벤트를 받아 센다
+// 요청 스레드는 record만 호출하고, 순위는 TrendingService가 주기적으로 top을 호출해 스냅샷으로 만든다
+@Component
+public class TrendingTracker {
+
+    private final Map<TrendingMetric, TrendingWindow> windows = new EnumMap<>(TrendingMetric.class);
+
+    public TrendingTracker(@Value("${trending.bucket-count:60}") int bucketCount,
+                           @Value("${trending.bucket-seconds:60}") long bucketSeconds,
+                           @Value("${trending.candidate-capacity:1024}") int candidateCapacity) {
+        for(TrendingMetric metric : TrendingMetric.values()) {
+            windows.put(metric, new TrendingWindow(bucketCount, bucketSeconds * 1000, candidateCapacity));
+        }
+    }
+
+    public void record(TrendingMetric metric, Long productId, long count) {
+        windows.get(metric).record(productId, count);
+    }
+
+    public List<TrendingEntry> top(TrendingMetric metric, int k) {
+        return windows.get(metric).top(k);
+    }
+}
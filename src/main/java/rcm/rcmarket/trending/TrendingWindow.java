@@ -0,0 +1,121 @@
+package rcm.rcmarket.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+// 최근 bucketCount x bucketMillis 동안 상품별 횟수를 세고 상위 K개를 고르는 슬라이딩 윈도우
+// - 시간을 bucketMillis 단위 칸으로 나누고 칸마다 Count-Min sketch와 후보 상품 id를 둔다
+// - record: 지금 칸의 sketch에 더하고 후보에 넣는다, 칸이 바뀌면 링의 가장 오래된 칸을 CAS로 새 칸으로 바꾼다
+// - top: 창 안의 칸들의 sketch를 합치고, 후보마다 합친 sketch로 횟수를 추정해 크기 K의 최소 힙으로 상위 K개를 고른다
+// 테이블을 읽지 않고 상품 수와 관계없이 메모리가 일정하다, 창은 지금 칸이 얼마나 찼는지에 따라 (bucketCount - 1) ~ bucketCount 칸이다
+//
+// 후보는 칸마다 candidateCapacity개까지 받고, 그 뒤로는 지금 칸의 추정치가 충분히 큰 상품만 받는다(admit)
+// 인기 상품은 칸이 차기 전에 이미 들어와 있거나 추정치가 빨리 올라가서 들어오고, 드물게 보이는 상품이 많아도 후보가 계속 늘지 않는다
+// record는 여러 요청 스레드가 락 없이 호출하고, top은 한 스레드(TrendingService.publish)가 주기적으로 호출한다
+public class TrendingWindow {
+
+    static final int DEPTH = 4;
+    static final int WIDTH = 2048;
+    private static final long MIN_ADMISSION_THRESHOLD = 2;
+    // 점수 오름차순, 점수가 같으면 id가 큰 상품이 앞이다(힙에서 먼저 밀려난다)
+    private static final Comparator<TrendingEntry> ORDER = Comparator.comparingLong(TrendingEntry::getScore)
+            .thenComparing(Comparator.comparingLong(TrendingEntry::getProductId).reversed());
+
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final int candidateCapacity;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final CountMinSketch layout = new CountMinSketch(DEPTH, WIDTH); // 합친 표를 칸과 같은 해시로 읽는다
+    private volatile long admissionThreshold = MIN_ADMISSION_THRESHOLD;
+
+    public TrendingWindow(int bucketCount, long bucketMillis, int candidateCapacity) {
+        this(bucketCount, bucketMillis, candidateCapacity, System::currentTimeMillis);
+    }
+
+    TrendingWindow(int bucketCount, long bucketMillis, int candidateCapacity, LongSupplier clock) {
+        this.bucketCount = bucketCount;
+        this.bucketMillis = bucketMillis;
+        this.candidateCapacity = candidateCapacity;
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void record(long productId, long count) {
+        Bucket bucket = current();
+        bucket.sketch.add(productId, count);
+        if(!bucket.candidates.contains(productId) && admit(bucket, productId)) bucket.candidates.add(productId);
+    }
+
+    public List<TrendingEntry> top(int k) {
+        long slot = slot();
+        long[] merged = layout.newTable();
+        Set<Long> candidates = new HashSet<>();
+        for(int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if(bucket == null || bucket.slot <= slot - bucketCount) continue;
+            bucket.sketch.addTo(merged);
+            candidates.addAll(bucket.candidates);
+        }
+
+        PriorityQueue<TrendingEntry> heap = new PriorityQueue<>(k + 1, ORDER);
+        for(Long productId : candidates) {
+            long score = layout.estimate(merged, productId);
+            if(score <= 0) continue;
+            if(heap.size() < k) heap.add(new TrendingEntry(productId, score));
+            else if(ORDER.compare(heap.peek(), new TrendingEntry(productId, score)) < 0) {
+                heap.poll();
+                heap.add(new TrendingEntry(productId, score));
+            }
+        }
+        admissionThreshold = heap.size() < k ? MIN_ADMISSION_THRESHOLD
+                : Math.max(MIN_ADMISSION_THRESHOLD, heap.peek().getScore() / bucketCount);
+
+        List<TrendingEntry> result = new ArrayList<>(heap);
+        result.sort(ORDER.reversed());
+        return result;
+    }
+
+    // 링의 칸이 이전 시간의 것이면 새 칸으로 바꾼다, 여러 스레드가 동시에 바꾸려 해도 CAS에 성공한 칸 하나만 남는다
+    private Bucket current() {
+        long slot = slot();
+        int index = (int) Math.floorMod(slot, (long) bucketCount);
+        Bucket bucket = buckets.get(index);
+        while(bucket == null || bucket.slot < slot) {
+            Bucket fresh = new Bucket(slot);
+            if(buckets.compareAndSet(index, bucket, fresh)) return fresh;
+            bucket = buckets.get(index);
+        }
+        return bucket;
+    }
+
+    // 후보가 candidateCapacity개씩 늘 때마다 받는 데 필요한 추정치를 두 배로 올린다
+    // 추정치는 칸의 전체 횟수를 넘지 않으므로 후보 수는 전체 횟수의 로그에 비례해서만 늘어난다
+    private boolean admit(Bucket bucket, long productId) {
+        int size = bucket.candidates.size();
+        if(size < candidateCapacity) return true;
+        long required = Math.max(admissionThreshold, MIN_ADMISSION_THRESHOLD << Math.min(62, size / candidateCapacity));
+        return bucket.sketch.estimate(productId) >= required;
+    }
+
+    private long slot() {
+        return clock.getAsLong() / bucketMillis;
+    }
+
+    private static final class Bucket {
+        private final long slot;
+        private final CountMinSketch sketch = new CountMinSketch(DEPTH, WIDTH);
+        private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+}
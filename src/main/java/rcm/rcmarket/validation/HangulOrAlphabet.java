@@ -0,0 +1,25 @@
+package rcm.rcmarket.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// 한글 완성형(가~힣) 또는 알파벳으로만 이루어진 1자 이상의 문자열만 허용한다
+// ^[A-Za-z가-힣]+$ 와 같은 결과를 낸다
+@Documented
+@Constraint(validatedBy = HangulOrAlphabetValidator.class)
+@Target({FIELD, METHOD, PARAMETER, ANNOTATION_TYPE})
+@Retention(RUNTIME)
+public @interface HangulOrAlphabet {
+
+    String message() default "한글 또는 알파벳만 입력해주세요.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,22 @@
+package rcm.rcmarket.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class HangulOrAlphabetValidator implements ConstraintValidator<HangulOrAlphabet, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || isValid(value); // null 검사는 @NotBlank에 맡긴다
+    }
+
+    static boolean isValid(CharSequence value) {
+        int length = value.length();
+        if(length == 0) return false;
+        for(int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if(!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '가' && c <= '힣'))) return false;
+        }
+        return true;
+    }
+}
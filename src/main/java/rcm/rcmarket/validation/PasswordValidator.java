@@ -0,0 +1,39 @@
+package rcm.rcmarket.validation;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+// 문자열을 한 번만 훑으면서 문자 종류를 확인한다
+// 정규식과 달리 Matcher를 만들거나 되돌아가며 다시 검사하지 않는다
+public class PasswordValidator implements ConstraintValidator<Password, CharSequence> {
+
+    private static final int MIN_LENGTH = 8;
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || isValid(value); // null 검사는 @NotBlank에 맡긴다
+    }
+
+    static boolean isValid(CharSequence value) {
+        int length = value.length();
+        if(length < MIN_LENGTH) return false;
+        boolean alphabet = false, digit = false, special = false;
+        for(int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) alphabet = true;
+            else if(c >= '0' && c <= '9') digit = true;
+            else if(isSpecial(c)) special = true;
+            else return false;
+        }
+        return alphabet && digit && special;
+    }
+
+    private static boolean isSpecial(char c) {
+        switch(c) {
+            case '@': case '$': case '!': case '%': case '*': case '#': case '?': case '&':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package rcm.rcmarket.view;
+
+import java.util.Arrays;
+
+// long 키와 long 값을 배열에 그대로 담는 open addressing(linear probing) 해시맵
+// HashMap<Long, Long>처럼 키, 값, 엔트리마다 객체를 만들지 않으므로 조회수를 세는 동안 가비지가 생기지 않는다
+// 키 0은 빈 칸을 뜻하므로 쓸 수 없다(엔티티 id는 1부터 시작한다)
+// 스레드에 안전하지 않다, StripedCounterMap이 stripe 락 안에서만 쓴다
+final class LongLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+
+    LongLongHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    void addTo(long key, long delta) {
+        if(key == 0) throw new IllegalArgumentException("key must not be 0");
+        int slot = slot(key);
+        while(keys[slot] != 0) {
+            if(keys[slot] == key) {
+                values[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if(++size * 2 > keys.length) resize();
+    }
+
+    long get(long key) {
+        int slot = slot(key);
+        while(keys[slot] != 0) {
+            if(keys[slot] == key) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    void addAllTo(LongLongHashMap target) {
+        for(int slot = 0; slot < keys.length; slot++) {
+            if(keys[slot] != 0) target.addTo(keys[slot], values[slot]);
+        }
+    }
+
+    // 폭주 구간에 커진 배열은 계속 들고 있지 않도록 일정 크기를 넘으면 새로 만든다
+    void clear() {
+        if(size == 0) return;
+        if(keys.length > MAX_RETAINED_CAPACITY) {
+            allocate(DEFAULT_CAPACITY);
+            return;
+        }
+        Arrays.fill(keys, 0);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 값을 꺼낼 때 키와 값을 같은 순서로 나란히 담는다, 배치 update의 파라미터로 그대로 쓴다
+    long[] keys() {
+        long[] result = new long[size];
+        int i = 0;
+        for(long key : keys) if(key != 0) result[i++] = key;
+        return result;
+    }
+
+    long[] values() {
+        long[] result = new long[size];
+        int i = 0;
+        for(int slot = 0; slot < keys.length; slot++) if(keys[slot] != 0) result[i++] = values[slot];
+        return result;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for(int slot = 0; slot < oldKeys.length; slot++) {
+            if(oldKeys[slot] != 0) addTo(oldKeys[slot], oldValues[slot]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    // 연속된 id가 이웃한 칸에 몰리지 않도록 섞는다(fibonacci hashing)
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,71 @@
+package rcm.rcmarket.view;
+
+// id별 증가량을 LongAdder처럼 여러 stripe에 나눠 세는 카운터
+// 스레드마다 정해진 stripe 하나만 잠그고 더하므로, 같은 상품을 여러 스레드가 동시에 조회해도 한 락에 몰리지 않는다
+// 값은 stripe마다 따로 쌓이고 읽을 때(get)와 꺼낼 때(drainTo) 합친다
+final class StripedCounterMap {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    StripedCounterMap() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    StripedCounterMap(int concurrency) {
+        int size = Integer.highestOneBit(Math.max(1, Math.min(concurrency, MAX_STRIPES)) * 2 - 1);
+        this.stripes = new Stripe[size];
+        for(int i = 0; i < size; i++) stripes[i] = new Stripe();
+        this.mask = size - 1;
+    }
+
+    void add(long id, long delta) {
+        Stripe stripe = stripes[index()];
+        synchronized(stripe) {
+            stripe.counts.addTo(id, delta);
+        }
+    }
+
+    long get(long id) {
+        long sum = 0;
+        for(Stripe stripe : stripes) {
+            synchronized(stripe) {
+                sum += stripe.counts.get(id);
+            }
+        }
+        return sum;
+    }
+
+    // 모든 stripe의 값을 target으로 옮기고 비운다
+    // stripe마다 쌓던 맵을 비워둔 예비 맵과 바꾸기만 하고, 합치는 일은 락 밖에서 한다
+    // 한 번에 한 스레드만 호출해야 한다(ViewCounter.flush가 synchronized)
+    void drainTo(LongLongHashMap target) {
+        for(Stripe stripe : stripes) {
+            LongLongHashMap drained;
+            synchronized(stripe) {
+                if(stripe.counts.isEmpty()) continue;
+                drained = stripe.counts;
+                stripe.counts = stripe.spare;
+                stripe.spare = null;
+            }
+            drained.addAllTo(target);
+            drained.clear();
+            synchronized(stripe) {
+                stripe.spare = drained;
+            }
+        }
+    }
+
+    // 스레드 id를 섞어서 stripe를 고른다, 같은 스레드는 항상 같은 stripe를 쓴다
+    private int index() {
+        long hash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    private static final class Stripe {
+        private LongLongHashMap counts = new LongLongHashMap();
+        private LongLongHashMap spare = new LongLongHashMap();
+    }
+}
@@ -0,0 +1,86 @@
+package rcm.rcmarket.view;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 상품과 회원 프로필의 조회수를 메모리에서 세고 주기적으로 모아서 DB에 반영한다(write-behind)
+// 조회마다 update를 보내면 인기 상품 한 행에 쓰기와 행 락이 몰리므로, 조회는 StripedCounterMap에 더하기만 한다
+// - record: 조회 한 번을 pending에 더한다
+// - flush: 대상별로 pending을 꺼내 "views = views + ?" batch update 한 번으로 반영한다, 실패하면 꺼낸 값을 되돌린다
+// - pending: 아직 반영되지 않은 조회수, 응답에는 DB에 반영된 값 + pending을 내려준다
+//   flush가 쓰고 있는 값(flushing)도 pending에 포함되므로 반영하는 동안 조회수가 줄어 보이지 않는다
+//   다만 꺼낸 직후, 커밋 직후 같은 짧은 순간에는 반영 중인 배치만큼 작거나 크게 보일 수 있다
+//
+// 유실 범위: 프로세스가 비정상 종료되면 마지막 flush 이후의 조회수(최대 view.flush-interval-ms 동안 + 반영 중이던 배치)는 DB에 남지 않는다
+// 정상 종료할 때는 @PreDestroy로 남은 값을 반영한다, 조회수는 정확한 집계가 아니므로 이 정도 유실은 허용한다
+// 카운터가 인스턴스 메모리에 있어도 증가량만 더하므로 여러 인스턴스가 같은 행에 반영해도 값이 덮어써지지 않는다
+@Component
+@Slf4j
+public class ViewCounter {
+
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final Map<ViewTarget, StripedCounterMap> counters = new EnumMap<>(ViewTarget.class);
+    private volatile LongLongHashMap[] flushing = new LongLongHashMap[ViewTarget.values().length];
+
+    public ViewCounter(ProductRepository productRepository, MemberRepository memberRepository) {
+        this.productRepository = productRepository;
+        this.memberRepository = memberRepository;
+        for(ViewTarget target : ViewTarget.values()) counters.put(target, new StripedCounterMap());
+    }
+
+    public void record(ViewTarget target, Long id) {
+        counters.get(target).add(id, 1);
+    }
+
+    public long pending(ViewTarget target, Long id) {
+        LongLongHashMap deltas = flushing[target.ordinal()];
+        return counters.get(target).get(id) + (deltas == null ? 0 : deltas.get(id));
+    }
+
+    @Scheduled(fixedDelayString = "${view.flush-interval-ms:1000}")
+    @PreDestroy
+    public synchronized void flush() {
+        for(ViewTarget target : ViewTarget.values()) flush(target);
+    }
+
+    private void flush(ViewTarget target) {
+        LongLongHashMap deltas = new LongLongHashMap();
+        counters.get(target).drainTo(deltas);
+        if(deltas.isEmpty()) return;
+        long[] ids = deltas.keys();
+        long[] values = deltas.values();
+        publish(target, deltas);
+        try {
+            write(target, ids, values);
+        } catch (RuntimeException e) {
+            log.warn("view flush failed, retry {} {} ids later", ids.length, target, e);
+            StripedCounterMap counter = counters.get(target);
+            for(int i = 0; i < ids.length; i++) counter.add(ids[i], values[i]);
+        } finally {
+            publish(target, null);
+        }
+    }
+
+    // 배열을 새로 만들어 volatile로 내보내므로 pending은 락 없이 읽는다
+    // 내보낸 맵은 다시 쓰지 않는다, 다음 flush는 새 맵에 꺼낸다
+    private void publish(ViewTarget target, LongLongHashMap deltas) {
+        LongLongHashMap[] next = flushing.clone();
+        next[target.ordinal()] = deltas;
+        flushing = next;
+    }
+
+    private void write(ViewTarget target, long[] ids, long[] deltas) {
+        switch(target) {
+            case PRODUCT: productRepository.increaseViews(ids, deltas); break;
+            case MEMBER: memberRepository.increaseViews(ids, deltas); break;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package rcm.rcmarket.view;
+
+// 조회수를 세는 대상, 대상마다 카운터와 반영할 테이블이 따로 있다
+public enum ViewTarget {
+    PRODUCT, MEMBER
+}
@@ -0,0 +1,18 @@
+-- local 프로필 초기 데이터 스냅샷(v1)
+-- 비밀번호는 모두 123456a! 의 bcrypt 해시를 미리 계산해둔 값이다
+-- 내용을 바꾸면 파일 이름과 InitDB.SEED_VERSION을 함께 올려야 한다
+INSERT INTO role (role_id, role_type) VALUES
+    (1, 'ROLE_NORMAL'), (2, 'ROLE_SPECIAL_SELLER'), (3, 'ROLE_SPECIAL_BUYER'), (4, 'ROLE_ADMIN');
+
+INSERT INTO member (member_id, email, password, username, nickname, created_at, modified_at) VALUES
+    (1, 'admin@admin.com', '{bcrypt}$2a$10$.D4lTMCav9EcxFleFVMsf.b17fcNcrzf/Bj5Yu5AXltTqr35hS8yC', 'admin', 'admin', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (2, 'member1@member.com', '{bcrypt}$2a$10$.D4lTMCav9EcxFleFVMsf.b17fcNcrzf/Bj5Yu5AXltTqr35hS8yC', 'member1', 'member1', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (3, 'member2@member.com', '{bcrypt}$2a$10$.D4lTMCav9EcxFleFVMsf.b17fcNcrzf/Bj5Yu5AXltTqr35hS8yC', 'member2', 'member2', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO member_role (member_id, role_id) VALUES
+    (1, 1), (1, 4), (2, 1), (3, 1);
+
+ALTER TABLE role ALTER COLUMN role_id RESTART WITH 5;
+ALTER TABLE member ALTER COLUMN member_id RESTART WITH 4;
+
+INSERT INTO seed_version (version, applied_at) VALUES ('local-v1', CURRENT_TIMESTAMP);
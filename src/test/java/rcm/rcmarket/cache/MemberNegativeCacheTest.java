@@ -0,0 +1,66 @@
+package rcm.rcmarket.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemberNegativeCacheTest {
+
+    AtomicLong now = new AtomicLong();
+    MemberNegativeCache cache = new MemberNegativeCache(2, 10L, now::get);
+
+    @Test
+    void containsTest() {
+        // given
+        cache.put(1L);
+
+        // when, then
+        assertThat(cache.contains(1L)).isTrue();
+        assertThat(cache.contains(2L)).isFalse();
+    }
+
+    // ttl이 지난 id는 더 이상 없는 회원으로 취급하지 않는다
+    @Test
+    void expireTest() {
+        // given
+        cache.put(1L);
+
+        // when
+        now.addAndGet(10L);
+
+        // then
+        assertThat(cache.contains(1L)).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    // 최대 크기를 넘으면 가장 오래 사용되지 않은 id가 제거된다
+    @Test
+    void evictEldestTest() {
+        // given
+        cache.put(1L);
+        cache.put(2L);
+        cache.contains(1L);
+
+        // when
+        cache.put(3L);
+
+        // then
+        assertThat(cache.contains(1L)).isTrue();
+        assertThat(cache.contains(2L)).isFalse();
+        assertThat(cache.contains(3L)).isTrue();
+    }
+
+    @Test
+    void invalidateTest() {
+        // given
+        cache.put(1L);
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        assertThat(cache.contains(1L)).isFalse();
+    }
+}
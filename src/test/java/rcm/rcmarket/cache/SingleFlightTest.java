@@ -0,0 +1,121 @@
+package rcm.rcmarket.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    SingleFlight<Long, String> singleFlight = new SingleFlight<>("test");
+
+    @Test
+    void executeTest() {
+        // given, when
+        String result = singleFlight.execute(1L, () -> "value");
+
+        // then
+        assertThat(result).isEqualTo("value");
+        assertThat(singleFlight.getCalls()).isEqualTo(1);
+        assertThat(singleFlight.getLoads()).isEqualTo(1);
+        assertThat(singleFlight.getJoins()).isZero();
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    // loader가 실행되는 동안 같은 key로 들어온 호출들은 loader를 다시 실행하지 않고 결과를 공유한다
+    @Test
+    void coalesceConcurrentCallsTest() throws Exception {
+        // given
+        int callers = 16;
+        AtomicInteger loaderCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for(int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loaderCount.incrementAndGet();
+                await(release);
+                return "value";
+            })));
+        }
+        // calls는 등록 전에 증가하므로, 나머지 호출이 모두 진행 중인 조회에 합류한 것을 확인한 뒤에 loader를 끝낸다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(singleFlight.getJoins() < callers - 1 && System.nanoTime() < deadline) Thread.onSpinWait();
+        release.countDown();
+
+        // then
+        for(Future<String> result : results) assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        executor.shutdown();
+        assertThat(loaderCount.get()).isEqualTo(1);
+        assertThat(singleFlight.getJoins()).isEqualTo(callers - 1);
+        assertThat(singleFlight.getFanInRatio()).isEqualTo(callers);
+    }
+
+    // 논블로킹 호출도 진행 중인 loader의 결과를 함께 받고, 한 호출자의 취소는 다른 호출자에 영향을 주지 않는다
+    @Test
+    void executeAsyncTest() {
+        // given
+        CompletableFuture<String> load = new CompletableFuture<>();
+        AtomicInteger loaderCount = new AtomicInteger();
+
+        // when
+        CompletableFuture<String> leader = singleFlight.executeAsync(1L, () -> {
+            loaderCount.incrementAndGet();
+            return load;
+        });
+        CompletableFuture<String> follower = singleFlight.executeAsync(1L, () -> {
+            loaderCount.incrementAndGet();
+            return load;
+        });
+        follower.cancel(true);
+        CompletableFuture<String> lateFollower = singleFlight.executeAsync(1L, CompletableFuture::new);
+        load.complete("value");
+
+        // then
+        assertThat(leader.join()).isEqualTo("value");
+        assertThat(lateFollower.join()).isEqualTo("value");
+        assertThat(loaderCount.get()).isEqualTo(1);
+        assertThat(singleFlight.getJoins()).isEqualTo(2);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    void executeAsyncExceptionTest() {
+        // given, when
+        CompletableFuture<String> result = singleFlight.executeAsync(1L,
+                () -> CompletableFuture.failedFuture(new IllegalStateException()));
+
+        // then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    void executeExceptionTest() {
+        // given, when, then
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package rcm.rcmarket.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatConnectionTest {
+    @Mock WebSocketSession session;
+    Queue<Runnable> tasks = new ArrayDeque<>();
+    Executor sender = tasks::add; // 테스트가 runTasks로 직접 sender 역할을 한다
+    Counter dropped = new SimpleMeterRegistry().counter("rcmarket.chat.outbound.dropped");
+
+    @Test
+    void sendTest() throws IOException {
+        // given
+        ChatConnection connection = new ChatConnection(session, 1L, 8, sender, dropped);
+        TextMessage first = new TextMessage("first");
+        TextMessage second = new TextMessage("second");
+
+        // when
+        connection.send(first);
+        connection.send(second);
+        runTasks();
+
+        // then
+        var order = inOrder(session);
+        order.verify(session).sendMessage(first);
+        order.verify(session).sendMessage(second);
+    }
+
+    // 연결마다 drain 작업은 한 번에 하나만 스케줄된다
+    @Test
+    void scheduleOnceTest() {
+        // given
+        ChatConnection connection = new ChatConnection(session, 1L, 8, sender, dropped);
+
+        // when
+        for(int i = 0; i < 5; i++) connection.send(new TextMessage("message" + i));
+
+        // then
+        assertThat(tasks).hasSize(1);
+    }
+
+    // 큐가 넘치면 쌓인 메시지를 버리고 연결을 닫는다, 이후 메시지는 받지 않는다
+    @Test
+    void slowConsumerTest() throws IOException {
+        // given
+        given(session.isOpen()).willReturn(true);
+        ChatConnection connection = new ChatConnection(session, 1L, 2, sender, dropped);
+        connection.send(new TextMessage("first"));
+        connection.send(new TextMessage("second"));
+
+        // when
+        boolean result = connection.send(new TextMessage("third"));
+        runTasks();
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(connection.send(new TextMessage("fourth"))).isFalse();
+        verify(session, never()).sendMessage(any());
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(dropped.count()).isEqualTo(1);
+    }
+
+    @Test
+    void closeBySendFailureTest() throws IOException {
+        // given
+        given(session.isOpen()).willReturn(true);
+        willThrow(IOException.class).given(session).sendMessage(any());
+        ChatConnection connection = new ChatConnection(session, 1L, 8, sender, dropped);
+
+        // when
+        connection.send(new TextMessage("message"));
+        runTasks();
+
+        // then
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(connection.send(new TextMessage("next"))).isFalse();
+    }
+
+    void runTasks() {
+        Runnable task;
+        while((task = tasks.poll()) != null) task.run();
+    }
+}
@@ -0,0 +1,159 @@
+package rcm.rcmarket.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+import rcm.rcmarket.exception.ConversationNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatPipelineTest {
+    static final long BAD_CONVERSATION_ID = 99L;
+    static final long FOREIGN_CONVERSATION_ID = 98L;
+
+    @Mock ChatMessageWriter chatMessageWriter;
+    @Mock ChatSessionRegistry chatSessionRegistry;
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ChatPipeline chatPipeline;
+    List<Integer> batchSizes = new ArrayList<>();
+    AtomicLong messageSequence = new AtomicLong();
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        chatPipeline.stop();
+    }
+
+    // 저장된 메시지는 JSON 한 번으로 두 참여자에게 보낸다
+    @Test
+    void deliverTest() throws Exception {
+        // given
+        chatPipeline = pipeline(1024, 8, 50);
+        chatPipeline.submit(message(mock(ChatConnection.class), 1L, "c-1"));
+        chatPipeline.start();
+
+        // when
+        chatPipeline.stop();
+
+        // then
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(chatSessionRegistry).send(eq(List.of(1L, 2L)), captor.capture());
+        assertThat(captor.getValue().getPayload()).contains("\"type\":\"message\"", "\"clientMessageId\":\"c-1\"", "\"content\":\"content\"");
+    }
+
+    @Test
+    void batchTest() throws Exception {
+        // given
+        chatPipeline = pipeline(1024, 8, 50);
+        for(int i = 0; i < 20; i++) chatPipeline.submit(message(mock(ChatConnection.class), 1L, null));
+        chatPipeline.start();
+
+        // when
+        chatPipeline.stop();
+
+        // then
+        assertThat(batchSizes).allMatch(size -> size <= 8);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+        verify(chatSessionRegistry, times(20)).send(eq(List.of(1L, 2L)), any());
+    }
+
+    // 참여자가 아닌 대화방의 메시지는 보낸 연결에만 오류를 돌려준다
+    @Test
+    void notParticipantTest() throws Exception {
+        // given
+        ChatConnection origin = mock(ChatConnection.class);
+        chatPipeline = pipeline(1024, 8, 50);
+        chatPipeline.submit(message(origin, FOREIGN_CONVERSATION_ID, "c-1"));
+        chatPipeline.start();
+
+        // when
+        chatPipeline.stop();
+
+        // then
+        assertThat(errorOf(origin)).contains("\"error\":\"not-participant\"", "\"clientMessageId\":\"c-1\"");
+    }
+
+    // 배치가 실패하면 하나씩 다시 커밋해서 실패한 메시지에만 오류를 돌려준다
+    @Test
+    void batchFailureTest() throws Exception {
+        // given
+        ChatConnection bad = mock(ChatConnection.class);
+        chatPipeline = pipeline(1024, 8, 50);
+        chatPipeline.submit(message(mock(ChatConnection.class), 1L, null));
+        chatPipeline.submit(message(bad, BAD_CONVERSATION_ID, "c-2"));
+        chatPipeline.submit(message(mock(ChatConnection.class), 1L, null));
+        chatPipeline.start();
+
+        // when
+        chatPipeline.stop();
+
+        // then
+        assertThat(batchSizes).containsExactly(3, 1, 1, 1);
+        assertThat(meterRegistry.get("rcmarket.chat.batch.size").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("rcmarket.chat.batch.size").summary().totalAmount()).isEqualTo(3);
+        assertThat(errorOf(bad)).contains("\"error\":\"failed\"", "\"clientMessageId\":\"c-2\"");
+        verify(chatSessionRegistry, times(2)).send(eq(List.of(1L, 2L)), any());
+    }
+
+    @Test
+    void submitFailureByQueueFullTest() {
+        // given
+        chatPipeline = new ChatPipeline(chatMessageWriter, chatSessionRegistry, objectMapper, meterRegistry, 1, 8, 50);
+        chatPipeline.submit(message(mock(ChatConnection.class), 1L, null));
+
+        // when
+        boolean result = chatPipeline.submit(message(mock(ChatConnection.class), 1L, null));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(meterRegistry.get("rcmarket.chat.queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    ChatPipeline pipeline(int capacity, int batchSize, long maxLatencyMs) {
+        given(chatMessageWriter.write(anyList())).willAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size()); // writer 스레드 하나만 호출한다
+            if(batch.stream().anyMatch(message -> message.getConversationId() == BAD_CONVERSATION_ID)) {
+                throw new ConversationNotFoundException();
+            }
+            return batch.stream().map(this::toDelivery).collect(Collectors.toList());
+        });
+        return new ChatPipeline(chatMessageWriter, chatSessionRegistry, objectMapper, meterRegistry, capacity, batchSize, maxLatencyMs);
+    }
+
+    PendingChatMessage message(ChatConnection origin, Long conversationId, String clientMessageId) {
+        return new PendingChatMessage(origin, conversationId, "content", clientMessageId);
+    }
+
+    ChatDelivery toDelivery(PendingChatMessage message) {
+        if(message.getConversationId() == FOREIGN_CONVERSATION_ID) return null;
+        return new ChatDelivery(new ChatMessageDto(messageSequence.incrementAndGet(), message.getConversationId(),
+                1L, message.getContent(), null), List.of(1L, 2L));
+    }
+
+    String errorOf(ChatConnection origin) {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(origin).send(captor.capture());
+        return captor.getValue().getPayload();
+    }
+}
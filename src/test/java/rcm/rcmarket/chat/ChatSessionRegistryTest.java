@@ -0,0 +1,92 @@
+package rcm.rcmarket.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ChatSessionRegistryTest {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ChatSessionRegistry chatSessionRegistry = new ChatSessionRegistry(meterRegistry);
+
+    // 한 회원의 여러 연결에 모두 보내고, 다른 회원의 연결에는 보내지 않는다
+    @Test
+    void sendTest() {
+        // given
+        ChatConnection phone = connection(1L);
+        ChatConnection browser = connection(1L);
+        ChatConnection other = connection(2L);
+        TextMessage message = new TextMessage("message");
+        chatSessionRegistry.register(phone);
+        chatSessionRegistry.register(browser);
+        chatSessionRegistry.register(other);
+
+        // when
+        chatSessionRegistry.send(List.of(1L, 3L), message);
+
+        // then
+        verify(phone).send(message);
+        verify(browser).send(message);
+        verify(other, never()).send(message);
+        assertThat(chatSessionRegistry.size()).isEqualTo(3);
+        assertThat(meterRegistry.get("rcmarket.chat.connections").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("rcmarket.chat.members").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void unregisterTest() {
+        // given
+        ChatConnection connection = connection(1L);
+        chatSessionRegistry.register(connection);
+
+        // when
+        chatSessionRegistry.unregister(connection);
+        chatSessionRegistry.unregister(connection);
+        chatSessionRegistry.send(List.of(1L), new TextMessage("message"));
+
+        // then
+        verify(connection, never()).send(any());
+        assertThat(chatSessionRegistry.size()).isZero();
+    }
+
+    // 여러 스레드가 같은 회원의 연결을 동시에 등록, 해제해도 수가 맞는다
+    @Test
+    void concurrentRegisterTest() throws InterruptedException {
+        // given
+        int threads = 8;
+        int perThread = 1000;
+        Counter dropped = meterRegistry.counter("rcmarket.chat.outbound.dropped");
+        Thread[] workers = new Thread[threads];
+        for(int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for(int i = 0; i < perThread; i++) {
+                    ChatConnection connection = new ChatConnection(null, (long) (i % 4), 1, Runnable::run, dropped);
+                    chatSessionRegistry.register(connection);
+                    if(i % 2 == 0) chatSessionRegistry.unregister(connection);
+                }
+            });
+        }
+
+        // when
+        for(Thread worker : workers) worker.start();
+        for(Thread worker : workers) worker.join();
+
+        // then
+        assertThat(chatSessionRegistry.size()).isEqualTo(threads * perThread / 2);
+    }
+
+    ChatConnection connection(Long memberId) {
+        ChatConnection connection = mock(ChatConnection.class);
+        when(connection.getMemberId()).thenReturn(memberId);
+        return connection;
+    }
+}
@@ -0,0 +1,82 @@
+package rcm.rcmarket.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.init.TestInitDB;
+import rcm.rcmarket.service.sign.SignService;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// @SpringBootTest는 기본적으로 메트릭 내보내기를 끄므로 @AutoConfigureMetrics로 prometheus 엔드포인트를 켠다
+@SpringBootTest
+@AutoConfigureMetrics
+@ActiveProfiles(value = "test")
+@Transactional
+public class ActuatorSecurityIntegrationTest {
+    @Autowired WebApplicationContext context;
+    @Autowired TestInitDB initDB;
+    @Autowired SignService signService;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        initDB.initDB();
+    }
+
+    @Test
+    void healthTest() throws Exception {
+        // given, when, then
+        mockMvc.perform(
+                get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void prometheusUnauthorizedTest() throws Exception {
+        // given, when, then
+        mockMvc.perform(
+                get("/actuator/prometheus"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/entry-point"));
+    }
+
+    @Test
+    void prometheusAccessDeniedByNormalMemberTest() throws Exception {
+        // given
+        SignInResponse signInRes = signService.signIn(new SignInRequest(initDB.getMember1Email(), initDB.getPassword()));
+
+        // when, then
+        mockMvc.perform(
+                get("/actuator/prometheus").header("Authorization", signInRes.getAccessToken()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/access-denied"));
+    }
+
+    @Test
+    void prometheusByAdminTest() throws Exception {
+        // given
+        SignInResponse adminSignInRes = signService.signIn(new SignInRequest(initDB.getAdminEmail(), initDB.getPassword()));
+
+        // when, then
+        mockMvc.perform(
+                get("/actuator/prometheus").header("Authorization", adminSignInRes.getAccessToken()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("application=\"rcmarket\"")));
+    }
+}
@@ -0,0 +1,86 @@
+package rcm.rcmarket.config.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeferredSecurityContextTest {
+
+    @Test
+    void notResolvedUntilReadTest() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        DeferredSecurityContext context = new DeferredSecurityContext(counting(calls, authentication()));
+
+        // then
+        assertThat(context.isResolved()).isFalse();
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    void resolveOnceTest() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Authentication authentication = authentication();
+        DeferredSecurityContext context = new DeferredSecurityContext(counting(calls, authentication));
+
+        // when
+        context.getAuthentication();
+        context.getAuthentication();
+
+        // then
+        assertThat(context.getAuthentication()).isSameAs(authentication);
+        assertThat(context.isResolved()).isTrue();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    // 유효하지 않은 토큰이라 null이 나와도 다시 검증하지 않는다
+    @Test
+    void resolveNullOnceTest() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        DeferredSecurityContext context = new DeferredSecurityContext(counting(calls, null));
+
+        // when
+        context.getAuthentication();
+        context.getAuthentication();
+
+        // then
+        assertThat(context.getAuthentication()).isNull();
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void setAuthenticationSkipsSupplierTest() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Authentication authentication = authentication();
+        DeferredSecurityContext context = new DeferredSecurityContext(counting(calls, null));
+
+        // when
+        context.setAuthentication(authentication);
+
+        // then
+        assertThat(context.getAuthentication()).isSameAs(authentication);
+        assertThat(calls.get()).isZero();
+    }
+
+    private Supplier<Authentication> counting(AtomicInteger calls, Authentication authentication) {
+        return () -> {
+            calls.incrementAndGet();
+            return authentication;
+        };
+    }
+
+    private Authentication authentication() {
+        CustomUserDetails userDetails = new CustomUserDetails("1", Set.of());
+        return new CustomAuthenticationToken(userDetails, userDetails.getAuthorities());
+    }
+}
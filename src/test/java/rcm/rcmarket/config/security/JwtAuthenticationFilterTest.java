@@ -0,0 +1,130 @@
+package rcm.rcmarket.config.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import rcm.rcmarket.config.token.TokenHelper;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationFilterTest {
+    @Mock TokenHelper tokenHelper;
+    @Mock CustomUserDetailsService userDetailsService;
+    JwtAuthenticationFilter filter;
+    SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(tokenHelper, userDetailsService, meterRegistry);
+    }
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // permitAll 경로처럼 아무도 인증 정보를 꺼내지 않으면 잘못된 토큰이어도 검증과 회원 조회가 일어나지 않는다
+    @Test
+    void notResolvedWithoutReadTest() throws Exception {
+        // when
+        filter.doFilter(request("invalid"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext()).isInstanceOf(DeferredSecurityContext.class);
+        verify(tokenHelper, never()).validate(anyString());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        assertThat(meterRegistry.get("rcmarket.auth.filter").tag("phase", "verify").timer().count()).isZero();
+    }
+
+    // 인가 규칙과 컨트롤러가 여러 번 꺼내도 토큰 검증과 회원 조회는 요청마다 한 번이다
+    @Test
+    void resolveOnceTest() throws Exception {
+        // given
+        CustomUserDetails userDetails = new CustomUserDetails("1", Set.of());
+        given(tokenHelper.validate("token")).willReturn(true);
+        given(tokenHelper.extractSubject("token")).willReturn("1");
+        given(userDetailsService.loadUserByUsername("1")).willReturn(userDetails);
+        filter.doFilter(request("token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        Authentication first = SecurityContextHolder.getContext().getAuthentication();
+        Authentication second = SecurityContextHolder.getContext().getAuthentication();
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getPrincipal()).isSameAs(userDetails);
+        verify(tokenHelper, times(1)).validate("token");
+        verify(userDetailsService, times(1)).loadUserByUsername("1");
+        assertThat(meterRegistry.get("rcmarket.auth.filter.result").tag("result", "authenticated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidTokenTest() throws Exception {
+        // given
+        given(tokenHelper.validate("invalid")).willReturn(false);
+        filter.doFilter(request("invalid"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        SecurityContextHolder.getContext().getAuthentication();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // then
+        assertThat(authentication).isNull();
+        verify(tokenHelper, times(1)).validate("invalid");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        assertThat(meterRegistry.get("rcmarket.auth.filter.result").tag("result", "invalid-token").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownMemberTest() throws Exception {
+        // given
+        given(tokenHelper.validate("token")).willReturn(true);
+        given(tokenHelper.extractSubject("token")).willReturn("1");
+        given(userDetailsService.loadUserByUsername("1")).willThrow(new UsernameNotFoundException("1"));
+        filter.doFilter(request("token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // when
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // then
+        assertThat(authentication).isNull();
+        assertThat(meterRegistry.get("rcmarket.auth.filter.result").tag("result", "unknown-member").counter().count()).isEqualTo(1);
+    }
+
+    // 토큰이 없으면 컨텍스트를 바꾸지 않는다
+    @Test
+    void noTokenTest() throws Exception {
+        // when
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext()).isNotInstanceOf(DeferredSecurityContext.class);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(tokenHelper, never()).validate(anyString());
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", token);
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package rcm.rcmarket.config.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.init.TestInitDB;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.service.sign.SignService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// JwtAuthenticationFilter는 토큰 검증과 회원 조회를 rcmarket.auth.filter 타이머로 감싸므로
+// 타이머 횟수로 요청마다 검증이 몇 번 일어났는지 확인한다
+@SpringBootTest
+@ActiveProfiles(value = "test")
+@Transactional
+public class SecurityConfigIntegrationTest {
+    @Autowired WebApplicationContext context;
+    @Autowired TestInitDB initDB;
+    @Autowired SignService signService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired MeterRegistry meterRegistry;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        initDB.initDB();
+    }
+
+    // permitAll 경로는 잘못된 토큰이 와도 검증하지 않고 통과시킨다
+    @Test
+    void permitAllWithInvalidTokenTest() throws Exception {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+        long verified = phaseCount("verify");
+        long loaded = phaseCount("user-load");
+
+        // when, then
+        mockMvc.perform(
+                get("/api/members/{id}", member.getId()).header("Authorization", "invalid"))
+                .andExpect(status().isOk());
+        assertThat(phaseCount("verify")).isEqualTo(verified);
+        assertThat(phaseCount("user-load")).isEqualTo(loaded);
+    }
+
+    @Test
+    void guardedWithoutTokenTest() throws Exception {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+
+        // when
+        MvcResult result = mockMvc.perform(
+                delete("/api/members/{id}", member.getId()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/entry-point"))
+                .andReturn();
+
+        // then
+        mockMvc.perform(
+                get(result.getResponse().getRedirectedUrl()))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(-1001));
+    }
+
+    // 인가 규칙과 컨트롤러가 모두 인증 정보를 꺼내도 토큰 검증과 회원 조회는 한 번씩만 일어난다
+    @Test
+    void resolveOncePerRequestTest() throws Exception {
+        // given
+        SignInResponse signInRes = signService.signIn(new SignInRequest(initDB.getMember1Email(), initDB.getPassword()));
+        long verified = phaseCount("verify");
+        long loaded = phaseCount("user-load");
+
+        // when, then
+        mockMvc.perform(
+                get("/api/favorites").param("productIds", "1").header("Authorization", signInRes.getAccessToken()))
+                .andExpect(status().isOk());
+        assertThat(phaseCount("verify")).isEqualTo(verified + 1);
+        assertThat(phaseCount("user-load")).isEqualTo(loaded + 1);
+    }
+
+    // 숫자가 아닌 {id}는 500이 아니라 접근 거부로 끝난다
+    @Test
+    void guardWithNonNumericIdTest() throws Exception {
+        // given
+        SignInResponse signInRes = signService.signIn(new SignInRequest(initDB.getMember1Email(), initDB.getPassword()));
+
+        // when, then
+        mockMvc.perform(
+                delete("/api/members/{id}", "abc").header("Authorization", signInRes.getAccessToken()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/access-denied"));
+    }
+
+    private long phaseCount(String phase) {
+        return meterRegistry.get("rcmarket.auth.filter").tag("phase", phase).timer().count();
+    }
+}
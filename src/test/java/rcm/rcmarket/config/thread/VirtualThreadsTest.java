@@ -0,0 +1,51 @@
+package rcm.rcmarket.config.thread;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadsTest {
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void unsupportedRuntimeTest() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        // when, then
+        assertThatThrownBy(() -> VirtualThreads.factory("vt-"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // -PvirtualThreads로 JDK 21에서 실행할 때만 검사한다
+    @Test
+    void securityContextPropagationTest() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        // given
+        Authentication authentication = new TestingAuthenticationToken("1", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        DelegatingSecurityContextAsyncTaskExecutor executor = new DelegatingSecurityContextAsyncTaskExecutor(
+                new TaskExecutorAdapter(VirtualThreads.newVirtualThreadPerTaskExecutor("test-vt-")));
+
+        // when
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+        Authentication propagated = executor.submit(() -> SecurityContextHolder.getContext().getAuthentication()).get();
+
+        // then
+        assertThat(threadName).startsWith("test-vt-");
+        assertThat(propagated).isSameAs(authentication);
+    }
+}
@@ -0,0 +1,67 @@
+package rcm.rcmarket.config.timing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServerTimingFilterTest {
+
+    private static final String[] TRUSTED = {"127.0.0.1/32", "10.0.0.0/8"};
+
+    @Test
+    void trustedNetworkTest() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(true, 1.0, TRUSTED);
+        AtomicReference<Boolean> exposed = new AtomicReference<>();
+
+        // when
+        filter.doFilter(createRequest("10.1.2.3"), new MockHttpServletResponse(), captureExposed(exposed));
+
+        // then
+        assertThat(exposed.get()).isTrue();
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    // 신뢰하지 않는 네트워크에서 온 요청은 기록만 하고 헤더로 내보내지 않는다
+    @Test
+    void untrustedNetworkTest() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(true, 1.0, TRUSTED);
+        AtomicReference<Boolean> exposed = new AtomicReference<>();
+
+        // when
+        filter.doFilter(createRequest("203.0.113.7"), new MockHttpServletResponse(), captureExposed(exposed));
+
+        // then
+        assertThat(exposed.get()).isFalse();
+    }
+
+    @Test
+    void disabledTest() throws Exception {
+        // given
+        ServerTimingFilter filter = new ServerTimingFilter(false, 1.0, TRUSTED);
+        AtomicReference<Boolean> exposed = new AtomicReference<>();
+
+        // when
+        filter.doFilter(createRequest("127.0.0.1"), new MockHttpServletResponse(),
+                (req, res) -> exposed.set(ServerTiming.current() != null));
+
+        // then
+        assertThat(exposed.get()).isFalse();
+    }
+
+    private MockHttpServletRequest createRequest(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/1");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private FilterChain captureExposed(AtomicReference<Boolean> exposed) {
+        return (req, res) -> exposed.set(ServerTiming.current().isExposed());
+    }
+}
@@ -0,0 +1,69 @@
+package rcm.rcmarket.config.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServerTimingTest {
+
+    @AfterEach
+    void afterEach() {
+        ServerTiming.end();
+    }
+
+    // 기록 중이 아니면 아무것도 남기지 않는다
+    @Test
+    void inactiveTest() {
+        // when
+        long start = ServerTiming.start();
+        ServerTiming.stop("db", start);
+
+        // then
+        assertThat(start).isZero();
+        assertThat(ServerTiming.current()).isNull();
+    }
+
+    @Test
+    void headerValueTest() {
+        // given
+        ServerTiming.begin(true);
+
+        // when
+        ServerTiming.stop("db", ServerTiming.start());
+        ServerTiming.stop("password", ServerTiming.start());
+
+        // then
+        assertThat(ServerTiming.current().toHeaderValue())
+                .matches("db;dur=\\d+\\.\\d{3}, password;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+    }
+
+    // 같은 이름으로 여러 번 기록하면 한 항목으로 합쳐진다
+    @Test
+    void accumulateTest() {
+        // given
+        ServerTiming.begin(true);
+
+        // when
+        ServerTiming.stop("token", ServerTiming.start());
+        ServerTiming.stop("token", ServerTiming.start());
+
+        // then
+        assertThat(ServerTiming.current().toHeaderValue()).matches("token;dur=[^,]+, total;dur=.+");
+    }
+
+    // 요청이 끝나면 이전 기록이 다음 요청에 남지 않는다
+    @Test
+    void endTest() {
+        // given
+        ServerTiming.begin(true);
+        ServerTiming.stop("db", ServerTiming.start());
+
+        // when
+        ServerTiming.end();
+        ServerTiming.begin(true);
+
+        // then
+        assertThat(ServerTiming.current().toHeaderValue()).startsWith("total;dur=");
+    }
+}
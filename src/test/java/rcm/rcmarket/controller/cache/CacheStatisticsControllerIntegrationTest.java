@@ -0,0 +1,71 @@
+package rcm.rcmarket.controller.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.init.TestInitDB;
+import rcm.rcmarket.service.sign.SignService;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 2차 캐시 region 통계는 SecurityConfig의 /api/admin/** 규칙에 따라 관리자만 조회할 수 있다
+@SpringBootTest
+@ActiveProfiles(value = "test")
+@Transactional
+public class CacheStatisticsControllerIntegrationTest {
+    @Autowired WebApplicationContext context;
+    @Autowired TestInitDB initDB;
+    @Autowired SignService signService;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        initDB.initDB();
+    }
+
+    @Test
+    void readRegionsByAdminTest() throws Exception {
+        // given
+        SignInResponse adminSignInRes = signService.signIn(new SignInRequest(initDB.getAdminEmail(), initDB.getPassword()));
+
+        // when, then
+        mockMvc.perform(
+                get("/api/admin/cache-regions").header("Authorization", adminSignInRes.getAccessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data[?(@.region == 'rcm.rcmarket.entity.member.Member')]").exists());
+    }
+
+    @Test
+    void readRegionsUnauthorizedTest() throws Exception {
+        // given, when, then
+        mockMvc.perform(
+                get("/api/admin/cache-regions"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/entry-point"));
+    }
+
+    @Test
+    void readRegionsAccessDeniedByNormalMemberTest() throws Exception {
+        // given
+        SignInResponse signInRes = signService.signIn(new SignInRequest(initDB.getMember1Email(), initDB.getPassword()));
+
+        // when, then
+        mockMvc.perform(
+                get("/api/admin/cache-regions").header("Authorization", signInRes.getAccessToken()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/exception/access-denied"));
+    }
+}
@@ -0,0 +1,50 @@
+package rcm.rcmarket.controller.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.dto.cache.CacheRegionStatisticsDto;
+import rcm.rcmarket.service.cache.CacheStatisticsService;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheStatisticsControllerTest {
+    @InjectMocks CacheStatisticsController cacheStatisticsController;
+    @Mock CacheStatisticsService cacheStatisticsService;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(cacheStatisticsController)
+                .setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void readRegionsTest() throws Exception {
+        // given
+        given(cacheStatisticsService.readRegions()).willReturn(
+                List.of(new CacheRegionStatisticsDto("rcm.rcmarket.entity.member.Member", 3, 1, 1, 1)));
+
+        // when, then
+        mockMvc.perform(
+                get("/api/admin/cache-regions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data[0].region").value("rcm.rcmarket.entity.member.Member"))
+                .andExpect(jsonPath("$.result.data[0].hitCount").value(3));
+        verify(cacheStatisticsService).readRegions();
+    }
+}
@@ -0,0 +1,102 @@
+package rcm.rcmarket.controller.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+import rcm.rcmarket.dto.chat.ChatMessageListDto;
+import rcm.rcmarket.dto.chat.ChatMessageReadCondition;
+import rcm.rcmarket.dto.chat.ConversationDto;
+import rcm.rcmarket.exception.ConversationNotFoundException;
+import rcm.rcmarket.exception.SelfConversationException;
+import rcm.rcmarket.service.chat.ChatService;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatControllerTest {
+    @InjectMocks ChatController chatController;
+    @Mock ChatService chatService;
+    @Mock AuthHelper authHelper;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(chatController).setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void createTest() throws Exception {
+        // given
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(chatService.create(1L, 3L)).willReturn(new ConversationDto(10L, 1L, 3L, 2L, null));
+
+        // when, then
+        mockMvc.perform(post("/api/products/{id}/conversations", 1L))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.result.data.id").value(10))
+                .andExpect(jsonPath("$.result.data.sellerId").value(2));
+    }
+
+    @Test
+    void createExceptionBySelfConversationTest() throws Exception {
+        // given
+        given(authHelper.extractMemberId()).willReturn(2L);
+        given(chatService.create(1L, 2L)).willThrow(SelfConversationException.class);
+
+        // when, then
+        mockMvc.perform(post("/api/products/{id}/conversations", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(-1024));
+    }
+
+    @Test
+    void readAllTest() throws Exception {
+        // given
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(chatService.readAll(3L)).willReturn(List.of(new ConversationDto(10L, 1L, 3L, 2L, null)));
+
+        // when, then
+        mockMvc.perform(get("/api/conversations"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data[0].id").value(10));
+    }
+
+    @Test
+    void readMessagesTest() throws Exception {
+        // given
+        given(chatService.readMessages(10L, new ChatMessageReadCondition(100L, 2)))
+                .willReturn(new ChatMessageListDto(List.of(new ChatMessageDto(99L, 10L, 3L, "hello", null)), true, 99L));
+
+        // when, then
+        mockMvc.perform(get("/api/conversations/{id}/messages", 10L).param("cursor", "100").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data.messages[0].content").value("hello"))
+                .andExpect(jsonPath("$.result.data.nextCursor").value(99));
+    }
+
+    @Test
+    void readMessagesExceptionByConversationNotFoundTest() throws Exception {
+        // given
+        given(chatService.readMessages(10L, new ChatMessageReadCondition())).willThrow(ConversationNotFoundException.class);
+
+        // when, then
+        mockMvc.perform(get("/api/conversations/{id}/messages", 10L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(-1023));
+    }
+}
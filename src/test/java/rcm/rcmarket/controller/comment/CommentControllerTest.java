@@ -0,0 +1,127 @@
+package rcm.rcmarket.controller.comment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.comment.CommentCreateRequest;
+import rcm.rcmarket.dto.comment.CommentDto;
+import rcm.rcmarket.dto.comment.CommentListDto;
+import rcm.rcmarket.dto.comment.CommentReadCondition;
+import rcm.rcmarket.exception.CommentDepthExceededException;
+import rcm.rcmarket.exception.CommentNotFoundException;
+import rcm.rcmarket.service.comment.CommentService;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentControllerTest {
+    @InjectMocks CommentController commentController;
+    @Mock CommentService commentService;
+    @Mock AuthHelper authHelper;
+    MockMvc mockMvc;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(commentController).setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void readAllTest() throws Exception {
+        // given
+        CommentDto root = new CommentDto(10L, null, 1L, "nickname", "question", false, null);
+        root.getChildren().add(new CommentDto(11L, 10L, 2L, "seller", "answer", false, null));
+        given(commentService.readAll(1L, new CommentReadCondition(30L, 5)))
+                .willReturn(new CommentListDto(List.of(root), true, 10L));
+
+        // when, then
+        mockMvc.perform(get("/api/products/{id}/comments", 1L).param("cursor", "30").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data.comments[0].children[0].content").value("answer"))
+                .andExpect(jsonPath("$.result.data.nextCursor").value(10));
+    }
+
+    @Test
+    void readExceptionByCommentNotFoundTest() throws Exception {
+        // given
+        given(commentService.read(1L)).willThrow(CommentNotFoundException.class);
+
+        // when, then
+        mockMvc.perform(get("/api/comments/{id}", 1L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(-1017));
+    }
+
+    @Test
+    void createTest() throws Exception {
+        // given
+        CommentCreateRequest req = new CommentCreateRequest("content", null);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(commentService.create(1L, req, 3L)).willReturn(new CommentDto(10L, null, 3L, "nickname", "content", false, null));
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products/{id}/comments", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isCreated())
+                .andExpect(jsonPath("$.result.data.id").value(10));
+    }
+
+    @Test
+    void createExceptionByDepthExceededTest() throws Exception {
+        // given
+        CommentCreateRequest req = new CommentCreateRequest("content", 5L);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(commentService.create(1L, req, 3L)).willThrow(CommentDepthExceededException.class);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products/{id}/comments", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(-1018));
+    }
+
+    @Test
+    void createExceptionByBlankContentTest() throws Exception {
+        // given
+        CommentCreateRequest req = new CommentCreateRequest(" ", null);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products/{id}/comments", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteTest() throws Exception {
+        // when
+        mockMvc.perform(delete("/api/comments/{id}", 1L))
+                .andExpect(status().isOk());
+
+        // then
+        verify(commentService).delete(1L);
+    }
+}
@@ -1,5 +1,6 @@
 package rcm.rcmarket.controller.exception;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import rcm.rcmarket.advice.ExceptionAdvice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -17,11 +19,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class ExceptionControllerAdviceTest {
     @InjectMocks ExceptionController exceptionController;
     MockMvc mockMvc;
+    SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
         mockMvc = MockMvcBuilders.standaloneSetup(exceptionController)
-                .setControllerAdvice(new ExceptionAdvice()).build();
+                .setControllerAdvice(new ExceptionAdvice(meterRegistry)).build();
     }
 
     @Test
@@ -41,4 +45,17 @@ public class ExceptionControllerAdviceTest {
                 .andExpect(status().isForbidden())
                 .andExpect(jsonPath("$.code").value(-1002));
     }
+
+    // 실패 응답은 주입받은 레지스트리의 rcmarket.api.failure 카운터에 코드별로 집계된다
+    @Test
+    void failureCounterTest() throws Exception {
+        // when
+        mockMvc.perform(get("/exception/entry-point"));
+        mockMvc.perform(get("/exception/entry-point"));
+        mockMvc.perform(get("/exception/access-denied"));
+
+        // then
+        assertThat(meterRegistry.get("rcmarket.api.failure").tag("code", "-1001").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("rcmarket.api.failure").tag("code", "-1002").counter().count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,99 @@
+package rcm.rcmarket.controller.favorite;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.favorite.FavoriteCheckDto;
+import rcm.rcmarket.dto.favorite.FavoriteDto;
+import rcm.rcmarket.dto.favorite.FavoriteUpdateRequest;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.service.favorite.FavoriteService;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class FavoriteControllerTest {
+    @InjectMocks FavoriteController favoriteController;
+    @Mock FavoriteService favoriteService;
+    @Mock AuthHelper authHelper;
+    MockMvc mockMvc;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(favoriteController).setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void updateTest() throws Exception {
+        // given
+        FavoriteUpdateRequest req = new FavoriteUpdateRequest(true);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(favoriteService.update(1L, req, 3L)).willReturn(new FavoriteDto(1L, true));
+
+        // when, then
+        mockMvc.perform(
+                put("/api/products/{id}/favorite", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data.productId").value(1))
+                .andExpect(jsonPath("$.result.data.liked").value(true));
+    }
+
+    @Test
+    void updateExceptionByProductNotFoundTest() throws Exception {
+        // given
+        FavoriteUpdateRequest req = new FavoriteUpdateRequest(true);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(favoriteService.update(1L, req, 3L)).willThrow(ProductNotFoundException.class);
+
+        // when, then
+        mockMvc.perform(
+                put("/api/products/{id}/favorite", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateExceptionByEmptyLikedTest() throws Exception {
+        // given
+        FavoriteUpdateRequest req = new FavoriteUpdateRequest(null);
+
+        // when, then
+        mockMvc.perform(
+                put("/api/products/{id}/favorite", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void checkTest() throws Exception {
+        // given
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(favoriteService.check(List.of(1L, 2L, 5L), 3L)).willReturn(new FavoriteCheckDto(List.of(2L)));
+
+        // when, then
+        mockMvc.perform(get("/api/favorites").param("productIds", "1,2,5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data.likedProductIds[0]").value(2));
+    }
+}
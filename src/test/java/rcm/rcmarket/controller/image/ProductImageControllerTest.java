@@ -0,0 +1,125 @@
+package rcm.rcmarket.controller.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.dto.image.ProductImageDto;
+import rcm.rcmarket.exception.ImageNotFoundException;
+import rcm.rcmarket.exception.InvalidImageException;
+import rcm.rcmarket.image.FileSender;
+import rcm.rcmarket.image.ImageFile;
+import rcm.rcmarket.service.image.ProductImageService;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductImageControllerTest {
+    @InjectMocks ProductImageController productImageController;
+    @Mock ProductImageService productImageService;
+    @Mock FileSender fileSender;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(productImageController).setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void uploadTest() throws Exception {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "a.png", "image/png", new byte[]{1, 2, 3});
+        given(productImageService.upload(eq(1L), any())).willReturn(
+                new ProductImageDto(5L, 1L, "image/png", 3L, "/api/images/5", "/api/images/5/thumbnail", null));
+
+        // when, then
+        mockMvc.perform(multipart("/api/products/{id}/images", 1L).file(image))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.result.data.url").value("/api/images/5"));
+    }
+
+    @Test
+    void uploadExceptionByInvalidImageTest() throws Exception {
+        // given
+        MockMultipartFile image = new MockMultipartFile("image", "a.png", "image/png", new byte[]{1, 2, 3});
+        given(productImageService.upload(eq(1L), any())).willThrow(InvalidImageException.class);
+
+        // when, then
+        mockMvc.perform(multipart("/api/products/{id}/images", 1L).file(image))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(-1020));
+    }
+
+    @Test
+    void uploadExceptionByMissingPartTest() throws Exception {
+        // when, then
+        mockMvc.perform(multipart("/api/products/{id}/images", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(-1022));
+    }
+
+    @Test
+    void readAllTest() throws Exception {
+        // given
+        given(productImageService.readAll(1L)).willReturn(List.of(
+                new ProductImageDto(5L, 1L, "image/png", 3L, "/api/images/5", "/api/images/5/thumbnail", null)));
+
+        // when, then
+        mockMvc.perform(get("/api/products/{id}/images", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data[0].thumbnailUrl").value("/api/images/5/thumbnail"));
+    }
+
+    @Test
+    void deleteTest() throws Exception {
+        // when
+        mockMvc.perform(delete("/api/products/{id}/images/{imageId}", 1L, 5L))
+                .andExpect(status().isOk());
+
+        // then
+        verify(productImageService).delete(1L, 5L);
+    }
+
+    @Test
+    void downloadTest() throws Exception {
+        // given
+        ImageFile file = new ImageFile(Paths.get("uuid.png"), "image/png", "uuid.png", true);
+        given(productImageService.findOriginal(5L)).willReturn(file);
+
+        // when
+        mockMvc.perform(get("/api/images/{id}", 5L))
+                .andExpect(status().isOk());
+
+        // then
+        verify(fileSender).send(eq(file), any(), any());
+    }
+
+    @Test
+    void downloadExceptionByImageNotFoundTest() throws Exception {
+        // given
+        given(productImageService.findThumbnail(5L)).willThrow(ImageNotFoundException.class);
+
+        // when, then
+        mockMvc.perform(get("/api/images/{id}/thumbnail", 5L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(-1019));
+    }
+}
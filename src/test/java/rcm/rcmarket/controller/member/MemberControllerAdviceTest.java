@@ -1,5 +1,6 @@
 package rcm.rcmarket.controller.member;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,7 +31,7 @@ public class MemberControllerAdviceTest {
     @BeforeEach
     void beforeEach() {
         mockMvc = MockMvcBuilders.standaloneSetup(memberController)
-                .setControllerAdvice(new ExceptionAdvice()).build();
+                .setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
     }
 
     @Test
@@ -0,0 +1,115 @@
+package rcm.rcmarket.controller.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.order.OrderCreateRequest;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.exception.OrderQueueFullException;
+import rcm.rcmarket.exception.OutOfStockException;
+import rcm.rcmarket.service.order.OrderService;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderControllerTest {
+    @InjectMocks OrderController orderController;
+    @Mock OrderService orderService;
+    @Mock AuthHelper authHelper;
+    MockMvc mockMvc;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(orderController).setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void createTest() throws Exception {
+        // given
+        OrderCreateRequest req = new OrderCreateRequest(1L);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(orderService.create(req, 3L)).willReturn(
+                CompletableFuture.completedFuture(new OrderDto(10L, 3L, 2L, "name", 1, 1000L, LocalDateTime.now())));
+
+        // when
+        MvcResult result = mockMvc.perform(
+                post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.result.data.id").value(10));
+    }
+
+    // 배치 커밋이 실패한 주문은 future의 예외가 ExceptionAdvice로 넘어간다
+    @Test
+    void createExceptionByFailedCommitTest() throws Exception {
+        // given
+        OrderCreateRequest req = new OrderCreateRequest(1L);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(orderService.create(req, 3L)).willReturn(CompletableFuture.failedFuture(new OutOfStockException()));
+
+        // when
+        MvcResult result = mockMvc.perform(
+                post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value(-1013));
+    }
+
+    @Test
+    void createExceptionByQueueFullTest() throws Exception {
+        // given
+        OrderCreateRequest req = new OrderCreateRequest(1L);
+        given(authHelper.extractMemberId()).willReturn(3L);
+        given(orderService.create(req, 3L)).willThrow(OrderQueueFullException.class);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void createExceptionByEmptyReservationTest() throws Exception {
+        // given
+        OrderCreateRequest req = new OrderCreateRequest(null);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isBadRequest());
+    }
+}
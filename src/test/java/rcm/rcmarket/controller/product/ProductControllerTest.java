@@ -0,0 +1,108 @@
+package rcm.rcmarket.controller.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.product.ProductCreateRequest;
+import rcm.rcmarket.dto.product.ProductSearchCondition;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.service.product.ProductService;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static rcm.rcmarket.factory.dto.ProductCreateRequestFactory.createProductCreateRequest;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductControllerTest {
+    @InjectMocks ProductController productController;
+    @Mock ProductService productService;
+    @Mock AuthHelper authHelper;
+    MockMvc mockMvc;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(productController).build();
+    }
+
+    @Test
+    void readAllTest() throws Exception {
+        // given
+        ProductSearchCondition cond = new ProductSearchCondition(Category.DIGITAL, 1000L, 5000L, "cursor", 10);
+
+        // when, then
+        mockMvc.perform(
+                get("/api/products")
+                        .param("category", "DIGITAL")
+                        .param("minPrice", "1000")
+                        .param("maxPrice", "5000")
+                        .param("cursor", "cursor")
+                        .param("size", "10")
+        ).andExpect(status().isOk());
+        verify(productService).readAll(cond);
+    }
+
+    @Test
+    void readTest() throws Exception {
+        // given
+        Long id = 1L;
+
+        // when, then
+        mockMvc.perform(
+                get("/api/products/{id}", id)
+        ).andExpect(status().isOk());
+        verify(productService).read(id);
+    }
+
+    @Test
+    void createTest() throws Exception {
+        // given
+        ProductCreateRequest req = createProductCreateRequest();
+        given(authHelper.extractMemberId()).willReturn(1L);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isCreated());
+        verify(productService).create(req, 1L);
+    }
+
+    @Test
+    void createExceptionByInvalidPriceTest() throws Exception {
+        // given
+        ProductCreateRequest req = createProductCreateRequest("name", Category.DIGITAL, -1L);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteTest() throws Exception {
+        // given
+        Long id = 1L;
+
+        // when, then
+        mockMvc.perform(
+                delete("/api/products/{id}", id)
+        ).andExpect(status().isOk());
+        verify(productService).delete(id);
+    }
+}
@@ -0,0 +1,150 @@
+package rcm.rcmarket.controller.reactive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.init.TestInitDB;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.role.RoleRepository;
+import rcm.rcmarket.service.reactive.ReactiveSignService;
+
+// MemberControllerIntegrationTest를 reactive 프로필(WebFlux 라우트, ReactiveSecurityConfig, R2DBC)에서 실행한다
+// R2DBC는 JPA 트랜잭션에 참여하지 않아 롤백되지 않은 데이터를 볼 수 없으므로
+// @Transactional을 쓰지 않고 TestInitDB로 커밋한 데이터를 테스트가 끝날 때마다 지운다
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles(value = {"test", "reactive"})
+public class MemberHandlerIntegrationTest {
+    @Autowired WebTestClient webTestClient;
+
+    @Autowired TestInitDB initDB;
+    @Autowired ReactiveSignService signService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired RoleRepository roleRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        initDB.initDB();
+    }
+
+    @AfterEach
+    void afterEach() {
+        memberRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    // ReactiveSecurityConfig에서 GET요청은 모두 permitAll 상태다
+    @Test
+    void readTest() {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+
+        // when, then
+        webTestClient.get().uri("/api/members/{id}", member.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result.data.email").isEqualTo(initDB.getMember1Email());
+    }
+
+    @Test
+    void readMemberNotFoundTest() {
+        // given, when, then
+        webTestClient.get().uri("/api/members/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo(-1007);
+    }
+
+    // 로그인하며 발급받은 엑세스 토큰을 Authorization 헤더에 포함하여 요청을 보내면 정상적으로 delete가 수행된다.
+    @Test
+    void deleteTest() {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+        SignInResponse signInRes = signIn(initDB.getMember1Email());
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", member.getId()).header("Authorization", signInRes.getAccessToken())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/members/{id}", member.getId())
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    // 관리자가 로그인해서 발급받은 토큰으로 다른 사용자(member1)의 정보를 삭제할 수 있다.
+    @Test
+    void deleteByAdminTest() {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+        SignInResponse adminSignInRes = signIn(initDB.getAdminEmail());
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", member.getId()).header("Authorization", adminSignInRes.getAccessToken())
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    // 엑세스 토큰 없이 요청하면 /exception/entry-point로 리다이렉트 된다.
+    @Test
+    void deleteUnauthorizedByNoneTokenTest() {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", member.getId())
+                .exchange()
+                .expectStatus().is3xxRedirection()
+                .expectHeader().location("/exception/entry-point");
+    }
+
+    // 관리자가 아닌 사용자가 다른 사람의 정보를 삭제하려 하면 /exception/access-denied로 리다이렉트 된다.
+    @Test
+    void deleteAccessDeniedByNotResourceOwnerTest() {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+        SignInResponse attackerSignInRes = signIn(initDB.getMember2Email());
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", member.getId()).header("Authorization", attackerSignInRes.getAccessToken())
+                .exchange()
+                .expectStatus().is3xxRedirection()
+                .expectHeader().location("/exception/access-denied");
+    }
+
+    // 리프레시 토큰으로는 인증되지 않으므로 /exception/entry-point로 리다이렉트 된다.
+    @Test
+    void deleteUnauthorizedByRefreshTokenTest() {
+        // given
+        Member member = memberRepository.findByEmail(initDB.getMember1Email()).orElseThrow(MemberNotFoundException::new);
+        SignInResponse signInRes = signIn(initDB.getMember1Email());
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", member.getId()).header("Authorization", signInRes.getRefreshToken())
+                .exchange()
+                .expectStatus().is3xxRedirection()
+                .expectHeader().location("/exception/entry-point");
+    }
+
+    // prometheus 엔드포인트는 관리자만 수집할 수 있다
+    @Test
+    void prometheusUnauthorizedTest() {
+        // given, when, then
+        webTestClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().is3xxRedirection()
+                .expectHeader().location("/exception/entry-point");
+    }
+
+    private SignInResponse signIn(String email) {
+        return signService.signIn(new SignInRequest(email, initDB.getPassword())).block();
+    }
+}
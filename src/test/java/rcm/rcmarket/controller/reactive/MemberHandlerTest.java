@@ -0,0 +1,110 @@
+package rcm.rcmarket.controller.reactive;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.advice.ReactiveExceptionHandler;
+import rcm.rcmarket.config.reactive.ReactiveConfig;
+import rcm.rcmarket.dto.member.MemberDto;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.service.reactive.ReactiveMemberService;
+import rcm.rcmarket.service.reactive.ReactiveSignService;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Validation;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+// MemberControllerTest, MemberControllerAdviceTest, ExceptionControllerAdviceTest와 같은 요청에 같은 응답을 하는지 확인한다
+@ExtendWith(MockitoExtension.class)
+public class MemberHandlerTest {
+    @Mock ReactiveMemberService memberService;
+    @Mock ReactiveSignService signService;
+    WebTestClient webTestClient;
+
+    @BeforeEach
+    void beforeEach() {
+        RequestBodyValidator requestBodyValidator =
+                new RequestBodyValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        webTestClient = WebTestClient.bindToRouterFunction(new ReactiveConfig().routes(
+                new SignHandler(signService, requestBodyValidator),
+                new MemberHandler(memberService),
+                new ReactiveExceptionHandler(new ExceptionAdvice(new SimpleMeterRegistry())))).build();
+    }
+
+    @Test
+    void readTest() {
+        // given
+        Long id = 1L;
+        given(memberService.read(id)).willReturn(Mono.just(new MemberDto(id, "email@email.com", "username", "nickname", 0L)));
+
+        // when, then
+        webTestClient.get().uri("/api/members/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result.data.email").isEqualTo("email@email.com");
+        verify(memberService).read(id);
+    }
+
+    @Test
+    void deleteTest() {
+        // given
+        Long id = 1L;
+        given(memberService.delete(id)).willReturn(Mono.empty());
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", id)
+                .exchange()
+                .expectStatus().isOk();
+        verify(memberService).delete(id);
+    }
+
+    @Test
+    void readMemberNotFoundExceptionTest() {
+        // given
+        given(memberService.read(anyLong())).willReturn(Mono.error(new MemberNotFoundException()));
+
+        // when, then
+        webTestClient.get().uri("/api/members/{id}", 1L)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo(-1007);
+    }
+
+    @Test
+    void deleteMemberNotFoundExceptionTest() {
+        // given
+        given(memberService.delete(anyLong())).willReturn(Mono.error(new MemberNotFoundException()));
+
+        // when, then
+        webTestClient.delete().uri("/api/members/{id}", 1L)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo(-1007);
+    }
+
+    @Test
+    void entryPointTest() {
+        // given, when, then
+        webTestClient.get().uri("/exception/entry-point")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo(-1001);
+    }
+
+    @Test
+    void accessDeniedTest() {
+        // given, when, then
+        webTestClient.get().uri("/exception/access-denied")
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody().jsonPath("$.code").isEqualTo(-1002);
+    }
+}
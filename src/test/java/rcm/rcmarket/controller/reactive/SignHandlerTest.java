@@ -0,0 +1,207 @@
+package rcm.rcmarket.controller.reactive;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.advice.ReactiveExceptionHandler;
+import rcm.rcmarket.config.reactive.ReactiveConfig;
+import rcm.rcmarket.dto.sign.SignInRequest;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.dto.sign.SignUpRequest;
+import rcm.rcmarket.exception.*;
+import rcm.rcmarket.service.reactive.ReactiveMemberService;
+import rcm.rcmarket.service.reactive.ReactiveSignService;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Validation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static rcm.rcmarket.factory.dto.RefreshTokenResponseFactory.createRefreshTokenResponse;
+import static rcm.rcmarket.factory.dto.SignInRequestFactory.createSignInRequest;
+import static rcm.rcmarket.factory.dto.SignUpRequestFactory.createSignUpRequest;
+
+// SignControllerTest, SignControllerAdviceTest와 같은 요청에 같은 응답을 하는지 확인한다
+@ExtendWith(MockitoExtension.class)
+public class SignHandlerTest {
+    @Mock ReactiveSignService signService;
+    @Mock ReactiveMemberService memberService;
+    WebTestClient webTestClient;
+
+    @BeforeEach
+    void beforeEach() {
+        RequestBodyValidator requestBodyValidator =
+                new RequestBodyValidator(Validation.buildDefaultValidatorFactory().getValidator());
+        webTestClient = WebTestClient.bindToRouterFunction(new ReactiveConfig().routes(
+                new SignHandler(signService, requestBodyValidator),
+                new MemberHandler(memberService),
+                new ReactiveExceptionHandler(new ExceptionAdvice(new SimpleMeterRegistry())))).build();
+    }
+
+    @Test
+    void signUpTest() {
+        // given
+        SignUpRequest req = createSignUpRequest("email@email.com", "123456a!", "username", "nickname");
+        given(signService.signUp(req)).willReturn(Mono.empty());
+
+        // when, then
+        webTestClient.post().uri("/api/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.result").doesNotExist();
+
+        verify(signService).signUp(req);
+    }
+
+    @Test
+    void signInTest() {
+        // given
+        SignInRequest req = createSignInRequest("email@email.com", "123456a!");
+        given(signService.signIn(req)).willReturn(Mono.just(new SignInResponse("access", "refresh")));
+
+        // when, then
+        webTestClient.post().uri("/api/sign-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.result.data.accessToken").isEqualTo("access")
+                .jsonPath("$.result.data.refreshToken").isEqualTo("refresh");
+
+        verify(signService).signIn(req);
+    }
+
+    @Test
+    void refreshTokenTest() {
+        // given
+        given(signService.refreshToken("refreshToken")).willReturn(Mono.just(createRefreshTokenResponse("accessToken")));
+
+        // when, then
+        webTestClient.post().uri("/api/refresh-token")
+                .header("Authorization", "refreshToken")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.result.data.accessToken").isEqualTo("accessToken");
+    }
+
+    @Test
+    void signInLoginFailureExceptionTest() {
+        // given
+        SignInRequest req = createSignInRequest("email@email.com", "123456a!");
+        given(signService.signIn(any())).willReturn(Mono.error(new LoginFailureException()));
+
+        // when, then
+        webTestClient.post().uri("/api/sign-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo(-1004);
+    }
+
+    @Test
+    void signInMethodArgumentNotValidExceptionTest() {
+        // given
+        SignInRequest req = createSignInRequest("email", "1234567");
+
+        // when, then
+        webTestClient.post().uri("/api/sign-in")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo(-1003);
+    }
+
+    @Test
+    void signUpMemberEmailAlreadyExistsExceptionTest() {
+        // given
+        SignUpRequest req = createSignUpRequest("email@email.com", "123456a!", "username", "nickname");
+        given(signService.signUp(any())).willReturn(Mono.error(new MemberEmailAlreadyExistsException(req.getEmail())));
+
+        // when, then
+        webTestClient.post().uri("/api/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.code").isEqualTo(-1005);
+    }
+
+    @Test
+    void signUpMemberNicknameAlreadyExistsExceptionTest() {
+        // given
+        SignUpRequest req = createSignUpRequest("email@email.com", "123456a!", "username", "nickname");
+        given(signService.signUp(any())).willReturn(Mono.error(new MemberNicknameAlreadyExistsException(req.getNickname())));
+
+        // when, then
+        webTestClient.post().uri("/api/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.code").isEqualTo(-1006);
+    }
+
+    @Test
+    void signUpRoleNotFoundExceptionTest() {
+        // given
+        SignUpRequest req = createSignUpRequest("email@email.com", "123456a!", "username", "nickname");
+        given(signService.signUp(any())).willReturn(Mono.error(new RoleNotFoundException()));
+
+        // when, then
+        webTestClient.post().uri("/api/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.code").isEqualTo(-1008);
+    }
+
+    @Test
+    void signUpMethodArgumentNotValidExceptionTest() {
+        // given
+        SignUpRequest req = createSignUpRequest("", "", "", "");
+
+        // when, then
+        webTestClient.post().uri("/api/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo(-1003);
+    }
+
+    @Test
+    void refreshTokenAuthenticationEntryPointException() {
+        // given
+        given(signService.refreshToken(anyString())).willReturn(Mono.error(new AuthenticationEntryPointException()));
+
+        // when, then
+        webTestClient.post().uri("/api/refresh-token")
+                .header("Authorization", "refreshToken")
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.code").isEqualTo(-1001);
+    }
+
+    @Test
+    void refreshTokenMissingRequestHeaderException() {
+        // given, when, then
+        webTestClient.post().uri("/api/refresh-token")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo(-1009);
+    }
+}
@@ -0,0 +1,55 @@
+package rcm.rcmarket.controller.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.dto.search.SearchResultDto;
+import rcm.rcmarket.service.search.SearchService;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchControllerTest {
+    @InjectMocks SearchController searchController;
+    @Mock SearchService searchService;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(searchController).build();
+    }
+
+    @Test
+    void searchTest() throws Exception {
+        // given
+        given(searchService.search("맥북", 10)).willReturn(new SearchResultDto(List.of(3L, 1L), List.of()));
+
+        // when, then
+        mockMvc.perform(
+                get("/api/search")
+                        .param("q", "맥북")
+                        .param("size", "10")
+        ).andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.data.products[0]").value(3));
+        verify(searchService).search("맥북", 10);
+    }
+
+    @Test
+    void searchExceptionByMissingQueryTest() throws Exception {
+        // when, then
+        mockMvc.perform(
+                get("/api/search")
+        ).andExpect(status().isBadRequest());
+    }
+}
@@ -1,5 +1,6 @@
 package rcm.rcmarket.controller.sign;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,7 +41,7 @@ public class SignControllerAdviceTest {
     void beforeEach() {
         // ControllerAdvice를 테스트 하기 위해선 MockMvc를 빌드할 때 setControllerAdvice로 어드바이스를 등록해줘야 한다
         mockMvc = MockMvcBuilders.standaloneSetup(signController)
-                .setControllerAdvice(new ExceptionAdvice()).build();
+                .setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
     }
 
     @Test
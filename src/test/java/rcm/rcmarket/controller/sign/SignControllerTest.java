@@ -1,6 +1,10 @@
 package rcm.rcmarket.controller.sign;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import rcm.rcmarket.config.jackson.JacksonConfig;
 import rcm.rcmarket.dto.sign.SignInRequest;
 import rcm.rcmarket.dto.sign.SignInResponse;
 import rcm.rcmarket.dto.sign.SignUpRequest;
@@ -12,12 +16,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static rcm.rcmarket.factory.dto.SignInRequestFactory.createSignInRequest;
@@ -31,9 +39,22 @@ class SignControllerTest {
     MockMvc mockMvc;
     ObjectMapper objectMapper = new ObjectMapper();
 
+    JacksonConfig jacksonConfig = new JacksonConfig();
+
+    // 스프링 기본 컨버터 대신 JacksonConfig가 등록하는 CBOR, Smile 컨버터로 요청과 응답을 처리한다
     @BeforeEach
     void beforeEach() {
-        mockMvc = MockMvcBuilders.standaloneSetup(signController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(signController)
+                .setMessageConverters(
+                        new MappingJackson2HttpMessageConverter(objectMapperBuilder().build()),
+                        jacksonConfig.cborHttpMessageConverter(objectMapperBuilder()),
+                        jacksonConfig.smileHttpMessageConverter(objectMapperBuilder()))
+                .build();
+    }
+
+    // 스프링 부트의 Jackson2ObjectMapperBuilder처럼 호출마다 새로 만들고 Module 빈을 등록한다
+    private Jackson2ObjectMapperBuilder objectMapperBuilder() {
+        return new Jackson2ObjectMapperBuilder().modulesToInstall(jacksonConfig.responseModule());
     }
 
     @Test
@@ -69,6 +90,55 @@ class SignControllerTest {
         verify(signService).signIn(req);
     }
 
+    // 요청과 응답 바디를 CBOR로 주고받아도 JSON과 같은 구조로 처리된다
+    @Test
+    void signInCborTest() throws Exception {
+        // given
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        SignInRequest req = createSignInRequest("email@email.com", "123456a!");
+        given(signService.signIn(req)).willReturn(new SignInResponse("access", "refresh"));
+
+        // when
+        byte[] body = mockMvc.perform(
+                post("/api/sign-in")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cborMapper.writeValueAsBytes(req)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode data = cborMapper.readTree(body).path("result").path("data");
+        assertThat(data.path("accessToken").asText()).isEqualTo("access");
+        assertThat(data.path("refreshToken").asText()).isEqualTo("refresh");
+        verify(signService).signIn(req);
+    }
+
+    @Test
+    void signInSmileTest() throws Exception {
+        // given
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        MediaType smile = MediaType.valueOf("application/x-jackson-smile");
+        SignInRequest req = createSignInRequest("email@email.com", "123456a!");
+        given(signService.signIn(req)).willReturn(new SignInResponse("access", "refresh"));
+
+        // when
+        byte[] body = mockMvc.perform(
+                post("/api/sign-in")
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileMapper.writeValueAsBytes(req)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        JsonNode data = smileMapper.readTree(body).path("result").path("data");
+        assertThat(data.path("accessToken").asText()).isEqualTo("access");
+        verify(signService).signIn(req);
+    }
+
     @Test
     void ignoreNullValueJsonResponseTest() throws Exception {
         // given
@@ -0,0 +1,82 @@
+package rcm.rcmarket.controller.stock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.config.security.guard.AuthHelper;
+import rcm.rcmarket.dto.stock.ReservationCreateRequest;
+import rcm.rcmarket.service.stock.StockService;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class StockControllerTest {
+    @InjectMocks StockController stockController;
+    @Mock StockService stockService;
+    @Mock AuthHelper authHelper;
+    MockMvc mockMvc;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(stockController).build();
+    }
+
+    @Test
+    void readTest() throws Exception {
+        // when, then
+        mockMvc.perform(
+                get("/api/products/{id}/stock", 1L)
+        ).andExpect(status().isOk());
+        verify(stockService).read(1L);
+    }
+
+    @Test
+    void reserveTest() throws Exception {
+        // given
+        ReservationCreateRequest req = new ReservationCreateRequest(2);
+        given(authHelper.extractMemberId()).willReturn(3L);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products/{id}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isCreated());
+        verify(stockService).reserve(1L, req, 3L);
+    }
+
+    @Test
+    void reserveExceptionByInvalidQuantityTest() throws Exception {
+        // given
+        ReservationCreateRequest req = new ReservationCreateRequest(0);
+
+        // when, then
+        mockMvc.perform(
+                post("/api/products/{id}/reservations", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req))
+        ).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void releaseTest() throws Exception {
+        // when, then
+        mockMvc.perform(
+                delete("/api/reservations/{id}", 1L)
+        ).andExpect(status().isOk());
+        verify(stockService).release(1L);
+    }
+}
@@ -0,0 +1,60 @@
+package rcm.rcmarket.controller.trending;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rcm.rcmarket.advice.ExceptionAdvice;
+import rcm.rcmarket.service.trending.TrendingService;
+import rcm.rcmarket.trending.TrendingMetric;
+
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class TrendingControllerTest {
+    @InjectMocks TrendingController trendingController;
+    @Mock TrendingService trendingService;
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void beforeEach() {
+        mockMvc = MockMvcBuilders.standaloneSetup(trendingController).setControllerAdvice(new ExceptionAdvice(new SimpleMeterRegistry())).build();
+    }
+
+    @Test
+    void readTest() throws Exception {
+        // when, then
+        mockMvc.perform(
+                get("/api/products/trending")
+                        .param("metric", "ORDERS")
+                        .param("size", "5")
+        ).andExpect(status().isOk());
+        verify(trendingService).read(TrendingMetric.ORDERS, 5);
+    }
+
+    @Test
+    void readDefaultMetricTest() throws Exception {
+        // when, then
+        mockMvc.perform(
+                get("/api/products/trending")
+        ).andExpect(status().isOk());
+        verify(trendingService).read(TrendingMetric.VIEWS, null);
+    }
+
+    @Test
+    void readExceptionByInvalidMetricTest() throws Exception {
+        // when, then
+        mockMvc.perform(
+                get("/api/products/trending")
+                        .param("metric", "likes")
+        ).andExpect(status().isBadRequest()).andExpect(jsonPath("$.code").value(-1016));
+    }
+}
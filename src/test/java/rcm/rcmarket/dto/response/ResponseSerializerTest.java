@@ -0,0 +1,50 @@
+package rcm.rcmarket.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import rcm.rcmarket.dto.member.MemberDto;
+import rcm.rcmarket.dto.sign.SignInResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ResponseSerializer가 기본 빈 직렬화와 바이트 단위로 같은 JSON을 쓰는지 확인한다
+public class ResponseSerializerTest {
+
+    ObjectMapper defaultMapper = new ObjectMapper();
+    ObjectMapper streamingMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(Response.class, new ResponseSerializer()));
+
+    @Test
+    void successWithoutResultTest() throws Exception {
+        assertSameBytes(Response.success());
+    }
+
+    @Test
+    void successWithDataTest() throws Exception {
+        assertSameBytes(Response.success(new MemberDto(1L, "email@email.com", "username", "닉네임", 0L)));
+        assertSameBytes(Response.success(new SignInResponse("access", "refresh")));
+        assertSameBytes(Response.success(List.of(1, 2, 3)));
+        assertSameBytes(Response.success(Map.of("key", "value")));
+        assertSameBytes(Response.success("\"quoted\"\n\t\\ 한글 \u0001"));
+    }
+
+    @Test
+    void successWithNullDataTest() throws Exception {
+        assertSameBytes(Response.success(null));
+        assertSameBytes(Response.success(new MemberDto(1L, null, null, null, null)));
+    }
+
+    @Test
+    void failureTest() throws Exception {
+        assertSameBytes(Response.failure(-1000, "요청을 수행할 수 없습니다."));
+        assertSameBytes(Response.failure(-1001, null));
+    }
+
+    private void assertSameBytes(Response response) throws Exception {
+        assertThat(streamingMapper.writeValueAsBytes(response)).isEqualTo(defaultMapper.writeValueAsBytes(response));
+    }
+}
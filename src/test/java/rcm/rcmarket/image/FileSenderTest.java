@@ -0,0 +1,159 @@
+package rcm.rcmarket.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import rcm.rcmarket.exception.ImageNotFoundException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FileSenderTest {
+
+    @TempDir
+    Path root;
+    FileSender fileSender = new FileSender(31536000);
+    byte[] content = new byte[1000];
+    ImageFile file;
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/images/1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        for(int i = 0; i < content.length; i++) content[i] = (byte) i;
+        Path path = Files.write(root.resolve("image.png"), content);
+        file = new ImageFile(path, "image/png", "image.png", true);
+    }
+
+    @Test
+    void sendTest() throws IOException {
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+        assertThat(response.getContentLengthLong()).isEqualTo(1000L);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=31536000, immutable");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"image.png\"");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    void sendRangeTest() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-109");
+
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-109/1000");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 10, 110));
+    }
+
+    @Test
+    void sendSuffixRangeTest() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=-100");
+
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 900-999/1000");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 900, 1000));
+    }
+
+    @Test
+    void sendUnsatisfiableRangeTest() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=1000-");
+
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    // 여러 범위는 무시하고 전체를 보낸다
+    @Test
+    void sendMultipleRangesTest() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9,20-29");
+
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void sendNotModifiedTest() throws IOException {
+        // given
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"image.png\"");
+
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    // 톰캣이 sendfile을 지원하면 본문을 쓰지 않고 파일과 범위만 넘긴다
+    @Test
+    void sendfileTest() throws IOException {
+        // given
+        request.setAttribute(FileSender.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-109");
+
+        // when
+        fileSender.send(file, request, response);
+
+        // then
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(100L);
+        assertThat(request.getAttribute(FileSender.SENDFILE_FILENAME)).isEqualTo(file.getPath().toAbsolutePath().toString());
+        assertThat(request.getAttribute(FileSender.SENDFILE_START)).isEqualTo(10L);
+        assertThat(request.getAttribute(FileSender.SENDFILE_END)).isEqualTo(110L);
+    }
+
+    // 아직 썸네일이 없어 대신 내려주는 원본은 캐시하지 않고 매번 재검증하게 한다
+    @Test
+    void sendMutableTest() throws IOException {
+        // given
+        ImageFile mutable = new ImageFile(file.getPath(), "image/png", "image.png", false);
+
+        // when
+        fileSender.send(mutable, request, response);
+
+        // then
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    void sendExceptionByFileNotFoundTest() {
+        // given
+        ImageFile missing = new ImageFile(root.resolve("missing.png"), "image/png", "missing.png", true);
+
+        // when, then
+        assertThatThrownBy(() -> fileSender.send(missing, request, response)).isInstanceOf(ImageNotFoundException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package rcm.rcmarket.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import rcm.rcmarket.exception.InvalidImageException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static rcm.rcmarket.image.ImageTestSupport.image;
+
+public class ImageStorageTest {
+
+    @TempDir
+    Path root;
+    ImageStorage imageStorage;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        imageStorage = new ImageStorage(root.toString());
+        imageStorage.init();
+    }
+
+    @Test
+    void storeTest() throws IOException {
+        // given
+        byte[] png = image("png", 100, 50);
+
+        // when
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(png));
+
+        // then
+        assertThat(stored.getFormat()).isEqualTo(ImageFormat.PNG);
+        assertThat(stored.getSize()).isEqualTo(png.length);
+        assertThat(stored.getName()).endsWith(".png");
+        assertThat(Files.readAllBytes(imageStorage.original(1L, stored.getName()))).isEqualTo(png);
+    }
+
+    // 클라이언트가 보낸 Content-Type과 관계없이 파일 내용으로 형식을 판단한다
+    @Test
+    void storeJpegTest() throws IOException {
+        // when
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(image("jpg", 10, 10)));
+
+        // then
+        assertThat(stored.getFormat()).isEqualTo(ImageFormat.JPEG);
+        assertThat(stored.getName()).endsWith(".jpg");
+    }
+
+    // 이미지가 아니면 임시 파일을 남기지 않는다
+    @Test
+    void storeExceptionByInvalidImageTest() throws IOException {
+        // when, then
+        assertThatThrownBy(() -> imageStorage.store(1L, new ByteArrayInputStream("<html></html>".getBytes())))
+                .isInstanceOf(InvalidImageException.class);
+        assertThatThrownBy(() -> imageStorage.store(1L, new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(InvalidImageException.class);
+        try(Stream<Path> files = Files.list(root.resolve("1"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void deleteTest() throws IOException {
+        // given
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(image("png", 10, 10)));
+        Files.write(imageStorage.thumbnail(1L, stored.getName()), new byte[]{1});
+
+        // when
+        imageStorage.delete(1L, stored.getName());
+
+        // then
+        assertThat(imageStorage.original(1L, stored.getName())).doesNotExist();
+        assertThat(imageStorage.thumbnail(1L, stored.getName())).doesNotExist();
+    }
+
+    @Test
+    void deleteAllTest() throws IOException {
+        // given
+        imageStorage.store(1L, new ByteArrayInputStream(image("png", 10, 10)));
+        StoredImage other = imageStorage.store(2L, new ByteArrayInputStream(image("png", 10, 10)));
+
+        // when
+        imageStorage.deleteAll(1L);
+
+        // then
+        assertThat(root.resolve("1")).doesNotExist();
+        assertThat(imageStorage.original(2L, other.getName())).exists();
+    }
+}
@@ -0,0 +1,95 @@
+package rcm.rcmarket.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static rcm.rcmarket.image.ImageTestSupport.image;
+
+public class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path root;
+    ImageStorage imageStorage;
+    ThumbnailGenerator thumbnailGenerator;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        imageStorage = new ImageStorage(root.toString());
+        imageStorage.init();
+        thumbnailGenerator = new ThumbnailGenerator(imageStorage, new SimpleMeterRegistry(), 1, 1, 320);
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        thumbnailGenerator.stop();
+    }
+
+    // 긴 변을 max-size에 맞추고 비율을 유지한다
+    @Test
+    void generateTest() throws IOException {
+        // given
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(image("png", 2000, 1000)));
+        Path thumbnail = imageStorage.thumbnail(1L, stored.getName());
+
+        // when
+        thumbnailGenerator.generate(imageStorage.original(1L, stored.getName()), thumbnail);
+
+        // then
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+        assertThat(result.getWidth()).isEqualTo(320);
+        assertThat(result.getHeight()).isEqualTo(160);
+    }
+
+    // max-size보다 작은 이미지는 키우지 않는다
+    @Test
+    void generateSmallImageTest() throws IOException {
+        // given
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(image("gif", 100, 40)));
+        Path thumbnail = imageStorage.thumbnail(1L, stored.getName());
+
+        // when
+        thumbnailGenerator.generate(imageStorage.original(1L, stored.getName()), thumbnail);
+
+        // then
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+        assertThat(result.getWidth()).isEqualTo(100);
+        assertThat(result.getHeight()).isEqualTo(40);
+    }
+
+    @Test
+    void submitTest() throws IOException, InterruptedException {
+        // given
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(image("jpg", 800, 600)));
+
+        // when
+        thumbnailGenerator.submit(1L, stored.getName());
+        thumbnailGenerator.stop();
+
+        // then
+        assertThat(imageStorage.thumbnail(1L, stored.getName())).exists();
+    }
+
+    // 큐가 가득 차면 요청 스레드를 막지 않고 버린다
+    @Test
+    void submitRejectedTest() throws IOException, InterruptedException {
+        // given
+        StoredImage stored = imageStorage.store(1L, new ByteArrayInputStream(image("png", 10, 10)));
+
+        // when
+        for(int i = 0; i < 100; i++) thumbnailGenerator.submit(1L, stored.getName());
+        thumbnailGenerator.stop();
+
+        // then
+        assertThat(imageStorage.thumbnail(1L, stored.getName())).exists();
+    }
+}
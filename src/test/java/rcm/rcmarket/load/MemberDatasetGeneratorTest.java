@@ -0,0 +1,66 @@
+package rcm.rcmarket.load;
+
+import org.junit.jupiter.api.Test;
+import rcm.rcmarket.entity.member.RoleType;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MemberDatasetGeneratorTest {
+
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+    MemberDatasetGenerator generator = new MemberDatasetGenerator(1L, List.of("{noop}a", "{noop}b"), now);
+
+    // 같은 seed와 id로는 항상 같은 행이 만들어진다
+    @Test
+    void deterministicTest() {
+        // given
+        MemberDatasetGenerator other = new MemberDatasetGenerator(1L, List.of("{noop}a", "{noop}b"), now);
+
+        // when
+        MemberRow row = generator.generate(42L);
+        MemberRow otherRow = other.generate(42L);
+
+        // then
+        assertThat(row.getEmail()).isEqualTo(otherRow.getEmail());
+        assertThat(row.getNickname()).isEqualTo(otherRow.getNickname());
+        assertThat(row.getRoles()).isEqualTo(otherRow.getRoles());
+    }
+
+    // email과 nickname은 unique 제약을 지키고, 컬럼 길이와 회원가입 규칙 안에 있어야 한다
+    @Test
+    void constraintsTest() {
+        // given
+        Set<String> emails = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+
+        // when, then
+        for(long id = 1; id <= 100_000; id++) {
+            MemberRow row = generator.generate(id);
+            assertThat(emails.add(row.getEmail())).isTrue();
+            assertThat(nicknames.add(row.getNickname())).isTrue();
+            assertThat(row.getEmail().length()).isLessThanOrEqualTo(30);
+            assertThat(row.getNickname()).matches("^[A-Za-z가-힣]+$").hasSizeBetween(2, 20);
+            assertThat(row.getUsername()).matches("^[A-Za-z가-힣]+$").hasSizeBetween(2, 20);
+            assertThat(row.getRoles()).contains(RoleType.ROLE_NORMAL);
+            assertThat(row.getCreatedAt()).isBefore(now);
+        }
+    }
+
+    @Test
+    void largeIdTest() {
+        // given
+        long id = 999_999_999L;
+
+        // when
+        MemberRow row = generator.generate(id);
+
+        // then
+        assertThat(row.getEmail().length()).isLessThanOrEqualTo(30);
+        assertThat(row.getNickname().length()).isLessThanOrEqualTo(20);
+    }
+}
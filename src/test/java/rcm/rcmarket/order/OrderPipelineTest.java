@@ -0,0 +1,169 @@
+package rcm.rcmarket.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.exception.OrderQueueFullException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.stock.StockLedger;
+import rcm.rcmarket.stock.StockReservation;
+import rcm.rcmarket.trending.TrendingMetric;
+import rcm.rcmarket.trending.TrendingTracker;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderPipelineTest {
+    static final long BAD_PRODUCT_ID = 99L;
+
+    @Mock OrderWriter orderWriter;
+    @Mock StockLedger stockLedger;
+    @Mock TrendingTracker trendingTracker;
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    OrderPipeline orderPipeline;
+    List<Integer> batchSizes = new ArrayList<>();
+    AtomicLong reservationSequence = new AtomicLong();
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        orderPipeline.stop();
+    }
+
+    @Test
+    void batchTest() throws Exception {
+        // given
+        start(1024, 8, 50);
+        List<CompletableFuture<OrderDto>> futures = new ArrayList<>();
+
+        // when
+        for(int i = 0; i < 64; i++) futures.add(orderPipeline.submit(1L, reservation(1L)));
+
+        // then
+        for(CompletableFuture<OrderDto> future : futures) assertThat(future.get(5, TimeUnit.SECONDS).getProductId()).isEqualTo(1L);
+        assertThat(batchSizes).allMatch(size -> size <= 8);
+        assertThat(batchSizes.size()).isLessThan(64);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(64);
+        assertThat(meterRegistry.get("rcmarket.order.batch.size").summary().count()).isEqualTo(batchSizes.size());
+        assertThat(meterRegistry.get("rcmarket.order.batch.size").summary().totalAmount()).isEqualTo(64);
+    }
+
+    // 배치가 다 차지 않아도 max-latency가 지나면 커밋한다
+    @Test
+    void maxLatencyTest() throws Exception {
+        // given
+        start(1024, 64, 10);
+        StockReservation reservation = reservation(1L);
+
+        // when
+        OrderDto order = orderPipeline.submit(1L, reservation).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(order.getProductId()).isEqualTo(1L);
+        assertThat(batchSizes).containsExactly(1);
+        verify(stockLedger).commit(reservation);
+        verify(trendingTracker).record(TrendingMetric.ORDERS, 1L, 1);
+    }
+
+    // 배치가 실패하면 하나씩 다시 커밋해서 실패한 주문만 재고를 돌려준다
+    @Test
+    void batchFailureTest() throws Exception {
+        // given
+        StockReservation good1 = reservation(1L);
+        StockReservation bad = reservation(BAD_PRODUCT_ID);
+        StockReservation good2 = reservation(2L);
+        orderPipeline = pipeline(1024, 8, 50);
+        CompletableFuture<OrderDto> future1 = orderPipeline.submit(1L, good1);
+        CompletableFuture<OrderDto> future2 = orderPipeline.submit(1L, bad);
+        CompletableFuture<OrderDto> future3 = orderPipeline.submit(1L, good2);
+
+        // when
+        orderPipeline.start();
+
+        // then
+        assertThat(future1.get(5, TimeUnit.SECONDS).getProductId()).isEqualTo(1L);
+        assertThat(future3.get(5, TimeUnit.SECONDS).getProductId()).isEqualTo(2L);
+        assertThatThrownBy(() -> future2.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ProductNotFoundException.class);
+        assertThat(batchSizes).containsExactly(3, 1, 1, 1);
+        verify(stockLedger).commit(good1);
+        verify(stockLedger).commit(good2);
+        verify(stockLedger).cancel(bad);
+    }
+
+    @Test
+    void submitExceptionByQueueFullTest() {
+        // given
+        orderPipeline = pipeline(1, 8, 50);
+        orderPipeline.submit(1L, reservation(1L));
+        StockReservation reservation = reservation(1L);
+
+        // when, then
+        assertThatThrownBy(() -> orderPipeline.submit(1L, reservation)).isInstanceOf(OrderQueueFullException.class);
+        verify(stockLedger).cancel(reservation);
+        assertThat(meterRegistry.get("rcmarket.order.queue.size").gauge().value()).isEqualTo(1);
+        orderPipeline.start();
+    }
+
+    // 멈출 때 큐에 남은 주문을 모두 커밋한다
+    @Test
+    void stopTest() throws Exception {
+        // given
+        orderPipeline = pipeline(1024, 8, 50);
+        List<CompletableFuture<OrderDto>> futures = new ArrayList<>();
+        for(int i = 0; i < 20; i++) futures.add(orderPipeline.submit(1L, reservation(1L)));
+        orderPipeline.start();
+
+        // when
+        orderPipeline.stop();
+
+        // then
+        assertThat(futures).allMatch(CompletableFuture::isDone);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+        assertThatThrownBy(() -> orderPipeline.submit(1L, reservation(1L))).isInstanceOf(OrderQueueFullException.class);
+    }
+
+    void start(int capacity, int batchSize, long maxLatencyMs) {
+        orderPipeline = pipeline(capacity, batchSize, maxLatencyMs);
+        orderPipeline.start();
+    }
+
+    OrderPipeline pipeline(int capacity, int batchSize, long maxLatencyMs) {
+        given(orderWriter.write(anyList())).willAnswer(invocation -> {
+            List<PendingOrder> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size()); // writer 스레드 하나만 호출한다
+            if(batch.stream().anyMatch(order -> order.getReservation().getProductId() == BAD_PRODUCT_ID)) {
+                throw new ProductNotFoundException();
+            }
+            return batch.stream().map(this::toDto).collect(Collectors.toList());
+        });
+        return new OrderPipeline(orderWriter, stockLedger, trendingTracker, meterRegistry, capacity, batchSize, maxLatencyMs);
+    }
+
+    StockReservation reservation(Long productId) {
+        return new StockReservation(reservationSequence.incrementAndGet(), productId, 1L, 1, 0L, LocalDateTime.now());
+    }
+
+    OrderDto toDto(PendingOrder order) {
+        StockReservation reservation = order.getReservation();
+        return new OrderDto(reservation.getId(), order.getMemberId(), reservation.getProductId(), "name",
+                reservation.getQuantity(), 1000L * reservation.getQuantity(), LocalDateTime.now());
+    }
+}
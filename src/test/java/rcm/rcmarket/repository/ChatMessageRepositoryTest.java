@@ -0,0 +1,117 @@
+package rcm.rcmarket.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+import rcm.rcmarket.dto.chat.ConversationDto;
+import rcm.rcmarket.entity.chat.ChatMessage;
+import rcm.rcmarket.entity.chat.Conversation;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.chat.ChatMessageRepository;
+import rcm.rcmarket.repository.chat.ConversationRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+
+@DataJpaTest
+public class ChatMessageRepositoryTest {
+
+    @Autowired
+    ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    ConversationRepository conversationRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private Member saveBuyer(String name) {
+        return memberRepository.save(createMember(name + "@email.com", "123456a!", name, name));
+    }
+
+    // 커서를 따라 끝까지 읽으면 한 대화방의 메시지만 id 내림차순으로 한 번씩 나온다
+    @Test
+    void findPageTest() {
+        Member seller = memberRepository.save(createMember());
+        Member buyer = saveBuyer("buyer");
+        Product product = productRepository.save(createProduct(seller));
+        Conversation conversation = conversationRepository.save(new Conversation(product, buyer));
+        Conversation other = conversationRepository.save(new Conversation(product, saveBuyer("other")));
+        List<ChatMessage> messages = new ArrayList<>();
+        for(int i = 0; i < 5; i++) {
+            messages.add(new ChatMessage(conversation, i % 2 == 0 ? buyer : seller, "message" + i));
+            messages.add(new ChatMessage(other, seller, "other" + i));
+        }
+        chatMessageRepository.saveAll(messages);
+        clear();
+
+        List<ChatMessageDto> first = chatMessageRepository.findPage(conversation.getId(), null, 3);
+        List<ChatMessageDto> second = chatMessageRepository.findPage(conversation.getId(), first.get(2).getId(), 3);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(2);
+        List<ChatMessageDto> all = Stream.concat(first.stream(), second.stream()).collect(Collectors.toList());
+        assertThat(all).extracting(ChatMessageDto::getId).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(all).extracting(ChatMessageDto::getContent)
+                .containsExactly("message4", "message3", "message2", "message1", "message0");
+        assertThat(all).allMatch(message -> message.getConversationId().equals(conversation.getId()));
+    }
+
+    @Test
+    void findAllByMemberIdTest() {
+        Member seller = memberRepository.save(createMember());
+        Member buyer = saveBuyer("buyer");
+        Product product = productRepository.save(createProduct(seller));
+        Product buyersProduct = productRepository.save(createProduct(buyer));
+        Conversation asBuyer = conversationRepository.save(new Conversation(product, buyer));
+        Conversation asSeller = conversationRepository.save(new Conversation(buyersProduct, saveBuyer("other")));
+        conversationRepository.save(new Conversation(product, saveBuyer("another")));
+        clear();
+
+        List<ConversationDto> result = conversationRepository.findAllByMemberId(buyer.getId());
+
+        assertThat(result).extracting(ConversationDto::getId).containsExactly(asSeller.getId(), asBuyer.getId());
+        assertThat(result.get(1).getSellerId()).isEqualTo(seller.getId());
+        assertThat(conversationRepository.findByProductIdAndBuyerId(product.getId(), buyer.getId())).isPresent();
+    }
+
+    // 상품이 지워지면 대화방과 메시지가 FK cascade로 함께 지워진다
+    @Test
+    void deleteCascadeByProductTest() {
+        Member seller = memberRepository.save(createMember());
+        Member buyer = saveBuyer("buyer");
+        Product product = productRepository.save(createProduct(seller));
+        Conversation conversation = conversationRepository.save(new Conversation(product, buyer));
+        ChatMessage message = chatMessageRepository.save(new ChatMessage(conversation, buyer, "hello"));
+        clear();
+
+        productRepository.deleteById(product.getId());
+        clear();
+
+        assertThat(conversationRepository.findById(conversation.getId())).isEmpty();
+        assertThat(chatMessageRepository.findById(message.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,154 @@
+package rcm.rcmarket.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import rcm.rcmarket.dto.comment.CommentDto;
+import rcm.rcmarket.entity.comment.Comment;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.comment.CommentRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+
+@DataJpaTest
+public class CommentRepositoryTest {
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private Comment save(Product product, Member writer, Comment parent) {
+        return commentRepository.save(new Comment("content", product, writer, parent));
+    }
+
+    @Test
+    void pathTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        Comment root = save(product, member, null);
+        Comment child = save(product, member, root);
+        Comment grandChild = save(product, member, child);
+        clear();
+
+        Comment found = commentRepository.findById(grandChild.getId()).orElseThrow();
+        assertThat(root.isRoot()).isTrue();
+        assertThat(found.getThreadId()).isEqualTo(root.getId());
+        assertThat(found.getParentId()).isEqualTo(child.getId());
+        assertThat(found.getDepth()).isEqualTo(2);
+        assertThat(found.getPath()).isEqualTo(child.getChildPath());
+        assertThat(found.getPath()).startsWith(root.getChildPath());
+    }
+
+    // 커서를 따라 끝까지 읽으면 루트 댓글만 id 내림차순으로 한 번씩 나온다
+    @Test
+    void findRootPageTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        Product other = productRepository.save(createProduct(member));
+        for(int i = 0; i < 5; i++) save(product, member, save(product, member, null));
+        save(other, member, null);
+        clear();
+
+        List<CommentDto> first = commentRepository.findRootPage(product.getId(), null, 3);
+        List<CommentDto> second = commentRepository.findRootPage(product.getId(), first.get(2).getId(), 3);
+
+        assertThat(first).hasSize(3);
+        assertThat(second).hasSize(2);
+        List<Long> ids = List.of(first, second).stream().flatMap(List::stream).map(CommentDto::getId).collect(Collectors.toList());
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(List.of(first, second).stream().flatMap(List::stream)).allMatch(comment -> comment.getParentId() == null);
+    }
+
+    // 부모가 항상 자식보다 먼저 나오고, 다른 스레드의 답글은 섞이지 않는다
+    @Test
+    void findAllByThreadIdInTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        Comment root = save(product, member, null);
+        Comment first = save(product, member, root);
+        Comment second = save(product, member, root);
+        Comment firstChild = save(product, member, first);
+        Comment secondChild = save(product, member, second);
+        Comment otherRoot = save(product, member, null);
+        save(product, member, otherRoot);
+        clear();
+
+        List<CommentDto> result = commentRepository.findAllByThreadIdIn(List.of(root.getId()));
+
+        assertThat(result).extracting(CommentDto::getId)
+                .containsExactly(first.getId(), second.getId(), firstChild.getId(), secondChild.getId());
+        assertThat(result.get(0).getWriterNickname()).isEqualTo(member.getNickname());
+    }
+
+    @Test
+    void findSubtreeTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        Comment root = save(product, member, null);
+        Comment first = save(product, member, root);
+        Comment second = save(product, member, root);
+        Comment firstChild = save(product, member, first);
+        Comment firstGrandChild = save(product, member, firstChild);
+        save(product, member, second);
+        clear();
+
+        List<CommentDto> result = commentRepository.findSubtree(first.getThreadRootId(), first.getChildPath() + "%");
+
+        assertThat(result).extracting(CommentDto::getId).containsExactly(firstChild.getId(), firstGrandChild.getId());
+    }
+
+    // 탈퇴한 회원의 댓글은 삭제 상태로 남고 내용과 작성자가 가려진다
+    @Test
+    void detachWriterTest() {
+        Member member = memberRepository.save(createMember());
+        Member other = memberRepository.save(createMember("other@email.com", "other", "other", "other"));
+        Product product = productRepository.save(createProduct(other));
+        Comment root = save(product, member, null);
+        Comment reply = save(product, other, root);
+        clear();
+
+        int updated = commentRepository.detachWriter(member.getId());
+        clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(commentRepository.findById(root.getId()).orElseThrow().isDeleted()).isTrue();
+        assertThat(commentRepository.findById(reply.getId()).orElseThrow().isDeleted()).isFalse();
+        CommentDto found = commentRepository.findRootPage(product.getId(), null, 10).get(0);
+        assertThat(found.getContent()).isNull();
+        assertThat(found.getWriterId()).isNull();
+    }
+
+    @Test
+    void findWriterIdByIdTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        Comment comment = save(product, member, null);
+        clear();
+
+        assertThat(commentRepository.findWriterIdById(comment.getId())).hasValue(member.getId());
+        assertThat(commentRepository.findWriterIdById(comment.getId() + 1)).isEmpty();
+    }
+}
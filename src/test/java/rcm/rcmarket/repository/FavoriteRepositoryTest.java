@@ -0,0 +1,108 @@
+package rcm.rcmarket.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.favorite.FavoriteRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+
+@DataJpaTest
+public class FavoriteRepositoryTest {
+
+    @Autowired
+    FavoriteRepository favoriteRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    // 이미 좋아요한 상품에 다시 넣으면 행이 바뀌지 않는다
+    @Test
+    void insertIfAbsentTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        clear();
+
+        assertThat(favoriteRepository.insertIfAbsent(member.getId(), product.getId())).isTrue();
+        assertThat(favoriteRepository.insertIfAbsent(member.getId(), product.getId())).isFalse();
+        assertThat(favoriteRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    void insertIfAbsentExceptionByProductNotFoundTest() {
+        Member member = memberRepository.save(createMember());
+        clear();
+
+        assertThatThrownBy(() -> favoriteRepository.insertIfAbsent(member.getId(), 100L))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void deleteByMemberIdAndProductIdTest() {
+        Member member = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(member));
+        clear();
+        favoriteRepository.insertIfAbsent(member.getId(), product.getId());
+
+        assertThat(favoriteRepository.deleteByMemberIdAndProductId(member.getId(), product.getId())).isEqualTo(1);
+        assertThat(favoriteRepository.deleteByMemberIdAndProductId(member.getId(), product.getId())).isEqualTo(0);
+    }
+
+    @Test
+    void findProductIdsByMemberIdAndProductIdInTest() {
+        Member member = memberRepository.save(createMember());
+        Member other = memberRepository.save(createMember("other@email.com", "other", "other", "other"));
+        Product first = productRepository.save(createProduct(member));
+        Product second = productRepository.save(createProduct(member));
+        Product third = productRepository.save(createProduct(member));
+        clear();
+        favoriteRepository.insertIfAbsent(member.getId(), first.getId());
+        favoriteRepository.insertIfAbsent(member.getId(), third.getId());
+        favoriteRepository.insertIfAbsent(other.getId(), second.getId());
+
+        List<Long> result = favoriteRepository.findProductIdsByMemberIdAndProductIdIn(member.getId(),
+                List.of(first.getId(), second.getId(), third.getId()));
+
+        assertThat(result).containsExactlyInAnyOrder(first.getId(), third.getId());
+    }
+
+    @Test
+    void decreaseLikesByMemberIdTest() {
+        Member member = memberRepository.save(createMember());
+        Product first = productRepository.save(createProduct(member));
+        Product second = productRepository.save(createProduct(member));
+        clear();
+        productRepository.changeLikes(first.getId(), 2);
+        productRepository.changeLikes(second.getId(), 1);
+        favoriteRepository.insertIfAbsent(member.getId(), first.getId());
+
+        favoriteRepository.decreaseLikesByMemberId(member.getId());
+        clear();
+
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getLikes()).isEqualTo(1L);
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getLikes()).isEqualTo(1L);
+    }
+}
@@ -2,10 +2,16 @@ package rcm.rcmarket.repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import rcm.rcmarket.entity.member.Member;
 import rcm.rcmarket.entity.member.MemberRole;
 import rcm.rcmarket.entity.member.Role;
@@ -16,6 +22,9 @@ import rcm.rcmarket.exception.MemberNotFoundException;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -32,6 +41,9 @@ public class MemberRepositoryTest {
     @Autowired
     RoleRepository roleRepository;
 
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
     @PersistenceContext
     EntityManager em;
 
@@ -117,6 +129,31 @@ public class MemberRepositoryTest {
 
     }
 
+    // findByEmail은 natural id 캐시에서 email로 id를 찾으므로 두 번째 조회는 natural id 쿼리를 실행하지 않는다
+    // 캐시는 커밋된 뒤에 채워지므로 트랜잭션 없이 실행하고 직접 지운다
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findByEmailNaturalIdCacheTest() {
+        Member member = memberRepository.save(createMember());
+        SessionFactory sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        try {
+            sessionFactory.getCache().evictNaturalIdData(Member.class);
+            memberRepository.findByEmail(member.getEmail());
+            long hitCount = statistics.getNaturalIdCacheHitCount();
+            long queryCount = statistics.getNaturalIdQueryExecutionCount();
+
+            Member foundMember = memberRepository.findByEmail(member.getEmail())
+                    .orElseThrow(MemberNotFoundException::new);
+
+            assertThat(foundMember.getId()).isEqualTo(member.getId());
+            assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(hitCount + 1);
+            assertThat(statistics.getNaturalIdQueryExecutionCount()).isEqualTo(queryCount);
+        } finally {
+            memberRepository.deleteById(member.getId());
+        }
+    }
+
     @Test
     void findByNicknameTest() {
 
@@ -227,17 +264,45 @@ public class MemberRepositoryTest {
         assertThat(result.size()).isZero();
 
     }
-}
-
-
-
-
-
-
-
-
-
 
+    // JDBC로 반영한 조회수는 2차 캐시에서 내려서 다음 조회가 새 값을 읽는다
+    // 반영한 조회수는 커밋된 뒤에 캐시에서 내려서 다음 조회가 새 값을 읽는다
+    // 테스트 트랜잭션은 커밋되지 않으므로 트랜잭션 없이 실행하고 직접 지운다
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void increaseViewsTest() {
+        Member member = memberRepository.save(createMember());
+        try {
+            memberRepository.findById(member.getId());
 
+            memberRepository.increaseViews(new long[]{member.getId()}, new long[]{3});
 
+            Member foundMember = memberRepository.findById(member.getId()).orElseThrow(MemberNotFoundException::new);
+            assertThat(foundMember.getViews()).isEqualTo(3L);
+        } finally {
+            memberRepository.deleteById(member.getId());
+        }
+    }
 
+    // flush가 커밋되기 전에 다른 요청이 커밋 전의 조회수를 읽어 캐시에 올려도, 커밋된 뒤에 캐시에서 내려간다
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void increaseViewsWithConcurrentReadTest() {
+        Member member = memberRepository.save(createMember());
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                memberRepository.increaseViews(new long[]{member.getId()}, new long[]{3});
+                Long viewsBeforeCommit = CompletableFuture.supplyAsync(() -> memberRepository.findById(member.getId())
+                        .orElseThrow(MemberNotFoundException::new).getViews(), reader).join();
+                assertThat(viewsBeforeCommit).isZero();
+            });
+
+            Member foundMember = memberRepository.findById(member.getId()).orElseThrow(MemberNotFoundException::new);
+            assertThat(foundMember.getViews()).isEqualTo(3L);
+        } finally {
+            reader.shutdown();
+            memberRepository.deleteById(member.getId());
+        }
+    }
+}
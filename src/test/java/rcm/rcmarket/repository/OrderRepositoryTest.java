@@ -0,0 +1,90 @@
+package rcm.rcmarket.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.order.Order;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.order.OrderRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+
+@DataJpaTest
+public class OrderRepositoryTest {
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    // 주문이 있는 상품도 FK를 비우면 지울 수 있고, 주문은 상품 이름과 함께 남는다
+    @Test
+    void detachProductTest() {
+        Member seller = memberRepository.save(createMember());
+        Member buyer = memberRepository.save(createMember("buyer@email.com", "buyer", "buyer", "buyer"));
+        Product product = productRepository.save(createProduct(seller));
+        Order order = orderRepository.save(new Order(buyer, product, 2));
+        clear();
+
+        int updated = orderRepository.detachProduct(product.getId());
+        productRepository.deleteById(product.getId());
+        clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.existsById(product.getId())).isFalse();
+        OrderDto found = OrderDto.toDto(orderRepository.findById(order.getId()).orElseThrow());
+        assertThat(found.getProductId()).isNull();
+        assertThat(found.getProductName()).isEqualTo(product.getName());
+        assertThat(found.getBuyerId()).isEqualTo(buyer.getId());
+        assertThat(found.getAmount()).isEqualTo(product.getPrice() * 2);
+    }
+
+    // 탈퇴하는 회원이 산 주문과 그 회원이 판 상품의 주문을 모두 떼어내면 회원을 지울 수 있다
+    @Test
+    void detachBuyerAndProductsBySellerTest() {
+        Member member = memberRepository.save(createMember());
+        Member other = memberRepository.save(createMember("other@email.com", "other", "other", "other"));
+        Product bought = productRepository.save(createProduct(other));
+        Product sold = productRepository.save(createProduct(member));
+        Order purchase = orderRepository.save(new Order(member, bought, 1));
+        Order sale = orderRepository.save(new Order(other, sold, 1));
+        clear();
+
+        int buyerUpdated = orderRepository.detachBuyer(member.getId());
+        int productUpdated = orderRepository.detachProductsBySeller(member.getId());
+        memberRepository.deleteById(member.getId());
+        clear();
+
+        assertThat(buyerUpdated).isEqualTo(1);
+        assertThat(productUpdated).isEqualTo(1);
+        assertThat(memberRepository.existsById(member.getId())).isFalse();
+        assertThat(productRepository.existsById(sold.getId())).isFalse();
+        Order foundPurchase = orderRepository.findById(purchase.getId()).orElseThrow();
+        assertThat(foundPurchase.getBuyer()).isNull();
+        assertThat(foundPurchase.getProduct().getId()).isEqualTo(bought.getId());
+        Order foundSale = orderRepository.findById(sale.getId()).orElseThrow();
+        assertThat(foundSale.getProduct()).isNull();
+        assertThat(foundSale.getBuyer().getId()).isEqualTo(other.getId());
+    }
+}
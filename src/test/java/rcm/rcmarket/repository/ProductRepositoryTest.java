@@ -0,0 +1,133 @@
+package rcm.rcmarket.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import rcm.rcmarket.dto.product.ProductCursor;
+import rcm.rcmarket.dto.product.ProductDto;
+import rcm.rcmarket.dto.product.ProductSearchCondition;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProductWithStock;
+
+@DataJpaTest
+public class ProductRepositoryTest {
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @PersistenceContext
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void createAndReadTest() {
+        Member seller = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(seller));
+        clear();
+
+        Product foundProduct = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(foundProduct.getSeller().getId()).isEqualTo(seller.getId());
+        assertThat(foundProduct.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void findSellerIdByIdTest() {
+        Member seller = memberRepository.save(createMember());
+        Product product = productRepository.save(createProduct(seller));
+        clear();
+
+        assertThat(productRepository.findSellerIdById(product.getId())).hasValue(seller.getId());
+        assertThat(productRepository.findSellerIdById(product.getId() + 1)).isEmpty();
+    }
+
+    // 커서를 따라 끝까지 읽으면 모든 상품이 (createdAt, id) 내림차순으로 한 번씩만 나온다
+    @Test
+    void findPageKeysetTest() {
+        Member seller = memberRepository.save(createMember());
+        for(int i = 0; i < 25; i++) productRepository.save(createProduct(seller));
+        clear();
+
+        ProductSearchCondition cond = new ProductSearchCondition();
+        List<ProductDto> result = new ArrayList<>();
+        ProductCursor cursor = null;
+        while(true) {
+            List<ProductDto> page = productRepository.findPage(cond, cursor, 10);
+            result.addAll(page);
+            if(page.size() < 10) break;
+            cursor = ProductCursor.of(page.get(page.size() - 1));
+        }
+
+        assertThat(result).hasSize(25);
+        assertThat(result.stream().map(ProductDto::getId).distinct().count()).isEqualTo(25);
+        assertThat(result).isSortedAccordingTo(Comparator.comparing(ProductDto::getCreatedAt)
+                .thenComparing(ProductDto::getId).reversed());
+    }
+
+    @Test
+    void findPageWithConditionTest() {
+        Member seller = memberRepository.save(createMember());
+        productRepository.save(createProduct(seller, Category.DIGITAL, 1000L));
+        productRepository.save(createProduct(seller, Category.DIGITAL, 5000L));
+        productRepository.save(createProduct(seller, Category.DIGITAL, 9000L));
+        productRepository.save(createProduct(seller, Category.BOOK, 5000L));
+        clear();
+
+        List<ProductDto> result = productRepository.findPage(
+                new ProductSearchCondition(Category.DIGITAL, 2000L, 9000L, null, null), null, 10);
+
+        assertThat(result.stream().map(ProductDto::getPrice).collect(Collectors.toList()))
+                .containsExactly(9000L, 5000L);
+    }
+
+    @Test
+    void decreaseStocksTest() {
+        Member seller = memberRepository.save(createMember());
+        Product first = productRepository.save(createProductWithStock(seller, 10));
+        Product second = productRepository.save(createProductWithStock(seller, 5));
+        clear();
+
+        productRepository.decreaseStocks(Map.of(first.getId(), 3, second.getId(), 5));
+        clear();
+
+        assertThat(productRepository.findStockById(first.getId())).hasValue(7);
+        assertThat(productRepository.findStockById(second.getId())).hasValue(0);
+    }
+
+    @Test
+    void increaseViewsTest() {
+        Member seller = memberRepository.save(createMember());
+        Product first = productRepository.save(createProduct(seller));
+        Product second = productRepository.save(createProduct(seller));
+        clear();
+
+        productRepository.increaseViews(new long[]{first.getId(), second.getId()}, new long[]{3, 5});
+        productRepository.increaseViews(new long[]{first.getId()}, new long[]{2});
+        clear();
+
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getViews()).isEqualTo(5L);
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getViews()).isEqualTo(5L);
+    }
+}
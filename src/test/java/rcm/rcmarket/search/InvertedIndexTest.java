@@ -0,0 +1,121 @@
+package rcm.rcmarket.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InvertedIndexTest {
+
+    @Test
+    void searchHangulAndAlphabetTest() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "Apple MacBook Pro");
+        index.put(2L, "맥북 에어 M1");
+        index.put(3L, "apple");
+        index.put(4L, "pineapple juice");
+        index.put(5L, "애플 맥북");
+
+        // when, then
+        assertThat(index.search("APPLE", 10)).containsExactly(3L, 1L, 4L);
+        assertThat(index.search("맥북", 10)).containsExactly(5L, 2L);
+        assertThat(index.search("맥", 10)).containsExactly(5L, 2L);
+        assertThat(index.search("pro mac", 10)).containsExactly(1L);
+        assertThat(index.search("없는상품", 10)).isEmpty();
+        assertThat(index.search("!!", 10)).isEmpty();
+    }
+
+    // 단어의 앞부분과 맞는 문서가 중간에 포함된 문서보다, 같으면 짧은 문서가 먼저 나온다
+    @Test
+    void rankTest() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "pineapple");
+        index.put(2L, "apple juice");
+        index.put(3L, "apple");
+
+        // when
+        List<Long> result = index.search("apple", 10);
+
+        // then
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    // bigram이 모두 있어도 연속해서 나타나지 않으면 결과에서 빠진다
+    @Test
+    void searchExcludesScatteredBigramsTest() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "abxbc");
+        index.put(2L, "abc");
+
+        // when, then
+        assertThat(index.search("abc", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void putAndRemoveTest() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, "apple");
+        index.put(2L, "apple");
+
+        // when
+        index.remove(1L);
+        index.put(2L, "orange");
+
+        // then
+        assertThat(index.search("apple", 10)).isEmpty();
+        assertThat(index.search("orange", 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void limitTest() {
+        // given
+        InvertedIndex index = new InvertedIndex();
+        for(long id = 1; id <= 30; id++) index.put(id, "apple");
+
+        // when
+        List<Long> result = index.search("apple", 5);
+
+        // then
+        assertThat(result).containsExactly(30L, 29L, 28L, 27L, 26L);
+    }
+
+    // 임의의 문서와 검색어에 대해 검색 결과가 원문에 모든 단어가 포함된 문서 집합과 같다
+    @Test
+    void searchMatchesContainsTest() {
+        Random random = new Random(7);
+        String alphabet = "abc가나다 ";
+        InvertedIndex index = new InvertedIndex();
+        String[] texts = new String[2001];
+        for(int id = 1; id <= 2000; id++) {
+            StringBuilder sb = new StringBuilder();
+            for(int i = 1 + random.nextInt(10); i > 0; i--) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            texts[id] = sb.toString();
+            index.put((long) id, texts[id]);
+        }
+
+        for(int i = 0; i < 1000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for(int j = 1 + random.nextInt(4); j > 0; j--) sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            String[] words = NGramTokenizer.words(NGramTokenizer.normalize(sb.toString()));
+
+            Set<Long> expected = new HashSet<>();
+            for(int id = 1; id <= 2000 && words.length > 0; id++) {
+                String text = NGramTokenizer.normalize(texts[id]);
+                boolean matches = true;
+                for(String word : words) matches &= text.contains(word);
+                if(matches) expected.add((long) id);
+            }
+
+            assertThat(new HashSet<>(index.search(sb.toString(), 10000))).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package rcm.rcmarket.service.chat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.dto.chat.ChatMessageDto;
+import rcm.rcmarket.dto.chat.ChatMessageListDto;
+import rcm.rcmarket.dto.chat.ChatMessageReadCondition;
+import rcm.rcmarket.dto.chat.ConversationDto;
+import rcm.rcmarket.entity.chat.Conversation;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.ConversationNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.exception.SelfConversationException;
+import rcm.rcmarket.repository.chat.ChatMessageRepository;
+import rcm.rcmarket.repository.chat.ConversationRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatServiceTest {
+    @InjectMocks ChatService chatService;
+    @Mock ConversationRepository conversationRepository;
+    @Mock ChatMessageRepository chatMessageRepository;
+    @Mock ProductRepository productRepository;
+    @Mock MemberRepository memberRepository;
+
+    @Test
+    void createTest() {
+        // given
+        Product product = product(1L, 2L);
+        Member buyer = member(3L);
+        given(conversationRepository.findByProductIdAndBuyerId(1L, 3L)).willReturn(Optional.empty());
+        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        given(memberRepository.getById(3L)).willReturn(buyer);
+        given(conversationRepository.save(any())).will(returnsFirstArg());
+
+        // when
+        ConversationDto result = chatService.create(1L, 3L);
+
+        // then
+        assertThat(result.getProductId()).isEqualTo(1L);
+        assertThat(result.getBuyerId()).isEqualTo(3L);
+        assertThat(result.getSellerId()).isEqualTo(2L);
+    }
+
+    // 이미 대화방이 있으면 새로 만들지 않는다
+    @Test
+    void createExistingTest() {
+        // given
+        Conversation conversation = new Conversation(product(1L, 2L), member(3L));
+        given(conversationRepository.findByProductIdAndBuyerId(1L, 3L)).willReturn(Optional.of(conversation));
+
+        // when
+        ConversationDto result = chatService.create(1L, 3L);
+
+        // then
+        assertThat(result.getBuyerId()).isEqualTo(3L);
+        verify(conversationRepository, never()).save(any());
+    }
+
+    @Test
+    void createExceptionBySelfConversationTest() {
+        // given
+        Product product = mock(Product.class);
+        given(product.getSeller()).willReturn(member(2L));
+        given(conversationRepository.findByProductIdAndBuyerId(1L, 2L)).willReturn(Optional.empty());
+        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+
+        // when, then
+        assertThatThrownBy(() -> chatService.create(1L, 2L)).isInstanceOf(SelfConversationException.class);
+    }
+
+    @Test
+    void createExceptionByProductNotFoundTest() {
+        // given
+        given(conversationRepository.findByProductIdAndBuyerId(1L, 3L)).willReturn(Optional.empty());
+        given(productRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> chatService.create(1L, 3L)).isInstanceOf(ProductNotFoundException.class);
+    }
+
+    // size + 1개를 읽어 다음 페이지가 있으면 마지막으로 내려준 메시지 id를 커서로 준다
+    @Test
+    void readMessagesTest() {
+        // given
+        given(conversationRepository.existsById(1L)).willReturn(true);
+        given(chatMessageRepository.findPage(1L, 100L, 4)).willReturn(messages(99L, 96L));
+
+        // when
+        ChatMessageListDto result = chatService.readMessages(1L, new ChatMessageReadCondition(100L, 3));
+
+        // then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getMessages()).extracting(ChatMessageDto::getId).containsExactly(99L, 98L, 97L);
+        assertThat(result.getNextCursor()).isEqualTo(97L);
+    }
+
+    @Test
+    void readMessagesLastPageTest() {
+        // given
+        given(conversationRepository.existsById(1L)).willReturn(true);
+        given(chatMessageRepository.findPage(1L, null, ChatService.DEFAULT_PAGE_SIZE + 1)).willReturn(messages(2L, 1L));
+
+        // when
+        ChatMessageListDto result = chatService.readMessages(1L, new ChatMessageReadCondition(null, null));
+
+        // then
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getMessages()).hasSize(2);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void readMessagesExceptionByConversationNotFoundTest() {
+        // given
+        given(conversationRepository.existsById(1L)).willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> chatService.readMessages(1L, new ChatMessageReadCondition()))
+                .isInstanceOf(ConversationNotFoundException.class);
+    }
+
+    Member member(Long id) {
+        Member member = mock(Member.class);
+        given(member.getId()).willReturn(id);
+        return member;
+    }
+
+    Product product(Long id, Long sellerId) {
+        Member seller = member(sellerId);
+        Product product = mock(Product.class);
+        given(product.getId()).willReturn(id);
+        given(product.getSeller()).willReturn(seller);
+        return product;
+    }
+
+    List<ChatMessageDto> messages(long from, long to) {
+        return LongStream.iterate(from, id -> id >= to, id -> id - 1)
+                .mapToObj(id -> new ChatMessageDto(id, 1L, 3L, "content", null))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
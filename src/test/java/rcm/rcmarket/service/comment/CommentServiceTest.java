@@ -0,0 +1,198 @@
+package rcm.rcmarket.service.comment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.dto.comment.CommentCreateRequest;
+import rcm.rcmarket.dto.comment.CommentDto;
+import rcm.rcmarket.dto.comment.CommentListDto;
+import rcm.rcmarket.dto.comment.CommentReadCondition;
+import rcm.rcmarket.entity.comment.Comment;
+import rcm.rcmarket.entity.member.Member;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.CommentDepthExceededException;
+import rcm.rcmarket.exception.CommentNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.repository.comment.CommentRepository;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentServiceTest {
+    @InjectMocks CommentService commentService;
+    @Mock CommentRepository commentRepository;
+    @Mock ProductRepository productRepository;
+    @Mock MemberRepository memberRepository;
+
+    // 루트 댓글 두 개와 답글들이 (path, id) 순으로 오면 각 스레드 아래에 트리로 붙는다
+    @Test
+    void readAllTest() {
+        // given
+        CommentReadCondition cond = new CommentReadCondition(null, 2);
+        given(commentRepository.findRootPage(1L, null, 3)).willReturn(new ArrayList<>(List.of(comment(20L, null), comment(10L, null))));
+        given(commentRepository.findAllByThreadIdIn(List.of(20L, 10L))).willReturn(List.of(
+                comment(11L, 10L), comment(12L, 10L), comment(21L, 20L), comment(13L, 11L), comment(14L, 13L)));
+
+        // when
+        CommentListDto result = commentService.readAll(1L, cond);
+
+        // then
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getComments()).extracting(CommentDto::getId).containsExactly(20L, 10L);
+        CommentDto first = result.getComments().get(1);
+        assertThat(first.getChildren()).extracting(CommentDto::getId).containsExactly(11L, 12L);
+        assertThat(first.getChildren().get(0).getChildren().get(0).getChildren()).extracting(CommentDto::getId).containsExactly(14L);
+        assertThat(result.getComments().get(0).getChildren()).extracting(CommentDto::getId).containsExactly(21L);
+    }
+
+    @Test
+    void readAllHasNextTest() {
+        // given
+        CommentReadCondition cond = new CommentReadCondition(30L, 2);
+        given(commentRepository.findRootPage(1L, 30L, 3)).willReturn(
+                new ArrayList<>(List.of(comment(20L, null), comment(10L, null), comment(5L, null))));
+        given(commentRepository.findAllByThreadIdIn(List.of(20L, 10L))).willReturn(List.of());
+
+        // when
+        CommentListDto result = commentService.readAll(1L, cond);
+
+        // then
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo(10L);
+        assertThat(result.getComments()).hasSize(2);
+    }
+
+    @Test
+    void readAllEmptyTest() {
+        // given
+        given(commentRepository.findRootPage(eq(1L), isNull(), eq(21))).willReturn(new ArrayList<>());
+
+        // when
+        CommentListDto result = commentService.readAll(1L, new CommentReadCondition());
+
+        // then
+        assertThat(result.getComments()).isEmpty();
+        verify(commentRepository, never()).findAllByThreadIdIn(anyList());
+    }
+
+    @Test
+    void readExceptionByCommentNotFoundTest() {
+        // given
+        given(commentRepository.findWithWriterById(1L)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> commentService.read(1L)).isInstanceOf(CommentNotFoundException.class);
+    }
+
+    @Test
+    void createTest() {
+        // given
+        Member writer = createMember();
+        Product product = createProduct(writer);
+        given(productRepository.existsById(1L)).willReturn(true);
+        given(productRepository.getById(1L)).willReturn(product);
+        given(memberRepository.getById(3L)).willReturn(writer);
+        given(commentRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CommentDto result = commentService.create(1L, new CommentCreateRequest("content", null), 3L);
+
+        // then
+        assertThat(result.getContent()).isEqualTo("content");
+        assertThat(result.getParentId()).isNull();
+        assertThat(result.getWriterNickname()).isEqualTo(writer.getNickname());
+    }
+
+    @Test
+    void createExceptionByProductNotFoundTest() {
+        // given
+        given(productRepository.existsById(1L)).willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> commentService.create(1L, new CommentCreateRequest("content", null), 3L))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    // 삭제된 댓글이나 다른 상품의 댓글에는 답글을 달 수 없다
+    @Test
+    void createExceptionByParentNotFoundTest() {
+        // given
+        Comment deleted = mock(Comment.class);
+        given(deleted.isDeleted()).willReturn(true);
+        Comment otherProduct = parent(2L);
+        given(commentRepository.findById(5L)).willReturn(Optional.of(deleted));
+        given(commentRepository.findById(6L)).willReturn(Optional.of(otherProduct));
+
+        // when, then
+        assertThatThrownBy(() -> commentService.create(1L, new CommentCreateRequest("content", 5L), 3L))
+                .isInstanceOf(CommentNotFoundException.class);
+        assertThatThrownBy(() -> commentService.create(1L, new CommentCreateRequest("content", 6L), 3L))
+                .isInstanceOf(CommentNotFoundException.class);
+    }
+
+    @Test
+    void createExceptionByDepthExceededTest() {
+        // given
+        Comment parent = parent(1L);
+        given(parent.getDepth()).willReturn(Comment.MAX_DEPTH - 1);
+        given(commentRepository.findById(5L)).willReturn(Optional.of(parent));
+
+        // when, then
+        assertThatThrownBy(() -> commentService.create(1L, new CommentCreateRequest("content", 5L), 3L))
+                .isInstanceOf(CommentDepthExceededException.class);
+    }
+
+    @Test
+    void deleteTest() {
+        // given
+        Comment comment = mock(Comment.class);
+        given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+
+        // when
+        commentService.delete(1L);
+
+        // then
+        verify(comment).delete();
+    }
+
+    @Test
+    void deleteExceptionByCommentNotFoundTest() {
+        // given
+        given(commentRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> commentService.delete(1L)).isInstanceOf(CommentNotFoundException.class);
+    }
+
+    private CommentDto comment(Long id, Long parentId) {
+        return new CommentDto(id, parentId, 1L, "nickname", "content", false, LocalDateTime.now());
+    }
+
+    private Comment parent(Long productId) {
+        Product product = mock(Product.class);
+        given(product.getId()).willReturn(productId);
+        Comment comment = mock(Comment.class);
+        given(comment.getProduct()).willReturn(product);
+        return comment;
+    }
+}
@@ -0,0 +1,114 @@
+package rcm.rcmarket.service.favorite;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import rcm.rcmarket.dto.favorite.FavoriteCheckDto;
+import rcm.rcmarket.dto.favorite.FavoriteDto;
+import rcm.rcmarket.dto.favorite.FavoriteUpdateRequest;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.repository.favorite.FavoriteRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class FavoriteServiceTest {
+    @InjectMocks FavoriteService favoriteService;
+    @Mock FavoriteRepository favoriteRepository;
+    @Mock ProductRepository productRepository;
+
+    @Test
+    void likeTest() {
+        // given
+        given(favoriteRepository.insertIfAbsent(3L, 1L)).willReturn(true);
+
+        // when
+        FavoriteDto result = favoriteService.update(1L, new FavoriteUpdateRequest(true), 3L);
+
+        // then
+        assertThat(result.isLiked()).isTrue();
+        verify(productRepository).changeLikes(1L, 1);
+    }
+
+    // 이미 좋아요한 상품이면 좋아요 수를 바꾸지 않는다
+    @Test
+    void likeAgainTest() {
+        // given
+        given(favoriteRepository.insertIfAbsent(3L, 1L)).willReturn(false);
+
+        // when
+        favoriteService.update(1L, new FavoriteUpdateRequest(true), 3L);
+
+        // then
+        verify(productRepository, never()).changeLikes(anyLong(), anyLong());
+    }
+
+    @Test
+    void likeExceptionByProductNotFoundTest() {
+        // given
+        given(favoriteRepository.insertIfAbsent(3L, 1L)).willThrow(DataIntegrityViolationException.class);
+
+        // when, then
+        assertThatThrownBy(() -> favoriteService.update(1L, new FavoriteUpdateRequest(true), 3L))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    @Test
+    void unlikeTest() {
+        // given
+        given(favoriteRepository.deleteByMemberIdAndProductId(3L, 1L)).willReturn(1);
+
+        // when
+        FavoriteDto result = favoriteService.update(1L, new FavoriteUpdateRequest(false), 3L);
+
+        // then
+        assertThat(result.isLiked()).isFalse();
+        verify(productRepository).changeLikes(1L, -1);
+    }
+
+    @Test
+    void unlikeAgainTest() {
+        // given
+        given(favoriteRepository.deleteByMemberIdAndProductId(3L, 1L)).willReturn(0);
+
+        // when
+        favoriteService.update(1L, new FavoriteUpdateRequest(false), 3L);
+
+        // then
+        verify(productRepository, never()).changeLikes(anyLong(), anyLong());
+    }
+
+    @Test
+    void checkTest() {
+        // given
+        given(favoriteRepository.findProductIdsByMemberIdAndProductIdIn(3L, List.of(1L, 2L, 5L))).willReturn(List.of(2L));
+
+        // when
+        FavoriteCheckDto result = favoriteService.check(List.of(1L, 2L, 5L), 3L);
+
+        // then
+        assertThat(result.getLikedProductIds()).containsExactly(2L);
+    }
+
+    @Test
+    void checkEmptyTest() {
+        // given, when
+        FavoriteCheckDto result = favoriteService.check(List.of(), 3L);
+
+        // then
+        assertThat(result.getLikedProductIds()).isEmpty();
+        verifyNoInteractions(favoriteRepository);
+    }
+}
@@ -0,0 +1,165 @@
+package rcm.rcmarket.service.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import rcm.rcmarket.dto.image.ProductImageDto;
+import rcm.rcmarket.entity.image.ProductImage;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.ImageNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.image.ImageFile;
+import rcm.rcmarket.image.ImageFormat;
+import rcm.rcmarket.image.ImageStorage;
+import rcm.rcmarket.image.StoredImage;
+import rcm.rcmarket.image.ThumbnailGenerator;
+import rcm.rcmarket.repository.image.ProductImageRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductImageServiceTest {
+    @InjectMocks ProductImageService productImageService;
+    @Mock ProductImageRepository productImageRepository;
+    @Mock ProductRepository productRepository;
+    @Mock ImageStorage imageStorage;
+    @Mock ThumbnailGenerator thumbnailGenerator;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void uploadTest() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "a.png", "image/png", new byte[]{1, 2, 3});
+        Product product = product(1L);
+        given(productRepository.existsById(1L)).willReturn(true);
+        given(productRepository.getById(1L)).willReturn(product);
+        given(imageStorage.store(any(), any())).willReturn(new StoredImage("uuid.png", ImageFormat.PNG, 3L));
+        given(productImageRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ProductImageDto result = productImageService.upload(1L, file);
+
+        // then
+        assertThat(result.getContentType()).isEqualTo("image/png");
+        assertThat(result.getSize()).isEqualTo(3L);
+        verify(thumbnailGenerator).submit(1L, "uuid.png");
+    }
+
+    @Test
+    void uploadExceptionByProductNotFoundTest() throws IOException {
+        // given
+        given(productRepository.existsById(1L)).willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> productImageService.upload(1L, new MockMultipartFile("image", new byte[]{1})))
+                .isInstanceOf(ProductNotFoundException.class);
+        verify(imageStorage, never()).store(any(), any());
+    }
+
+    // 행을 저장하지 못하면 저장한 파일을 지운다
+    @Test
+    void uploadExceptionBySaveFailureTest() throws IOException {
+        // given
+        given(productRepository.existsById(1L)).willReturn(true);
+        given(imageStorage.store(any(), any())).willReturn(new StoredImage("uuid.png", ImageFormat.PNG, 3L));
+        given(productImageRepository.save(any())).willThrow(IllegalStateException.class);
+
+        // when, then
+        assertThatThrownBy(() -> productImageService.upload(1L, new MockMultipartFile("image", new byte[]{1})))
+                .isInstanceOf(IllegalStateException.class);
+        verify(imageStorage).delete(1L, "uuid.png");
+        verify(thumbnailGenerator, never()).submit(any(), any());
+    }
+
+    @Test
+    void deleteTest() {
+        // given
+        ProductImage image = new ProductImage(product(1L), "uuid.png", "image/png", 3L);
+        given(productImageRepository.findById(5L)).willReturn(Optional.of(image));
+
+        // when
+        productImageService.delete(1L, 5L);
+
+        // then
+        verify(productImageRepository).delete(image);
+        verify(imageStorage).delete(1L, "uuid.png");
+    }
+
+    // 다른 상품의 이미지는 경로의 상품으로 지울 수 없다
+    @Test
+    void deleteExceptionByOtherProductTest() {
+        // given
+        ProductImage image = new ProductImage(product(2L), "uuid.png", "image/png", 3L);
+        given(productImageRepository.findById(5L)).willReturn(Optional.of(image));
+
+        // when, then
+        assertThatThrownBy(() -> productImageService.delete(1L, 5L)).isInstanceOf(ImageNotFoundException.class);
+        verify(productImageRepository, never()).delete(any());
+    }
+
+    @Test
+    void findThumbnailTest() throws IOException {
+        // given
+        Path thumbnail = Files.write(root.resolve("uuid-thumb.jpg"), new byte[]{1});
+        given(productImageRepository.findById(5L)).willReturn(Optional.of(new ProductImage(product(1L), "uuid.png", "image/png", 3L)));
+        given(imageStorage.thumbnail(1L, "uuid.png")).willReturn(thumbnail);
+
+        // when
+        ImageFile result = productImageService.findThumbnail(5L);
+
+        // then
+        assertThat(result.getPath()).isEqualTo(thumbnail);
+        assertThat(result.getContentType()).isEqualTo("image/jpeg");
+        assertThat(result.isImmutable()).isTrue();
+    }
+
+    // 썸네일이 아직 없으면 원본을 재검증이 필요한 응답으로 내려준다
+    @Test
+    void findThumbnailNotReadyTest() {
+        // given
+        Path original = root.resolve("uuid.png");
+        given(productImageRepository.findById(5L)).willReturn(Optional.of(new ProductImage(product(1L), "uuid.png", "image/png", 3L)));
+        given(imageStorage.thumbnail(1L, "uuid.png")).willReturn(root.resolve("uuid-thumb.jpg"));
+        given(imageStorage.original(1L, "uuid.png")).willReturn(original);
+
+        // when
+        ImageFile result = productImageService.findThumbnail(5L);
+
+        // then
+        assertThat(result.getPath()).isEqualTo(original);
+        assertThat(result.isImmutable()).isFalse();
+    }
+
+    @Test
+    void findOriginalExceptionByImageNotFoundTest() {
+        // given
+        given(productImageRepository.findById(5L)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> productImageService.findOriginal(5L)).isInstanceOf(ImageNotFoundException.class);
+    }
+
+    private Product product(Long id) {
+        Product product = mock(Product.class);
+        given(product.getId()).willReturn(id);
+        return product;
+    }
+}
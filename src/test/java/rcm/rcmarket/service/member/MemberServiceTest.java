@@ -2,13 +2,25 @@ package rcm.rcmarket.service.member;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
 import rcm.rcmarket.dto.member.MemberDto;
 import rcm.rcmarket.entity.member.Member;
 import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.repository.comment.CommentRepository;
+import rcm.rcmarket.repository.favorite.FavoriteRepository;
 import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.order.OrderRepository;
+import rcm.rcmarket.service.search.SearchService;
+import rcm.rcmarket.view.ViewCounter;
+import rcm.rcmarket.view.ViewTarget;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,12 +31,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class MemberServiceTest {
     @InjectMocks MemberService memberService;
     @Mock MemberRepository memberRepository;
+    @Mock MemberNegativeCache memberNegativeCache;
+    @Spy SingleFlight<Long, MemberDto> memberReadFlight = new SingleFlight<>("member.read");
+    @Mock SearchService searchService;
+    @Mock ViewCounter viewCounter;
+    @Mock FavoriteRepository favoriteRepository;
+    @Mock CommentRepository commentRepository;
+    @Mock OrderRepository orderRepository;
 
     @Test
     void readTest() {
@@ -39,6 +60,21 @@ public class MemberServiceTest {
         assertThat(result.getEmail()).isEqualTo(member.getEmail());
     }
 
+    // 조회수는 DB에 반영된 값과 아직 반영되지 않은 값을 더해서 내려준다
+    @Test
+    void readWithPendingViewsTest() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Optional.of(createMember()));
+        given(viewCounter.pending(ViewTarget.MEMBER, 1L)).willReturn(3L);
+
+        // when
+        MemberDto result = memberService.read(1L);
+
+        // then
+        verify(viewCounter).record(ViewTarget.MEMBER, 1L);
+        assertThat(result.getViews()).isEqualTo(3L);
+    }
+
     @Test
     void readExceptionByMemberNotFoundTest() {
         // given
@@ -46,6 +82,18 @@ public class MemberServiceTest {
 
         // when, then
         assertThatThrownBy(() -> memberService.read(1L)).isInstanceOf(MemberNotFoundException.class);
+        verify(memberNegativeCache).put(1L);
+    }
+
+    // negative cache에 기록된 id는 repository를 조회하지 않고 바로 예외가 발생한다
+    @Test
+    void readExceptionByNegativeCachedMemberTest() {
+        // given
+        given(memberNegativeCache.contains(1L)).willReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> memberService.read(1L)).isInstanceOf(MemberNotFoundException.class);
+        verify(memberRepository, never()).findById(any());
     }
 
     @Test
@@ -58,6 +106,66 @@ public class MemberServiceTest {
 
         // then
         verify(memberRepository).deleteById(anyLong());
+        verify(memberNegativeCache).put(1L);
+        verify(searchService).removeMember(1L);
+        verify(favoriteRepository).decreaseLikesByMemberId(1L);
+        verify(commentRepository).detachWriter(1L);
+    }
+
+    // 회원이 산 주문과 회원이 판 상품의 주문은 회원을 지우기 전에 FK를 비운다
+    @Test
+    void deleteWithOrdersTest() {
+        // given
+        given(memberRepository.existsById(anyLong())).willReturn(true);
+        given(orderRepository.detachBuyer(1L)).willReturn(2);
+        given(orderRepository.detachProductsBySeller(1L)).willReturn(3);
+
+        // when
+        memberService.delete(1L);
+
+        // then
+        InOrder inOrder = inOrder(orderRepository, memberRepository);
+        inOrder.verify(orderRepository).detachBuyer(1L);
+        inOrder.verify(orderRepository).detachProductsBySeller(1L);
+        inOrder.verify(memberRepository).deleteById(1L);
+    }
+
+    // 트랜잭션 안에서는 커밋된 뒤에만 negative cache에 기록한다
+    @Test
+    void deleteNegativeCacheAfterCommitTest() {
+        // given
+        given(memberRepository.existsById(anyLong())).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            memberService.delete(1L);
+            verify(memberNegativeCache, never()).put(anyLong());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(memberNegativeCache).put(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 삭제가 롤백되면 회원은 남아 있으므로 negative cache에 기록하지 않는다
+    @Test
+    void deleteNegativeCacheRollbackTest() {
+        // given
+        given(memberRepository.existsById(anyLong())).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            memberService.delete(1L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // then
+            verify(memberNegativeCache, never()).put(anyLong());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
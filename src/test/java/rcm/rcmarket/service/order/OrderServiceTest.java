@@ -0,0 +1,72 @@
+package rcm.rcmarket.service.order;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.dto.order.OrderCreateRequest;
+import rcm.rcmarket.dto.order.OrderDto;
+import rcm.rcmarket.exception.ReservationNotFoundException;
+import rcm.rcmarket.order.OrderPipeline;
+import rcm.rcmarket.stock.StockLedger;
+import rcm.rcmarket.stock.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderServiceTest {
+    @InjectMocks OrderService orderService;
+    @Mock StockLedger stockLedger;
+    @Mock OrderPipeline orderPipeline;
+
+    @Test
+    void createTest() {
+        // given
+        StockReservation reservation = new StockReservation(1L, 2L, 3L, 1, 0L, LocalDateTime.now());
+        CompletableFuture<OrderDto> future = new CompletableFuture<>();
+        given(stockLedger.findReservation(1L)).willReturn(Optional.of(reservation));
+        given(stockLedger.claim(1L)).willReturn(reservation);
+        given(orderPipeline.submit(3L, reservation)).willReturn(future);
+
+        // when
+        CompletableFuture<OrderDto> result = orderService.create(new OrderCreateRequest(1L), 3L);
+
+        // then
+        assertThat(result).isSameAs(future);
+    }
+
+    @Test
+    void createExceptionByReservationNotFoundTest() {
+        // given
+        given(stockLedger.findReservation(anyLong())).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> orderService.create(new OrderCreateRequest(1L), 3L))
+                .isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    // 다른 회원의 예약으로는 주문할 수 없고, 예약도 그대로 남는다
+    @Test
+    void createExceptionByOtherMemberReservationTest() {
+        // given
+        StockReservation reservation = new StockReservation(1L, 2L, 4L, 1, 0L, LocalDateTime.now());
+        given(stockLedger.findReservation(1L)).willReturn(Optional.of(reservation));
+
+        // when, then
+        assertThatThrownBy(() -> orderService.create(new OrderCreateRequest(1L), 3L))
+                .isInstanceOf(ReservationNotFoundException.class);
+        verify(stockLedger, never()).claim(anyLong());
+        verify(orderPipeline, never()).submit(anyLong(), any());
+    }
+}
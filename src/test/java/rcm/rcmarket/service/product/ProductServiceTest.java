@@ -0,0 +1,201 @@
+package rcm.rcmarket.service.product;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.dto.product.ProductCursor;
+import rcm.rcmarket.dto.product.ProductDto;
+import rcm.rcmarket.dto.product.ProductListDto;
+import rcm.rcmarket.dto.product.ProductSearchCondition;
+import rcm.rcmarket.entity.product.Category;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.exception.InvalidCursorException;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.image.ImageStorage;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.order.OrderRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+import rcm.rcmarket.service.search.SearchService;
+import rcm.rcmarket.stock.StockLedger;
+import rcm.rcmarket.trending.TrendingMetric;
+import rcm.rcmarket.trending.TrendingTracker;
+import rcm.rcmarket.view.ViewCounter;
+import rcm.rcmarket.view.ViewTarget;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static rcm.rcmarket.factory.dto.ProductCreateRequestFactory.createProductCreateRequest;
+import static rcm.rcmarket.factory.entity.MemberFactory.createMember;
+import static rcm.rcmarket.factory.entity.ProductFactory.createProduct;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductServiceTest {
+    @InjectMocks ProductService productService;
+    @Mock ProductRepository productRepository;
+    @Mock MemberRepository memberRepository;
+    @Mock SearchService searchService;
+    @Mock StockLedger stockLedger;
+    @Mock ViewCounter viewCounter;
+    @Mock TrendingTracker trendingTracker;
+    @Mock ImageStorage imageStorage;
+    @Mock OrderRepository orderRepository;
+
+    @Test
+    void readAllHasNextTest() {
+        // given
+        ProductSearchCondition cond = new ProductSearchCondition(null, null, null, null, 2);
+        given(productRepository.findPage(eq(cond), isNull(), eq(3))).willReturn(products(3));
+
+        // when
+        ProductListDto result = productService.readAll(cond);
+
+        // then
+        assertThat(result.getProducts()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        ProductCursor cursor = ProductCursor.decode(result.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(result.getProducts().get(1).getId());
+        assertThat(cursor.getCreatedAt()).isEqualTo(result.getProducts().get(1).getCreatedAt());
+    }
+
+    @Test
+    void readAllLastPageTest() {
+        // given
+        ProductSearchCondition cond = new ProductSearchCondition(null, null, null, null, null);
+        given(productRepository.findPage(eq(cond), isNull(), eq(ProductService.DEFAULT_PAGE_SIZE + 1)))
+                .willReturn(products(3));
+
+        // when
+        ProductListDto result = productService.readAll(cond);
+
+        // then
+        assertThat(result.getProducts()).hasSize(3);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void readAllExceptionByInvalidCursorTest() {
+        // given
+        ProductSearchCondition cond = new ProductSearchCondition(null, null, null, "invalid", null);
+
+        // when, then
+        assertThatThrownBy(() -> productService.readAll(cond)).isInstanceOf(InvalidCursorException.class);
+        verify(productRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    // 상세 조회는 조회수를 세고, DB에 반영된 값과 아직 반영되지 않은 값을 더해서 내려준다
+    @Test
+    void readTest() {
+        // given
+        given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(createMember())));
+        given(viewCounter.pending(eq(ViewTarget.PRODUCT), any())).willReturn(3L);
+
+        // when
+        ProductDto result = productService.read(1L);
+
+        // then
+        verify(viewCounter).record(ViewTarget.PRODUCT, 1L);
+        verify(trendingTracker).record(TrendingMetric.VIEWS, 1L, 1);
+        assertThat(result.getViews()).isEqualTo(3L);
+    }
+
+    @Test
+    void readExceptionByProductNotFoundTest() {
+        // given
+        given(productRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> productService.read(1L)).isInstanceOf(ProductNotFoundException.class);
+    }
+
+    @Test
+    void createTest() {
+        // given
+        given(memberRepository.findById(anyLong())).willReturn(Optional.of(createMember()));
+        given(productRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ProductDto result = productService.create(createProductCreateRequest(), 1L);
+
+        // then
+        assertThat(result.getName()).isEqualTo("name");
+        verify(productRepository).save(any(Product.class));
+        verify(searchService).indexProduct(any(), eq("name"));
+    }
+
+    @Test
+    void createExceptionBySellerNotFoundTest() {
+        // given
+        given(memberRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> productService.create(createProductCreateRequest(), 1L))
+                .isInstanceOf(MemberNotFoundException.class);
+    }
+
+    @Test
+    void deleteTest() {
+        // given
+        given(productRepository.existsById(anyLong())).willReturn(true);
+
+        // when
+        productService.delete(1L);
+
+        // then
+        verify(productRepository).deleteById(1L);
+        verify(searchService).removeProduct(1L);
+        verify(stockLedger).evict(1L);
+        verify(imageStorage).deleteAll(1L);
+    }
+
+    // 주문이 있는 상품은 주문의 상품 FK를 먼저 비우고 지운다
+    @Test
+    void deleteWithOrdersTest() {
+        // given
+        given(productRepository.existsById(anyLong())).willReturn(true);
+        given(orderRepository.detachProduct(1L)).willReturn(2);
+
+        // when
+        productService.delete(1L);
+
+        // then
+        InOrder inOrder = inOrder(orderRepository, productRepository);
+        inOrder.verify(orderRepository).detachProduct(1L);
+        inOrder.verify(productRepository).deleteById(1L);
+    }
+
+    @Test
+    void deleteExceptionByProductNotFoundTest() {
+        // given
+        given(productRepository.existsById(anyLong())).willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> productService.delete(1L)).isInstanceOf(ProductNotFoundException.class);
+    }
+
+    private List<ProductDto> products(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(i -> new ProductDto(100 - i, "name", Category.DIGITAL, 1000L, 1L, now.minusSeconds(i), 0L, 0L))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,100 @@
+package rcm.rcmarket.service.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.cache.SingleFlight;
+import rcm.rcmarket.dto.member.MemberDto;
+import rcm.rcmarket.entity.reactive.MemberRecord;
+import rcm.rcmarket.exception.MemberNotFoundException;
+import rcm.rcmarket.repository.reactive.MemberR2dbcRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// MemberServiceTest의 조회 경로(negative cache, single-flight)를 reactive 서비스에서 확인한다
+@ExtendWith(MockitoExtension.class)
+public class ReactiveMemberServiceTest {
+    @Mock MemberR2dbcRepository memberRepository;
+    @Mock ConnectionFactory connectionFactory;
+    MemberNegativeCache memberNegativeCache = new MemberNegativeCache(100, 30);
+    SingleFlight<Long, MemberDto> memberReadFlight = new SingleFlight<>("member.read");
+    ReactiveMemberService memberService;
+
+    @BeforeEach
+    void beforeEach() {
+        memberService = new ReactiveMemberService(memberRepository, memberNegativeCache, memberReadFlight, connectionFactory);
+    }
+
+    @Test
+    void readTest() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Mono.just(createMemberRecord()));
+
+        // when
+        MemberDto result = memberService.read(1L).block();
+
+        // then
+        assertThat(result.getEmail()).isEqualTo("email@email.com");
+    }
+
+    // 구독하기 전에는 DB에 접근하지 않는다
+    @Test
+    void readLazyTest() {
+        // given, when
+        memberService.read(1L);
+
+        // then
+        verify(memberRepository, never()).findById(1L);
+    }
+
+    // 없는 회원이면 negative cache에 기록하고, 다음 조회는 DB에 접근하지 않는다
+    @Test
+    void readNegativeCacheTest() {
+        // given
+        given(memberRepository.findById(1L)).willReturn(Mono.empty());
+
+        // when
+        assertThatThrownBy(() -> memberService.read(1L).block()).isInstanceOf(MemberNotFoundException.class);
+        assertThatThrownBy(() -> memberService.read(1L).block()).isInstanceOf(MemberNotFoundException.class);
+
+        // then
+        assertThat(memberNegativeCache.contains(1L)).isTrue();
+        verify(memberRepository, times(1)).findById(1L);
+    }
+
+    // 조회가 진행 중일 때 같은 id로 들어온 조회는 findById를 다시 실행하지 않고 결과를 함께 받는다
+    @Test
+    void readCoalesceTest() {
+        // given
+        Sinks.One<MemberRecord> record = Sinks.one();
+        given(memberRepository.findById(1L)).willReturn(record.asMono());
+
+        // when
+        var first = memberService.read(1L).toFuture();
+        var second = memberService.read(1L).toFuture();
+        record.tryEmitValue(createMemberRecord());
+
+        // then
+        assertThat(first.join().getEmail()).isEqualTo("email@email.com");
+        assertThat(second.join().getEmail()).isEqualTo("email@email.com");
+        verify(memberRepository, times(1)).findById(1L);
+        assertThat(memberReadFlight.getJoins()).isEqualTo(1);
+    }
+
+    private MemberRecord createMemberRecord() {
+        return MemberRecord.create("email@email.com", "123456a!", "username", "nickname", LocalDateTime.now());
+    }
+}
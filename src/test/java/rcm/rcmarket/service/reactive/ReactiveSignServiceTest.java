@@ -0,0 +1,93 @@
+package rcm.rcmarket.service.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import rcm.rcmarket.cache.MemberNegativeCache;
+import rcm.rcmarket.config.token.TokenHelper;
+import rcm.rcmarket.dto.sign.SignInResponse;
+import rcm.rcmarket.entity.reactive.MemberRecord;
+import rcm.rcmarket.exception.LoginFailureException;
+import rcm.rcmarket.repository.reactive.MemberR2dbcRepository;
+import rcm.rcmarket.repository.reactive.RoleR2dbcRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static rcm.rcmarket.factory.dto.SignInRequestFactory.createSignInRequest;
+
+// SignServiceTest의 로그인 경로를 reactive 서비스에서 확인한다, bcrypt는 호출한 스레드에서 바로 실행한다
+@ExtendWith(MockitoExtension.class)
+public class ReactiveSignServiceTest {
+    @Mock MemberR2dbcRepository memberRepository;
+    @Mock RoleR2dbcRepository roleRepository;
+    @Mock PasswordEncoder passwordEncoder;
+    @Mock TokenHelper accessTokenHelper;
+    @Mock TokenHelper refreshTokenHelper;
+    @Mock ConnectionFactory connectionFactory;
+    ReactiveSignService signService;
+
+    @BeforeEach
+    void beforeEach() {
+        signService = new ReactiveSignService(memberRepository, roleRepository, passwordEncoder, accessTokenHelper,
+                refreshTokenHelper, Schedulers.immediate(), new MemberNegativeCache(100, 30), connectionFactory);
+    }
+
+    @Test
+    void signInTest() {
+        // given
+        given(memberRepository.findByEmail("email")).willReturn(Mono.just(createMemberRecord()));
+        given(passwordEncoder.matches("password", "encoded")).willReturn(true);
+        given(accessTokenHelper.createToken(anyString())).willReturn("access");
+        given(refreshTokenHelper.createToken(anyString())).willReturn("refresh");
+
+        // when
+        SignInResponse res = signService.signIn(createSignInRequest("email", "password")).block();
+
+        // then
+        assertThat(res.getAccessToken()).isEqualTo("access");
+        assertThat(res.getRefreshToken()).isEqualTo("refresh");
+    }
+
+    // 가입되지 않은 이메일도 더미 해시로 비밀번호 검증을 거친 뒤 실패한다
+    @Test
+    void signInExceptionByNoneMemberTest() {
+        // given
+        given(memberRepository.findByEmail("email")).willReturn(Mono.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("dummy");
+        given(passwordEncoder.matches("password", "dummy")).willReturn(true);
+
+        // when, then
+        assertThatThrownBy(() -> signService.signIn(createSignInRequest("email", "password")).block())
+                .isInstanceOf(LoginFailureException.class);
+        verify(passwordEncoder).matches("password", "dummy");
+        verify(accessTokenHelper, never()).createToken(anyString());
+    }
+
+    @Test
+    void signInExceptionByInvalidPasswordTest() {
+        // given
+        given(memberRepository.findByEmail("email")).willReturn(Mono.just(createMemberRecord()));
+        given(passwordEncoder.matches("password", "encoded")).willReturn(false);
+
+        // when, then
+        assertThatThrownBy(() -> signService.signIn(createSignInRequest("email", "password")).block())
+                .isInstanceOf(LoginFailureException.class);
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    private MemberRecord createMemberRecord() {
+        return MemberRecord.create("email", "encoded", "username", "nickname", LocalDateTime.now());
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import rcm.rcmarket.cache.MemberNegativeCache;
 import rcm.rcmarket.config.token.TokenHelper;
 import rcm.rcmarket.dto.sign.RefreshTokenResponse;
 import rcm.rcmarket.dto.sign.SignInResponse;
@@ -15,6 +16,7 @@ import rcm.rcmarket.entity.member.RoleType;
 import rcm.rcmarket.exception.*;
 import rcm.rcmarket.repository.member.MemberRepository;
 import rcm.rcmarket.repository.role.RoleRepository;
+import rcm.rcmarket.service.search.SearchService;
 
 import java.util.Optional;
 
@@ -37,11 +39,13 @@ public class SignServiceTest {
     @Mock PasswordEncoder passwordEncoder;
     @Mock TokenHelper accessTokenHelper;
     @Mock TokenHelper refreshTokenHelper;
+    @Mock MemberNegativeCache memberNegativeCache;
+    @Mock SearchService searchService;
 
     // verify를 이용해 passwordEncoder가 encode를 수행했는지, memberRepository가 save를 수행했는지 확인함
     @BeforeEach
     void beforeEach() {
-        signService = new SignService(memberRepository, roleRepository, passwordEncoder, accessTokenHelper, refreshTokenHelper);
+        signService = new SignService(memberRepository, roleRepository, passwordEncoder, accessTokenHelper, refreshTokenHelper, memberNegativeCache, searchService);
     }
 
     @Test
@@ -56,6 +60,7 @@ public class SignServiceTest {
         // then
         verify(passwordEncoder).encode(req.getPassword());
         verify(memberRepository).save(any());
+        verify(searchService).indexMember(any(), eq(req.getNickname()));
     }
 
     // email이 중복되었는지 확인
@@ -119,10 +124,14 @@ public class SignServiceTest {
     void signInExceptionByNoneMemberTest() {
         // given
         given(memberRepository.findByEmail(any())).willReturn(Optional.empty());
+        given(passwordEncoder.encode(anyString())).willReturn("dummy");
+        given(passwordEncoder.matches("password", "dummy")).willReturn(true);
 
         // when, then
         assertThatThrownBy(() -> signService.signIn(createSignInRequest("email", "password")))
                 .isInstanceOf(LoginFailureException.class);
+        // 가입 여부와 관계없이 비밀번호 검증 단계를 거친다
+        verify(passwordEncoder).matches("password", "dummy");
     }
 
     // passwordEncoder.matches가 false를 반환하면 -> 즉 비밀번호가 유효하지 않으면
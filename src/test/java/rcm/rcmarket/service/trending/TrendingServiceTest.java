@@ -0,0 +1,89 @@
+package rcm.rcmarket.service.trending;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.dto.trending.TrendingDto;
+import rcm.rcmarket.dto.trending.TrendingProductDto;
+import rcm.rcmarket.entity.product.Product;
+import rcm.rcmarket.repository.product.ProductRepository;
+import rcm.rcmarket.trending.TrendingEntry;
+import rcm.rcmarket.trending.TrendingMetric;
+import rcm.rcmarket.trending.TrendingTracker;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class TrendingServiceTest {
+    @Mock TrendingTracker trendingTracker;
+    @Mock ProductRepository productRepository;
+    TrendingService trendingService;
+
+    @BeforeEach
+    void beforeEach() {
+        trendingService = new TrendingService(trendingTracker, productRepository, 3);
+    }
+
+    // publish 전에는 빈 순위를 돌려주고 DB를 읽지 않는다
+    @Test
+    void readBeforePublishTest() {
+        // when
+        TrendingDto result = trendingService.read(TrendingMetric.VIEWS, null);
+
+        // then
+        assertThat(result.getProducts()).isEmpty();
+        assertThat(result.getPublishedAt()).isNull();
+        verifyNoInteractions(trendingTracker, productRepository);
+    }
+
+    // 순위 순서를 유지하고, 그 사이 삭제된 상품은 뺀다
+    @Test
+    void publishTest() {
+        // given
+        given(trendingTracker.top(TrendingMetric.VIEWS, 3)).willReturn(List.of(
+                new TrendingEntry(3L, 30), new TrendingEntry(1L, 20), new TrendingEntry(2L, 10)));
+        given(trendingTracker.top(TrendingMetric.ORDERS, 3)).willReturn(List.of());
+        List<Product> products = List.of(product(1L), product(3L));
+        given(productRepository.findAllById(List.of(3L, 1L, 2L))).willReturn(products);
+
+        // when
+        trendingService.publish();
+
+        // then
+        TrendingDto result = trendingService.read(TrendingMetric.VIEWS, null);
+        assertThat(result.getProducts().stream().map(TrendingProductDto::getId).collect(Collectors.toList()))
+                .containsExactly(3L, 1L);
+        assertThat(result.getProducts().get(0).getScore()).isEqualTo(30L);
+        assertThat(result.getPublishedAt()).isNotNull();
+        assertThat(trendingService.read(TrendingMetric.ORDERS, null).getProducts()).isEmpty();
+    }
+
+    @Test
+    void readSizeTest() {
+        // given
+        given(trendingTracker.top(TrendingMetric.VIEWS, 3)).willReturn(List.of(
+                new TrendingEntry(1L, 30), new TrendingEntry(2L, 20), new TrendingEntry(3L, 10)));
+        given(trendingTracker.top(TrendingMetric.ORDERS, 3)).willReturn(List.of());
+        List<Product> products = List.of(product(1L), product(2L), product(3L));
+        given(productRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(products);
+        trendingService.publish();
+
+        // when, then
+        assertThat(trendingService.read(TrendingMetric.VIEWS, 1).getProducts()).hasSize(1);
+        assertThat(trendingService.read(TrendingMetric.VIEWS, 100).getProducts()).hasSize(3);
+    }
+
+    Product product(Long id) {
+        Product product = mock(Product.class);
+        given(product.getId()).willReturn(id);
+        return product;
+    }
+}
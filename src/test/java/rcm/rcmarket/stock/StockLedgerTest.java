@@ -0,0 +1,280 @@
+package rcm.rcmarket.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.exception.OutOfStockException;
+import rcm.rcmarket.exception.ProductNotFoundException;
+import rcm.rcmarket.exception.ReservationNotFoundException;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class StockLedgerTest {
+    static final long TTL_NANOS = 1_000L;
+
+    @Mock ProductRepository productRepository;
+    AtomicLong now = new AtomicLong();
+    StockLedger stockLedger;
+
+    @BeforeEach
+    void beforeEach() {
+        stockLedger = new StockLedger(productRepository, TTL_NANOS, now::get);
+    }
+
+    @Test
+    void reserveAndReleaseTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+
+        // when
+        StockReservation reservation = stockLedger.reserve(1L, 1L, 3);
+
+        // then
+        assertThat(stockLedger.available(1L)).isEqualTo(7);
+        stockLedger.release(reservation.getId());
+        assertThat(stockLedger.available(1L)).isEqualTo(10);
+        assertThatThrownBy(() -> stockLedger.release(reservation.getId())).isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    @Test
+    void reserveExceptionByOutOfStockTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(2));
+        stockLedger.reserve(1L, 1L, 2);
+
+        // when, then
+        assertThatThrownBy(() -> stockLedger.reserve(1L, 1L, 1)).isInstanceOf(OutOfStockException.class);
+        assertThat(stockLedger.available(1L)).isZero();
+    }
+
+    @Test
+    void reserveExceptionByProductNotFoundTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.empty());
+
+        // when, then
+        assertThatThrownBy(() -> stockLedger.reserve(1L, 1L, 1)).isInstanceOf(ProductNotFoundException.class);
+    }
+
+    // 카운터는 처음 한 번만 DB에서 읽는다
+    @Test
+    void loadCounterOnceTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+
+        // when
+        stockLedger.reserve(1L, 1L, 1);
+        stockLedger.reserve(1L, 1L, 1);
+        stockLedger.available(1L);
+
+        // then
+        verify(productRepository, times(1)).findStockById(1L);
+    }
+
+    @Test
+    void expireTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        StockReservation expired = stockLedger.reserve(1L, 1L, 3);
+        now.addAndGet(TTL_NANOS / 2);
+        stockLedger.reserve(1L, 1L, 2);
+        now.addAndGet(TTL_NANOS / 2);
+
+        // when
+        stockLedger.expire();
+
+        // then
+        assertThat(stockLedger.available(1L)).isEqualTo(8);
+        assertThat(stockLedger.findReservation(expired.getId())).isEmpty();
+        assertThatThrownBy(() -> stockLedger.confirm(expired.getId())).isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    // claim한 예약은 만료되지 않고, cancel하면 수량이 돌아온다
+    @Test
+    void claimAndCancelTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        StockReservation reservation = stockLedger.claim(stockLedger.reserve(1L, 1L, 4).getId());
+        now.addAndGet(TTL_NANOS);
+
+        // when
+        stockLedger.expire();
+
+        // then
+        assertThat(stockLedger.available(1L)).isEqualTo(6);
+        stockLedger.cancel(reservation);
+        assertThat(stockLedger.available(1L)).isEqualTo(10);
+    }
+
+    // 확정된 차감량만 상품별로 합쳐서 한 번에 반영하고, 반영한 뒤에는 다시 보내지 않는다
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushTest() {
+        // given
+        given(productRepository.findStockById(anyLong())).willReturn(Optional.of(10));
+        stockLedger.confirm(stockLedger.reserve(1L, 1L, 2).getId());
+        stockLedger.confirm(stockLedger.reserve(1L, 2L, 3).getId());
+        stockLedger.confirm(stockLedger.reserve(2L, 1L, 1).getId());
+        stockLedger.reserve(2L, 1L, 4);
+
+        // when
+        stockLedger.flush();
+        stockLedger.flush();
+
+        // then
+        ArgumentCaptor<Map<Long, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository, times(1)).decreaseStocks(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5, 2L, 1));
+        assertThat(stockLedger.available(1L)).isEqualTo(5);
+        assertThat(stockLedger.available(2L)).isEqualTo(5);
+    }
+
+    @Test
+    void flushRetryTest() {
+        // given
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        stockLedger.confirm(stockLedger.reserve(1L, 1L, 2).getId());
+        willThrow(new IllegalStateException()).given(productRepository).decreaseStocks(anyMap());
+
+        // when
+        stockLedger.flush();
+        stockLedger.flush();
+
+        // then
+        verify(productRepository, times(2)).decreaseStocks(Map.of(1L, 2));
+    }
+
+    @Test
+    void flushNothingTest() {
+        // when
+        stockLedger.flush();
+
+        // then
+        verify(productRepository, never()).decreaseStocks(anyMap());
+    }
+
+    // 수천 건의 예약을 동시에 시도해도 재고보다 많이 예약되지 않는다
+    @Test
+    void noOversellUnderContentionTest() throws Exception {
+        // given
+        int stock = 1_000;
+        int attempts = 10_000;
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(stock));
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    stockLedger.reserve(1L, 1L, 1);
+                    reserved.incrementAndGet();
+                } catch (OutOfStockException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(rejected.get()).isEqualTo(attempts - stock);
+        assertThat(stockLedger.available(1L)).isZero();
+    }
+
+    // 예약, 해제, 확정, 만료가 뒤섞여도 재고 = 남은 수량 + 진행 중인 예약 + 확정된 수량이 유지된다
+    @Test
+    void conservationUnderMixedOperationsTest() throws Exception {
+        // given
+        int stock = 500;
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(stock));
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<StockReservation> outstanding = new ConcurrentLinkedQueue<>();
+        AtomicInteger confirmed = new AtomicInteger();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < 32; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for(int i = 0; i < 2_000; i++) {
+                    int action = random.nextInt(4);
+                    if(action <= 1) {
+                        try {
+                            outstanding.add(stockLedger.reserve(1L, 1L, 1 + random.nextInt(3)));
+                        } catch (OutOfStockException ignored) {
+                        }
+                        continue;
+                    }
+                    StockReservation reservation = outstanding.poll();
+                    if(reservation == null) continue;
+                    try {
+                        if(action == 2) {
+                            stockLedger.release(reservation.getId());
+                        } else {
+                            confirmed.addAndGet(stockLedger.confirm(reservation.getId()).getQuantity());
+                        }
+                    } catch (ReservationNotFoundException ignored) {
+                        // expire가 먼저 가져간 예약
+                    }
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            for(int i = 0; i < 200; i++) {
+                now.addAndGet(TTL_NANOS / 10);
+                stockLedger.expire();
+            }
+            return null;
+        }));
+        start.countDown();
+        for(Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        int pending = outstanding.stream()
+                .filter(reservation -> stockLedger.findReservation(reservation.getId()).isPresent())
+                .mapToInt(StockReservation::getQuantity)
+                .sum();
+        assertThat(stockLedger.available(1L)).isGreaterThanOrEqualTo(0);
+        assertThat(stockLedger.available(1L) + pending + confirmed.get()).isEqualTo(stock);
+    }
+}
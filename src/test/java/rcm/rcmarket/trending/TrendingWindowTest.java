@@ -0,0 +1,114 @@
+package rcm.rcmarket.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TrendingWindowTest {
+    static final long BUCKET_MILLIS = 60_000;
+
+    AtomicLong now = new AtomicLong(BUCKET_MILLIS * 1000);
+    TrendingWindow window = new TrendingWindow(60, BUCKET_MILLIS, 1024, now::get);
+
+    @Test
+    void topTest() {
+        // given
+        for(long id = 1; id <= 20; id++) window.record(id, id * 10);
+
+        // when
+        List<TrendingEntry> top = window.top(3);
+
+        // then
+        assertThat(ids(top)).containsExactly(20L, 19L, 18L);
+        assertThat(top.get(0).getScore()).isGreaterThanOrEqualTo(200L);
+    }
+
+    // 여러 칸에 걸쳐 센 값을 합치고, 창을 벗어난 칸은 빠진다
+    @Test
+    void slidingWindowTest() {
+        // given
+        window.record(1L, 100);
+        now.addAndGet(BUCKET_MILLIS * 30);
+        window.record(2L, 60);
+        window.record(1L, 10);
+        now.addAndGet(BUCKET_MILLIS * 29);
+        window.record(3L, 80);
+
+        // when
+        List<TrendingEntry> beforeExpire = window.top(3);
+        now.addAndGet(BUCKET_MILLIS);
+        List<TrendingEntry> afterExpire = window.top(3);
+
+        // then
+        assertThat(ids(beforeExpire)).containsExactly(1L, 3L, 2L);
+        assertThat(beforeExpire.get(0).getScore()).isGreaterThanOrEqualTo(110L);
+        assertThat(ids(afterExpire)).containsExactly(3L, 2L, 1L);
+        assertThat(afterExpire.get(2).getScore()).isGreaterThanOrEqualTo(10L).isLessThan(110L);
+    }
+
+    // 한 칸이 돌아서 다시 쓰일 때 이전 시간의 값은 남지 않는다
+    @Test
+    void bucketReuseTest() {
+        // given
+        window.record(1L, 100);
+        now.addAndGet(BUCKET_MILLIS * 60);
+
+        // when
+        window.record(2L, 1);
+
+        // then
+        assertThat(ids(window.top(10))).containsExactly(2L);
+    }
+
+    // 드물게 보이는 상품이 후보를 가득 채운 뒤에 인기가 올라간 상품도 순위에 들어온다
+    @Test
+    void lateHeavyHitterTest() {
+        // given
+        TrendingWindow small = new TrendingWindow(60, BUCKET_MILLIS, 100, now::get);
+        for(long id = 1; id <= 10_000; id++) small.record(id, 1);
+
+        // when
+        for(int i = 0; i < 50; i++) small.record(20_000L, 1);
+
+        // then
+        assertThat(small.top(1).get(0).getProductId()).isEqualTo(20_000L);
+    }
+
+    // 여러 스레드가 동시에 더해도 Count-Min sketch는 작게 세지 않는다
+    @Test
+    void concurrentRecordTest() throws Exception {
+        // given
+        int threads = 8;
+        int records = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        for(int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for(int j = 0; j < records; j++) {
+                    window.record(1L, 1);
+                    window.record(2 + ThreadLocalRandom.current().nextLong(1000), 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        TrendingEntry top = window.top(1).get(0);
+        assertThat(top.getProductId()).isEqualTo(1L);
+        assertThat(top.getScore()).isGreaterThanOrEqualTo((long) threads * records);
+    }
+
+    List<Long> ids(List<TrendingEntry> entries) {
+        return entries.stream().map(TrendingEntry::getProductId).collect(Collectors.toList());
+    }
+}
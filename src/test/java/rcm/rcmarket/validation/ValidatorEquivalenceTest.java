@@ -0,0 +1,63 @@
+package rcm.rcmarket.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 직접 작성한 검증기가 기존 @Pattern 정규식과 같은 결과를 내는지 무작위 문자열로 비교한다
+public class ValidatorEquivalenceTest {
+
+    static final Pattern PASSWORD = Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&])[A-Za-z\\d@$!%*#?&]{8,}$");
+    static final Pattern HANGUL_OR_ALPHABET = Pattern.compile("^[A-Za-z가-힣]+$");
+
+    // 경계값과 정규식이 헷갈리기 쉬운 문자(줄바꿈, 전각 문자, 유니코드 숫자 등)를 섞는다
+    static final char[] ALPHABET = (
+            "azAZmM0959@$!%*#?&^~-_ .,()[]{}'\"\\/+=\n\r\t" +
+            "가힣한글" + (char) ('가' - 1) + (char) ('힣' + 1) + "ㄱㅎㅏ" +
+            "ａＺ０９٣" + "é\u0000￿"
+    ).toCharArray();
+
+    static final int ITERATIONS = 200_000;
+
+    Random random = new Random(20211125L);
+
+    @Test
+    void passwordEquivalenceTest() {
+        for(int i = 0; i < ITERATIONS; i++) {
+            String value = randomString(random.nextInt(14));
+            assertThat(PasswordValidator.isValid(value))
+                    .as("password [%s]", value)
+                    .isEqualTo(PASSWORD.matcher(value).matches());
+        }
+    }
+
+    @Test
+    void hangulOrAlphabetEquivalenceTest() {
+        for(int i = 0; i < ITERATIONS; i++) {
+            String value = randomString(random.nextInt(6));
+            assertThat(HangulOrAlphabetValidator.isValid(value))
+                    .as("name [%s]", value)
+                    .isEqualTo(HANGUL_OR_ALPHABET.matcher(value).matches());
+        }
+    }
+
+    @Test
+    void nullIsValidTest() {
+        assertThat(new PasswordValidator().isValid(null, null)).isTrue();
+        assertThat(new HangulOrAlphabetValidator().isValid(null, null)).isTrue();
+    }
+
+    // 무작위 문자열은 대부분 정규식에 맞지 않으므로, 절반은 허용 문자 위주로 만들어 통과하는 경우도 충분히 비교한다
+    private String randomString(int length) {
+        boolean mostlyValid = random.nextBoolean();
+        StringBuilder sb = new StringBuilder(length);
+        for(int i = 0; i < length; i++) {
+            int bound = mostlyValid && random.nextInt(20) != 0 ? 25 : ALPHABET.length;
+            sb.append(ALPHABET[random.nextInt(bound)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package rcm.rcmarket.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongLongHashMapTest {
+
+    // 여러 번 커지는 동안에도 HashMap과 같은 결과를 낸다
+    @Test
+    void addToTest() {
+        // given
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(1);
+
+        // when
+        for(int i = 0; i < 100_000; i++) {
+            long key = 1 + random.nextInt(10_000);
+            map.addTo(key, i);
+            expected.merge(key, (long) i, Long::sum);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        long[] keys = map.keys();
+        long[] values = map.values();
+        for(int i = 0; i < keys.length; i++) assertThat(values[i]).isEqualTo(expected.get(keys[i]));
+    }
+
+    @Test
+    void addAllToAndClearTest() {
+        // given
+        LongLongHashMap source = new LongLongHashMap();
+        LongLongHashMap target = new LongLongHashMap();
+        source.addTo(1L, 2L);
+        source.addTo(2L, 3L);
+        target.addTo(1L, 5L);
+
+        // when
+        source.addAllTo(target);
+        source.clear();
+
+        // then
+        assertThat(target.get(1L)).isEqualTo(7L);
+        assertThat(target.get(2L)).isEqualTo(3L);
+        assertThat(source.isEmpty()).isTrue();
+        assertThat(source.get(1L)).isZero();
+    }
+}
@@ -0,0 +1,150 @@
+package rcm.rcmarket.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rcm.rcmarket.repository.member.MemberRepository;
+import rcm.rcmarket.repository.product.ProductRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ViewCounterTest {
+
+    @Mock ProductRepository productRepository;
+    @Mock MemberRepository memberRepository;
+    ViewCounter viewCounter;
+    Map<Long, Long> persisted = new ConcurrentHashMap<>(); // DB에 반영된 상품 조회수
+
+    @BeforeEach
+    void beforeEach() {
+        viewCounter = new ViewCounter(productRepository, memberRepository);
+    }
+
+    @Test
+    void recordAndPendingTest() {
+        // when
+        viewCounter.record(ViewTarget.PRODUCT, 1L);
+        viewCounter.record(ViewTarget.PRODUCT, 1L);
+        viewCounter.record(ViewTarget.MEMBER, 1L);
+
+        // then
+        assertThat(viewCounter.pending(ViewTarget.PRODUCT, 1L)).isEqualTo(2L);
+        assertThat(viewCounter.pending(ViewTarget.MEMBER, 1L)).isEqualTo(1L);
+        assertThat(viewCounter.pending(ViewTarget.PRODUCT, 2L)).isZero();
+    }
+
+    @Test
+    void flushTest() {
+        // given
+        persistProductViews();
+        viewCounter.record(ViewTarget.PRODUCT, 1L);
+        viewCounter.record(ViewTarget.PRODUCT, 1L);
+        viewCounter.record(ViewTarget.PRODUCT, 2L);
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertThat(persisted).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(viewCounter.pending(ViewTarget.PRODUCT, 1L)).isZero();
+        verify(memberRepository, never()).increaseViews(any(), any());
+    }
+
+    // 반영에 실패하면 꺼낸 조회수를 되돌려 다음 flush에서 다시 반영한다
+    @Test
+    void flushFailureTest() {
+        // given
+        viewCounter.record(ViewTarget.PRODUCT, 1L);
+        willThrow(RuntimeException.class).given(productRepository).increaseViews(any(), any());
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertThat(viewCounter.pending(ViewTarget.PRODUCT, 1L)).isEqualTo(1L);
+        persistProductViews();
+        viewCounter.flush();
+        assertThat(persisted).containsEntry(1L, 1L);
+    }
+
+    // 비정상 종료로 잃는 조회수는 마지막 flush 이후에 기록된 것뿐이다
+    @Test
+    void lossWindowTest() {
+        // given
+        persistProductViews();
+        for(int i = 0; i < 5; i++) viewCounter.record(ViewTarget.PRODUCT, 1L);
+        viewCounter.flush();
+        for(int i = 0; i < 3; i++) viewCounter.record(ViewTarget.PRODUCT, 1L);
+
+        // when
+        viewCounter = new ViewCounter(productRepository, memberRepository); // flush 없이 프로세스가 죽고 다시 뜬 상황
+
+        // then
+        assertThat(persisted).containsEntry(1L, 5L);
+        assertThat(viewCounter.pending(ViewTarget.PRODUCT, 1L)).isZero();
+    }
+
+    // 조회와 flush가 동시에 일어나도 기록된 조회수는 DB에 반영된 값과 pending 어느 한 쪽에 정확히 한 번 들어간다
+    @Test
+    void concurrentRecordAndFlushTest() throws Exception {
+        // given
+        persistProductViews();
+        int threads = 16;
+        int views = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while(recording.get()) viewCounter.flush();
+        });
+
+        // when
+        for(int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                for(int j = 0; j < views; j++) viewCounter.record(ViewTarget.PRODUCT, 1 + ThreadLocalRandom.current().nextLong(100));
+                return null;
+            });
+        }
+        flusher.start();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        recording.set(false);
+        flusher.join();
+
+        // then
+        long pending = 0;
+        for(long id = 1; id <= 100; id++) pending += viewCounter.pending(ViewTarget.PRODUCT, id);
+        long flushed = persisted.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(flushed + pending).isEqualTo((long) threads * views);
+        viewCounter.flush();
+        assertThat(persisted.values().stream().mapToLong(Long::longValue).sum()).isEqualTo((long) threads * views);
+    }
+
+    void persistProductViews() {
+        willAnswer(invocation -> {
+            long[] ids = invocation.getArgument(0);
+            long[] deltas = invocation.getArgument(1);
+            for(int i = 0; i < ids.length; i++) persisted.merge(ids[i], deltas[i], Long::sum);
+            return null;
+        }).given(productRepository).increaseViews(any(), any());
+    }
+}